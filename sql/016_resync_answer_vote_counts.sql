@@ -0,0 +1,15 @@
+-- Recount answers.upvotes/downvotes and is_accepted from answer_votes once.
+-- Votes now move these counters by delta under a lock on the answer row;
+-- earlier versions wrote back totals recounted outside any lock, which
+-- concurrent voters could leave stale.
+UPDATE answers a
+LEFT JOIN (
+    SELECT answer_id,
+           SUM(is_upvote = TRUE) AS upvotes,
+           SUM(is_upvote = FALSE) AS downvotes
+    FROM answer_votes
+    GROUP BY answer_id
+) v ON v.answer_id = a.id
+SET a.upvotes = COALESCE(v.upvotes, 0),
+    a.downvotes = COALESCE(v.downvotes, 0),
+    a.is_accepted = (COALESCE(v.upvotes, 0) >= 10);
@@ -0,0 +1,121 @@
+package com.upnext.app.data;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the per-borrow {@link Proxy}-based connection wrapper the pool used
+ * to hand out against {@link PooledConnection}.
+ * <p>
+ * Both arms run the same repository-shaped sequence (borrow, prepare a constant
+ * query, bind a parameter, close the statement) against an in-memory stub
+ * driver, so the numbers isolate wrapper overhead: proxy allocation, reflective
+ * dispatch, and statement re-preparation versus a cache hit. The saved MySQL
+ * round trip for a server-side prepare is not part of this measurement.
+ * <p>
+ * Run with {@code mvn -Pbenchmarks test-compile exec:java}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConnectionWrapperBenchmark {
+    private static final String FIND_TAGS_SQL =
+            "SELECT t.name FROM tags t INNER JOIN question_tags qt ON t.id = qt.tag_id "
+                    + "WHERE qt.question_id = ? ORDER BY t.name";
+
+    private Connection driverConnection;
+    private PooledConnection pooledConnection;
+
+    @Setup
+    public void setUp() {
+        driverConnection = stub(Connection.class);
+        pooledConnection = new PooledConnection(driverConnection, null, 64);
+    }
+
+    @Benchmark
+    public boolean reflectiveProxy() throws SQLException {
+        Connection connection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                new LegacyPooledConnectionHandler(driverConnection));
+        try (PreparedStatement statement = connection.prepareStatement(FIND_TAGS_SQL)) {
+            statement.setLong(1, 42L);
+        }
+        return connection.getAutoCommit();
+    }
+
+    @Benchmark
+    public boolean pooledConnection() throws SQLException {
+        Connection connection = pooledConnection;
+        try (PreparedStatement statement = connection.prepareStatement(FIND_TAGS_SQL)) {
+            statement.setLong(1, 42L);
+        }
+        return connection.getAutoCommit();
+    }
+
+    /**
+     * Equivalent of the handler the provider used before {@link PooledConnection}.
+     */
+    private static final class LegacyPooledConnectionHandler implements InvocationHandler {
+        private final Connection delegate;
+
+        LegacyPooledConnectionHandler(Connection delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if ("close".equals(methodName)) {
+                return null;
+            }
+            if ("unwrap".equals(methodName) && args != null && args.length == 1 && args[0] == Connection.class) {
+                return delegate;
+            }
+            return method.invoke(delegate, args);
+        }
+    }
+
+    /**
+     * Builds a driver stand-in that answers every call with a default value and
+     * hands out stub statements.
+     */
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == PreparedStatement.class) {
+                        return stub(PreparedStatement.class);
+                    }
+                    if (returnType == boolean.class) {
+                        return Boolean.FALSE;
+                    }
+                    if (returnType == int.class) {
+                        return 0;
+                    }
+                    if (returnType == long.class) {
+                        return 0L;
+                    }
+                    return null;
+                }));
+    }
+}
@@ -0,0 +1,146 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.upnext.app.data.JdbcConnectionProvider;
+import com.upnext.app.data.SchemaInitializer;
+import com.upnext.app.domain.question.QuestionPage;
+import com.upnext.app.domain.question.QuestionSearchCriteria;
+import com.upnext.app.domain.question.QuestionSearchCriteria.SortOption;
+
+/**
+ * Compares the LIKE search path with the FULLTEXT path on a large questions
+ * table, using the same first-page query the hero bar issues while typing.
+ * <p>
+ * Unlike the other benchmarks this one needs a live MySQL server: it runs
+ * against the database in {@code config/database.properties} and tops the
+ * questions table up to {@code -Dbench.questions} rows (1,000,000 by default)
+ * of generated text before measuring. Point it at a scratch database.
+ * <p>
+ * Run with {@code mvn -Pbenchmarks test-compile exec:java -Dexec.args=QuestionSearchBenchmark}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QuestionSearchBenchmark {
+    private static final int SEED_BATCH_ROWS = 500;
+    private static final String[] WORDS = {
+        "java", "python", "spring", "boot", "thread", "concurrency", "stream", "lambda",
+        "database", "index", "query", "join", "swing", "layout", "event", "listener",
+        "memory", "garbage", "collector", "heap", "network", "socket", "parser", "regex",
+        "algorithm", "sorting", "graph", "tree", "matrix", "calculus", "integral", "vector"
+    };
+
+    @Param({ "concurrency", "spring boot", "garbage collector heap" })
+    public String query;
+
+    private QuestionRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        SchemaInitializer.initialize();
+        seedQuestions(Integer.getInteger("bench.questions", 1_000_000));
+        repository = QuestionRepository.getInstance();
+    }
+
+    @Benchmark
+    public QuestionPage likeSearch() throws SQLException {
+        return repository.searchPage(criteria(), false);
+    }
+
+    @Benchmark
+    public QuestionPage fullTextSearch() throws SQLException {
+        return repository.searchPage(criteria(), true);
+    }
+
+    private QuestionSearchCriteria criteria() {
+        return new QuestionSearchCriteria()
+                .setSearchText(query)
+                .setSortOption(SortOption.RELEVANCE)
+                .setLimit(10);
+    }
+
+    /**
+     * Inserts generated questions until the table holds at least the target
+     * number of rows, all owned by the first existing user.
+     */
+    private static void seedQuestions(int target) throws SQLException {
+        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+        Connection connection = provider.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            long existing;
+            long userId;
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM questions")) {
+                rs.next();
+                existing = rs.getLong(1);
+            }
+            try (ResultSet rs = statement.executeQuery("SELECT MIN(id) FROM users")) {
+                rs.next();
+                userId = rs.getLong(1);
+                if (rs.wasNull()) {
+                    throw new IllegalStateException("Seeding needs at least one user");
+                }
+            }
+            Random random = new Random(42L);
+            String sql = batchInsertSql();
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(sql)) {
+                for (long seeded = existing; seeded < target; seeded += SEED_BATCH_ROWS) {
+                    int index = 1;
+                    for (int row = 0; row < SEED_BATCH_ROWS; row++) {
+                        insert.setLong(index++, userId);
+                        insert.setString(index++, sentence(random, 6));
+                        insert.setString(index++, sentence(random, 60));
+                    }
+                    insert.executeUpdate();
+                    connection.commit();
+                }
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } finally {
+            provider.releaseConnection(connection);
+        }
+    }
+
+    private static String batchInsertSql() {
+        StringBuilder sql = new StringBuilder("INSERT INTO questions (user_id, title, content) VALUES ");
+        for (int row = 0; row < SEED_BATCH_ROWS; row++) {
+            sql.append(row == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+        }
+        return sql.toString();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
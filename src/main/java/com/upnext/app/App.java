@@ -1,7 +1,12 @@
 package com.upnext.app;
 
 import java.awt.Dimension;
- import java.util.List;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import javax.swing.JFrame;
 import javax.swing.JPanel;
@@ -9,10 +14,16 @@ import javax.swing.SwingUtilities;
 import javax.swing.WindowConstants;
 
 import com.upnext.app.core.Logger;
+import com.upnext.app.core.StartupTimer;
+import com.upnext.app.data.JdbcConnectionProvider;
+import com.upnext.app.data.SchemaInitializer;
+import com.upnext.app.data.question.AnswerCountReconciler;
+import com.upnext.app.data.question.SubjectRepository;
 import com.upnext.app.domain.Skill;
 import com.upnext.app.domain.User;
 import com.upnext.app.service.AuthService;
 import com.upnext.app.ui.components.FeedbackManager;
+import com.upnext.app.ui.components.LoadingPanel;
 import com.upnext.app.ui.navigation.ViewNavigator;
 import com.upnext.app.ui.screens.AddQuestionScreen;
 import com.upnext.app.ui.screens.CreateAccountScreen;
@@ -38,37 +49,91 @@ public final class App {
     public static final String ADD_QUESTION_SCREEN = "add-question";
     public static final String PROFILE_LAYOUT_SCREEN = "profile-layout";
     
-    private static final Logger logger = Logger.getInstance();
+    // Splash shown while the database is prepared
+    private static final String STARTUP_SCREEN = "startup";
+    
+    private static final Logger logger = Logger.getInstance(App.class);
     
     private App() {
     }
 
     public static void main(String[] args) {
-        SwingUtilities.invokeLater(App::start);
+        StartupTimer timer = new StartupTimer();
+        // Database work starts right away on background threads, while the
+        // EDT applies the theme and shows the frame
+        CompletableFuture<Boolean> schemaReady = startBackgroundInitialization(timer);
+        SwingUtilities.invokeLater(() -> start(timer, schemaReady));
+    }
+
+    /**
+     * Warms the connection pool on one background thread while another checks
+     * the schema, then preloads reference data and schedules the answer count
+     * reconciler. Nothing waits for the warm-up; if it is still running, early
+     * queries open connections on demand.
+     *
+     * @param timer The startup timer to record phases with
+     * @return A future completed with whether the schema was initialized, once
+     *         the schema check and preload have finished
+     */
+    private static CompletableFuture<Boolean> startBackgroundInitialization(StartupTimer timer) {
+        ExecutorService executor = Executors.newFixedThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "upnext-startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            CompletableFuture.runAsync(() -> {
+                long start = timer.mark();
+                try {
+                    JdbcConnectionProvider.getInstance().warmUp();
+                    timer.record("connection pool warm-up", start);
+                } catch (SQLException e) {
+                    logger.logException("Failed to warm up the connection pool", e);
+                }
+            }, executor);
+
+            return CompletableFuture.supplyAsync(() -> {
+                long start = timer.mark();
+                logger.info("Checking database connection and schema on startup...");
+                boolean schemaInitialized = SchemaInitializer.initialize();
+                timer.record("schema check", start);
+                if (schemaInitialized) {
+                    preloadReferenceData(timer);
+                    AnswerCountReconciler.getInstance().start();
+                }
+                return schemaInitialized;
+            }, executor);
+        } finally {
+            // Lets the threads exit once the submitted work is done
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Loads data that the first screens read into the repository caches.
+     */
+    private static void preloadReferenceData(StartupTimer timer) {
+        long start = timer.mark();
+        try {
+            SubjectRepository.getInstance().findAll();
+            timer.record("reference data preload", start);
+        } catch (SQLException e) {
+            logger.logException("Failed to preload subjects", e);
+        }
     }
 
-    private static void start() {
+    /**
+     * Shows the frame with a startup splash, then builds the screens once the
+     * schema is ready. Runs on the EDT.
+     */
+    private static void start(StartupTimer timer, CompletableFuture<Boolean> schemaReady) {
         try {
             logger.info("Starting UpNext application");
             
             // Initialize theme
+            long themeStart = timer.mark();
             AppTheme.apply();
-            
-            // Initialize database schema
-            try {
-                logger.info("Checking database connection and schema on startup...");
-                boolean schemaInitialized = com.upnext.app.data.SchemaInitializer.initialize();
-                if (!schemaInitialized) {
-                    FeedbackManager.showError(null, 
-                        "Could not initialize database schema. Check log file for details.", 
-                        "Database Error");
-                }
-            } catch (Exception e) {
-                logger.logException("Failed to initialize schema", e);
-                FeedbackManager.showException(null, 
-                    "Database schema initialization failed", 
-                    "Startup Error", e);
-            }
+            timer.record("theme", themeStart);
 
             JFrame frame = new JFrame("UpNext");
             frame.setDefaultCloseOperation(WindowConstants.EXIT_ON_CLOSE);
@@ -81,34 +146,61 @@ public final class App {
             
             // Initialize the ViewNavigator
             ViewNavigator navigator = ViewNavigator.initialize(contentPanel);
-            
-            // Create and register screens
-            SignInScreen signInScreen = new SignInScreen();
-            CreateAccountScreen createAccountScreen = new CreateAccountScreen();
-            HomeScreen homeScreen = new HomeScreen();
-            SkillsetScreen skillsetScreen = new SkillsetScreen();
-            SkillAddScreen skillAddScreen = new SkillAddScreen();
-            QuestionDetailScreen questionDetailScreen = new QuestionDetailScreen();
-            AddQuestionScreen addQuestionScreen = new AddQuestionScreen();
-            ProfileLayout profileLayout = new ProfileLayout();
-            
-            navigator.registerScreen(SIGN_IN_SCREEN, signInScreen);
-            navigator.registerScreen(CREATE_ACCOUNT_SCREEN, createAccountScreen);
-            navigator.registerScreen(HOME_SCREEN, homeScreen);
-            navigator.registerScreen(SKILLSET_SCREEN, skillsetScreen);
-            navigator.registerScreen(SKILL_ADD_SCREEN, skillAddScreen);
-            navigator.registerScreen(QUESTION_DETAIL_SCREEN, questionDetailScreen);
-            navigator.registerScreen(ADD_QUESTION_SCREEN, addQuestionScreen);
-            navigator.registerScreen(PROFILE_LAYOUT_SCREEN, profileLayout);
-            
-            // Setup navigation
-            setupNavigation(signInScreen, createAccountScreen, homeScreen, skillsetScreen, skillAddScreen, questionDetailScreen, addQuestionScreen, profileLayout);
-            
+
+            // Show a splash until the database is ready for the screens
+            LoadingPanel splash = new LoadingPanel();
+            navigator.registerScreen(STARTUP_SCREEN, splash);
+            navigator.navigateTo(STARTUP_SCREEN);
+            splash.showLoading("Starting UpNext...");
+
+            frame.setVisible(true);
+            timer.logSummary("first frame");
+
+            schemaReady.whenComplete((schemaInitialized, error) ->
+                    SwingUtilities.invokeLater(() -> finishStartup(timer, splash, schemaInitialized, error)));
+        } catch (Exception e) {
+            logger.logException("Failed to start application", e);
+            FeedbackManager.showException(null, "The application failed to start properly.", "Startup Error", e);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Builds and registers the screens, then replaces the splash with the
+     * sign-in screen. Runs on the EDT once the background initialization is done.
+     */
+    private static void finishStartup(StartupTimer timer, LoadingPanel splash,
+            Boolean schemaInitialized, Throwable error) {
+        try {
+            if (error != null) {
+                if (error instanceof CompletionException && error.getCause() != null) {
+                    error = error.getCause();
+                }
+                logger.logException("Failed to initialize schema", error);
+                FeedbackManager.showException(null, 
+                    "Database schema initialization failed", 
+                    "Startup Error", error);
+            } else if (!Boolean.TRUE.equals(schemaInitialized)) {
+                FeedbackManager.showError(null, 
+                    "Could not initialize database schema. Check log file for details.", 
+                    "Database Error");
+            }
+
+            ViewNavigator navigator = ViewNavigator.getInstance();
+
+            // Register screens; each is built the first time it is needed
+            registerScreens(navigator);
+
             // Start with sign-in screen
+            long signInStart = timer.mark();
             navigator.navigateTo(SIGN_IN_SCREEN);
+            timer.record("sign-in screen construction", signInStart);
+            splash.hideLoading();
             logger.info("Application UI initialized, showing sign-in screen");
+            timer.logSummary("sign-in screen");
 
-            frame.setVisible(true);
+            // Build the home screen while the user types their credentials
+            navigator.preload(HOME_SCREEN);
         } catch (Exception e) {
             logger.logException("Failed to start application", e);
             FeedbackManager.showException(null, "The application failed to start properly.", "Startup Error", e);
@@ -117,35 +209,38 @@ public final class App {
     }
     
     /**
-     * Sets up the navigation between screens.
+     * Registers a factory for every screen. The factories wire each screen's
+     * navigation as they build it, and look other screens up through the
+     * navigator, so a screen that is released and rebuilt is wired again.
      * 
-     * @param signInScreen The sign-in screen
-     * @param createAccountScreen The create account screen
-     * @param homeScreen The home screen
-     * @param skillsetScreen The skillset screen
-     * @param skillAddScreen The skill add screen
-     * @param questionDetailScreen The question detail screen
-     * @param addQuestionScreen The add question screen
-     * @param profileLayout The profile layout screen
+     * @param navigator The navigator to register the screens with
      */
-    private static void setupNavigation(
-            SignInScreen signInScreen,
-            CreateAccountScreen createAccountScreen,
-            HomeScreen homeScreen,
-            SkillsetScreen skillsetScreen,
-            SkillAddScreen skillAddScreen,
-            QuestionDetailScreen questionDetailScreen,
-            AddQuestionScreen addQuestionScreen,
-            ProfileLayout profileLayout) {
-        
+    private static void registerScreens(ViewNavigator navigator) {
+        navigator.registerScreen(SIGN_IN_SCREEN, App::createSignInScreen);
+        navigator.registerScreen(CREATE_ACCOUNT_SCREEN, App::createCreateAccountScreen);
+        navigator.registerScreen(HOME_SCREEN, App::createHomeScreen);
+        navigator.registerScreen(SKILLSET_SCREEN, App::createSkillsetScreen);
+        navigator.registerScreen(SKILL_ADD_SCREEN, SkillAddScreen::new);
+        // Both show content loaded when they are opened and hold nothing the user
+        // would lose, so they can be released when unused
+        navigator.registerScreen(QUESTION_DETAIL_SCREEN, QuestionDetailScreen::new, true);
+        navigator.registerScreen(ADD_QUESTION_SCREEN, App::createAddQuestionScreen);
+        navigator.registerScreen(PROFILE_LAYOUT_SCREEN, ProfileLayout::new, true);
+    }
+
+    /**
+     * Creates the sign-in screen and wires its links and sign-in button.
+     */
+    private static SignInScreen createSignInScreen() {
         final ViewNavigator navigator = ViewNavigator.getInstance();
         final AuthService authService = AuthService.getInstance();
+        final SignInScreen signInScreen = new SignInScreen();
         
         // Sign In Screen -> Create Account Screen
-    signInScreen.getCreateAccountLink().addActionListener(event -> navigator.navigateTo(CREATE_ACCOUNT_SCREEN));
+        signInScreen.getCreateAccountLink().addActionListener(event -> navigator.navigateTo(CREATE_ACCOUNT_SCREEN));
         
         // Sign In Screen -> Home Screen (real authentication)
-    signInScreen.getSignInButton().addActionListener(event -> {
+        signInScreen.getSignInButton().addActionListener(event -> {
             String email = signInScreen.getEmailField().getText();
             String password = new String(signInScreen.getPasswordField().getPassword());
             
@@ -163,7 +258,7 @@ public final class App {
                 navigator.navigateTo(HOME_SCREEN);
                 
                 // Update home screen welcome message
-                homeScreen.updateWelcomeMessage();
+                navigator.getScreen(HOME_SCREEN, HomeScreen.class).updateWelcomeMessage();
                 
                 // Log success and show welcome message
                 logger.info("User signed in successfully: " + user.getEmail());
@@ -183,12 +278,21 @@ public final class App {
                 );
             }
         });
+        return signInScreen;
+    }
+
+    /**
+     * Creates the create account screen and wires its link and button.
+     */
+    private static CreateAccountScreen createCreateAccountScreen() {
+        final ViewNavigator navigator = ViewNavigator.getInstance();
+        final CreateAccountScreen createAccountScreen = new CreateAccountScreen();
         
         // Create Account Screen -> Sign In Screen
-    createAccountScreen.getSignInLink().addActionListener(event -> navigator.navigateTo(SIGN_IN_SCREEN));
+        createAccountScreen.getSignInLink().addActionListener(event -> navigator.navigateTo(SIGN_IN_SCREEN));
         
         // Create Account Screen -> Skillset Screen (after validating initial data)
-    createAccountScreen.getCreateAccountButton().addActionListener(event -> {
+        createAccountScreen.getCreateAccountButton().addActionListener(event -> {
             String name = createAccountScreen.getNameField().getText();
             String email = createAccountScreen.getEmailField().getText();
             String password = new String(createAccountScreen.getPasswordField().getPassword());
@@ -225,15 +329,25 @@ public final class App {
             }
             
             // Store user data in skillset screen for later use
-            skillsetScreen.setUserData(name, email, password);
+            navigator.getScreen(SKILLSET_SCREEN, SkillsetScreen.class).setUserData(name, email, password);
             
             // Navigate to skillset screen to collect skills
             logger.info("Proceeding to skills collection for: " + email);
             navigator.navigateTo(SKILLSET_SCREEN);
         });
+        return createAccountScreen;
+    }
+
+    /**
+     * Creates the home screen and wires its sign-out button.
+     */
+    private static HomeScreen createHomeScreen() {
+        final ViewNavigator navigator = ViewNavigator.getInstance();
+        final AuthService authService = AuthService.getInstance();
+        final HomeScreen homeScreen = new HomeScreen();
         
         // Home Screen -> Sign In Screen (sign out)
-    homeScreen.getSignOutButton().addActionListener(event -> {
+        homeScreen.getSignOutButton().addActionListener(event -> {
             // Sign out the current user
             User user = authService.getCurrentUser();
             String email = user != null ? user.getEmail() : "unknown";
@@ -252,22 +366,32 @@ public final class App {
                 "Sign Out"
             );
         });
+        return homeScreen;
+    }
+
+    /**
+     * Creates the skillset screen and wires its back, add skill and create
+     * account buttons.
+     */
+    private static SkillsetScreen createSkillsetScreen() {
+        final ViewNavigator navigator = ViewNavigator.getInstance();
+        final AuthService authService = AuthService.getInstance();
+        final SkillsetScreen skillsetScreen = new SkillsetScreen();
         
         // SkillsetScreen -> CreateAccountScreen (back button)
-    skillsetScreen.getBackButton().addActionListener(event -> {
+        skillsetScreen.getBackButton().addActionListener(event -> {
             navigator.navigateTo(CREATE_ACCOUNT_SCREEN);
         });
         
         // SkillsetScreen -> SkillAddScreen (add new skill)
-    skillsetScreen.getAddSkillButton().addActionListener(event -> {
+        skillsetScreen.getAddSkillButton().addActionListener(event -> {
             navigator.navigateTo(SKILL_ADD_SCREEN);
         });
         
         // SkillAddScreen navigation is handled within the SkillAddScreen class itself
-        // We're keeping the skillAddScreen parameter for completeness and future extensions
         
         // SkillsetScreen -> HomeScreen (after final account creation)
-    skillsetScreen.getCreateAccountButton().addActionListener(event -> {
+        skillsetScreen.getCreateAccountButton().addActionListener(event -> {
             try {
                 // Get user registration data stored in the skillset screen
                 final String userName = skillsetScreen.getUserName();
@@ -306,7 +430,7 @@ public final class App {
                 navigator.navigateTo(HOME_SCREEN);
                 
                 // Update home screen welcome message
-                homeScreen.updateWelcomeMessage();
+                navigator.getScreen(HOME_SCREEN, HomeScreen.class).updateWelcomeMessage();
                 
                 // Log success and show welcome message
                 logger.info("Account created successfully for: " + userEmail);
@@ -338,6 +462,15 @@ public final class App {
                 );
             }
         });
+        return skillsetScreen;
+    }
+
+    /**
+     * Creates the add question screen and wires its return to the home screen.
+     */
+    private static AddQuestionScreen createAddQuestionScreen() {
+        final ViewNavigator navigator = ViewNavigator.getInstance();
+        final AddQuestionScreen addQuestionScreen = new AddQuestionScreen();
         
         // AddQuestionScreen -> Home Screen (navigation back and after successful question creation)
         addQuestionScreen.setOnNavigateBack(() -> {
@@ -348,8 +481,9 @@ public final class App {
         addQuestionScreen.setOnQuestionCreated(question -> {
             logger.info("Question created successfully, returning to Home and refreshing feed");
             // Refresh the home screen's question feed with the new question
-            homeScreen.addNewQuestionToFeed(question);
+            navigator.getScreen(HOME_SCREEN, HomeScreen.class).addNewQuestionToFeed(question);
             navigator.navigateTo(HOME_SCREEN);
         });
+        return addQuestionScreen;
     }
 }
@@ -18,6 +18,22 @@ public final class DatabaseConfig {
     private static final String DEFAULT_USER = "root";
     private static final String DEFAULT_PASSWORD = "hari";
     
+    // Default connection pool settings
+    private static final int DEFAULT_POOL_MIN = 5;
+    private static final int DEFAULT_POOL_MAX = 20;
+    private static final long DEFAULT_POOL_TIMEOUT_MS = 10_000L;
+    private static final long DEFAULT_POOL_MAX_LIFETIME_MS = 30L * 60 * 1000;
+    private static final long DEFAULT_POOL_IDLE_TIMEOUT_MS = 10L * 60 * 1000;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 64;
+    private static final long DEFAULT_LEAK_DETECTION_THRESHOLD_MS = 0L;
+    private static final long DEFAULT_POOL_VALIDATION_IDLE_MS = 5_000L;
+    private static final long DEFAULT_POOL_KEEPALIVE_MS = 2L * 60 * 1000;
+    private static final boolean DEFAULT_SEARCH_FULL_TEXT = true;
+    private static final long DEFAULT_VIEW_COUNT_FLUSH_INTERVAL_MS = 5_000L;
+    private static final long DEFAULT_VIEW_COUNT_MAX_LOSS_WINDOW_MS = 30_000L;
+    private static final long DEFAULT_ANSWER_COUNT_RECONCILE_INTERVAL_MS = 15L * 60 * 1000;
+    private static final int DEFAULT_ANSWER_COUNT_RECONCILE_CHUNK_SIZE = 500;
+    
     // Configuration properties
     private static final Properties properties = new Properties();
     private static boolean initialized = false;
@@ -132,13 +148,197 @@ public final class DatabaseConfig {
     
     /**
      * Gets the JDBC URL for connecting to the database.
+     * Server-side prepared statements are enabled whenever the pool caches
+     * statements, so a cached statement is parsed by MySQL only once.
+     * Batched inserts are rewritten by the driver into multi-row statements,
+     * so a batch costs one round trip instead of one per row.
      *
      * @return The JDBC URL
      */
     public static String getJdbcUrl() {
         ensureInitialized();
-        return String.format("jdbc:mysql://%s:%s/%s",
+        String url = String.format("jdbc:mysql://%s:%s/%s?rewriteBatchedStatements=true",
                 getHost(), getPort(), getDatabase());
+        if (getStatementCacheSize() > 0) {
+            url += "&useServerPrepStmts=true";
+        }
+        return url;
+    }
+    
+    /**
+     * Gets the number of connections the pool keeps open even when idle.
+     *
+     * @return The minimum pool size
+     */
+    public static int getPoolMinSize() {
+        return Math.max(0, getIntProperty("db.pool.min", DEFAULT_POOL_MIN));
+    }
+    
+    /**
+     * Gets the hard upper bound on open pooled connections.
+     *
+     * @return The maximum pool size (never smaller than the minimum size or 1)
+     */
+    public static int getPoolMaxSize() {
+        int max = getIntProperty("db.pool.max", DEFAULT_POOL_MAX);
+        return Math.max(Math.max(1, getPoolMinSize()), max);
+    }
+    
+    /**
+     * Gets how long a caller may wait for a pooled connection before failing.
+     *
+     * @return The acquire timeout in milliseconds
+     */
+    public static long getPoolTimeoutMs() {
+        return Math.max(0L, getLongProperty("db.pool.timeout", DEFAULT_POOL_TIMEOUT_MS));
+    }
+    
+    /**
+     * Gets the maximum age of a pooled connection before it is retired.
+     *
+     * @return The maximum lifetime in milliseconds, or 0 to disable retirement
+     */
+    public static long getPoolMaxLifetimeMs() {
+        return Math.max(0L, getLongProperty("db.pool.maxLifetime", DEFAULT_POOL_MAX_LIFETIME_MS));
+    }
+    
+    /**
+     * Gets how long a surplus connection may sit idle before it is closed.
+     *
+     * @return The idle timeout in milliseconds, or 0 to disable idle eviction
+     */
+    public static long getPoolIdleTimeoutMs() {
+        return Math.max(0L, getLongProperty("db.pool.idleTimeout", DEFAULT_POOL_IDLE_TIMEOUT_MS));
+    }
+    
+    /**
+     * Gets how long a pooled connection may sit unused before a borrow pings the
+     * server to validate it. Connections used more recently are handed out
+     * without the extra round trip.
+     *
+     * @return The validation window in milliseconds
+     */
+    public static long getPoolValidationIdleMs() {
+        return Math.max(0L, getLongProperty("db.pool.validationIdle", DEFAULT_POOL_VALIDATION_IDLE_MS));
+    }
+    
+    /**
+     * Gets how often idle connections are pinged in the background.
+     *
+     * @return The keepalive interval in milliseconds, or 0 to disable background pings
+     */
+    public static long getPoolKeepaliveMs() {
+        return Math.max(0L, getLongProperty("db.pool.keepalive", DEFAULT_POOL_KEEPALIVE_MS));
+    }
+    
+    /**
+     * Gets how many prepared statements each pooled connection keeps open for
+     * reuse.
+     *
+     * @return The per-connection statement cache size, or 0 to disable caching
+     */
+    public static int getStatementCacheSize() {
+        return Math.max(0, getIntProperty("db.pool.statementCacheSize", DEFAULT_STATEMENT_CACHE_SIZE));
+    }
+    
+    /**
+     * Gets how long a connection may be held before it is reported as a
+     * possible leak, together with the stack trace of the code that borrowed it.
+     *
+     * @return The leak detection threshold in milliseconds, or 0 to disable it
+     */
+    public static long getLeakDetectionThresholdMs() {
+        return Math.max(0L, getLongProperty("db.pool.leakDetectionThreshold", DEFAULT_LEAK_DETECTION_THRESHOLD_MS));
+    }
+    
+    /**
+     * Checks whether question search may use the FULLTEXT index. When disabled,
+     * or when the index is missing, search falls back to LIKE matching.
+     *
+     * @return true if full-text search is enabled
+     */
+    public static boolean isFullTextSearchEnabled() {
+        ensureInitialized();
+        String raw = properties.getProperty("db.search.fullText");
+        if (raw == null || raw.isBlank()) {
+            return DEFAULT_SEARCH_FULL_TEXT;
+        }
+        return Boolean.parseBoolean(raw.trim());
+    }
+    
+    /**
+     * Gets how often buffered question views are written to the database.
+     *
+     * @return The flush interval in milliseconds, never longer than the
+     *         maximum loss window; 0 writes every view immediately
+     */
+    public static long getViewCountFlushIntervalMs() {
+        long interval = Math.max(0L, getLongProperty("db.viewCount.flushInterval", DEFAULT_VIEW_COUNT_FLUSH_INTERVAL_MS));
+        return Math.min(interval, getViewCountMaxLossWindowMs());
+    }
+    
+    /**
+     * Gets the longest time a recorded question view may be held only in
+     * memory, and so the most view counting a crash can lose.
+     *
+     * @return The maximum loss window in milliseconds
+     */
+    public static long getViewCountMaxLossWindowMs() {
+        return Math.max(0L, getLongProperty("db.viewCount.maxLossWindow", DEFAULT_VIEW_COUNT_MAX_LOSS_WINDOW_MS));
+    }
+    
+    /**
+     * Gets how long the answer count reconciler waits between passes over the
+     * questions table.
+     *
+     * @return The pass interval in milliseconds; 0 disables reconciliation
+     */
+    public static long getAnswerCountReconcileIntervalMs() {
+        return Math.max(0L, getLongProperty("db.answerCount.reconcileInterval", DEFAULT_ANSWER_COUNT_RECONCILE_INTERVAL_MS));
+    }
+    
+    /**
+     * Gets how many questions the answer count reconciler checks and locks in
+     * one transaction.
+     *
+     * @return The chunk size, at least 1
+     */
+    public static int getAnswerCountReconcileChunkSize() {
+        return Math.max(1, getIntProperty("db.answerCount.reconcileChunkSize", DEFAULT_ANSWER_COUNT_RECONCILE_CHUNK_SIZE));
+    }
+    
+    /**
+     * Reads an optional integer property, falling back to a default when the
+     * property is absent or malformed.
+     *
+     * @param key The property key
+     * @param defaultValue The value to use when the property is not usable
+     * @return The configured value or the default
+     */
+    private static int getIntProperty(String key, int defaultValue) {
+        long value = getLongProperty(key, defaultValue);
+        return value > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) value;
+    }
+    
+    /**
+     * Reads an optional long property, falling back to a default when the
+     * property is absent or malformed.
+     *
+     * @param key The property key
+     * @param defaultValue The value to use when the property is not usable
+     * @return The configured value or the default
+     */
+    private static long getLongProperty(String key, long defaultValue) {
+        ensureInitialized();
+        String raw = properties.getProperty(key);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(raw.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
     }
     
     /**
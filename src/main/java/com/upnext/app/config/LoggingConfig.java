@@ -0,0 +1,210 @@
+package com.upnext.app.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Configuration class for application logging.
+ * Loads optional settings from {@code config/logging.properties}; every
+ * setting has a default, so the file may be absent or partial.
+ * <p>
+ * This class must not log: it is read while the logger itself is starting.
+ */
+public final class LoggingConfig {
+    private static final String CONFIG_PATH = "config/logging.properties";
+
+    // Default logging properties
+    private static final String DEFAULT_FILE = "logs/upnext.log";
+    private static final boolean DEFAULT_CONSOLE = true;
+    private static final boolean DEFAULT_ASYNC = true;
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final String DEFAULT_OVERFLOW_POLICY = "DROP_BELOW_WARNING";
+    private static final String DEFAULT_LEVEL = "INFO";
+    private static final long DEFAULT_MAX_FILE_SIZE = 10L * 1024 * 1024;
+    private static final boolean DEFAULT_DAILY_ROLLOVER = true;
+    private static final int DEFAULT_MAX_HISTORY = 10;
+    private static final boolean DEFAULT_COMPRESS = true;
+
+    // Keys below this prefix set the level of a package or class
+    private static final String LEVEL_KEY = "log.level";
+
+    /**
+     * What a logging call does when the asynchronous buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Wait for the writer to free space; nothing is lost. */
+        BLOCK,
+        /** Discard the new line and count it; callers never wait. */
+        DROP,
+        /** Discard DEBUG and INFO lines, wait for space for WARNING and ERROR. */
+        DROP_BELOW_WARNING
+    }
+
+    // Configuration properties
+    private static final Properties properties = new Properties();
+    private static boolean initialized = false;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private LoggingConfig() {
+    }
+
+    /**
+     * Loads the logging properties file if it exists.
+     */
+    public static synchronized void initialize() {
+        if (initialized) {
+            return;
+        }
+        try (InputStream input = Files.newInputStream(Paths.get(CONFIG_PATH))) {
+            properties.load(input);
+        } catch (IOException e) {
+            // File not found or unreadable, use defaults
+        }
+        initialized = true;
+    }
+
+    /**
+     * Gets the path of the log file.
+     *
+     * @return The log file path
+     */
+    public static String getFile() {
+        return getProperty("log.file", DEFAULT_FILE);
+    }
+
+    /**
+     * Whether log lines are also echoed to the console.
+     *
+     * @return true if console output is enabled
+     */
+    public static boolean isConsoleEnabled() {
+        return Boolean.parseBoolean(getProperty("log.console", String.valueOf(DEFAULT_CONSOLE)));
+    }
+
+    /**
+     * Whether log lines are handed to a background writer instead of being
+     * written on the calling thread.
+     *
+     * @return true if asynchronous logging is enabled
+     */
+    public static boolean isAsync() {
+        return Boolean.parseBoolean(getProperty("log.async", String.valueOf(DEFAULT_ASYNC)));
+    }
+
+    /**
+     * Gets the capacity of the asynchronous ring buffer, rounded up to a power of two.
+     *
+     * @return The buffer capacity in log lines
+     */
+    public static int getBufferSize() {
+        int size = DEFAULT_BUFFER_SIZE;
+        try {
+            size = Integer.parseInt(getProperty("log.bufferSize", String.valueOf(DEFAULT_BUFFER_SIZE)).trim());
+        } catch (NumberFormatException e) {
+            // Keep the default
+        }
+        size = Math.max(2, Math.min(1 << 20, size));
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+
+    /**
+     * Gets what happens to a log line when the asynchronous buffer is full.
+     *
+     * @return The overflow policy
+     */
+    public static OverflowPolicy getOverflowPolicy() {
+        String raw = getProperty("log.overflowPolicy", DEFAULT_OVERFLOW_POLICY);
+        try {
+            return OverflowPolicy.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return OverflowPolicy.valueOf(DEFAULT_OVERFLOW_POLICY);
+        }
+    }
+
+    /**
+     * Gets the size at which the log file is rolled over to a new segment.
+     *
+     * @return The maximum file size in bytes, or 0 for no size limit
+     */
+    public static long getMaxFileSize() {
+        try {
+            return Math.max(0L, Long.parseLong(getProperty("log.maxFileSize", String.valueOf(DEFAULT_MAX_FILE_SIZE)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_MAX_FILE_SIZE;
+        }
+    }
+
+    /**
+     * Whether the log file is rolled over when the date changes.
+     *
+     * @return true if daily rollover is enabled
+     */
+    public static boolean isDailyRollover() {
+        return Boolean.parseBoolean(getProperty("log.dailyRollover", String.valueOf(DEFAULT_DAILY_ROLLOVER)));
+    }
+
+    /**
+     * Gets how many rolled-over segments are kept; older ones are deleted.
+     *
+     * @return The number of segments to keep, or 0 to keep all
+     */
+    public static int getMaxHistory() {
+        try {
+            return Math.max(0, Integer.parseInt(getProperty("log.maxHistory", String.valueOf(DEFAULT_MAX_HISTORY)).trim()));
+        } catch (NumberFormatException e) {
+            return DEFAULT_MAX_HISTORY;
+        }
+    }
+
+    /**
+     * Whether rolled-over segments are gzip-compressed in the background.
+     *
+     * @return true if compression is enabled
+     */
+    public static boolean isCompressRotated() {
+        return Boolean.parseBoolean(getProperty("log.compress", String.valueOf(DEFAULT_COMPRESS)));
+    }
+
+    /**
+     * Gets the name of the minimum level logged by classes without an override.
+     *
+     * @return The level name, e.g. "INFO"
+     */
+    public static String getLevel() {
+        return getProperty(LEVEL_KEY, DEFAULT_LEVEL).trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the per-package and per-class level overrides, read from keys of the
+     * form {@code log.level.com.upnext.app.data=DEBUG}.
+     *
+     * @return Level names keyed by package or class name
+     */
+    public static Map<String, String> getLevelOverrides() {
+        initialize();
+        Map<String, String> overrides = new HashMap<>();
+        String prefix = LEVEL_KEY + ".";
+        for (String key : properties.stringPropertyNames()) {
+            String value = properties.getProperty(key);
+            if (key.startsWith(prefix) && key.length() > prefix.length() && !value.isBlank()) {
+                overrides.put(key.substring(prefix.length()), value.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+        return Collections.unmodifiableMap(overrides);
+    }
+
+    private static String getProperty(String key, String defaultValue) {
+        initialize();
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+}
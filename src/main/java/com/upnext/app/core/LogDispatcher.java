@@ -0,0 +1,313 @@
+package com.upnext.app.core;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import com.upnext.app.config.LoggingConfig;
+import com.upnext.app.config.LoggingConfig.OverflowPolicy;
+import com.upnext.app.core.Logger.Level;
+
+/**
+ * Writes log records to the console and the log file on behalf of every
+ * {@link Logger}.
+ * <p>
+ * In asynchronous mode a record is placed in a bounded lock-free ring buffer
+ * and a single background writer thread formats and appends records in
+ * batches. Otherwise, and after the writer has been stopped, records are
+ * written on the calling thread under a lock.
+ */
+final class LogDispatcher {
+    private static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneId.systemDefault());
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    // Most lines the writer formats before writing them to the file in one go
+    private static final int WRITE_BATCH_SIZE = 512;
+    // How long the idle writer sleeps before checking the buffer again
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    // How long a blocked caller waits between checks for free space
+    private static final long FULL_BUFFER_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    // How long shutdown waits for the writer to drain the buffer
+    private static final long DRAIN_TIMEOUT_MS = 5000;
+
+    private final Object lock = new Object();
+    private final LineFormatter formatter = new LineFormatter();
+    private final LogRingBuffer<LogRecord> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writerThread;
+    private LogFileSink fileSink;
+    private volatile boolean consoleOutput;
+    private volatile boolean async;
+    private volatile boolean running;
+    private volatile boolean writerSleeping;
+    private long reportedDrops;
+
+    /**
+     * Opens the log file and, if configured, starts the writer thread.
+     */
+    LogDispatcher() {
+        this.consoleOutput = LoggingConfig.isConsoleEnabled();
+        this.overflowPolicy = LoggingConfig.getOverflowPolicy();
+        initializeLogFile();
+
+        if (LoggingConfig.isAsync()) {
+            this.buffer = new LogRingBuffer<>(LoggingConfig.getBufferSize());
+            this.writerThread = new Thread(this::runWriter, "upnext-log-writer");
+            this.writerThread.setDaemon(true);
+            this.running = true;
+            this.async = true;
+            this.writerThread.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(this::stopWriter, "upnext-log-drain"));
+        } else {
+            this.buffer = null;
+            this.writerThread = null;
+        }
+    }
+
+    /**
+     * Initializes the log file, creating directories if needed and rolling
+     * over a file left too large or from an earlier day.
+     */
+    private void initializeLogFile() {
+        try {
+            // Append to existing file or create a new one
+            this.fileSink = new LogFileSink(Paths.get(LoggingConfig.getFile()),
+                    LoggingConfig.getMaxFileSize(), LoggingConfig.isDailyRollover(),
+                    LoggingConfig.getMaxHistory(), LoggingConfig.isCompressRotated());
+        } catch (IOException e) {
+            System.err.println("Failed to initialize log file: " + e.getMessage());
+        }
+    }
+
+    void setConsoleOutput(boolean enabled) {
+        this.consoleOutput = enabled;
+    }
+
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Drains buffered records, then closes the log file. Records dispatched
+     * afterwards only go to the console.
+     */
+    void close() {
+        stopWriter();
+        synchronized (lock) {
+            if (fileSink != null) {
+                try {
+                    fileSink.close();
+                } catch (IOException e) {
+                    System.err.println("Failed to close log file: " + e.getMessage());
+                }
+                fileSink = null;
+            }
+        }
+    }
+
+    /**
+     * Hands a record to the writer thread, or writes it directly when
+     * asynchronous logging is off or has been stopped.
+     *
+     * @param record The record to write
+     */
+    void dispatch(LogRecord record) {
+        if (!async) {
+            writeNow(record);
+            return;
+        }
+        if (!enqueue(record)) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        if (writerSleeping) {
+            LockSupport.unpark(writerThread);
+        }
+        if (!async) {
+            // The writer stopped while this record was being queued
+            drainRemaining();
+        }
+    }
+
+    private boolean enqueue(LogRecord record) {
+        if (buffer.offer(record)) {
+            return true;
+        }
+        boolean mayBlock = overflowPolicy == OverflowPolicy.BLOCK
+                || (overflowPolicy == OverflowPolicy.DROP_BELOW_WARNING
+                        && record.getLevel().isAtLeast(Level.WARNING));
+        if (!mayBlock || Thread.currentThread() == writerThread) {
+            return false;
+        }
+        while (async) {
+            LockSupport.unpark(writerThread);
+            LockSupport.parkNanos(this, FULL_BUFFER_PARK_NANOS);
+            if (buffer.offer(record)) {
+                return true;
+            }
+        }
+        writeNow(record);
+        return true;
+    }
+
+    /**
+     * Body of the writer thread: drains the buffer in batches and flushes
+     * each batch to the file with a single write.
+     */
+    private void runWriter() {
+        while (running || !buffer.isEmpty()) {
+            int written;
+            synchronized (lock) {
+                written = buffer.drainTo(this::write, WRITE_BATCH_SIZE);
+                if (written > 0) {
+                    reportDrops();
+                    flushFile();
+                }
+            }
+            if (written == 0) {
+                writerSleeping = true;
+                if (running && buffer.isEmpty()) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                writerSleeping = false;
+            }
+        }
+    }
+
+    /**
+     * Stops the writer after it has drained the buffer and switches to
+     * synchronous writes.
+     */
+    private void stopWriter() {
+        if (writerThread == null || !running) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(DRAIN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writerThread.isAlive()) {
+            async = false;
+            drainRemaining();
+        }
+    }
+
+    private void drainRemaining() {
+        synchronized (lock) {
+            if (buffer.drainTo(this::write, Integer.MAX_VALUE) > 0) {
+                reportDrops();
+                flushFile();
+            }
+        }
+    }
+
+    private void writeNow(LogRecord record) {
+        synchronized (lock) {
+            write(record);
+            flushFile();
+        }
+    }
+
+    /**
+     * Formats one record and writes it to the console and the file buffer.
+     * Called with the lock held.
+     */
+    private void write(LogRecord record) {
+        String line = formatter.format(record);
+        Throwable throwable = record.getThrowable();
+
+        // Log to console if enabled
+        if (consoleOutput) {
+            if (record.getLevel() == Level.ERROR) {
+                System.err.print(line);
+            } else {
+                System.out.print(line);
+            }
+            if (throwable != null) {
+                printConsoleStackTrace(throwable);
+            }
+        }
+
+        // Log to file if the sink is available
+        if (fileSink != null) {
+            try {
+                fileSink.rollIfNeeded(record.getTimestamp());
+                fileSink.append(line);
+                if (throwable != null) {
+                    fileSink.append(stackTraceOf(throwable));
+                }
+            } catch (IOException e) {
+                System.err.println("Failed to write log file: " + e.getMessage());
+            }
+        }
+    }
+
+    private void reportDrops() {
+        long dropped = droppedCount.get();
+        if (dropped > reportedDrops) {
+            write(new LogRecord(System.currentTimeMillis(), Level.WARNING,
+                    (dropped - reportedDrops) + " log messages dropped because the log buffer was full", null));
+            reportedDrops = dropped;
+        }
+    }
+
+    private void flushFile() {
+        if (fileSink != null) {
+            try {
+                fileSink.flush();
+            } catch (IOException e) {
+                System.err.println("Failed to write log file: " + e.getMessage());
+            }
+        }
+    }
+
+    private static void printConsoleStackTrace(Throwable exception) {
+        StringBuilder builder = new StringBuilder("Stack trace for ")
+                .append(exception.getClass().getName()).append(':').append(LINE_SEPARATOR);
+        for (StackTraceElement element : exception.getStackTrace()) {
+            builder.append("\tat ").append(element).append(LINE_SEPARATOR);
+        }
+        System.err.print(builder);
+    }
+
+    private static String stackTraceOf(Throwable exception) {
+        StringWriter writer = new StringWriter();
+        exception.printStackTrace(new PrintWriter(writer));
+        return writer.toString();
+    }
+
+    /**
+     * Builds "[timestamp] [LEVEL] message" lines, reusing one builder and
+     * reformatting the timestamp only when the second changes. Not thread-safe.
+     */
+    private static final class LineFormatter {
+        private final StringBuilder builder = new StringBuilder(256);
+        private long cachedSecond = Long.MIN_VALUE;
+        private String cachedTimestamp;
+
+        String format(LogRecord record) {
+            long second = Math.floorDiv(record.getTimestamp(), 1000L);
+            if (second != cachedSecond) {
+                cachedTimestamp = DATE_FORMAT.format(Instant.ofEpochSecond(second));
+                cachedSecond = second;
+            }
+            builder.setLength(0);
+            builder.append('[').append(cachedTimestamp).append("] [")
+                    .append(record.getLevel()).append("] ")
+                    .append(record.getMessage()).append(LINE_SEPARATOR);
+            return builder.toString();
+        }
+    }
+}
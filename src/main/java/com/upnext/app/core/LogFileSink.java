@@ -0,0 +1,212 @@
+package com.upnext.app.core;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Appends formatted log text to the log file through a {@link FileChannel},
+ * rolling over to a new file by size and by date.
+ * <p>
+ * Text is encoded straight into a direct buffer and only written to the
+ * channel when the buffer fills or {@link #flush()} is called, so a batch of
+ * lines costs one system call. Rolling over is a rename of the active file to
+ * {@code <base>-<date>.<n>.log}; compressing and deleting old segments is
+ * left to a {@link LogSegmentArchiver} on its own thread. Not thread-safe:
+ * the logger uses it from its writer thread, or under its lock in
+ * synchronous mode.
+ */
+final class LogFileSink {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // How long close() waits for pending compression
+    private static final long ARCHIVE_SHUTDOWN_TIMEOUT_MS = 2000;
+
+    private final Path path;
+    private final long maxFileSize;
+    private final boolean dailyRollover;
+    private final LogSegmentArchiver archiver;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+    private FileChannel channel;
+    // Bytes already written to the active file
+    private long fileSize;
+    // Date of the entries in the active file and when the next day starts
+    private LocalDate fileDate;
+    private long nextDayStartMillis;
+
+    /**
+     * Opens the log file for appending, creating it and its directory if
+     * needed. An existing file that is already over the size limit, or was
+     * last written on an earlier day, is rolled over first.
+     *
+     * @param path The log file path
+     * @param maxFileSize Roll over once the file reaches this many bytes, 0 for no limit
+     * @param dailyRollover Whether to roll over when the date changes
+     * @param maxHistory How many rolled-over segments to keep, 0 to keep all
+     * @param compress Whether to gzip rolled-over segments
+     * @throws IOException If the file cannot be opened
+     */
+    LogFileSink(Path path, long maxFileSize, boolean dailyRollover, int maxHistory, boolean compress)
+            throws IOException {
+        this.path = path;
+        this.maxFileSize = maxFileSize;
+        this.dailyRollover = dailyRollover;
+        boolean rolling = maxFileSize > 0 || dailyRollover;
+        this.archiver = rolling ? new LogSegmentArchiver(path, maxHistory, compress) : null;
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        long now = System.currentTimeMillis();
+        if (rolling && Files.isRegularFile(path)) {
+            LocalDate existingDate = dateOf(Files.getLastModifiedTime(path).toMillis());
+            boolean stale = dailyRollover && existingDate.isBefore(dateOf(now));
+            boolean full = maxFileSize > 0 && Files.size(path) >= maxFileSize;
+            if (stale || full) {
+                Files.move(path, nextSegmentPath(existingDate));
+            }
+        }
+        open(now);
+        if (archiver != null) {
+            // Pick up segments left uncompressed or unpruned by an earlier run
+            archiver.schedule();
+        }
+    }
+
+    private void open(long nowMillis) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        fileSize = channel.size();
+        fileDate = dateOf(nowMillis);
+        nextDayStartMillis = fileDate.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Rolls over to a new file if the next entry, stamped with the given
+     * time, belongs to a new day or the file has reached its size limit.
+     * Call before appending each entry so that an entry is never split
+     * across files.
+     *
+     * @param timestampMillis The timestamp of the entry about to be appended
+     * @throws IOException If rolling over fails
+     */
+    void rollIfNeeded(long timestampMillis) throws IOException {
+        if (archiver == null) {
+            return;
+        }
+        boolean newDay = dailyRollover && timestampMillis >= nextDayStartMillis;
+        boolean full = maxFileSize > 0 && fileSize + buffer.position() >= maxFileSize;
+        if (newDay || full) {
+            rollOver(Math.max(timestampMillis, System.currentTimeMillis()));
+        }
+    }
+
+    private void rollOver(long nowMillis) throws IOException {
+        flush();
+        channel.close();
+        try {
+            Files.move(path, nextSegmentPath(fileDate));
+        } finally {
+            // Keep logging to the same file if it could not be renamed
+            open(nowMillis);
+        }
+        archiver.schedule();
+    }
+
+    /**
+     * Finds the first unused segment name for a date, counting both plain and
+     * compressed segments.
+     */
+    private Path nextSegmentPath(LocalDate date) {
+        String fileName = path.getFileName().toString();
+        String base = LogSegmentArchiver.baseName(path);
+        String extension = fileName.substring(base.length());
+        for (int index = 1; ; index++) {
+            Path candidate = path.resolveSibling(base + "-" + date + "." + index + extension);
+            Path compressed = candidate.resolveSibling(candidate.getFileName() + ".gz");
+            if (!Files.exists(candidate) && !Files.exists(compressed)) {
+                return candidate;
+            }
+        }
+    }
+
+    private LocalDate dateOf(long epochMillis) {
+        return Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate();
+    }
+
+    /**
+     * Encodes text into the buffer, writing to the file whenever it fills.
+     *
+     * @param text The text to append
+     * @throws IOException If writing fails
+     */
+    void append(CharSequence text) throws IOException {
+        CharBuffer chars = CharBuffer.wrap(text);
+        encoder.reset();
+        while (encoder.encode(chars, buffer, true) == CoderResult.OVERFLOW) {
+            flush();
+        }
+        while (encoder.flush(buffer) == CoderResult.OVERFLOW) {
+            flush();
+        }
+    }
+
+    /**
+     * Writes buffered bytes to the file.
+     *
+     * @throws IOException If writing fails
+     */
+    void flush() throws IOException {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                fileSize += channel.write(buffer);
+            }
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Gets the file this sink appends to.
+     *
+     * @return The log file path
+     */
+    Path getPath() {
+        return path;
+    }
+
+    /**
+     * Flushes buffered bytes and closes the file, giving pending compression
+     * a short time to finish.
+     *
+     * @throws IOException If writing or closing fails
+     */
+    void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+            if (archiver != null) {
+                archiver.shutdown(ARCHIVE_SHUTDOWN_TIMEOUT_MS);
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.upnext.app.core;
+
+import com.upnext.app.core.Logger.Level;
+
+/**
+ * One captured logging call. Formatting into a line is deferred to whichever
+ * thread writes it.
+ */
+final class LogRecord {
+    private final long timestamp;
+    private final Level level;
+    private final String message;
+    private final Throwable throwable;
+
+    LogRecord(long timestamp, Level level, String message, Throwable throwable) {
+        this.timestamp = timestamp;
+        this.level = level;
+        this.message = message;
+        this.throwable = throwable;
+    }
+
+    long getTimestamp() {
+        return timestamp;
+    }
+
+    Level getLevel() {
+        return level;
+    }
+
+    String getMessage() {
+        return message;
+    }
+
+    Throwable getThrowable() {
+        return throwable;
+    }
+}
@@ -0,0 +1,132 @@
+package com.upnext.app.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A bounded, lock-free multi-producer single-consumer queue.
+ * <p>
+ * Each slot carries a sequence number: a producer claims a slot by advancing
+ * the shared tail with a CAS and publishes it by bumping the slot sequence;
+ * the single consumer reads published slots in order and hands them back by
+ * bumping the sequence one lap ahead. Producers never block each other and
+ * never wait for the consumer; a full buffer is reported to the caller, which
+ * decides whether to drop or retry.
+ *
+ * @param <E> The element type
+ */
+final class LogRingBuffer<E> {
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLong tail = new AtomicLong();
+
+    // Written only by the consumer; volatile so producers can report size
+    private volatile long head;
+
+    /**
+     * Creates a buffer.
+     *
+     * @param capacity The capacity, must be a power of two
+     */
+    LogRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two: " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.sequences = new AtomicLongArray(capacity);
+        this.slots = new AtomicReferenceArray<>(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an element. Safe to call from any number of threads.
+     *
+     * @param element The element to add, not null
+     * @return true if added, false if the buffer is full
+     */
+    boolean offer(E element) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, element);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // Another producer claimed this slot first; retry with the new tail
+        }
+    }
+
+    /**
+     * Removes the oldest published element. Must only be called by the consumer.
+     *
+     * @return The element, or null if none is published yet
+     */
+    E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = slots.get(index);
+        slots.lazySet(index, null);
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Removes up to {@code limit} published elements in order. Must only be
+     * called by the consumer.
+     *
+     * @param action Receives each removed element
+     * @param limit The maximum number of elements to remove
+     * @return The number of elements removed
+     */
+    int drainTo(Consumer<? super E> action, int limit) {
+        int drained = 0;
+        E element;
+        while (drained < limit && (element = poll()) != null) {
+            action.accept(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * Whether no element is claimed or published.
+     *
+     * @return true if the buffer is empty
+     */
+    boolean isEmpty() {
+        return tail.get() == head;
+    }
+
+    /**
+     * Gets the approximate number of elements in the buffer.
+     *
+     * @return The element count
+     */
+    int size() {
+        return (int) Math.max(0L, tail.get() - head);
+    }
+
+    /**
+     * Gets the capacity.
+     *
+     * @return The maximum number of elements
+     */
+    int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,166 @@
+package com.upnext.app.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses rolled-over log segments and deletes the oldest ones, on a
+ * single background thread so the thread that rolled the file never waits.
+ * <p>
+ * Segments are named {@code <base>-<yyyy-MM-dd>.<n>.log}, and
+ * {@code <base>-<yyyy-MM-dd>.<n>.log.gz} once compressed. A compression left
+ * unfinished by a previous run is redone on the next pass.
+ */
+final class LogSegmentArchiver {
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final Path directory;
+    private final String segmentPrefix;
+    private final int maxHistory;
+    private final boolean compress;
+    private final ExecutorService executor;
+
+    /**
+     * Creates an archiver for the segments of one log file.
+     *
+     * @param logFile The active log file, e.g. {@code logs/upnext.log}
+     * @param maxHistory How many segments to keep, or 0 to keep all
+     * @param compress Whether to gzip segments
+     */
+    LogSegmentArchiver(Path logFile, int maxHistory, boolean compress) {
+        Path parent = logFile.toAbsolutePath().getParent();
+        this.directory = parent;
+        this.segmentPrefix = baseName(logFile) + "-";
+        this.maxHistory = maxHistory;
+        this.compress = compress;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upnext-log-archiver");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the base name used for segments, i.e. the file name without its extension.
+     *
+     * @param logFile The active log file
+     * @return The base name, e.g. "upnext"
+     */
+    static String baseName(Path logFile) {
+        String fileName = logFile.getFileName().toString();
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+
+    /**
+     * Queues compression of any uncompressed segments followed by pruning.
+     */
+    void schedule() {
+        executor.execute(this::archive);
+    }
+
+    /**
+     * Waits for queued work to finish, then stops the background thread.
+     *
+     * @param timeoutMillis How long to wait
+     */
+    void shutdown(long timeoutMillis) {
+        executor.shutdown();
+        try {
+            executor.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Compresses and prunes segments. Runs on the archiver thread; errors are
+     * reported to stderr because the logger cannot log about itself.
+     */
+    void archive() {
+        try {
+            if (compress) {
+                for (Path segment : listSegments()) {
+                    String name = segment.getFileName().toString();
+                    if (name.endsWith(TEMP_SUFFIX)) {
+                        Files.deleteIfExists(segment);
+                    } else if (!name.endsWith(GZIP_SUFFIX)) {
+                        gzip(segment);
+                    }
+                }
+            }
+            prune();
+        } catch (IOException e) {
+            System.err.println("Failed to archive log segments: " + e.getMessage());
+        }
+    }
+
+    private void gzip(Path segment) throws IOException {
+        Path target = segment.resolveSibling(segment.getFileName() + GZIP_SUFFIX);
+        Path temp = segment.resolveSibling(segment.getFileName() + GZIP_SUFFIX + TEMP_SUFFIX);
+        try (InputStream in = Files.newInputStream(segment);
+             OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), COPY_BUFFER_SIZE)) {
+            byte[] chunk = new byte[COPY_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(chunk)) >= 0) {
+                out.write(chunk, 0, read);
+            }
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        Files.setLastModifiedTime(target, Files.getLastModifiedTime(segment));
+        Files.delete(segment);
+    }
+
+    private void prune() throws IOException {
+        if (maxHistory <= 0) {
+            return;
+        }
+        List<Path> segments = listSegments();
+        segments.removeIf(segment -> segment.getFileName().toString().endsWith(TEMP_SUFFIX));
+        if (segments.size() <= maxHistory) {
+            return;
+        }
+        segments.sort(Comparator.comparing(LogSegmentArchiver::lastModified).reversed());
+        for (Path stale : segments.subList(maxHistory, segments.size())) {
+            Files.deleteIfExists(stale);
+        }
+    }
+
+    private List<Path> listSegments() throws IOException {
+        List<Path> segments = new ArrayList<>();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return segments;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, segmentPrefix + "*")) {
+            for (Path entry : stream) {
+                if (Files.isRegularFile(entry)) {
+                    segments.add(entry);
+                }
+            }
+        }
+        return segments;
+    }
+
+    private static long lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -1,191 +1,520 @@
 package com.upnext.app.core;
 
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+import com.upnext.app.config.LoggingConfig;
 
 /**
  * A simple logger utility for the UpNext application.
  * Logs messages to both console and a log file, with timestamp and severity level.
+ * <p>
+ * By default logging is asynchronous: a call only captures the timestamp,
+ * level and message into a bounded lock-free ring buffer and returns, so the
+ * Swing event thread never waits on disk or console I/O. A single background
+ * writer thread formats the lines and appends them in batches. What happens
+ * when the buffer is full is set by {@code log.overflowPolicy} in
+ * {@code config/logging.properties}. Buffered lines are drained on
+ * {@link #close()} and when the JVM shuts down.
+ * <p>
+ * Messages below the minimum level ({@code log.level}, INFO by default) are
+ * discarded before any work is done. Classes that obtain their logger with
+ * {@link #getInstance(Class)} can be given their own level with
+ * {@code log.level.<package or class>=DEBUG}. To keep disabled messages free,
+ * pass a {@link Supplier} or a pattern with {@code {}} placeholders instead of
+ * concatenating strings:
+ * <pre>
+ * LOGGER.debug("[QUESTION_SEARCH_SQL] {}", sql);
+ * LOGGER.debug(() -&gt; "Loaded " + describe(page));
+ * </pre>
  */
 public final class Logger {
-    // Singleton instance
-    private static Logger instance;
-    
+    // Name of the logger returned by getInstance()
+    private static final String ROOT_NAME = "";
+
     // Log levels
     public enum Level {
-        INFO("INFO"),
-        WARNING("WARNING"),
-        ERROR("ERROR"),
-        DEBUG("DEBUG");
-        
+        INFO("INFO", 20),
+        WARNING("WARNING", 30),
+        ERROR("ERROR", 40),
+        DEBUG("DEBUG", 10);
+
         private final String label;
-        
-        Level(String label) {
+        private final int severity;
+
+        Level(String label, int severity) {
             this.label = label;
+            this.severity = severity;
+        }
+
+        /**
+         * Whether this level is as severe as, or more severe than, another.
+         *
+         * @param other The level to compare with
+         * @return true if this level is at least as severe
+         */
+        public boolean isAtLeast(Level other) {
+            return severity >= other.severity;
         }
-        
+
         @Override
         public String toString() {
             return label;
         }
     }
-    
-    // Log file path
-    private static final String LOG_FILE_PATH = "logs/upnext.log";
-    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-    
-    private PrintWriter fileWriter;
-    private boolean consoleOutput;
-    
+
+    private final String name;
+    private volatile Level threshold;
+
+    /**
+     * Private constructor; loggers are obtained through {@link #getInstance()}
+     * and {@link #getInstance(Class)}.
+     */
+    private Logger(String name, Level threshold) {
+        this.name = name;
+        this.threshold = threshold;
+    }
+
     /**
-     * Private constructor to initialize the logger.
+     * Gets the application-wide logger.
+     *
+     * @return The logger instance
      */
-    private Logger() {
-        this.consoleOutput = true;
-        initializeLogFile();
+    public static Logger getInstance() {
+        return Registry.ROOT;
     }
-    
+
     /**
-     * Initializes the log file, creating directories if needed.
+     * Gets the logger for a class. It writes to the same destinations as
+     * {@link #getInstance()} but honours level overrides configured for the
+     * class or its package.
+     *
+     * @param owner The class that logs
+     * @return The logger for that class
      */
-    private void initializeLogFile() {
-        try {
-            File logFile = new File(LOG_FILE_PATH);
-            File parentDir = logFile.getParentFile();
-            
-            // Create log directory if it doesn't exist
-            if (parentDir != null && !parentDir.exists()) {
-                parentDir.mkdirs();
-            }
-            
-            // Append to existing file or create a new one
-            this.fileWriter = new PrintWriter(new FileWriter(logFile, true), true);
-            log(Level.INFO, "Logger initialized");
-        } catch (IOException e) {
-            System.err.println("Failed to initialize log file: " + e.getMessage());
-        }
+    public static Logger getInstance(Class<?> owner) {
+        return Registry.LOGGERS.computeIfAbsent(owner.getName(),
+                loggerName -> new Logger(loggerName, Registry.resolveLevel(loggerName)));
     }
-    
+
     /**
-     * Gets the singleton instance of the logger.
-     * 
-     * @return The logger instance
+     * Gets the name of this logger: the owning class name, or an empty string
+     * for the application-wide logger.
+     *
+     * @return The logger name
      */
-    public static synchronized Logger getInstance() {
-        if (instance == null) {
-            instance = new Logger();
-        }
-        return instance;
+    public String getName() {
+        return name;
     }
-    
+
+    /**
+     * Gets the minimum level this logger writes.
+     *
+     * @return The level threshold
+     */
+    public Level getLevel() {
+        return threshold;
+    }
+
+    /**
+     * Changes the minimum level this logger writes.
+     *
+     * @param level The new level threshold
+     */
+    public void setLevel(Level level) {
+        this.threshold = level;
+    }
+
+    /**
+     * Whether messages of a level would be written.
+     *
+     * @param level The level to check
+     * @return true if the level is enabled
+     */
+    public boolean isEnabled(Level level) {
+        return level.isAtLeast(threshold);
+    }
+
+    /**
+     * Whether debug messages would be written.
+     *
+     * @return true if DEBUG is enabled
+     */
+    public boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
     /**
      * Logs a message with the specified level.
-     * 
+     *
      * @param level The severity level
      * @param message The message to log
      */
     public void log(Level level, String message) {
-        String timestamp = DATE_FORMAT.format(new Date());
-        String formattedMessage = String.format("[%s] [%s] %s", timestamp, level, message);
-        
-        // Log to console if enabled
-        if (consoleOutput) {
-            if (level == Level.ERROR) {
-                System.err.println(formattedMessage);
-            } else {
-                System.out.println(formattedMessage);
-            }
+        if (isEnabled(level)) {
+            Registry.DISPATCHER.dispatch(new LogRecord(System.currentTimeMillis(), level, message, null));
         }
-        
-        // Log to file if writer is available
-        if (fileWriter != null) {
-            fileWriter.println(formattedMessage);
-            fileWriter.flush();
+    }
+
+    /**
+     * Logs a message with the specified level, building it only if the level is enabled.
+     *
+     * @param level The severity level
+     * @param message Supplies the message to log
+     */
+    public void log(Level level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            Registry.DISPATCHER.dispatch(new LogRecord(System.currentTimeMillis(), level, message.get(), null));
+        }
+    }
+
+    /**
+     * Logs a message with the specified level, replacing each {@code {}} in the
+     * pattern with the next argument only if the level is enabled. A trailing
+     * {@link Throwable} without a placeholder is logged with its stack trace.
+     *
+     * @param level The severity level
+     * @param pattern The message pattern
+     * @param args The values for the placeholders
+     */
+    public void log(Level level, String pattern, Object... args) {
+        if (isEnabled(level)) {
+            Throwable thrown = null;
+            if (args != null && args.length > 0 && args[args.length - 1] instanceof Throwable
+                    && countPlaceholders(pattern) < args.length) {
+                thrown = (Throwable) args[args.length - 1];
+            }
+            Registry.DISPATCHER.dispatch(new LogRecord(System.currentTimeMillis(), level,
+                    formatMessage(pattern, args), thrown));
         }
     }
-    
+
     /**
      * Logs an exception with ERROR level.
-     * 
+     *
      * @param message A message describing the context of the exception
      * @param exception The exception to log
      */
     public void logException(String message, Throwable exception) {
-        log(Level.ERROR, message + ": " + exception.getClass().getName() + " - " + exception.getMessage());
-        
-        // Print stack trace to file
-        if (fileWriter != null) {
-            exception.printStackTrace(fileWriter);
-            fileWriter.flush();
-        }
-        
-        // Print stack trace to console if enabled
-        if (consoleOutput) {
-            // Use System.err.println for stack trace to avoid lint warnings
-            System.err.println("Stack trace for " + exception.getClass().getName() + ":");
-            StackTraceElement[] stackTrace = exception.getStackTrace();
-            for (StackTraceElement element : stackTrace) {
-                System.err.println("\tat " + element);
-            }
+        if (isEnabled(Level.ERROR)) {
+            Registry.DISPATCHER.dispatch(new LogRecord(System.currentTimeMillis(), Level.ERROR,
+                    message + ": " + exception.getClass().getName() + " - " + exception.getMessage(), exception));
         }
     }
-    
+
     /**
      * Logs an info message.
-     * 
+     *
      * @param message The message to log
      */
     public void info(String message) {
         log(Level.INFO, message);
     }
-    
+
+    /**
+     * Logs an info message built only if INFO is enabled.
+     *
+     * @param message Supplies the message to log
+     */
+    public void info(Supplier<String> message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Logs an info message with one placeholder.
+     *
+     * @param pattern The message pattern
+     * @param arg The value for the placeholder
+     */
+    public void info(String pattern, Object arg) {
+        if (isEnabled(Level.INFO)) {
+            log(Level.INFO, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs an info message with two placeholders.
+     *
+     * @param pattern The message pattern
+     * @param arg1 The value for the first placeholder
+     * @param arg2 The value for the second placeholder
+     */
+    public void info(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(Level.INFO)) {
+            log(Level.INFO, pattern, arg1, arg2);
+        }
+    }
+
+    /**
+     * Logs an info message with any number of placeholders.
+     *
+     * @param pattern The message pattern
+     * @param args The values for the placeholders
+     */
+    public void info(String pattern, Object... args) {
+        log(Level.INFO, pattern, args);
+    }
+
     /**
      * Logs a warning message.
-     * 
+     *
      * @param message The message to log
      */
     public void warning(String message) {
         log(Level.WARNING, message);
     }
-    
+
+    /**
+     * Logs a warning message built only if WARNING is enabled.
+     *
+     * @param message Supplies the message to log
+     */
+    public void warning(Supplier<String> message) {
+        log(Level.WARNING, message);
+    }
+
+    /**
+     * Logs a warning message with one placeholder.
+     *
+     * @param pattern The message pattern
+     * @param arg The value for the placeholder
+     */
+    public void warning(String pattern, Object arg) {
+        if (isEnabled(Level.WARNING)) {
+            log(Level.WARNING, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a warning message with two placeholders.
+     *
+     * @param pattern The message pattern
+     * @param arg1 The value for the first placeholder
+     * @param arg2 The value for the second placeholder
+     */
+    public void warning(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(Level.WARNING)) {
+            log(Level.WARNING, pattern, arg1, arg2);
+        }
+    }
+
+    /**
+     * Logs a warning message with any number of placeholders.
+     *
+     * @param pattern The message pattern
+     * @param args The values for the placeholders
+     */
+    public void warning(String pattern, Object... args) {
+        log(Level.WARNING, pattern, args);
+    }
+
     /**
      * Logs an error message.
-     * 
+     *
      * @param message The message to log
      */
     public void error(String message) {
         log(Level.ERROR, message);
     }
-    
+
+    /**
+     * Logs an error message built only if ERROR is enabled.
+     *
+     * @param message Supplies the message to log
+     */
+    public void error(Supplier<String> message) {
+        log(Level.ERROR, message);
+    }
+
+    /**
+     * Logs an error message with one placeholder.
+     *
+     * @param pattern The message pattern
+     * @param arg The value for the placeholder
+     */
+    public void error(String pattern, Object arg) {
+        if (isEnabled(Level.ERROR)) {
+            log(Level.ERROR, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs an error message with two placeholders.
+     *
+     * @param pattern The message pattern
+     * @param arg1 The value for the first placeholder
+     * @param arg2 The value for the second placeholder
+     */
+    public void error(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(Level.ERROR)) {
+            log(Level.ERROR, pattern, arg1, arg2);
+        }
+    }
+
+    /**
+     * Logs an error message with any number of placeholders.
+     *
+     * @param pattern The message pattern
+     * @param args The values for the placeholders
+     */
+    public void error(String pattern, Object... args) {
+        log(Level.ERROR, pattern, args);
+    }
+
     /**
      * Logs a debug message.
-     * 
+     *
      * @param message The message to log
      */
     public void debug(String message) {
         log(Level.DEBUG, message);
     }
-    
+
+    /**
+     * Logs a debug message built only if DEBUG is enabled.
+     *
+     * @param message Supplies the message to log
+     */
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    /**
+     * Logs a debug message with one placeholder.
+     *
+     * @param pattern The message pattern
+     * @param arg The value for the placeholder
+     */
+    public void debug(String pattern, Object arg) {
+        if (isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, pattern, arg);
+        }
+    }
+
+    /**
+     * Logs a debug message with two placeholders.
+     *
+     * @param pattern The message pattern
+     * @param arg1 The value for the first placeholder
+     * @param arg2 The value for the second placeholder
+     */
+    public void debug(String pattern, Object arg1, Object arg2) {
+        if (isEnabled(Level.DEBUG)) {
+            log(Level.DEBUG, pattern, arg1, arg2);
+        }
+    }
+
+    /**
+     * Logs a debug message with any number of placeholders.
+     *
+     * @param pattern The message pattern
+     * @param args The values for the placeholders
+     */
+    public void debug(String pattern, Object... args) {
+        log(Level.DEBUG, pattern, args);
+    }
+
     /**
      * Enables or disables console output.
-     * 
+     *
      * @param enabled True to enable console output, false to disable
      */
     public void setConsoleOutput(boolean enabled) {
-        this.consoleOutput = enabled;
+        Registry.DISPATCHER.setConsoleOutput(enabled);
+    }
+
+    /**
+     * Gets the number of messages discarded because the buffer was full.
+     *
+     * @return The dropped message count
+     */
+    public long getDroppedCount() {
+        return Registry.DISPATCHER.getDroppedCount();
     }
-    
+
     /**
      * Closes the logger resources.
      * Should be called when the application is shutting down.
+     * Messages still buffered are written before the file is closed; messages
+     * logged afterwards only go to the console.
      */
     public void close() {
-        if (fileWriter != null) {
-            fileWriter.close();
+        Registry.DISPATCHER.close();
+    }
+
+    /**
+     * Replaces each {@code {}} in a pattern with the next argument.
+     * Placeholders without an argument are left as they are.
+     *
+     * @param pattern The message pattern
+     * @param args The values for the placeholders
+     * @return The formatted message
+     */
+    static String formatMessage(String pattern, Object... args) {
+        if (pattern == null || args == null || args.length == 0) {
+            return pattern;
+        }
+        StringBuilder builder = new StringBuilder(pattern.length() + 16 * args.length);
+        int start = 0;
+        int argIndex = 0;
+        int placeholder;
+        while (argIndex < args.length && (placeholder = pattern.indexOf("{}", start)) >= 0) {
+            builder.append(pattern, start, placeholder).append(args[argIndex++]);
+            start = placeholder + 2;
+        }
+        return builder.append(pattern, start, pattern.length()).toString();
+    }
+
+    private static int countPlaceholders(String pattern) {
+        int count = 0;
+        int index = pattern == null ? -1 : pattern.indexOf("{}");
+        while (index >= 0) {
+            count++;
+            index = pattern.indexOf("{}", index + 2);
+        }
+        return count;
+    }
+
+    /**
+     * Lazily creates the shared dispatcher and the logger registry on first use.
+     */
+    private static final class Registry {
+        private static final LogDispatcher DISPATCHER = new LogDispatcher();
+        private static final Level DEFAULT_LEVEL = parseLevel(LoggingConfig.getLevel(), Level.INFO);
+        private static final Map<String, String> OVERRIDES = LoggingConfig.getLevelOverrides();
+        private static final ConcurrentMap<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+        private static final Logger ROOT = new Logger(ROOT_NAME, DEFAULT_LEVEL);
+
+        static {
+            ROOT.info("Logger initialized");
+        }
+
+        /**
+         * Finds the most specific override for a class name: the class itself,
+         * then each enclosing package.
+         */
+        static Level resolveLevel(String loggerName) {
+            String candidate = loggerName;
+            while (!candidate.isEmpty()) {
+                String override = OVERRIDES.get(candidate);
+                if (override != null) {
+                    return parseLevel(override, DEFAULT_LEVEL);
+                }
+                int dot = candidate.lastIndexOf('.');
+                candidate = dot < 0 ? "" : candidate.substring(0, dot);
+            }
+            return DEFAULT_LEVEL;
+        }
+
+        private static Level parseLevel(String value, Level fallback) {
+            try {
+                return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return fallback;
+            }
         }
     }
-}
\ No newline at end of file
+}
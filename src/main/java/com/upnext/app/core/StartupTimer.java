@@ -0,0 +1,90 @@
+package com.upnext.app.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how long each phase of application startup takes.
+ * <p>
+ * Phases may run concurrently on different threads, so each is logged with
+ * its offset from the start of startup as well as its duration; the summary
+ * lists them in the order they finished.
+ */
+public final class StartupTimer {
+    private static final Logger LOGGER = Logger.getInstance(StartupTimer.class);
+
+    private final long startNanos;
+    private final List<String> phases = new ArrayList<>();
+
+    /**
+     * Creates a timer whose clock starts now.
+     */
+    public StartupTimer() {
+        this(System.nanoTime());
+    }
+
+    StartupTimer(long startNanos) {
+        this.startNanos = startNanos;
+    }
+
+    /**
+     * Gets the current time, for passing back to {@link #record} when the phase ends.
+     *
+     * @return The current {@link System#nanoTime()}
+     */
+    public long mark() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records a phase that started at the given mark and has just finished.
+     *
+     * @param phase The phase name
+     * @param phaseStartNanos The value {@link #mark()} returned when the phase started
+     * @return The phase duration in milliseconds
+     */
+    public long record(String phase, long phaseStartNanos) {
+        return record(phase, phaseStartNanos, System.nanoTime());
+    }
+
+    long record(String phase, long phaseStartNanos, long phaseEndNanos) {
+        long offsetMs = TimeUnit.NANOSECONDS.toMillis(phaseStartNanos - startNanos);
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(phaseEndNanos - phaseStartNanos);
+        String entry = phase + " " + durationMs + " ms (at +" + offsetMs + " ms)";
+        synchronized (phases) {
+            phases.add(entry);
+        }
+        LOGGER.info("Startup phase {}", entry);
+        return durationMs;
+    }
+
+    /**
+     * Gets the time since the timer was created.
+     *
+     * @return The elapsed time in milliseconds
+     */
+    public long elapsedMs() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gets the recorded phases in the order they finished.
+     *
+     * @return The phases, one "name duration (offset)" entry each
+     */
+    public List<String> getPhases() {
+        synchronized (phases) {
+            return new ArrayList<>(phases);
+        }
+    }
+
+    /**
+     * Logs the total startup time with every recorded phase.
+     *
+     * @param milestone What startup has reached, e.g. "sign-in screen shown"
+     */
+    public void logSummary(String milestone) {
+        LOGGER.info("Startup reached {} after {} ms: {}", milestone, elapsedMs(), String.join(", ", getPhases()));
+    }
+}
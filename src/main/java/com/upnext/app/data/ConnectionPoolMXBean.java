@@ -0,0 +1,61 @@
+package com.upnext.app.data;
+
+/**
+ * JMX view of the connection pool, registered as
+ * {@code com.upnext.app:type=ConnectionPool}. Inspect it with JConsole or
+ * VisualVM while the application is running.
+ */
+public interface ConnectionPoolMXBean {
+
+    int getTotalConnections();
+
+    int getIdleConnections();
+
+    int getBorrowedConnections();
+
+    int getThreadsAwaitingConnection();
+
+    int getMaxPoolSize();
+
+    long getBorrowCount();
+
+    long getTimeoutCount();
+
+    long getValidationFailureCount();
+
+    long getConnectionsCreated();
+
+    long getConnectionsClosed();
+
+    long getLeakCount();
+
+    long getBrokenConnectionCount();
+
+    double getAcquireWaitMeanMillis();
+
+    double getAcquireWaitP95Millis();
+
+    double getAcquireWaitP99Millis();
+
+    double getAcquireWaitMaxMillis();
+
+    double getHoldTimeMeanMillis();
+
+    double getHoldTimeP95Millis();
+
+    double getHoldTimeP99Millis();
+
+    double getHoldTimeMaxMillis();
+
+    /**
+     * Gets the retained leak reports, each with the borrowing stack trace.
+     *
+     * @return Human-readable leak reports, oldest first
+     */
+    String[] getRecentLeakReports();
+
+    /**
+     * Clears histograms and counters.
+     */
+    void resetStatistics();
+}
@@ -0,0 +1,247 @@
+package com.upnext.app.data;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters, latency histograms and leak reports for {@link JdbcConnectionProvider}.
+ * <p>
+ * Obtain the live instance through {@link JdbcConnectionProvider#getMetrics()}.
+ * The same figures are published over JMX as {@code com.upnext.app:type=ConnectionPool}.
+ */
+public final class ConnectionPoolMetrics {
+    // How many leak reports are kept for inspection
+    private static final int MAX_LEAK_REPORTS = 20;
+
+    private final LatencyHistogram acquireWait = new LatencyHistogram();
+    private final LatencyHistogram holdTime = new LatencyHistogram();
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder validationFailures = new LongAdder();
+    private final LongAdder connectionsCreated = new LongAdder();
+    private final LongAdder connectionsClosed = new LongAdder();
+    private final LongAdder leaksDetected = new LongAdder();
+    private final LongAdder brokenConnections = new LongAdder();
+    private final Deque<LeakReport> leakReports = new ArrayDeque<>();
+
+    ConnectionPoolMetrics() {
+    }
+
+    void recordBorrow(long waitNanos) {
+        borrows.increment();
+        acquireWait.record(waitNanos);
+    }
+
+    void recordReturn(long holdNanos) {
+        holdTime.record(holdNanos);
+    }
+
+    void recordTimeout() {
+        timeouts.increment();
+    }
+
+    void recordValidationFailure() {
+        validationFailures.increment();
+    }
+
+    void recordBrokenConnection() {
+        brokenConnections.increment();
+    }
+
+    void recordConnectionCreated() {
+        connectionsCreated.increment();
+    }
+
+    void recordConnectionClosed() {
+        connectionsClosed.increment();
+    }
+
+    void recordLeak(LeakReport report) {
+        leaksDetected.increment();
+        synchronized (leakReports) {
+            if (leakReports.size() == MAX_LEAK_REPORTS) {
+                leakReports.removeFirst();
+            }
+            leakReports.addLast(report);
+        }
+    }
+
+    /**
+     * Gets the distribution of time callers spent waiting in {@code getConnection()}.
+     *
+     * @return The acquire-wait histogram
+     */
+    public LatencyHistogram getAcquireWait() {
+        return acquireWait;
+    }
+
+    /**
+     * Gets the distribution of time connections were held before being returned.
+     *
+     * @return The hold-time histogram
+     */
+    public LatencyHistogram getHoldTime() {
+        return holdTime;
+    }
+
+    /**
+     * Gets the number of successful borrows.
+     *
+     * @return The borrow count
+     */
+    public long getBorrowCount() {
+        return borrows.sum();
+    }
+
+    /**
+     * Gets the number of callers that gave up waiting for a connection.
+     *
+     * @return The timeout count
+     */
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    /**
+     * Gets the number of idle connections found broken when validated.
+     *
+     * @return The validation failure count
+     */
+    public long getValidationFailureCount() {
+        return validationFailures.sum();
+    }
+
+    /**
+     * Gets the number of connections retired on return because the driver
+     * reported the session as lost while they were in use.
+     *
+     * @return The broken connection count
+     */
+    public long getBrokenConnectionCount() {
+        return brokenConnections.sum();
+    }
+
+    /**
+     * Gets the number of physical connections opened.
+     *
+     * @return The number of connections created
+     */
+    public long getConnectionsCreated() {
+        return connectionsCreated.sum();
+    }
+
+    /**
+     * Gets the number of physical connections closed.
+     *
+     * @return The number of connections closed
+     */
+    public long getConnectionsClosed() {
+        return connectionsClosed.sum();
+    }
+
+    /**
+     * Gets the number of connections reported as possibly leaked.
+     *
+     * @return The leak count
+     */
+    public long getLeakCount() {
+        return leaksDetected.sum();
+    }
+
+    /**
+     * Gets the most recent leak reports, oldest first.
+     *
+     * @return A copy of the retained leak reports
+     */
+    public List<LeakReport> getRecentLeaks() {
+        synchronized (leakReports) {
+            return new ArrayList<>(leakReports);
+        }
+    }
+
+    /**
+     * Clears histograms and counters. Gauges kept by the pool are not affected.
+     */
+    public void reset() {
+        acquireWait.reset();
+        holdTime.reset();
+        borrows.reset();
+        timeouts.reset();
+        validationFailures.reset();
+        connectionsCreated.reset();
+        connectionsClosed.reset();
+        leaksDetected.reset();
+        brokenConnections.reset();
+        synchronized (leakReports) {
+            leakReports.clear();
+        }
+    }
+
+    /**
+     * A connection held longer than the leak detection threshold, with the
+     * stack of the code that borrowed it.
+     */
+    public static final class LeakReport {
+        private final String threadName;
+        private final long heldMillis;
+        private final long detectedAt;
+        private final Throwable borrowSite;
+
+        LeakReport(String threadName, long heldMillis, long detectedAt, Throwable borrowSite) {
+            this.threadName = threadName;
+            this.heldMillis = heldMillis;
+            this.detectedAt = detectedAt;
+            this.borrowSite = borrowSite;
+        }
+
+        /**
+         * Gets the name of the thread that borrowed the connection.
+         *
+         * @return The borrowing thread name
+         */
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Gets how long the connection had been held when the leak was reported.
+         *
+         * @return The hold time in milliseconds
+         */
+        public long getHeldMillis() {
+            return heldMillis;
+        }
+
+        /**
+         * Gets when the leak was reported.
+         *
+         * @return The epoch time in milliseconds
+         */
+        public long getDetectedAt() {
+            return detectedAt;
+        }
+
+        /**
+         * Gets the stack of the code that borrowed the connection.
+         *
+         * @return The borrow stack trace
+         */
+        public StackTraceElement[] getBorrowStack() {
+            return borrowSite.getStackTrace();
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder()
+                    .append("Connection borrowed by ").append(threadName)
+                    .append(" held for ").append(heldMillis).append(" ms");
+            for (StackTraceElement element : borrowSite.getStackTrace()) {
+                builder.append("\n\tat ").append(element);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -1,63 +1,140 @@
 package com.upnext.app.data;
 
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
+import java.lang.management.ManagementFactory;
 import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
 import com.upnext.app.config.DatabaseConfig;
+import com.upnext.app.core.Logger;
 
 /**
  * Provides JDBC connections to the application's database.
- * Implements a simple connection pooling mechanism for better performance.
+ * <p>
+ * Connections are pooled behind a fair semaphore: each permit is the right to
+ * hold one checked-out connection, so the number of borrowed connections can
+ * never exceed the configured maximum and blocked callers are served in FIFO
+ * order. Idle connections live in a deque that is reused most-recently-first,
+ * which lets surplus connections age out through idle eviction. A single
+ * background housekeeper retires connections past their maximum lifetime,
+ * evicts surplus idle connections, pings long-idle connections and keeps the
+ * minimum pool size warm.
+ * <p>
+ * Borrowing does not ping the server unless the connection has been idle
+ * longer than the validation window; connections the driver reports as broken
+ * while in use are retired when they are returned.
+ * <p>
+ * Borrowers receive a {@link PooledConnection}, a plain delegating wrapper
+ * whose {@code close()} returns the connection here and which caches prepared
+ * statements for the lifetime of the physical connection.
+ * <p>
+ * Acquire waits, hold times, timeouts and validation failures are recorded in
+ * {@link ConnectionPoolMetrics}, exposed through {@link #getMetrics()} and over
+ * JMX. When a leak detection threshold is configured, connections held longer
+ * than it are logged with the stack trace of the code that borrowed them.
  */
 public class JdbcConnectionProvider {
+    private static final Logger LOGGER = Logger.getInstance(JdbcConnectionProvider.class);
+
     // Singleton instance
     private static JdbcConnectionProvider instance;
-    
-    // Connection pool settings - increased for better concurrency
-    private static final int MIN_POOL_SIZE = 5;
-    private static final int MAX_POOL_SIZE = 20;
-    private static final int CONNECTION_TIMEOUT_MS = 10000;
-    
+
+    // How often the housekeeper runs eviction and refill
+    private static final long HOUSEKEEPING_INTERVAL_MS = 30_000L;
+
+    // Upper bound on how long a permit holder waits before re-checking for a free slot
+    private static final long RESLOT_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    // Name under which the pool is published over JMX
+    private static final String MBEAN_NAME = "com.upnext.app:type=ConnectionPool";
+
+    // Pool settings, resolved from DatabaseConfig
+    private final int minPoolSize;
+    private final int maxPoolSize;
+    private final long acquireTimeoutMs;
+    private final long maxLifetimeMs;
+    private final long idleTimeoutMs;
+    private final int statementCacheSize;
+    private final long leakDetectionThresholdMs;
+    private final long validationIdleMs;
+    private final long keepaliveMs;
+
     // Connection pool
-    private final ConcurrentLinkedQueue<Connection> connectionPool;
-    private final AtomicInteger activeConnections;
-    
+    private final Semaphore borrowPermits;
+    private final LinkedBlockingDeque<PooledConnection> idleConnections;
+    private final AtomicInteger totalConnections;
+    private final Set<PooledConnection> borrowedConnections;
+    private final ScheduledExecutorService housekeeper;
+    private final ConnectionPoolMetrics metrics;
+
     /**
      * Private constructor to enforce singleton pattern.
-     * 
+     *
      * @throws SQLException If there's an error initializing the connection pool
      */
     private JdbcConnectionProvider() throws SQLException {
         // Initialize the database configuration
         DatabaseConfig.initialize();
-        
+
         // Load the JDBC driver
         try {
             Class.forName("com.mysql.cj.jdbc.Driver");
         } catch (ClassNotFoundException e) {
             throw new SQLException("MySQL JDBC driver not found", e);
         }
-        
+
+        minPoolSize = DatabaseConfig.getPoolMinSize();
+        maxPoolSize = DatabaseConfig.getPoolMaxSize();
+        acquireTimeoutMs = DatabaseConfig.getPoolTimeoutMs();
+        maxLifetimeMs = DatabaseConfig.getPoolMaxLifetimeMs();
+        idleTimeoutMs = DatabaseConfig.getPoolIdleTimeoutMs();
+        statementCacheSize = DatabaseConfig.getStatementCacheSize();
+        leakDetectionThresholdMs = DatabaseConfig.getLeakDetectionThresholdMs();
+        validationIdleMs = DatabaseConfig.getPoolValidationIdleMs();
+        keepaliveMs = DatabaseConfig.getPoolKeepaliveMs();
+
         // Initialize the connection pool
-        connectionPool = new ConcurrentLinkedQueue<>();
-        activeConnections = new AtomicInteger(0);
-        
-        // Pre-populate the connection pool with MIN_POOL_SIZE connections
-        for (int i = 0; i < MIN_POOL_SIZE; i++) {
-            connectionPool.offer(createConnection());
-            activeConnections.incrementAndGet();
+        borrowPermits = new Semaphore(maxPoolSize, true);
+        idleConnections = new LinkedBlockingDeque<>();
+        totalConnections = new AtomicInteger(0);
+        borrowedConnections = ConcurrentHashMap.newKeySet();
+        metrics = new ConnectionPoolMetrics();
+
+        housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "upnext-db-pool-housekeeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        housekeeper.scheduleWithFixedDelay(this::runHousekeeping,
+                HOUSEKEEPING_INTERVAL_MS, HOUSEKEEPING_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (leakDetectionThresholdMs > 0) {
+            long scanInterval = Math.max(1_000L, leakDetectionThresholdMs / 2);
+            housekeeper.scheduleWithFixedDelay(this::detectLeaks,
+                    scanInterval, scanInterval, TimeUnit.MILLISECONDS);
         }
+
+        registerMBean();
     }
-    
+
     /**
      * Gets the singleton instance of the connection provider.
-     * 
+     *
      * @return The connection provider instance
      * @throws SQLException If there's an error creating the instance
      */
@@ -67,210 +144,561 @@ public class JdbcConnectionProvider {
         }
         return instance;
     }
-    
+
     /**
-     * Gets a connection from the pool. If the pool is empty and the active connection
-     * count is less than MAX_POOL_SIZE, a new connection is created.
-     * 
+     * Opens connections until the pool holds its configured minimum, so the
+     * first screens do not pay connection setup. Startup calls this on a
+     * background thread alongside the schema check; afterwards the
+     * housekeeper keeps the minimum warm.
+     */
+    public void warmUp() {
+        fillToMinimum();
+    }
+
+    /**
+     * Gets a connection from the pool, waiting up to the configured acquire
+     * timeout when every connection is checked out. Waiters are served in
+     * arrival order.
+     *
      * @return A database connection
+     * @throws SQLTimeoutException If no connection became available in time
      * @throws SQLException If there's an error getting a connection
      */
     public Connection getConnection() throws SQLException {
-        Connection connection = connectionPool.poll();
-        
-        if (connection == null) {
-            // If no connection is available in the pool
-            if (activeConnections.get() < MAX_POOL_SIZE) {
-                // Create a new connection if under the maximum pool size
-                connection = createConnection();
-                activeConnections.incrementAndGet();
-            } else {
-                // Wait for a connection to become available
-                long waitStartTime = System.currentTimeMillis();
-                while (connection == null) {
-                    if (System.currentTimeMillis() - waitStartTime > CONNECTION_TIMEOUT_MS) {
-                        throw new SQLException("Timed out waiting for a database connection");
-                    }
-                    
-                    try {
-                        Thread.sleep(100); // Wait a bit before checking again // NOSONAR: intentional brief backoff while waiting for a pooled connection
-                    } catch (InterruptedException e) {
-                        Thread.currentThread().interrupt();
-                        throw new SQLException("Interrupted while waiting for a connection", e);
-                    }
-                    
-                    connection = connectionPool.poll();
-                }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(acquireTimeoutMs);
+        try {
+            if (!borrowPermits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                metrics.recordTimeout();
+                throw new SQLTimeoutException("Timed out after " + acquireTimeoutMs
+                        + " ms waiting for a database connection");
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a connection", e);
         }
-        
-        // Validate the connection
-        if (!isValid(connection)) {
-            // If the connection is not valid, create a new one
-            connection.close();
-            connection = createConnection();
+
+        try {
+            PooledConnection connection = takeConnection(deadline);
+            long now = System.nanoTime();
+            Throwable borrowSite = leakDetectionThresholdMs > 0
+                    ? new Throwable("Connection borrowed here") : null;
+            connection.markBorrowed(now, borrowSite);
+            borrowedConnections.add(connection);
+            metrics.recordBorrow(now - start);
+            return connection;
+        } catch (SQLTimeoutException e) {
+            metrics.recordTimeout();
+            borrowPermits.release();
+            throw e;
+        } catch (SQLException | RuntimeException e) {
+            borrowPermits.release();
+            throw e;
         }
-        
-        return wrapConnection(connection);
     }
-    
+
     /**
      * Releases a connection back to the pool.
-     * 
+     *
      * @param connection The connection to release
      */
     public void releaseConnection(Connection connection) {
         if (connection == null) {
             return;
         }
-        Connection actual = unwrapConnection(connection);
-        returnConnection(actual);
-    }
-    
-    /**
-     * Checks if a connection is valid.
-     * 
-     * @param connection The connection to check
-     * @return True if the connection is valid, false otherwise
-     */
-    private boolean isValid(Connection connection) {
+        if (connection instanceof PooledConnection && ((PooledConnection) connection).getOwner() == this) {
+            try {
+                connection.close();
+            } catch (SQLException e) {
+                LOGGER.logException("Failed to return connection to the pool", e);
+            }
+            return;
+        }
+        // Not one of ours; close it rather than leak it
         try {
-            return connection != null && !connection.isClosed() && connection.isValid(1);
-        } catch (SQLException e) {
-            return false;
+            connection.close();
+        } catch (SQLException ignored) {
+            // Best effort close
         }
     }
-    
+
     /**
-     * Creates a new database connection.
-     * 
-     * @return A new database connection
-     * @throws SQLException If there's an error creating the connection
+     * Closes all idle connections in the pool. Borrowed connections are not
+     * affected. The pool stays usable and will reopen connections on demand.
+     *
+     * @throws SQLException If there's an error closing the connections
      */
-    private Connection createConnection() throws SQLException {
-        return DriverManager.getConnection(
-                DatabaseConfig.getJdbcUrl(),
-                DatabaseConfig.getUser(),
-                DatabaseConfig.getPassword());
+    public void closeAllConnections() throws SQLException {
+        PooledConnection connection;
+        while ((connection = idleConnections.pollFirst()) != null) {
+            destroy(connection);
+        }
     }
-    
+
     /**
-     * Closes all connections in the pool.
-     * 
-     * @throws SQLException If there's an error closing the connections
+     * Stops the background housekeeper and closes all idle connections.
+     * Should be called when the application is shutting down.
      */
-    public void closeAllConnections() throws SQLException {
-        Connection connection;
-        while ((connection = connectionPool.poll()) != null) {
-            connection.close();
-            activeConnections.decrementAndGet();
+    public void shutdown() {
+        housekeeper.shutdownNow();
+        unregisterMBean();
+        try {
+            closeAllConnections();
+        } catch (SQLException e) {
+            LOGGER.logException("Failed to close pooled connections on shutdown", e);
         }
     }
-    
+
     /**
-     * Gets the number of active connections.
-     * 
+     * Gets the number of open connections, whether idle or borrowed.
+     *
      * @return The number of active connections
      */
     public int getActiveConnectionCount() {
-        return activeConnections.get();
+        return totalConnections.get();
     }
-    
+
     /**
      * Gets the number of available connections in the pool.
-     * 
+     *
      * @return The number of available connections
      */
     public int getAvailableConnectionCount() {
-        return connectionPool.size();
+        return idleConnections.size();
     }
 
-    private Connection wrapConnection(Connection connection) {
-        if (connection == null) {
-            return null;
-        }
-        if (Proxy.isProxyClass(connection.getClass()) && Proxy.getInvocationHandler(connection) instanceof PooledConnectionHandler) {
-            return connection;
-        }
-        return (Connection) Proxy.newProxyInstance(
-                Connection.class.getClassLoader(),
-                new Class<?>[] { Connection.class },
-                new PooledConnectionHandler(connection, this));
+    /**
+     * Gets the number of callers currently blocked waiting for a connection.
+     *
+     * @return The number of waiting callers
+     */
+    public int getWaitingThreadCount() {
+        return borrowPermits.getQueueLength();
     }
 
-    private Connection unwrapConnection(Connection connection) {
-        if (connection == null) {
-            return null;
-        }
-        if (Proxy.isProxyClass(connection.getClass())) {
-            InvocationHandler handler = Proxy.getInvocationHandler(connection);
-            if (handler instanceof PooledConnectionHandler) {
-                return ((PooledConnectionHandler) handler).getDelegate();
+    /**
+     * Gets the number of connections currently checked out by callers.
+     *
+     * @return The number of borrowed connections
+     */
+    public int getBorrowedConnectionCount() {
+        return borrowedConnections.size();
+    }
+
+    /**
+     * Gets the pool's live metrics: latency histograms, counters and leak reports.
+     *
+     * @return The pool metrics
+     */
+    public ConnectionPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Takes a usable connection for a caller that already holds a borrow permit.
+     * Prefers an idle connection, otherwise opens a new one if the hard cap
+     * allows, otherwise waits for a connection that is being returned or
+     * replaced.
+     */
+    private PooledConnection takeConnection(long deadlineNanos) throws SQLException {
+        while (true) {
+            PooledConnection entry = idleConnections.pollFirst();
+            if (entry == null && reserveSlot()) {
+                return openConnection();
             }
+            if (entry == null) {
+                // Holding a permit guarantees a connection is being returned or a
+                // slot is being freed by a retirement; the latter does not signal
+                // the deque, so wait in short slices and re-check the cap.
+                long remaining = deadlineNanos - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new SQLTimeoutException("Timed out after " + acquireTimeoutMs
+                            + " ms waiting for a database connection");
+                }
+                try {
+                    entry = idleConnections.pollFirst(Math.min(remaining, RESLOT_CHECK_NANOS), TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new SQLException("Interrupted while waiting for a connection", e);
+                }
+                if (entry == null) {
+                    continue;
+                }
+            }
+
+            long now = System.currentTimeMillis();
+            if (isExpired(entry, now)) {
+                destroy(entry);
+                continue;
+            }
+            // Recently used or pinged connections skip the validation round trip
+            if (now - entry.getLastAliveAt() > validationIdleMs) {
+                if (!isValid(entry.getDelegate())) {
+                    metrics.recordValidationFailure();
+                    destroy(entry);
+                    continue;
+                }
+                entry.markValidated(now);
+            }
+            return entry;
         }
-        return connection;
     }
 
-    private void returnConnection(Connection connection) {
-        if (connection == null) {
-            return;
+    /**
+     * Returns a borrowed connection to the idle deque, or retires it if it is
+     * broken or past its lifetime, then hands the borrow permit to the next
+     * waiter. Called from {@link PooledConnection#close()}.
+     *
+     * @param connection The connection being returned
+     */
+    void returnConnection(PooledConnection connection) {
+        borrowedConnections.remove(connection);
+        long heldNanos = System.nanoTime() - connection.getBorrowedAtNanos();
+        metrics.recordReturn(heldNanos);
+        if (connection.isLeakReported()) {
+            LOGGER.info("Previously reported connection leak was returned after "
+                    + TimeUnit.NANOSECONDS.toMillis(heldNanos) + " ms");
         }
         try {
-            if (connection.isClosed()) {
-                activeConnections.decrementAndGet();
+            long now = System.currentTimeMillis();
+            Connection physical = connection.getDelegate();
+            if (connection.isBroken()) {
+                metrics.recordBrokenConnection();
+                destroy(connection);
+                return;
+            }
+            if (physical.isClosed() || isExpired(connection, now)) {
+                destroy(connection);
                 return;
             }
-            connection.setAutoCommit(true);
-            connectionPool.offer(connection);
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            connection.markReturned(now);
+            idleConnections.offerFirst(connection);
         } catch (SQLException e) {
-            activeConnections.decrementAndGet();
-            try {
-                connection.close();
-            } catch (SQLException ignored) {
-                // Best effort close
+            destroy(connection);
+        } finally {
+            borrowPermits.release();
+        }
+    }
+
+    /**
+     * Atomically claims room for one more open connection without ever
+     * exceeding the maximum pool size.
+     */
+    private boolean reserveSlot() {
+        while (true) {
+            int current = totalConnections.get();
+            if (current >= maxPoolSize) {
+                return false;
+            }
+            if (totalConnections.compareAndSet(current, current + 1)) {
+                return true;
             }
         }
     }
 
-    private static final class PooledConnectionHandler implements InvocationHandler {
-        private final Connection delegate;
-        private final JdbcConnectionProvider provider;
-        private volatile boolean released;
+    /**
+     * Opens a connection into a slot already claimed by {@link #reserveSlot()}.
+     */
+    private PooledConnection openConnection() throws SQLException {
+        try {
+            PooledConnection connection = new PooledConnection(createConnection(), this, statementCacheSize);
+            metrics.recordConnectionCreated();
+            return connection;
+        } catch (SQLException | RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+    }
 
-        PooledConnectionHandler(Connection delegate, JdbcConnectionProvider provider) {
-            this.delegate = delegate;
-            this.provider = provider;
-            this.released = false;
+    private void destroy(PooledConnection connection) {
+        try {
+            connection.closePhysically();
+        } catch (SQLException ignored) {
+            // Best effort close
         }
+        totalConnections.decrementAndGet();
+        metrics.recordConnectionClosed();
+    }
+
+    private boolean isExpired(PooledConnection connection, long now) {
+        return maxLifetimeMs > 0 && now - connection.getCreatedAt() >= maxLifetimeMs;
+    }
 
-        Connection getDelegate() {
-            return delegate;
+    /**
+     * Retires expired and surplus idle connections, then tops the pool back up
+     * to the minimum size. Runs on the housekeeper thread.
+     */
+    private void runHousekeeping() {
+        try {
+            long now = System.currentTimeMillis();
+            List<PooledConnection> evicted = new ArrayList<>();
+            int surplus = totalConnections.get() - minPoolSize;
+            // Oldest-used connections sit at the tail of the deque
+            Iterator<PooledConnection> iterator = idleConnections.descendingIterator();
+            while (iterator.hasNext()) {
+                PooledConnection entry = iterator.next();
+                boolean idleTooLong = idleTimeoutMs > 0 && now - entry.getLastUsedAt() >= idleTimeoutMs;
+                if (isExpired(entry, now) || (idleTooLong && surplus > 0)) {
+                    if (idleConnections.removeFirstOccurrence(entry)) {
+                        evicted.add(entry);
+                        surplus--;
+                    }
+                }
+            }
+            for (PooledConnection entry : evicted) {
+                destroy(entry);
+            }
+            keepAlive(now);
+            fillToMinimum();
+        } catch (RuntimeException e) {
+            LOGGER.logException("Connection pool housekeeping failed", e);
         }
+    }
 
-        @Override
-        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            String methodName = method.getName();
-            if ("close".equals(methodName)) {
-                releaseToPool();
-                return null;
+    /**
+     * Pings idle connections that have not been used or validated within the
+     * keepalive interval, so broken sessions are found here rather than on a
+     * caller's borrow. Each connection is taken out of the idle deque while it
+     * is tested so it cannot be handed out mid-ping.
+     */
+    private void keepAlive(long now) {
+        if (keepaliveMs <= 0) {
+            return;
+        }
+        List<PooledConnection> due = new ArrayList<>();
+        for (PooledConnection entry : idleConnections) {
+            if (now - entry.getLastAliveAt() >= keepaliveMs) {
+                due.add(entry);
+            }
+        }
+        for (PooledConnection entry : due) {
+            if (!idleConnections.removeFirstOccurrence(entry)) {
+                continue;
             }
-            if ("isClosed".equals(methodName)) {
-                if (released) {
-                    return false;
+            if (isValid(entry.getDelegate())) {
+                entry.markValidated(System.currentTimeMillis());
+                idleConnections.offerLast(entry);
+            } else {
+                metrics.recordValidationFailure();
+                destroy(entry);
+            }
+        }
+    }
+
+    /**
+     * Reports connections held past the leak detection threshold, once per
+     * borrow. Runs on the housekeeper thread.
+     */
+    private void detectLeaks() {
+        try {
+            long now = System.nanoTime();
+            long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(leakDetectionThresholdMs);
+            for (PooledConnection connection : borrowedConnections) {
+                Throwable borrowSite = connection.getBorrowSite();
+                long heldNanos = now - connection.getBorrowedAtNanos();
+                if (!connection.isBorrowed() || connection.isLeakReported()
+                        || borrowSite == null || heldNanos < thresholdNanos) {
+                    continue;
                 }
+                connection.setLeakReported();
+                Thread borrower = connection.getBorrower();
+                ConnectionPoolMetrics.LeakReport report = new ConnectionPoolMetrics.LeakReport(
+                        borrower == null ? "unknown" : borrower.getName(),
+                        TimeUnit.NANOSECONDS.toMillis(heldNanos),
+                        System.currentTimeMillis(),
+                        borrowSite);
+                metrics.recordLeak(report);
+                LOGGER.logException("Possible connection leak: connection held by "
+                        + report.getThreadName() + " for " + report.getHeldMillis() + " ms", borrowSite);
             }
-            if ("unwrap".equals(methodName) && args != null && args.length == 1 && args[0] == Connection.class) {
-                return delegate;
+        } catch (RuntimeException e) {
+            LOGGER.logException("Connection leak detection failed", e);
+        }
+    }
+
+    private void registerMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new PoolMXBean(), name);
             }
-            return method.invoke(delegate, args);
+        } catch (JMException | RuntimeException e) {
+            LOGGER.warning("Could not register connection pool MBean: " + e.getMessage());
         }
+    }
 
-        private void releaseToPool() throws SQLException {
-            if (released) {
+    private void unregisterMBean() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(MBEAN_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException | RuntimeException e) {
+            LOGGER.warning("Could not unregister connection pool MBean: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Opens connections until the pool holds at least the minimum size.
+     */
+    private void fillToMinimum() {
+        while (totalConnections.get() < minPoolSize && reserveSlot()) {
+            try {
+                idleConnections.offerLast(openConnection());
+            } catch (SQLException e) {
+                LOGGER.warning("Could not open warm pool connection: " + e.getMessage());
                 return;
             }
-            released = true;
-            provider.returnConnection(delegate);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Checks if a connection is valid.
+     *
+     * @param connection The connection to check
+     * @return True if the connection is valid, false otherwise
+     */
+    private boolean isValid(Connection connection) {
+        try {
+            return connection != null && !connection.isClosed() && connection.isValid(1);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a new database connection.
+     *
+     * @return A new database connection
+     * @throws SQLException If there's an error creating the connection
+     */
+    private Connection createConnection() throws SQLException {
+        return DriverManager.getConnection(
+                DatabaseConfig.getJdbcUrl(),
+                DatabaseConfig.getUser(),
+                DatabaseConfig.getPassword());
+    }
+
+    /**
+     * Publishes the pool gauges and {@link ConnectionPoolMetrics} over JMX.
+     */
+    private final class PoolMXBean implements ConnectionPoolMXBean {
+        @Override
+        public int getTotalConnections() {
+            return totalConnections.get();
+        }
+
+        @Override
+        public int getIdleConnections() {
+            return idleConnections.size();
+        }
+
+        @Override
+        public int getBorrowedConnections() {
+            return borrowedConnections.size();
+        }
+
+        @Override
+        public int getThreadsAwaitingConnection() {
+            return borrowPermits.getQueueLength();
+        }
+
+        @Override
+        public int getMaxPoolSize() {
+            return maxPoolSize;
+        }
+
+        @Override
+        public long getBorrowCount() {
+            return metrics.getBorrowCount();
+        }
+
+        @Override
+        public long getTimeoutCount() {
+            return metrics.getTimeoutCount();
+        }
+
+        @Override
+        public long getValidationFailureCount() {
+            return metrics.getValidationFailureCount();
+        }
+
+        @Override
+        public long getConnectionsCreated() {
+            return metrics.getConnectionsCreated();
+        }
+
+        @Override
+        public long getConnectionsClosed() {
+            return metrics.getConnectionsClosed();
+        }
+
+        @Override
+        public long getLeakCount() {
+            return metrics.getLeakCount();
+        }
+
+        @Override
+        public long getBrokenConnectionCount() {
+            return metrics.getBrokenConnectionCount();
+        }
+
+        @Override
+        public double getAcquireWaitMeanMillis() {
+            return metrics.getAcquireWait().getMeanMillis();
+        }
+
+        @Override
+        public double getAcquireWaitP95Millis() {
+            return metrics.getAcquireWait().getPercentileMillis(95);
+        }
+
+        @Override
+        public double getAcquireWaitP99Millis() {
+            return metrics.getAcquireWait().getPercentileMillis(99);
+        }
+
+        @Override
+        public double getAcquireWaitMaxMillis() {
+            return metrics.getAcquireWait().getMaxMillis();
+        }
+
+        @Override
+        public double getHoldTimeMeanMillis() {
+            return metrics.getHoldTime().getMeanMillis();
+        }
+
+        @Override
+        public double getHoldTimeP95Millis() {
+            return metrics.getHoldTime().getPercentileMillis(95);
+        }
+
+        @Override
+        public double getHoldTimeP99Millis() {
+            return metrics.getHoldTime().getPercentileMillis(99);
+        }
+
+        @Override
+        public double getHoldTimeMaxMillis() {
+            return metrics.getHoldTime().getMaxMillis();
+        }
+
+        @Override
+        public String[] getRecentLeakReports() {
+            return metrics.getRecentLeaks().stream()
+                    .map(ConnectionPoolMetrics.LeakReport::toString)
+                    .toArray(String[]::new);
+        }
+
+        @Override
+        public void resetStatistics() {
+            metrics.reset();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.upnext.app.data;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with power-of-two microsecond buckets.
+ * <p>
+ * Recording is a couple of atomic increments, cheap enough for the connection
+ * borrow path. Percentiles are estimated from bucket upper bounds, so they are
+ * accurate to within a factor of two, which is what pool tuning needs.
+ */
+public final class LatencyHistogram {
+    // Bucket i holds samples below 2^i microseconds; the last bucket is open-ended
+    private static final int BUCKET_COUNT = 32;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records one sample.
+     *
+     * @param nanos The measured duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long micros = Math.max(0L, nanos / 1_000L);
+        int bucket = Math.min(BUCKET_COUNT - 1, 64 - Long.numberOfLeadingZeros(micros));
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Gets the number of recorded samples.
+     *
+     * @return The sample count
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the mean of all samples.
+     *
+     * @return The mean in milliseconds, or 0 if nothing was recorded
+     */
+    public double getMeanMillis() {
+        long samples = count.sum();
+        return samples == 0 ? 0.0 : totalMicros.sum() / 1_000.0 / samples;
+    }
+
+    /**
+     * Gets the largest recorded sample.
+     *
+     * @return The maximum in milliseconds
+     */
+    public double getMaxMillis() {
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /**
+     * Estimates a percentile as the upper bound of the bucket containing it.
+     *
+     * @param percentile The percentile, between 0 and 100
+     * @return The estimate in milliseconds, or 0 if nothing was recorded
+     */
+    public double getPercentileMillis(double percentile) {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long samples = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = buckets.get(i);
+            samples += snapshot[i];
+        }
+        if (samples == 0) {
+            return 0.0;
+        }
+        long rank = (long) Math.ceil(samples * Math.min(100.0, Math.max(0.0, percentile)) / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= Math.max(1L, rank)) {
+                long upperMicros = i == 0 ? 1L : 1L << i;
+                return Math.min(upperMicros, maxMicros.get()) / 1_000.0;
+            }
+        }
+        return getMaxMillis();
+    }
+
+    /**
+     * Clears all samples.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0L);
+        }
+        count.reset();
+        totalMicros.reset();
+        maxMicros.set(0L);
+    }
+}
@@ -0,0 +1,614 @@
+package com.upnext.app.data;
+
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.NClob;
+import java.sql.PreparedStatement;
+import java.sql.SQLClientInfoException;
+import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Savepoint;
+import java.sql.ShardingKey;
+import java.sql.Statement;
+import java.sql.Struct;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.Executor;
+
+/**
+ * A pooled physical connection handed out by {@link JdbcConnectionProvider}.
+ * <p>
+ * Every JDBC call is a plain virtual call on the underlying driver connection;
+ * only {@link #close()} is intercepted and returns the connection to its pool.
+ * The wrapper lives as long as the physical connection, so it also owns a
+ * bounded LRU cache of prepared statements keyed by SQL. Repositories keep
+ * using try-with-resources on their statements; closing a cached statement
+ * just clears its parameters and leaves it ready for the next borrower.
+ * <p>
+ * Driver errors on the common paths (prepare, execute, transaction control)
+ * are inspected; a connection-class SQL state marks the connection broken so
+ * the pool retires it on return instead of pinging every connection on borrow.
+ */
+final class PooledConnection implements Connection {
+    private static final String GENERATED_KEYS_SUFFIX = "\u0000keys";
+
+    // MySQL error codes that mean the session is gone even without an 08xxx state
+    private static final int ER_CONNECTION_KILLED = 1927;
+    private static final int CR_SERVER_GONE_ERROR = 2006;
+    private static final int CR_SERVER_LOST = 2013;
+
+    private final Connection delegate;
+    private final JdbcConnectionProvider owner;
+    private final StatementCache statementCache;
+    private final long createdAt;
+    private volatile long lastUsedAt;
+    private volatile long lastValidatedAt;
+    private volatile boolean borrowed;
+    private volatile boolean broken;
+
+    // Borrow bookkeeping for hold-time metrics and leak detection
+    private volatile long borrowedAtNanos;
+    private volatile Thread borrower;
+    private volatile Throwable borrowSite;
+    private volatile boolean leakReported;
+
+    /**
+     * Wraps a freshly opened driver connection.
+     *
+     * @param delegate The physical connection
+     * @param owner The pool this connection returns to on close
+     * @param statementCacheSize Maximum cached statements, or 0 to disable caching
+     */
+    PooledConnection(Connection delegate, JdbcConnectionProvider owner, int statementCacheSize) {
+        this.delegate = delegate;
+        this.owner = owner;
+        this.statementCache = statementCacheSize > 0 ? new StatementCache(statementCacheSize) : null;
+        this.createdAt = System.currentTimeMillis();
+        this.lastUsedAt = createdAt;
+        this.lastValidatedAt = createdAt;
+    }
+
+    Connection getDelegate() {
+        return delegate;
+    }
+
+    JdbcConnectionProvider getOwner() {
+        return owner;
+    }
+
+    long getCreatedAt() {
+        return createdAt;
+    }
+
+    long getLastUsedAt() {
+        return lastUsedAt;
+    }
+
+    /**
+     * Gets the last time the connection was known to work: when it was last
+     * returned after use or last passed a validation ping.
+     *
+     * @return The epoch time in milliseconds
+     */
+    long getLastAliveAt() {
+        return Math.max(lastUsedAt, lastValidatedAt);
+    }
+
+    void markValidated(long now) {
+        lastValidatedAt = now;
+    }
+
+    /**
+     * Whether a driver error during the current borrow showed the session is gone.
+     *
+     * @return true if the connection must not be reused
+     */
+    boolean isBroken() {
+        return broken;
+    }
+
+    /**
+     * Records whether an exception raised through this connection means the
+     * physical connection is unusable, then hands the exception back so callers
+     * can rethrow it.
+     *
+     * @param e The exception raised by the driver
+     * @return The same exception
+     */
+    SQLException inspect(SQLException e) {
+        if (isFatal(e)) {
+            broken = true;
+        }
+        return e;
+    }
+
+    private static boolean isFatal(SQLException e) {
+        if (e instanceof SQLNonTransientConnectionException || e instanceof SQLRecoverableException) {
+            return true;
+        }
+        String sqlState = e.getSQLState();
+        if (sqlState != null && sqlState.startsWith("08")) {
+            return true;
+        }
+        int code = e.getErrorCode();
+        return code == ER_CONNECTION_KILLED || code == CR_SERVER_GONE_ERROR || code == CR_SERVER_LOST;
+    }
+
+    /**
+     * Marks the connection as handed to the current thread.
+     *
+     * @param nowNanos The borrow time from {@link System#nanoTime()}
+     * @param site The captured borrow stack, or null when leak detection is off
+     */
+    void markBorrowed(long nowNanos, Throwable site) {
+        borrowedAtNanos = nowNanos;
+        borrower = Thread.currentThread();
+        borrowSite = site;
+        leakReported = false;
+        borrowed = true;
+    }
+
+    long getBorrowedAtNanos() {
+        return borrowedAtNanos;
+    }
+
+    Thread getBorrower() {
+        return borrower;
+    }
+
+    Throwable getBorrowSite() {
+        return borrowSite;
+    }
+
+    boolean isBorrowed() {
+        return borrowed;
+    }
+
+    boolean isLeakReported() {
+        return leakReported;
+    }
+
+    void setLeakReported() {
+        leakReported = true;
+    }
+
+    /**
+     * Marks the connection idle again. Statements a caller forgot to close are
+     * made available to the next borrower.
+     *
+     * @param now The time the connection was returned
+     */
+    void markReturned(long now) {
+        lastUsedAt = now;
+        borrower = null;
+        borrowSite = null;
+        if (statementCache != null) {
+            statementCache.releaseAll();
+        }
+    }
+
+    /**
+     * Closes every cached statement and the physical connection.
+     *
+     * @throws SQLException If the driver fails to close the connection
+     */
+    void closePhysically() throws SQLException {
+        if (statementCache != null) {
+            statementCache.closeAll();
+        }
+        delegate.close();
+    }
+
+    int getCachedStatementCount() {
+        return statementCache == null ? 0 : statementCache.size();
+    }
+
+    @Override
+    public void close() throws SQLException {
+        if (!borrowed) {
+            return;
+        }
+        borrowed = false;
+        owner.returnConnection(this);
+    }
+
+    @Override
+    public boolean isClosed() throws SQLException {
+        return !borrowed || delegate.isClosed();
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql) throws SQLException {
+        try {
+            if (statementCache == null) {
+                return delegate.prepareStatement(sql);
+            }
+            return statementCache.prepare(sql, sql, Statement.NO_GENERATED_KEYS);
+        } catch (SQLException e) {
+            throw inspect(e);
+        }
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException {
+        try {
+            if (statementCache == null) {
+                return delegate.prepareStatement(sql, autoGeneratedKeys);
+            }
+            String key = autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS ? sql + GENERATED_KEYS_SUFFIX : sql;
+            return statementCache.prepare(key, sql, autoGeneratedKeys);
+        } catch (SQLException e) {
+            throw inspect(e);
+        }
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(delegate)) {
+            return iface.cast(delegate);
+        }
+        return delegate.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(delegate) || delegate.isWrapperFor(iface);
+    }
+
+    @Override
+    public void abort(Executor executor) throws SQLException {
+        delegate.abort(executor);
+    }
+
+    @Override
+    public void beginRequest() throws SQLException {
+        delegate.beginRequest();
+    }
+
+    @Override
+    public void clearWarnings() throws SQLException {
+        delegate.clearWarnings();
+    }
+
+    @Override
+    public void commit() throws SQLException {
+        try {
+            delegate.commit();
+        } catch (SQLException e) {
+            throw inspect(e);
+        }
+    }
+
+    @Override
+    public Array createArrayOf(String typeName, Object[] elements) throws SQLException {
+        return delegate.createArrayOf(typeName, elements);
+    }
+
+    @Override
+    public Blob createBlob() throws SQLException {
+        return delegate.createBlob();
+    }
+
+    @Override
+    public Clob createClob() throws SQLException {
+        return delegate.createClob();
+    }
+
+    @Override
+    public NClob createNClob() throws SQLException {
+        return delegate.createNClob();
+    }
+
+    @Override
+    public SQLXML createSQLXML() throws SQLException {
+        return delegate.createSQLXML();
+    }
+
+    @Override
+    public Statement createStatement() throws SQLException {
+        try {
+            return delegate.createStatement();
+        } catch (SQLException e) {
+            throw inspect(e);
+        }
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return delegate.createStatement(resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public Statement createStatement(int resultSetType, int resultSetConcurrency) throws SQLException {
+        return delegate.createStatement(resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public Struct createStruct(String typeName, Object[] attributes) throws SQLException {
+        return delegate.createStruct(typeName, attributes);
+    }
+
+    @Override
+    public void endRequest() throws SQLException {
+        delegate.endRequest();
+    }
+
+    @Override
+    public boolean getAutoCommit() throws SQLException {
+        return delegate.getAutoCommit();
+    }
+
+    @Override
+    public String getCatalog() throws SQLException {
+        return delegate.getCatalog();
+    }
+
+    @Override
+    public Properties getClientInfo() throws SQLException {
+        return delegate.getClientInfo();
+    }
+
+    @Override
+    public String getClientInfo(String name) throws SQLException {
+        return delegate.getClientInfo(name);
+    }
+
+    @Override
+    public int getHoldability() throws SQLException {
+        return delegate.getHoldability();
+    }
+
+    @Override
+    public DatabaseMetaData getMetaData() throws SQLException {
+        return delegate.getMetaData();
+    }
+
+    @Override
+    public int getNetworkTimeout() throws SQLException {
+        return delegate.getNetworkTimeout();
+    }
+
+    @Override
+    public String getSchema() throws SQLException {
+        return delegate.getSchema();
+    }
+
+    @Override
+    public int getTransactionIsolation() throws SQLException {
+        return delegate.getTransactionIsolation();
+    }
+
+    @Override
+    public Map<String, Class<?>> getTypeMap() throws SQLException {
+        return delegate.getTypeMap();
+    }
+
+    @Override
+    public SQLWarning getWarnings() throws SQLException {
+        return delegate.getWarnings();
+    }
+
+    @Override
+    public boolean isReadOnly() throws SQLException {
+        return delegate.isReadOnly();
+    }
+
+    @Override
+    public boolean isValid(int timeout) throws SQLException {
+        return delegate.isValid(timeout);
+    }
+
+    @Override
+    public String nativeSQL(String sql) throws SQLException {
+        return delegate.nativeSQL(sql);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return delegate.prepareCall(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return delegate.prepareCall(sql, resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public CallableStatement prepareCall(String sql) throws SQLException {
+        return delegate.prepareCall(sql);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int[] columnIndexes) throws SQLException {
+        return delegate.prepareStatement(sql, columnIndexes);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, String[] columnNames) throws SQLException {
+        return delegate.prepareStatement(sql, columnNames);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency, int resultSetHoldability) throws SQLException {
+        return delegate.prepareStatement(sql, resultSetType, resultSetConcurrency, resultSetHoldability);
+    }
+
+    @Override
+    public PreparedStatement prepareStatement(String sql, int resultSetType, int resultSetConcurrency) throws SQLException {
+        return delegate.prepareStatement(sql, resultSetType, resultSetConcurrency);
+    }
+
+    @Override
+    public void releaseSavepoint(Savepoint savepoint) throws SQLException {
+        delegate.releaseSavepoint(savepoint);
+    }
+
+    @Override
+    public void rollback() throws SQLException {
+        try {
+            delegate.rollback();
+        } catch (SQLException e) {
+            throw inspect(e);
+        }
+    }
+
+    @Override
+    public void rollback(Savepoint savepoint) throws SQLException {
+        try {
+            delegate.rollback(savepoint);
+        } catch (SQLException e) {
+            throw inspect(e);
+        }
+    }
+
+    @Override
+    public void setAutoCommit(boolean autoCommit) throws SQLException {
+        try {
+            delegate.setAutoCommit(autoCommit);
+        } catch (SQLException e) {
+            throw inspect(e);
+        }
+    }
+
+    @Override
+    public void setCatalog(String catalog) throws SQLException {
+        delegate.setCatalog(catalog);
+    }
+
+    @Override
+    public void setClientInfo(String name, String value) throws SQLClientInfoException {
+        delegate.setClientInfo(name, value);
+    }
+
+    @Override
+    public void setClientInfo(Properties properties) throws SQLClientInfoException {
+        delegate.setClientInfo(properties);
+    }
+
+    @Override
+    public void setHoldability(int holdability) throws SQLException {
+        delegate.setHoldability(holdability);
+    }
+
+    @Override
+    public void setNetworkTimeout(Executor executor, int milliseconds) throws SQLException {
+        delegate.setNetworkTimeout(executor, milliseconds);
+    }
+
+    @Override
+    public void setReadOnly(boolean readOnly) throws SQLException {
+        delegate.setReadOnly(readOnly);
+    }
+
+    @Override
+    public Savepoint setSavepoint() throws SQLException {
+        return delegate.setSavepoint();
+    }
+
+    @Override
+    public Savepoint setSavepoint(String name) throws SQLException {
+        return delegate.setSavepoint(name);
+    }
+
+    @Override
+    public void setSchema(String schema) throws SQLException {
+        delegate.setSchema(schema);
+    }
+
+    @Override
+    public void setShardingKey(ShardingKey shardingKey, ShardingKey superShardingKey) throws SQLException {
+        delegate.setShardingKey(shardingKey, superShardingKey);
+    }
+
+    @Override
+    public void setShardingKey(ShardingKey shardingKey) throws SQLException {
+        delegate.setShardingKey(shardingKey);
+    }
+
+    @Override
+    public boolean setShardingKeyIfValid(ShardingKey shardingKey, int timeout) throws SQLException {
+        return delegate.setShardingKeyIfValid(shardingKey, timeout);
+    }
+
+    @Override
+    public boolean setShardingKeyIfValid(ShardingKey shardingKey, ShardingKey superShardingKey, int timeout) throws SQLException {
+        return delegate.setShardingKeyIfValid(shardingKey, superShardingKey, timeout);
+    }
+
+    @Override
+    public void setTransactionIsolation(int level) throws SQLException {
+        delegate.setTransactionIsolation(level);
+    }
+
+    @Override
+    public void setTypeMap(Map<String, Class<?>> map) throws SQLException {
+        delegate.setTypeMap(map);
+    }
+    /**
+     * Access-ordered LRU of prepared statements. A connection is used by one
+     * thread at a time, so no locking is needed here.
+     */
+    private final class StatementCache {
+        private final LinkedHashMap<String, CachedPreparedStatement> statements;
+
+        StatementCache(int maxSize) {
+            this.statements = new LinkedHashMap<String, CachedPreparedStatement>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedPreparedStatement> eldest) {
+                    if (size() <= maxSize) {
+                        return false;
+                    }
+                    eldest.getValue().evict();
+                    return true;
+                }
+            };
+        }
+
+        PreparedStatement prepare(String key, String sql, int autoGeneratedKeys) throws SQLException {
+            CachedPreparedStatement cached = statements.get(key);
+            if (cached != null && !cached.isDelegateClosed()) {
+                if (cached.tryAcquire()) {
+                    return cached;
+                }
+                // Same SQL already open on this connection (nested use); hand out
+                // a plain statement rather than sharing the cached one.
+                return delegate.prepareStatement(sql, autoGeneratedKeys);
+            }
+            cached = new CachedPreparedStatement(
+                    delegate.prepareStatement(sql, autoGeneratedKeys), PooledConnection.this);
+            cached.tryAcquire();
+            statements.put(key, cached);
+            return cached;
+        }
+
+        void releaseAll() {
+            for (CachedPreparedStatement statement : statements.values()) {
+                statement.release();
+            }
+        }
+
+        void closeAll() {
+            List<CachedPreparedStatement> all = new ArrayList<>(statements.values());
+            statements.clear();
+            for (CachedPreparedStatement statement : all) {
+                statement.forceClose();
+            }
+        }
+
+        int size() {
+            return statements.size();
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.upnext.app.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.upnext.app.core.Logger;
+
+/**
+ * Applies the versioned schema scripts under {@code /sql/} exactly once each.
+ * <p>
+ * Every applied script is recorded in {@code schema_version} with a checksum of
+ * its text, so a database that is already current costs a single query to
+ * check, and the result is remembered for the life of the process. Pending
+ * scripts are applied in version order while holding a MySQL named lock, so two
+ * instances starting together do not race each other through the same DDL.
+ */
+public final class SchemaMigrator {
+    private static final Logger LOGGER = Logger.getInstance(SchemaMigrator.class);
+
+    private static final String SCRIPT_DIRECTORY = "/sql/";
+
+    // Applied in this order; add new scripts at the end and never edit one that has shipped
+    static final List<String> SCRIPTS = List.of(
+            "001_create_users_table.sql",
+            "002_create_skills_table.sql",
+            "003_create_subjects_table.sql",
+            "004_create_tags_table.sql",
+            "005_create_questions_table.sql",
+            "006_create_question_tags_table.sql",
+            "007_create_answers_table.sql",
+            "008_add_question_context_and_constraints.sql",
+            "009_create_question_votes_table.sql",
+            "010_create_answer_votes_table.sql",
+            "011_performance_indexes.sql",
+            "012_populate_subjects_table.sql",
+            "013_question_sort_indexes.sql",
+            "014_question_fulltext_index.sql",
+            "015_resync_question_vote_counts.sql",
+            "016_resync_answer_vote_counts.sql");
+
+    // Databases created before schema_version existed already hold some of these
+    // changes; table exists (1050), duplicate column (1060), duplicate key name
+    // (1061) and can't drop a missing key (1091) mean the statement is done
+    private static final Set<Integer> ALREADY_APPLIED_ERRORS = Set.of(1050, 1060, 1061, 1091);
+    private static final int ER_NO_SUCH_TABLE = 1146;
+
+    private static final String LOCK_NAME = "upnext_schema_migration";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+
+    private static final String CREATE_VERSION_TABLE_SQL =
+            "CREATE TABLE IF NOT EXISTS schema_version (" +
+                    "version INT PRIMARY KEY, " +
+                    "description VARCHAR(200) NOT NULL, " +
+                    "checksum CHAR(64) NOT NULL, " +
+                    "execution_ms INT NOT NULL, " +
+                    "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+
+    private static final String FIND_APPLIED_SQL =
+            "SELECT version, checksum FROM schema_version";
+
+    private static final String INSERT_VERSION_SQL =
+            "INSERT INTO schema_version (version, description, checksum, execution_ms) VALUES (?, ?, ?, ?)";
+
+    private static final String GET_LOCK_SQL = "SELECT GET_LOCK(?, ?)";
+    private static final String RELEASE_LOCK_SQL = "SELECT RELEASE_LOCK(?)";
+
+    private static volatile boolean current;
+
+    private SchemaMigrator() {
+        // Utility class
+    }
+
+    /**
+     * Brings the database schema up to date, unless this process already has.
+     * Repositories call this before their first query, so whichever is created
+     * first pays for the check and the rest return immediately.
+     *
+     * @throws SQLException If the schema cannot be read or a script fails
+     */
+    public static void ensureCurrent() throws SQLException {
+        if (current) {
+            return;
+        }
+        synchronized (SchemaMigrator.class) {
+            if (current) {
+                return;
+            }
+            List<Migration> migrations = loadMigrations();
+            JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+            Connection connection = provider.getConnection();
+            try {
+                migrate(connection, migrations);
+            } finally {
+                provider.releaseConnection(connection);
+            }
+            current = true;
+        }
+    }
+
+    /**
+     * Applies whichever migrations the database has not recorded yet.
+     *
+     * @param connection The connection to migrate on
+     * @param migrations The migrations, in version order
+     * @return The number of migrations applied
+     * @throws SQLException If a migration fails; earlier ones stay recorded
+     */
+    static int migrate(Connection connection, List<Migration> migrations) throws SQLException {
+        Map<Integer, String> applied = findApplied(connection);
+        if (applied != null && pending(migrations, applied).isEmpty()) {
+            return 0;
+        }
+
+        acquireLock(connection);
+        try {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(CREATE_VERSION_TABLE_SQL);
+            }
+            // Another instance may have migrated while this one waited for the lock
+            applied = findApplied(connection);
+            List<Migration> pending = pending(migrations, applied);
+            for (Migration migration : pending) {
+                apply(connection, migration);
+            }
+            return pending.size();
+        } finally {
+            releaseLock(connection);
+        }
+    }
+
+    /**
+     * Reads the applied versions and their checksums.
+     *
+     * @return The checksums by version, or null if {@code schema_version} does not exist yet
+     */
+    private static Map<Integer, String> findApplied(Connection connection) throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (PreparedStatement statement = connection.prepareStatement(FIND_APPLIED_SQL);
+             ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                applied.put(rs.getInt("version"), rs.getString("checksum"));
+            }
+        } catch (SQLException ex) {
+            if (ex.getErrorCode() == ER_NO_SUCH_TABLE) {
+                return null;
+            }
+            throw ex;
+        }
+        return applied;
+    }
+
+    private static List<Migration> pending(List<Migration> migrations, Map<Integer, String> applied) {
+        List<Migration> pending = new ArrayList<>();
+        for (Migration migration : migrations) {
+            String checksum = applied != null ? applied.get(migration.getVersion()) : null;
+            if (checksum == null) {
+                pending.add(migration);
+            } else if (!checksum.equals(migration.getChecksum())) {
+                LOGGER.warning("Migration " + migration.getVersion() + " (" + migration.getDescription()
+                        + ") has changed since it was applied; edits to applied scripts are not re-run");
+            }
+        }
+        return pending;
+    }
+
+    private static void apply(Connection connection, Migration migration) throws SQLException {
+        long start = System.nanoTime();
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SqlScriptSplitter.split(migration.getScript())) {
+                try {
+                    statement.execute(sql);
+                } catch (SQLException ex) {
+                    if (!ALREADY_APPLIED_ERRORS.contains(ex.getErrorCode())) {
+                        throw new SQLException("Migration " + migration.getVersion() + " failed: " + ex.getMessage(),
+                                ex.getSQLState(), ex.getErrorCode(), ex);
+                    }
+                    LOGGER.info("Migration " + migration.getVersion() + ": skipping statement already in place ("
+                            + ex.getMessage() + ")");
+                }
+            }
+        }
+        int elapsedMs = (int) ((System.nanoTime() - start) / 1_000_000);
+
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_VERSION_SQL)) {
+            statement.setInt(1, migration.getVersion());
+            statement.setString(2, migration.getDescription());
+            statement.setString(3, migration.getChecksum());
+            statement.setInt(4, elapsedMs);
+            statement.executeUpdate();
+        }
+        LOGGER.info("Applied migration " + migration.getVersion() + " (" + migration.getDescription()
+                + ") in " + elapsedMs + " ms");
+    }
+
+    private static void acquireLock(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(GET_LOCK_SQL)) {
+            statement.setString(1, LOCK_NAME);
+            statement.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new SQLException("Timed out waiting for the schema migration lock");
+                }
+            }
+        }
+    }
+
+    private static void releaseLock(Connection connection) {
+        try (PreparedStatement statement = connection.prepareStatement(RELEASE_LOCK_SQL)) {
+            statement.setString(1, LOCK_NAME);
+            statement.executeQuery().close();
+        } catch (SQLException ex) {
+            // The lock is released anyway when the connection closes
+            LOGGER.logException("Failed to release the schema migration lock", ex);
+        }
+    }
+
+    /**
+     * Loads the bundled migration scripts.
+     *
+     * @return The migrations, in version order
+     * @throws SQLException If a script is missing or unreadable
+     */
+    static List<Migration> loadMigrations() throws SQLException {
+        List<Migration> migrations = new ArrayList<>(SCRIPTS.size());
+        for (String name : SCRIPTS) {
+            try (InputStream in = SchemaMigrator.class.getResourceAsStream(SCRIPT_DIRECTORY + name)) {
+                if (in == null) {
+                    throw new SQLException("Migration script not found: " + SCRIPT_DIRECTORY + name);
+                }
+                migrations.add(Migration.of(name, new String(in.readAllBytes(), StandardCharsets.UTF_8)));
+            } catch (IOException ex) {
+                throw new SQLException("Failed to read migration script: " + name, ex);
+            }
+        }
+        return migrations;
+    }
+
+    /**
+     * One versioned schema script.
+     */
+    static final class Migration {
+        private final int version;
+        private final String description;
+        private final String script;
+        private final String checksum;
+
+        private Migration(int version, String description, String script, String checksum) {
+            this.version = version;
+            this.description = description;
+            this.script = script;
+            this.checksum = checksum;
+        }
+
+        /**
+         * Creates a migration from a script named like {@code 008_add_question_context.sql}.
+         *
+         * @param fileName The script file name, whose leading digits are the version
+         * @param script The script text
+         * @return The migration
+         */
+        static Migration of(String fileName, String script) {
+            int separator = fileName.indexOf('_');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Migration name must start with a version: " + fileName);
+            }
+            int version = Integer.parseInt(fileName.substring(0, separator));
+            String description = fileName.substring(separator + 1).replaceFirst("\\.sql$", "").replace('_', ' ');
+            return new Migration(version, description, script, checksum(script));
+        }
+
+        int getVersion() {
+            return version;
+        }
+
+        String getDescription() {
+            return description;
+        }
+
+        String getScript() {
+            return script;
+        }
+
+        String getChecksum() {
+            return checksum;
+        }
+
+        /**
+         * Hashes the script with line endings normalized, so a checkout with
+         * CRLF line endings does not look like an edited script.
+         */
+        private static String checksum(String script) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256")
+                        .digest(script.replace("\r\n", "\n").getBytes(StandardCharsets.UTF_8));
+                StringBuilder hex = new StringBuilder(digest.length * 2);
+                for (byte b : digest) {
+                    hex.append(String.format("%02x", b));
+                }
+                return hex.toString();
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 is not available", ex);
+            }
+        }
+    }
+}
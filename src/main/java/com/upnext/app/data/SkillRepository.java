@@ -21,17 +21,6 @@ public class SkillRepository {
     private static SkillRepository instance;
     
     // SQL queries
-    private static final String CREATE_TABLE_SQL = 
-            "CREATE TABLE IF NOT EXISTS skills (" +
-            "skill_id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
-            "user_id BIGINT NOT NULL, " +
-            "skill_name VARCHAR(100) NOT NULL, " +
-            "description VARCHAR(255), " +
-            "proficiency_level INT NOT NULL DEFAULT 1, " +
-            "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-            "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
-            "FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE)";
-    
     private static final String INSERT_SKILL_SQL = 
             "INSERT INTO skills (user_id, skill_name, description, proficiency_level) " +
             "VALUES (?, ?, ?, ?)";
@@ -56,11 +45,11 @@ public class SkillRepository {
      * Private constructor to enforce singleton pattern.
      */
     private SkillRepository() {
-        // Ensure table exists
+        // Ensure the schema is current
         try {
-            initializeTable();
+            SchemaMigrator.ensureCurrent();
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to initialize skills table", e);
+            throw new RuntimeException("Failed to initialize database schema", e);
         }
     }
     
@@ -76,29 +65,6 @@ public class SkillRepository {
         return instance;
     }
     
-    /**
-     * Ensures that the skills table exists in the database.
-     * 
-     * @throws SQLException If there's an error creating the table
-     */
-    private void initializeTable() throws SQLException {
-        Connection connection = null;
-        Statement statement = null;
-        
-        try {
-            connection = JdbcConnectionProvider.getInstance().getConnection();
-            statement = connection.createStatement();
-            statement.execute(CREATE_TABLE_SQL);
-        } finally {
-            if (statement != null) {
-                statement.close();
-            }
-            if (connection != null) {
-                JdbcConnectionProvider.getInstance().releaseConnection(connection);
-            }
-        }
-    }
-    
     /**
      * Saves a new skill to the database.
      * 
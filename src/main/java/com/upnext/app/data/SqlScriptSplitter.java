@@ -0,0 +1,110 @@
+package com.upnext.app.data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits a MySQL script into the statements it contains.
+ * <p>
+ * A semicolon ends a statement only outside string literals, quoted
+ * identifiers and comments, so literals such as {@code 'don\'t; stop'} and
+ * the dynamic SQL handed to {@code PREPARE} stay intact. Comments are dropped,
+ * except MySQL's executable {@code /*!} comments, which are kept as part of
+ * their statement.
+ */
+final class SqlScriptSplitter {
+
+    private SqlScriptSplitter() {
+        // Utility class
+    }
+
+    /**
+     * Splits a script into statements.
+     *
+     * @param script The script text
+     * @return The statements, trimmed and without their terminating semicolons
+     */
+    static List<String> split(String script) {
+        List<String> statements = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        int length = script.length();
+        int i = 0;
+        while (i < length) {
+            char c = script.charAt(i);
+            if (c == '\'' || c == '"' || c == '`') {
+                int end = endOfQuoted(script, i, c);
+                current.append(script, i, end);
+                i = end;
+            } else if (c == '#' || (c == '-' && isDashComment(script, i))) {
+                i = endOfLine(script, i);
+                current.append(' ');
+            } else if (c == '/' && i + 1 < length && script.charAt(i + 1) == '*') {
+                int end = script.indexOf("*/", i + 2);
+                end = end < 0 ? length : end + 2;
+                if (i + 2 < length && script.charAt(i + 2) == '!') {
+                    current.append(script, i, end);
+                } else {
+                    current.append(' ');
+                }
+                i = end;
+            } else if (c == ';') {
+                addStatement(statements, current);
+                i++;
+            } else {
+                current.append(c);
+                i++;
+            }
+        }
+        addStatement(statements, current);
+        return statements;
+    }
+
+    /**
+     * Finds the end of a quoted string or identifier. Backslash escapes apply
+     * inside string literals, and a doubled quote stands for the quote itself.
+     *
+     * @return The index just past the closing quote, or the script length if it is unterminated
+     */
+    private static int endOfQuoted(String script, int start, char quote) {
+        int i = start + 1;
+        while (i < script.length()) {
+            char c = script.charAt(i);
+            if (c == '\\' && quote != '`') {
+                i += 2;
+            } else if (c == quote) {
+                if (i + 1 < script.length() && script.charAt(i + 1) == quote) {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return script.length();
+    }
+
+    /**
+     * MySQL only treats "--" as a comment when whitespace or the end of the
+     * script follows it, so {@code x--1} stays an expression.
+     */
+    private static boolean isDashComment(String script, int i) {
+        if (i + 1 >= script.length() || script.charAt(i + 1) != '-') {
+            return false;
+        }
+        return i + 2 >= script.length() || Character.isWhitespace(script.charAt(i + 2));
+    }
+
+    private static int endOfLine(String script, int start) {
+        int end = script.indexOf('\n', start);
+        return end < 0 ? script.length() : end;
+    }
+
+    private static void addStatement(List<String> statements, StringBuilder current) {
+        String statement = current.toString().trim();
+        if (!statement.isEmpty()) {
+            statements.add(statement);
+        }
+        current.setLength(0);
+    }
+}
@@ -22,20 +22,6 @@ public class UserRepository {
     private static UserRepository instance;
     
     // SQL queries
-    private static final String CREATE_TABLE_SQL = 
-            "CREATE TABLE IF NOT EXISTS users (" +
-            "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
-            "name VARCHAR(255) NOT NULL, " +
-            "email VARCHAR(255) NOT NULL UNIQUE, " +
-            "password_hash VARCHAR(255) NOT NULL, " +
-            "salt VARCHAR(255) NOT NULL, " +
-            "active BOOLEAN DEFAULT TRUE, " +
-            "questions_asked INT NOT NULL DEFAULT 0, " +
-            "answers_given INT NOT NULL DEFAULT 0, " +
-            "total_upvotes INT NOT NULL DEFAULT 0, " +
-            "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-            "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP)";
-    
     private static final String INSERT_USER_SQL = 
             "INSERT INTO users (name, email, password_hash, salt) " +
             "VALUES (?, ?, ?, ?)";
@@ -64,11 +50,11 @@ public class UserRepository {
      * Private constructor to enforce singleton pattern.
      */
     private UserRepository() {
-        // Ensure table exists
+        // Ensure the schema is current
         try {
-            initializeTable();
+            SchemaMigrator.ensureCurrent();
         } catch (SQLException e) {
-            throw new RuntimeException("Failed to initialize user table", e);
+            throw new RuntimeException("Failed to initialize database schema", e);
         }
     }
     
@@ -84,29 +70,6 @@ public class UserRepository {
         return instance;
     }
     
-    /**
-     * Ensures that the users table exists in the database.
-     * 
-     * @throws SQLException If there's an error creating the table
-     */
-    private void initializeTable() throws SQLException {
-        Connection connection = null;
-        Statement statement = null;
-        
-        try {
-            connection = JdbcConnectionProvider.getInstance().getConnection();
-            statement = connection.createStatement();
-            statement.execute(CREATE_TABLE_SQL);
-        } finally {
-            if (statement != null) {
-                statement.close();
-            }
-            if (connection != null) {
-                JdbcConnectionProvider.getInstance().releaseConnection(connection);
-            }
-        }
-    }
-    
     /**
      * Saves a new user to the database.
      * 
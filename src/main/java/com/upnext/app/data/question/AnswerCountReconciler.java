@@ -0,0 +1,239 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import com.upnext.app.config.DatabaseConfig;
+import com.upnext.app.core.Logger;
+import com.upnext.app.data.JdbcConnectionProvider;
+
+/**
+ * Background repair for {@code questions.answer_count}.
+ * <p>
+ * Answers move the counter by one as they are inserted (see
+ * {@link AnswerWriter}), so it only drifts when answers are written or removed
+ * some other way. The reconciler walks the questions table in id order, a
+ * chunk at a time, and sets every count that disagrees with the answers table.
+ * <p>
+ * Each chunk is its own short transaction: it locks the chunk's question rows
+ * first, in the same order an answer insert does, so no insert is half done on
+ * those questions while they are counted. Chunks are spaced out, and a full
+ * pass is followed by a pause of the configured interval. A failed chunk is
+ * retried after that pause.
+ */
+public final class AnswerCountReconciler {
+    private static final Logger LOGGER = Logger.getInstance(AnswerCountReconciler.class);
+
+    // Gap between the chunks of one pass, so a pass never keeps a connection busy
+    static final long CHUNK_PAUSE_MS = 200L;
+    // Leaves the pool to startup before the first pass
+    private static final long FIRST_PASS_DELAY_MS = 60_000L;
+
+    private static final String LOCK_CHUNK_SQL =
+            "SELECT id FROM questions WHERE id > ? ORDER BY id LIMIT ? FOR UPDATE";
+
+    // The count is grouped over the chunk's id range only; updated_at is kept, as a repair is not an edit
+    private static final String REPAIR_CHUNK_SQL =
+            "UPDATE questions q LEFT JOIN (" +
+                    "SELECT question_id, COUNT(*) AS answers FROM answers " +
+                    "WHERE question_id > ? AND question_id <= ? GROUP BY question_id) c " +
+                    "ON c.question_id = q.id " +
+                    "SET q.answer_count = COALESCE(c.answers, 0), q.updated_at = q.updated_at " +
+                    "WHERE q.id > ? AND q.id <= ? AND q.answer_count <> COALESCE(c.answers, 0)";
+
+    private static volatile AnswerCountReconciler instance;
+
+    private final long intervalMs;
+    private final int chunkSize;
+    private final ScheduledExecutorService scheduler;
+    // Only touched on the scheduler thread
+    private long cursor;
+    private int repairedThisPass;
+    private boolean started;
+
+    AnswerCountReconciler(long intervalMs, int chunkSize) {
+        this.intervalMs = intervalMs;
+        this.chunkSize = chunkSize;
+        if (intervalMs > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "upnext-answer-count-reconciler");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+        } else {
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Gets the shared reconciler, created on first use with the configured
+     * interval and chunk size. It does nothing until {@link #start()}.
+     *
+     * @return The answer count reconciler
+     */
+    public static AnswerCountReconciler getInstance() {
+        AnswerCountReconciler reconciler = instance;
+        if (reconciler == null) {
+            synchronized (AnswerCountReconciler.class) {
+                reconciler = instance;
+                if (reconciler == null) {
+                    reconciler = new AnswerCountReconciler(DatabaseConfig.getAnswerCountReconcileIntervalMs(),
+                            DatabaseConfig.getAnswerCountReconcileChunkSize());
+                    instance = reconciler;
+                }
+            }
+        }
+        return reconciler;
+    }
+
+    /**
+     * Schedules the first pass. Later calls, and calls with a zero interval,
+     * do nothing.
+     */
+    public synchronized void start() {
+        if (scheduler == null || started) {
+            return;
+        }
+        started = true;
+        scheduleNext(FIRST_PASS_DELAY_MS);
+    }
+
+    /**
+     * Stops the reconciler. A chunk in progress is rolled back by the database
+     * if its connection is lost, and repaired on a later run.
+     */
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * Repairs the answer counts of the next chunk of questions.
+     *
+     * @param connection The connection to use; the chunk is committed on it
+     * @param afterId The id the chunk starts after, 0 for the first chunk
+     * @param chunkSize The most questions to check
+     * @return What the chunk covered and repaired
+     * @throws SQLException If a database error occurs; the chunk is rolled back
+     */
+    static Chunk repairChunk(Connection connection, long afterId, int chunkSize) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            int questions = 0;
+            long lastId = afterId;
+            try (PreparedStatement statement = connection.prepareStatement(LOCK_CHUNK_SQL)) {
+                statement.setLong(1, afterId);
+                statement.setInt(2, chunkSize);
+                try (ResultSet rs = statement.executeQuery()) {
+                    while (rs.next()) {
+                        lastId = rs.getLong("id");
+                        questions++;
+                    }
+                }
+            }
+
+            int repaired = 0;
+            if (questions > 0) {
+                try (PreparedStatement statement = connection.prepareStatement(REPAIR_CHUNK_SQL)) {
+                    statement.setLong(1, afterId);
+                    statement.setLong(2, lastId);
+                    statement.setLong(3, afterId);
+                    statement.setLong(4, lastId);
+                    repaired = statement.executeUpdate();
+                }
+            }
+            connection.commit();
+            return new Chunk(lastId, questions, repaired);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private void runChunk() {
+        long delay;
+        try {
+            Chunk chunk = repairNextChunk();
+            repairedThisPass += chunk.getRepaired();
+            if (chunk.getQuestions() < chunkSize) {
+                if (repairedThisPass > 0) {
+                    LOGGER.info("Repaired the answer count of {} question(s)", repairedThisPass);
+                }
+                cursor = 0;
+                repairedThisPass = 0;
+                delay = intervalMs;
+            } else {
+                cursor = chunk.getLastId();
+                delay = CHUNK_PAUSE_MS;
+            }
+        } catch (SQLException | RuntimeException ex) {
+            LOGGER.logException("Failed to reconcile answer counts, will retry", ex);
+            delay = intervalMs;
+        }
+        scheduleNext(delay);
+    }
+
+    private Chunk repairNextChunk() throws SQLException {
+        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+        Connection connection = provider.getConnection();
+        try {
+            return repairChunk(connection, cursor, chunkSize);
+        } finally {
+            provider.releaseConnection(connection);
+        }
+    }
+
+    private void scheduleNext(long delayMs) {
+        try {
+            scheduler.schedule(this::runChunk, delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException ex) {
+            // Closed
+        }
+    }
+
+    /**
+     * The outcome of one chunk.
+     */
+    static final class Chunk {
+        private final long lastId;
+        private final int questions;
+        private final int repaired;
+
+        Chunk(long lastId, int questions, int repaired) {
+            this.lastId = lastId;
+            this.questions = questions;
+            this.repaired = repaired;
+        }
+
+        /**
+         * @return The id of the last question checked, where the next chunk starts
+         */
+        long getLastId() {
+            return lastId;
+        }
+
+        /**
+         * @return The number of questions checked
+         */
+        int getQuestions() {
+            return questions;
+        }
+
+        /**
+         * @return The number of questions whose count was corrected
+         */
+        int getRepaired() {
+            return repaired;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.upnext.app.data.question;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import com.upnext.app.domain.question.Answer;
+
+/**
+ * Keyset position in a question's answers: the sort key of the last answer of
+ * a page. Answers are listed accepted first, then most upvoted, then oldest,
+ * with id as the tie-breaker, which is the order of {@code idx_answers_sorting}
+ * (InnoDB appends the primary key to it). The next page is "every answer
+ * strictly after this key", so the database seeks to it through the index
+ * instead of reading and discarding an OFFSET.
+ * <p>
+ * The question's answer count is taken once, with the first page, and carried
+ * in the cursor so later pages are plain seeks and report the same total.
+ * <p>
+ * Callers only see the encoded form, an opaque URL-safe string.
+ */
+final class AnswerCursor {
+    private static final String SEPARATOR = "|";
+
+    private final boolean accepted;
+    private final int upvotes;
+    private final Timestamp createdAt;
+    private final long id;
+    private final int totalCount;
+
+    private AnswerCursor(boolean accepted, int upvotes, Timestamp createdAt, long id, int totalCount) {
+        this.accepted = accepted;
+        this.upvotes = upvotes;
+        this.createdAt = createdAt;
+        this.id = id;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * Builds the cursor that continues after the given answer.
+     *
+     * @param answer The last answer of a page
+     * @param totalCount The question's answer count
+     * @return The cursor
+     */
+    static AnswerCursor after(Answer answer, int totalCount) {
+        // created_at defaults to CURRENT_TIMESTAMP, so it is only missing on hand-built rows
+        LocalDateTime created = answer.getCreatedAt();
+        return new AnswerCursor(answer.isAccepted(), answer.getUpvotes(),
+                created != null ? Timestamp.valueOf(created) : new Timestamp(0L), answer.getId(), totalCount);
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     *
+     * @param encoded The encoded cursor
+     * @return The cursor
+     * @throws IllegalArgumentException If the cursor is malformed
+     */
+    static AnswerCursor decode(String encoded) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Malformed answer cursor", ex);
+        }
+        String[] parts = raw.split("\\|", 5);
+        if (parts.length != 5 || !("0".equals(parts[0]) || "1".equals(parts[0]))) {
+            throw new IllegalArgumentException("Malformed answer cursor");
+        }
+        try {
+            return new AnswerCursor("1".equals(parts[0]), Integer.parseInt(parts[1]), Timestamp.valueOf(parts[2]),
+                    Long.parseLong(parts[3]), Integer.parseInt(parts[4]));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Malformed answer cursor", ex);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque string.
+     *
+     * @return The encoded cursor
+     */
+    String encode() {
+        String raw = (accepted ? "1" : "0") + SEPARATOR + upvotes + SEPARATOR + createdAt
+                + SEPARATOR + id + SEPARATOR + totalCount;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds the WHERE clause that selects the answers after this cursor and
+     * appends its parameters. The sort directions are mixed, so the clause is
+     * spelled out column by column rather than as a row comparison.
+     *
+     * @param alias The answers table alias
+     * @param parameters The statement parameters to append to
+     * @return The clause, in parentheses
+     */
+    String predicate(String alias, List<Object> parameters) {
+        parameters.add(accepted);
+        parameters.add(accepted);
+        parameters.add(upvotes);
+        parameters.add(upvotes);
+        parameters.add(createdAt);
+        parameters.add(createdAt);
+        parameters.add(id);
+        return "(" + alias + ".is_accepted < ? OR (" + alias + ".is_accepted = ? AND ("
+                + alias + ".upvotes < ? OR (" + alias + ".upvotes = ? AND ("
+                + alias + ".created_at > ? OR (" + alias + ".created_at = ? AND " + alias + ".id > ?))))))";
+    }
+
+    /**
+     * Builds the ORDER BY list matching {@link #predicate(String, List)}.
+     *
+     * @param alias The answers table alias
+     * @return The ORDER BY list, without the keyword
+     */
+    static String orderBy(String alias) {
+        return alias + ".is_accepted DESC, " + alias + ".upvotes DESC, "
+                + alias + ".created_at ASC, " + alias + ".id ASC";
+    }
+
+    int getTotalCount() {
+        return totalCount;
+    }
+
+    long getId() {
+        return id;
+    }
+}
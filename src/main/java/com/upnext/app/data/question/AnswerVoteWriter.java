@@ -0,0 +1,167 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import com.upnext.app.core.Logger;
+
+/**
+ * Applies one user's vote on an answer with a fixed number of statements,
+ * however many votes the answer already has.
+ * <p>
+ * The answer's row is locked first, which serializes votes on the same answer.
+ * The user's vote row is then created, switched or removed, and
+ * {@code answers.upvotes/downvotes} are moved by the change that made, in the
+ * same statement that sets {@code is_accepted} from the new upvote count.
+ * Nothing re-aggregates {@code answer_votes}.
+ */
+final class AnswerVoteWriter {
+    private static final Logger LOGGER = Logger.getInstance(AnswerVoteWriter.class);
+
+    // Answers with at least this many upvotes are shown as verified
+    static final int VERIFIED_UPVOTE_THRESHOLD = 10;
+
+    private static final String LOCK_ANSWER_COUNTS_SQL =
+            "SELECT upvotes, downvotes FROM answers WHERE id = ? FOR UPDATE";
+
+    private static final String FIND_USER_VOTE_SQL =
+            "SELECT is_upvote FROM answer_votes WHERE answer_id = ? AND user_id = ?";
+
+    private static final String INSERT_VOTE_SQL =
+            "INSERT INTO answer_votes (answer_id, user_id, is_upvote) VALUES (?, ?, ?)";
+
+    private static final String UPDATE_VOTE_SQL =
+            "UPDATE answer_votes SET is_upvote = ?, updated_at = CURRENT_TIMESTAMP " +
+                    "WHERE answer_id = ? AND user_id = ?";
+
+    private static final String DELETE_VOTE_SQL =
+            "DELETE FROM answer_votes WHERE answer_id = ? AND user_id = ?";
+
+    // MySQL applies SET assignments left to right, so is_accepted sees the new upvotes
+    private static final String APPLY_VOTE_DELTA_SQL =
+            "UPDATE answers SET upvotes = upvotes + ?, downvotes = downvotes + ?, " +
+                    "is_accepted = (upvotes >= ?), updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private AnswerVoteWriter() {
+    }
+
+    /**
+     * Casts a vote on an answer. A first vote is recorded, the same vote again
+     * removes it, and the opposite vote replaces it.
+     *
+     * @param connection The connection to write on, inside a transaction the caller commits
+     * @param answerId The answer being voted on
+     * @param userId The user casting the vote
+     * @param isUpvote True for an upvote, false for a downvote
+     * @return The answer's counts once the vote is applied
+     * @throws SQLException If the answer does not exist or a database error occurs
+     */
+    static AnswerRepository.VoteResult castVote(Connection connection, Long answerId, Long userId, boolean isUpvote)
+            throws SQLException {
+        int[] counts = lockVoteCounts(connection, answerId);
+        Boolean previous = findUserVote(connection, answerId, userId);
+
+        Boolean current;
+        if (previous == null) {
+            current = isUpvote;
+            insertVote(connection, answerId, userId, isUpvote);
+        } else if (previous == isUpvote) {
+            // Same vote again toggles it off
+            current = null;
+            deleteVote(connection, answerId, userId);
+        } else {
+            current = isUpvote;
+            updateVote(connection, answerId, userId, isUpvote);
+        }
+
+        int[] delta = voteDelta(previous, current);
+        applyVoteDelta(connection, answerId, delta);
+
+        int upvotes = counts[0] + delta[0];
+        if ((counts[0] >= VERIFIED_UPVOTE_THRESHOLD) != (upvotes >= VERIFIED_UPVOTE_THRESHOLD)) {
+            LOGGER.info("Answer {} marked as {} (upvotes: {})", answerId,
+                    upvotes >= VERIFIED_UPVOTE_THRESHOLD ? "verified" : "unverified", upvotes);
+        }
+        return new AnswerRepository.VoteResult(upvotes, counts[1] + delta[1]);
+    }
+
+    /**
+     * Works out how a vote change moves the answer's counters.
+     *
+     * @param previous The user's vote before (true for up), or null if none
+     * @param current The user's vote after (true for up), or null if removed
+     * @return The change to [upvotes, downvotes]
+     */
+    static int[] voteDelta(Boolean previous, Boolean current) {
+        int[] delta = new int[2];
+        if (previous != null) {
+            delta[previous ? 0 : 1]--;
+        }
+        if (current != null) {
+            delta[current ? 0 : 1]++;
+        }
+        return delta;
+    }
+
+    private static int[] lockVoteCounts(Connection connection, Long answerId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_ANSWER_COUNTS_SQL)) {
+            statement.setLong(1, answerId);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    throw new SQLException("Answer not found: " + answerId);
+                }
+                return new int[] { rs.getInt("upvotes"), rs.getInt("downvotes") };
+            }
+        }
+    }
+
+    private static Boolean findUserVote(Connection connection, Long answerId, Long userId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_USER_VOTE_SQL)) {
+            statement.setLong(1, answerId);
+            statement.setLong(2, userId);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getBoolean("is_upvote") : null;
+            }
+        }
+    }
+
+    private static void insertVote(Connection connection, Long answerId, Long userId, boolean isUpvote)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_VOTE_SQL)) {
+            statement.setLong(1, answerId);
+            statement.setLong(2, userId);
+            statement.setBoolean(3, isUpvote);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void updateVote(Connection connection, Long answerId, Long userId, boolean isUpvote)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_VOTE_SQL)) {
+            statement.setBoolean(1, isUpvote);
+            statement.setLong(2, answerId);
+            statement.setLong(3, userId);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void deleteVote(Connection connection, Long answerId, Long userId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_VOTE_SQL)) {
+            statement.setLong(1, answerId);
+            statement.setLong(2, userId);
+            statement.executeUpdate();
+        }
+    }
+
+    private static void applyVoteDelta(Connection connection, Long answerId, int[] delta) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(APPLY_VOTE_DELTA_SQL)) {
+            statement.setInt(1, delta[0]);
+            statement.setInt(2, delta[1]);
+            statement.setInt(3, VERIFIED_UPVOTE_THRESHOLD);
+            statement.setLong(4, answerId);
+            statement.executeUpdate();
+        }
+    }
+}
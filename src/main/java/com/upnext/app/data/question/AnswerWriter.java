@@ -0,0 +1,70 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import com.upnext.app.domain.question.Answer;
+
+/**
+ * Inserts an answer and moves its question's {@code answer_count} by one in
+ * the caller's transaction, so the counter never has to be recounted.
+ * <p>
+ * The question's row is updated first. That locks it exclusively, which
+ * serializes answers to the same question and takes the locks in the same
+ * order as {@link AnswerCountReconciler}. Inserting first would take a shared
+ * lock on the question for the foreign key check, and two writers upgrading
+ * those shared locks at once would deadlock.
+ */
+final class AnswerWriter {
+    private static final String INCREMENT_ANSWER_COUNT_SQL =
+            "UPDATE questions SET answer_count = answer_count + 1, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private static final String INSERT_ANSWER_SQL =
+            "INSERT INTO answers (question_id, user_id, content, created_at) VALUES (?, ?, ?, ?)";
+
+    private AnswerWriter() {
+    }
+
+    /**
+     * Inserts an answer and counts it on its question.
+     *
+     * @param connection The connection to write on, inside a transaction the caller commits
+     * @param answer The answer to insert; its id and timestamps are set
+     * @return The saved answer
+     * @throws SQLException If the question does not exist or a database error occurs
+     */
+    static Answer insert(Connection connection, Answer answer) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INCREMENT_ANSWER_COUNT_SQL)) {
+            statement.setLong(1, answer.getQuestionId());
+            if (statement.executeUpdate() == 0) {
+                throw new SQLException("Question not found: " + answer.getQuestionId());
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_ANSWER_SQL,
+                Statement.RETURN_GENERATED_KEYS)) {
+            statement.setLong(1, answer.getQuestionId());
+            statement.setLong(2, answer.getUserId());
+            statement.setString(3, answer.getContent());
+            statement.setTimestamp(4, Timestamp.valueOf(now));
+            if (statement.executeUpdate() == 0) {
+                throw new SQLException("Creating answer failed, no rows affected");
+            }
+            try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
+                if (!generatedKeys.next()) {
+                    throw new SQLException("Creating answer failed, no ID obtained");
+                }
+                answer.setId(generatedKeys.getLong(1));
+            }
+        }
+        answer.setCreatedAt(now);
+        answer.setUpdatedAt(now);
+        return answer;
+    }
+}
@@ -4,6 +4,8 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -11,41 +13,46 @@ import java.util.Objects;
 import com.upnext.app.core.Logger;
 import com.upnext.app.data.JdbcConnectionProvider;
 import com.upnext.app.domain.question.Answer;
+import com.upnext.app.domain.question.AnswerPage;
 
 /**
- * Optimized repository for paginated answer queries.
- * Provides efficient pagination and loading for large answer lists.
+ * Pages through a question's answers, accepted first, then most upvoted, then
+ * oldest.
+ * <p>
+ * A page is one statement. The first page also returns the question's answer
+ * count through {@code COUNT(*) OVER()}, so no separate count query is run;
+ * later pages continue from a keyset cursor (see {@link AnswerCursor}) and
+ * seek through {@code idx_answers_sorting} rather than skipping an OFFSET.
+ * Each answer carries the viewer's vote, read through the
+ * {@code answer_votes} unique key.
  */
 public final class PaginatedAnswerRepository {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(PaginatedAnswerRepository.class);
     private static final PaginatedAnswerRepository INSTANCE = new PaginatedAnswerRepository();
     
-    // Optimized pagination query with proper indexing
-    private static final String FIND_ANSWERS_PAGINATED_SQL = 
-        "SELECT a.*, u.name AS user_name, u.email AS user_email " +
-        "FROM answers a " +
+    // Answers shown before the reader asks for more
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    
+    private static final String SELECT_ANSWERS =
+        "SELECT a.*, u.name AS user_name, av.is_upvote AS viewer_upvote";
+    
+    private static final String FROM_ANSWERS =
+        " FROM answers a " +
         "LEFT JOIN users u ON a.user_id = u.id " +
-        "WHERE a.question_id = ? " +
-        "ORDER BY a.is_accepted DESC, a.upvotes DESC, a.created_at ASC " +
-        "LIMIT ? OFFSET ?";
+        "LEFT JOIN answer_votes av ON av.answer_id = a.id AND av.user_id = ? " +
+        "WHERE a.question_id = ?";
     
-    // Count query for pagination metadata
-    private static final String COUNT_ANSWERS_SQL = 
-        "SELECT COUNT(*) FROM answers WHERE question_id = ?";
+    // The window is evaluated before LIMIT, so total_count covers every answer to the question
+    static final String FIND_FIRST_PAGE_SQL =
+        SELECT_ANSWERS + ", COUNT(*) OVER() AS total_count" + FROM_ANSWERS +
+        " ORDER BY " + AnswerCursor.orderBy("a") + " LIMIT ?";
     
-    // Optimized query for loading answer with vote counts
-    private static final String FIND_ANSWER_WITH_VOTES_SQL = 
-        "SELECT a.*, u.name AS user_name, u.email AS user_email, " +
-        "COALESCE(v.upvotes, 0) AS upvote_count, " +
-        "COALESCE(v.downvotes, 0) AS downvote_count " +
+    // Reads the counters kept on the answer row, so one answer is a primary key lookup
+    static final String FIND_ANSWER_WITH_VOTES_SQL = 
+        "SELECT a.*, u.name AS user_name " +
         "FROM answers a " +
         "LEFT JOIN users u ON a.user_id = u.id " +
-        "LEFT JOIN (" +
-        "  SELECT answer_id, " +
-        "    SUM(CASE WHEN is_upvote = TRUE THEN 1 ELSE 0 END) AS upvotes, " +
-        "    SUM(CASE WHEN is_upvote = FALSE THEN 1 ELSE 0 END) AS downvotes " +
-        "  FROM answer_votes GROUP BY answer_id" +
-        ") v ON a.id = v.answer_id " +
         "WHERE a.id = ?";
     
     private PaginatedAnswerRepository() {
@@ -57,118 +64,80 @@ public final class PaginatedAnswerRepository {
     }
     
     /**
-     * Represents a paginated result set with metadata.
-     */
-    public static class PaginatedResult<T> {
-        private final List<T> items;
-        private final int totalCount;
-        private final int pageSize;
-        private final int currentPage;
-        private final boolean hasNext;
-        private final boolean hasPrevious;
-        
-        public PaginatedResult(List<T> items, int totalCount, int pageSize, int currentPage) {
-            this.items = Objects.requireNonNull(items);
-            this.totalCount = totalCount;
-            this.pageSize = pageSize;
-            this.currentPage = currentPage;
-            this.hasNext = (currentPage + 1) * pageSize < totalCount;
-            this.hasPrevious = currentPage > 0;
-        }
-        
-        public List<T> getItems() { return items; }
-        public int getTotalCount() { return totalCount; }
-        public int getPageSize() { return pageSize; }
-        public int getCurrentPage() { return currentPage; }
-        public boolean hasNext() { return hasNext; }
-        public boolean hasPrevious() { return hasPrevious; }
-        public int getTotalPages() { return (int) Math.ceil((double) totalCount / pageSize); }
-    }
-    
-    /**
-     * Finds answers for a question with pagination support.
+     * Finds a page of a question's answers.
      * 
      * @param questionId The question ID
-     * @param page The page number (0-based)
-     * @param pageSize The number of answers per page
-     * @return Paginated result with answers and metadata
+     * @param viewerId The signed-in user whose votes to include, or null
+     * @param limit The page size, between 1 and {@value #MAX_PAGE_SIZE}
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @return The page, the question's answer count and the cursor of the next page
      * @throws SQLException If a database error occurs
+     * @throws IllegalArgumentException If the page size is out of range or the cursor is malformed
      */
-    public PaginatedResult<Answer> findAnswersPaginated(Long questionId, int page, int pageSize) throws SQLException {
+    public AnswerPage findAnswerPage(Long questionId, Long viewerId, int limit, String cursor) throws SQLException {
         Objects.requireNonNull(questionId, "Question ID must not be null");
         
-        if (page < 0) {
-            throw new IllegalArgumentException("Page must be non-negative");
-        }
-        if (pageSize <= 0 || pageSize > 100) {
-            throw new IllegalArgumentException("Page size must be between 1 and 100");
-        }
-        
         JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
         Connection connection = provider.getConnection();
-        
         try {
-            // First get the total count
-            int totalCount = getTotalAnswerCount(connection, questionId);
-            
-            // Calculate offset
-            int offset = page * pageSize;
-            
-            // If offset is beyond available data, return empty result
-            if (offset >= totalCount && totalCount > 0) {
-                return new PaginatedResult<>(new ArrayList<>(), totalCount, pageSize, page);
-            }
-            
-            // Get the paginated answers
-            List<Answer> answers = getAnswersPage(connection, questionId, pageSize, offset);
-            
-            return new PaginatedResult<>(answers, totalCount, pageSize, page);
-            
+            return readAnswerPage(connection, questionId, viewerId, limit, cursor);
         } finally {
             provider.releaseConnection(connection);
         }
     }
     
     /**
-     * Gets the total count of answers for a question.
+     * Reads a page of answers on the given connection, querying one row more
+     * than the page size; the extra row only tells whether another page
+     * follows and is dropped.
      */
-    private int getTotalAnswerCount(Connection connection, Long questionId) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(COUNT_ANSWERS_SQL)) {
-            statement.setLong(1, questionId);
-            try (ResultSet rs = statement.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
-                }
-                return 0;
-            }
+    static AnswerPage readAnswerPage(Connection connection, Long questionId, Long viewerId, int limit, String cursor)
+            throws SQLException {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
         }
-    }
-    
-    /**
-     * Gets a page of answers for a question.
-     */
-    private List<Answer> getAnswersPage(Connection connection, Long questionId, int limit, int offset) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(FIND_ANSWERS_PAGINATED_SQL)) {
-            statement.setLong(1, questionId);
-            statement.setInt(2, limit);
-            statement.setInt(3, offset);
-            
-            List<Answer> answers = new ArrayList<>();
+        AnswerCursor after = cursor == null ? null : AnswerCursor.decode(cursor);
+        
+        List<Object> parameters = new ArrayList<>();
+        parameters.add(viewerId);
+        parameters.add(questionId);
+        String sql = FIND_FIRST_PAGE_SQL;
+        if (after != null) {
+            sql = SELECT_ANSWERS + FROM_ANSWERS + " AND " + after.predicate("a", parameters) +
+                " ORDER BY " + AnswerCursor.orderBy("a") + " LIMIT ?";
+        }
+        parameters.add(limit + 1);
+        
+        List<Answer> answers = new ArrayList<>();
+        int totalCount = after != null ? after.getTotalCount() : 0;
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            bind(statement, parameters);
             try (ResultSet rs = statement.executeQuery()) {
                 while (rs.next()) {
-                    Answer answer = mapAnswerResult(rs);
+                    if (after == null) {
+                        totalCount = rs.getInt("total_count");
+                    }
+                    Answer answer = QuestionRowMapper.mapAnswer(rs);
+                    boolean upvote = rs.getBoolean("viewer_upvote");
+                    answer.setViewerVote(rs.wasNull() ? null : upvote);
                     answers.add(answer);
                 }
             }
-            
-            LOGGER.debug("Loaded " + answers.size() + " answers for question " + questionId + " (page offset: " + offset + ")");
-            
-            return answers;
         }
+        
+        String nextCursor = null;
+        if (answers.size() > limit) {
+            answers.subList(limit, answers.size()).clear();
+            nextCursor = AnswerCursor.after(answers.get(answers.size() - 1), totalCount).encode();
+        }
+        LOGGER.debug("Loaded {} of {} answers for question {}", answers.size(), totalCount, questionId);
+        return new AnswerPage(answers, totalCount, nextCursor);
     }
     
     /**
-     * Finds a single answer with optimized vote count loading.
+     * Finds a single answer with its vote counts. The counts come from
+     * {@code answers.upvotes/downvotes}, which every vote keeps current, so
+     * the lookup never touches {@code answer_votes}.
      * 
      * @param answerId The answer ID
      * @return The answer with vote counts, or null if not found
@@ -185,11 +154,7 @@ public final class PaginatedAnswerRepository {
             
             try (ResultSet rs = statement.executeQuery()) {
                 if (rs.next()) {
-                    Answer answer = mapAnswerResult(rs);
-                    // Set vote counts from the aggregated query
-                    answer.setUpvotes(rs.getInt("upvote_count"));
-                    answer.setDownvotes(rs.getInt("downvote_count"));
-                    return answer;
+                    return QuestionRowMapper.mapAnswer(rs);
                 }
                 return null;
             }
@@ -198,34 +163,23 @@ public final class PaginatedAnswerRepository {
         }
     }
     
-    /**
-     * Maps a ResultSet row to an Answer object.
-     */
-    private Answer mapAnswerResult(ResultSet rs) throws SQLException {
-        Answer answer = new Answer();
-        
-        answer.setId(rs.getLong("id"));
-        answer.setQuestionId(rs.getLong("question_id"));
-        answer.setUserId(rs.getLong("user_id"));
-        answer.setContent(rs.getString("content"));
-        answer.setUpvotes(rs.getInt("upvotes"));
-        answer.setDownvotes(rs.getInt("downvotes"));
-        answer.setAccepted(rs.getBoolean("is_accepted"));
-        
-        // Set user information
-        String userName = rs.getString("user_name");
-        if (userName != null) {
-            answer.setUserName(userName);
-        }
-        
-        // Set timestamps
-        if (rs.getTimestamp("created_at") != null) {
-            answer.setCreatedAt(rs.getTimestamp("created_at").toLocalDateTime());
-        }
-        if (rs.getTimestamp("updated_at") != null) {
-            answer.setUpdatedAt(rs.getTimestamp("updated_at").toLocalDateTime());
+    private static void bind(PreparedStatement statement, List<Object> parameters) throws SQLException {
+        int index = 1;
+        for (Object parameter : parameters) {
+            if (parameter == null) {
+                // Only the viewer may be absent
+                statement.setNull(index++, Types.BIGINT);
+            } else if (parameter instanceof Long) {
+                statement.setLong(index++, (Long) parameter);
+            } else if (parameter instanceof Integer) {
+                statement.setInt(index++, (Integer) parameter);
+            } else if (parameter instanceof Boolean) {
+                statement.setBoolean(index++, (Boolean) parameter);
+            } else if (parameter instanceof Timestamp) {
+                statement.setTimestamp(index++, (Timestamp) parameter);
+            } else {
+                throw new SQLException("Unsupported parameter type: " + parameter.getClass().getName());
+            }
         }
-        
-        return answer;
     }
-}
\ No newline at end of file
+}
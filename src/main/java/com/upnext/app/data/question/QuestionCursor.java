@@ -0,0 +1,201 @@
+package com.upnext.app.data.question;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import com.upnext.app.domain.question.Question;
+import com.upnext.app.domain.question.QuestionSearchCriteria.SortOption;
+
+/**
+ * Keyset position in a question listing: the sort value and id of the last row
+ * of a page. Pages are ordered by the sort column and then by id in the same
+ * direction, so the next page is "every row strictly after this pair" and the
+ * database can seek straight to it through the sort column's index instead of
+ * reading and discarding an OFFSET.
+ * <p>
+ * {@link SortOption#RELEVANCE} is the exception: match scores are recomputed
+ * by every query and make a poor seek key, so its cursor holds the offset of
+ * the next page instead. Relevance listings are short search result lists, so
+ * the offset stays small.
+ * <p>
+ * Callers only see the encoded form, an opaque URL-safe string.
+ */
+final class QuestionCursor {
+    private static final String SEPARATOR = "|";
+
+    private final SortOption sortOption;
+    private final Object sortValue;
+    private final long id;
+
+    private QuestionCursor(SortOption sortOption, Object sortValue, long id) {
+        this.sortOption = sortOption;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * Builds the cursor that continues after the given question.
+     *
+     * @param question The last question of a page
+     * @param sortOption The order the page was listed in
+     * @return The cursor
+     */
+    static QuestionCursor after(Question question, SortOption sortOption) {
+        return new QuestionCursor(sortOption, sortValueOf(question, sortOption), question.getId());
+    }
+
+    /**
+     * Builds the cursor that continues after a page.
+     *
+     * @param page The questions of the page, not empty
+     * @param sortOption The order the page was listed in
+     * @param pageOffset The offset the page started at
+     * @return The cursor
+     */
+    static QuestionCursor next(List<Question> page, SortOption sortOption, int pageOffset) {
+        Question last = page.get(page.size() - 1);
+        if (sortOption == SortOption.RELEVANCE) {
+            return new QuestionCursor(sortOption, pageOffset + page.size(), last.getId());
+        }
+        return after(last, sortOption);
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode()}.
+     *
+     * @param encoded The encoded cursor
+     * @param expectedSort The order of the listing being continued
+     * @return The cursor
+     * @throws IllegalArgumentException If the cursor is malformed or was issued for another order
+     */
+    static QuestionCursor decode(String encoded, SortOption expectedSort) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Malformed question cursor", ex);
+        }
+        String[] parts = raw.split("\\|", 3);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed question cursor");
+        }
+        SortOption sortOption;
+        try {
+            sortOption = SortOption.valueOf(parts[0]);
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Malformed question cursor", ex);
+        }
+        if (sortOption != expectedSort) {
+            throw new IllegalArgumentException("Cursor was issued for sort " + sortOption
+                    + " but the listing is sorted by " + expectedSort);
+        }
+        try {
+            Object sortValue = isTimestampSort(sortOption)
+                    ? Timestamp.valueOf(parts[1])
+                    : (Object) Integer.valueOf(parts[1]);
+            return new QuestionCursor(sortOption, sortValue, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Malformed question cursor", ex);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque string.
+     *
+     * @return The encoded cursor
+     */
+    String encode() {
+        String raw = sortOption.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds the WHERE clause that selects the rows after this cursor and
+     * appends its parameters.
+     *
+     * @param alias The questions table alias
+     * @param parameters The statement parameters to append to
+     * @return The clause, in parentheses
+     */
+    String predicate(String alias, List<Object> parameters) {
+        String column = alias + "." + sortOption.getSortColumn();
+        String op = sortOption.isDescending() ? "<" : ">";
+        parameters.add(sortValue);
+        parameters.add(sortValue);
+        parameters.add(id);
+        return "(" + column + " " + op + " ? OR (" + column + " = ? AND " + alias + ".id " + op + " ?))";
+    }
+
+    /**
+     * Checks whether this cursor continues by offset rather than by seeking.
+     *
+     * @return true for {@link SortOption#RELEVANCE} cursors
+     */
+    boolean isOffset() {
+        return sortOption == SortOption.RELEVANCE;
+    }
+
+    /**
+     * Gets the offset of the next page for an offset cursor.
+     *
+     * @return The offset
+     */
+    int getOffset() {
+        return (Integer) sortValue;
+    }
+
+    /**
+     * Builds the ORDER BY list for a keyset-paged listing: the sort column,
+     * then id as the tie-breaker in the same direction. The relevance score is
+     * a select alias, so it is not qualified with the table alias.
+     *
+     * @param sortOption The listing order
+     * @param alias The questions table alias
+     * @return The ORDER BY list, without the keyword
+     */
+    static String orderBy(SortOption sortOption, String alias) {
+        String direction = sortOption.isDescending() ? " DESC" : " ASC";
+        if (sortOption == SortOption.RELEVANCE) {
+            return sortOption.getSortColumn() + direction + ", " + alias + ".id" + direction;
+        }
+        return alias + "." + sortOption.getSortColumn() + direction + ", " + alias + ".id" + direction;
+    }
+
+    SortOption getSortOption() {
+        return sortOption;
+    }
+
+    Object getSortValue() {
+        return sortValue;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    private static boolean isTimestampSort(SortOption sortOption) {
+        return "created_at".equals(sortOption.getSortColumn());
+    }
+
+    private static Object sortValueOf(Question question, SortOption sortOption) {
+        switch (sortOption) {
+            case MOST_UPVOTED:
+                return question.getUpvotes();
+            case MOST_VIEWED:
+                return question.getViewCount();
+            case MOST_ANSWERED:
+                return question.getAnswerCount();
+            case RELEVANCE:
+                return 0;
+            case NEWEST:
+            case OLDEST:
+            default:
+                // created_at defaults to CURRENT_TIMESTAMP, so it is only missing on hand-built rows
+                LocalDateTime createdAt = question.getCreatedAt();
+                return createdAt != null ? Timestamp.valueOf(createdAt) : new Timestamp(0L);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.upnext.app.core.Logger;
+import com.upnext.app.data.JdbcConnectionProvider;
+import com.upnext.app.domain.question.AnswerPage;
+import com.upnext.app.domain.question.Question;
+import com.upnext.app.domain.question.QuestionDetail;
+import com.upnext.app.domain.question.QuestionSearchCriteria;
+import com.upnext.app.domain.question.QuestionVote.VoteType;
+
+/**
+ * Loads everything the question detail screen shows on one pooled connection.
+ * <p>
+ * The question, its author, its tags and the viewer's vote come back in one
+ * statement, and the first page of answers with their authors, the viewer's
+ * votes and the answer count in a second; later pages come from
+ * {@link PaginatedAnswerRepository}. Related questions depend only on the
+ * question's tags, so they are looked up on another connection while the
+ * answers load.
+ */
+public final class QuestionDetailRepository {
+    private static final Logger LOGGER = Logger.getInstance(QuestionDetailRepository.class);
+    private static final QuestionDetailRepository INSTANCE = new QuestionDetailRepository();
+
+    // Related questions shown on the screen, and candidates fetched to pick them from
+    static final int RELATED_LIMIT = 5;
+    private static final int RELATED_CANDIDATES = 10;
+
+    // Tag names are limited to [a-zA-Z0-9-_+#.], so a comma cannot appear in one
+    private static final String FIND_QUESTION_SQL =
+            "SELECT q.*, s.name AS subject_name, u.name AS user_name, qv.vote_type AS viewer_vote, " +
+                    "(SELECT GROUP_CONCAT(t.name ORDER BY t.name SEPARATOR ',') FROM question_tags qt " +
+                    "INNER JOIN tags t ON t.id = qt.tag_id WHERE qt.question_id = q.id) AS tag_names " +
+                    "FROM questions q " +
+                    "LEFT JOIN subjects s ON q.subject_id = s.id " +
+                    "LEFT JOIN users u ON q.user_id = u.id " +
+                    "LEFT JOIN question_votes qv ON qv.question_id = q.id AND qv.user_id = ? " +
+                    "WHERE q.id = ?";
+
+    private final ExecutorService relatedExecutor = Executors.newFixedThreadPool(2, runnable -> {
+        Thread thread = new Thread(runnable, "upnext-related-questions");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private QuestionDetailRepository() {
+    }
+
+    /**
+     * Gets the singleton instance of the repository.
+     *
+     * @return The repository instance
+     */
+    public static QuestionDetailRepository getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Loads a question with its tags, first page of answers and related questions.
+     *
+     * @param questionId The question to load
+     * @param viewerId The signed-in user whose votes to include, or null
+     * @return The detail, or empty if the question does not exist
+     * @throws SQLException If the question or its answers cannot be loaded;
+     *         a failed related-question lookup only leaves those unset
+     */
+    public Optional<QuestionDetail> load(Long questionId, Long viewerId) throws SQLException {
+        Objects.requireNonNull(questionId, "questionId");
+        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+        Connection connection = provider.getConnection();
+        Question question;
+        Future<List<Question>> related = null;
+        AnswerPage answers;
+        try {
+            question = readQuestion(connection, questionId, viewerId);
+            if (question == null) {
+                return Optional.empty();
+            }
+            related = relatedExecutor.submit(() -> findRelated(question));
+            answers = PaginatedAnswerRepository.readAnswerPage(connection, questionId, viewerId,
+                    PaginatedAnswerRepository.DEFAULT_PAGE_SIZE, null);
+        } catch (SQLException | RuntimeException ex) {
+            if (related != null) {
+                related.cancel(true);
+            }
+            throw ex;
+        } finally {
+            provider.releaseConnection(connection);
+        }
+        return Optional.of(new QuestionDetail(question, answers, awaitRelated(related, questionId)));
+    }
+
+    static Question readQuestion(Connection connection, Long questionId, Long viewerId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_QUESTION_SQL)) {
+            bindViewer(statement, 1, viewerId);
+            statement.setLong(2, questionId);
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                Question question = QuestionRowMapper.mapQuestion(rs);
+                String tagNames = rs.getString("tag_names");
+                question.setTags(tagNames == null || tagNames.isEmpty()
+                        ? new ArrayList<>()
+                        : new ArrayList<>(Arrays.asList(tagNames.split(","))));
+                String viewerVote = rs.getString("viewer_vote");
+                question.setViewerVote(viewerVote != null ? VoteType.fromString(viewerVote) : null);
+                return question;
+            }
+        }
+    }
+
+    /**
+     * Finds questions sharing the question's tags, as the detail screen
+     * always has, excluding the question itself.
+     */
+    private static List<Question> findRelated(Question question) throws SQLException {
+        QuestionSearchCriteria criteria = new QuestionSearchCriteria()
+                .setTags(question.getTags())
+                .setLimit(RELATED_CANDIDATES);
+        List<Question> related = new ArrayList<>(QuestionRepository.getInstance().search(criteria));
+        related.removeIf(candidate -> candidate.getId().equals(question.getId()));
+        return related.size() > RELATED_LIMIT ? new ArrayList<>(related.subList(0, RELATED_LIMIT)) : related;
+    }
+
+    private static List<Question> awaitRelated(Future<List<Question>> related, Long questionId) {
+        try {
+            return related.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            related.cancel(true);
+        } catch (ExecutionException ex) {
+            LOGGER.logException("Error finding related questions for question: " + questionId, ex.getCause());
+        }
+        return null;
+    }
+
+    private static void bindViewer(PreparedStatement statement, int index, Long viewerId) throws SQLException {
+        if (viewerId != null) {
+            statement.setLong(index, viewerId);
+        } else {
+            statement.setNull(index, Types.BIGINT);
+        }
+    }
+}
@@ -11,58 +11,27 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
+import com.upnext.app.config.DatabaseConfig;
 import com.upnext.app.core.Logger;
 import com.upnext.app.data.JdbcConnectionProvider;
+import com.upnext.app.data.SchemaMigrator;
 import com.upnext.app.domain.question.Answer;
 import com.upnext.app.domain.question.Question;
+import com.upnext.app.domain.question.QuestionPage;
 import com.upnext.app.domain.question.QuestionSearchCriteria;
+import com.upnext.app.domain.question.QuestionSearchCriteria.SortOption;
 
 /**
  * JDBC-backed repository for {@link Question} entities.
  * Handles persistence, search, and tag management for questions.
  */
 public final class QuestionRepository {
-    private static final Logger LOGGER = Logger.getInstance();
-    private static final QuestionRepository INSTANCE = new QuestionRepository();
-
-    private static final String CREATE_SUBJECTS_TABLE_SQL =
-            "CREATE TABLE IF NOT EXISTS subjects (" +
-                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
-                    "name VARCHAR(100) NOT NULL UNIQUE, " +
-                    "description VARCHAR(500))";
-
-    private static final String CREATE_QUESTIONS_TABLE_SQL =
-            "CREATE TABLE IF NOT EXISTS questions (" +
-                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
-                    "user_id BIGINT NOT NULL, " +
-                    "subject_id BIGINT, " +
-                    "title VARCHAR(255) NOT NULL, " +
-                    "content TEXT NOT NULL, " +
-                    "upvotes INT NOT NULL DEFAULT 0, " +
-                    "downvotes INT NOT NULL DEFAULT 0, " +
-                    "answer_count INT NOT NULL DEFAULT 0, " +
-                    "is_solved BOOLEAN NOT NULL DEFAULT FALSE, " +
-                    "view_count INT NOT NULL DEFAULT 0, " +
-                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
-                    "FOREIGN KEY (subject_id) REFERENCES subjects(id) ON DELETE SET NULL)";
-
-    private static final String CREATE_TAGS_TABLE_SQL =
-            "CREATE TABLE IF NOT EXISTS tags (" +
-                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
-                    "name VARCHAR(50) NOT NULL UNIQUE, " +
-                    "usage_count INT NOT NULL DEFAULT 0)";
-
-    private static final String CREATE_QUESTION_TAGS_TABLE_SQL =
-            "CREATE TABLE IF NOT EXISTS question_tags (" +
-                    "question_id BIGINT NOT NULL, " +
-                    "tag_id BIGINT NOT NULL, " +
-                    "PRIMARY KEY (question_id, tag_id), " +
-                    "FOREIGN KEY (question_id) REFERENCES questions(id) ON DELETE CASCADE, " +
-                    "FOREIGN KEY (tag_id) REFERENCES tags(id) ON DELETE CASCADE)";
+    private static final Logger LOGGER = Logger.getInstance(QuestionRepository.class);
+    private static QuestionRepository instance;
 
     private static final String INSERT_QUESTION_SQL =
             "INSERT INTO questions (user_id, subject_id, title, content, context) VALUES (?, ?, ?, ?, ?)";
@@ -78,15 +47,46 @@ public final class QuestionRepository {
             "LEFT JOIN users u ON q.user_id = u.id " +
             "WHERE q.id = ?";
 
+    // Characters of content loaded for list previews; cards show fewer than this
+    static final int CONTENT_PREVIEW_LENGTH = 200;
+
+    // List projection: counters and a content preview, without the full body or context
+    static final String SUMMARY_COLUMNS =
+            "q.id, q.user_id, q.subject_id, q.title, LEFT(q.content, " + CONTENT_PREVIEW_LENGTH + ") AS content, " +
+                    "q.upvotes, q.downvotes, q.answer_count, q.is_solved, q.view_count, " +
+                    "q.created_at, q.updated_at, s.name AS subject_name";
+
     private static final String FIND_PAGE_SQL =
-            "SELECT q.*, s.name AS subject_name FROM questions q " +
+            "SELECT " + SUMMARY_COLUMNS + " FROM questions q " +
+                    "LEFT JOIN subjects s ON q.subject_id = s.id " +
+                    "ORDER BY q.created_at DESC, q.id DESC LIMIT ? OFFSET ?";
+
+    private static final String FIND_FIRST_PAGE_SQL =
+            "SELECT " + SUMMARY_COLUMNS + " FROM questions q " +
                     "LEFT JOIN subjects s ON q.subject_id = s.id " +
-                    "ORDER BY q.created_at DESC LIMIT ? OFFSET ?";
+                    "ORDER BY q.created_at DESC, q.id DESC LIMIT ?";
+
+    private static final String FIND_PAGE_AFTER_SQL =
+            "SELECT " + SUMMARY_COLUMNS + " FROM questions q " +
+                    "LEFT JOIN subjects s ON q.subject_id = s.id " +
+                    "WHERE (q.created_at < ? OR (q.created_at = ? AND q.id < ?)) " +
+                    "ORDER BY q.created_at DESC, q.id DESC LIMIT ?";
 
     private static final String FIND_BY_USER_SQL =
-            "SELECT q.*, s.name AS subject_name FROM questions q " +
+            "SELECT " + SUMMARY_COLUMNS + " FROM questions q " +
+                    "LEFT JOIN subjects s ON q.subject_id = s.id " +
+                    "WHERE q.user_id = ? ORDER BY q.created_at DESC, q.id DESC LIMIT ? OFFSET ?";
+
+    private static final String FIND_FIRST_BY_USER_SQL =
+            "SELECT " + SUMMARY_COLUMNS + " FROM questions q " +
                     "LEFT JOIN subjects s ON q.subject_id = s.id " +
-                    "WHERE q.user_id = ? ORDER BY q.created_at DESC LIMIT ? OFFSET ?";
+                    "WHERE q.user_id = ? ORDER BY q.created_at DESC, q.id DESC LIMIT ?";
+
+    private static final String FIND_BY_USER_AFTER_SQL =
+            "SELECT " + SUMMARY_COLUMNS + " FROM questions q " +
+                    "LEFT JOIN subjects s ON q.subject_id = s.id " +
+                    "WHERE q.user_id = ? AND (q.created_at < ? OR (q.created_at = ? AND q.id < ?)) " +
+                    "ORDER BY q.created_at DESC, q.id DESC LIMIT ?";
 
     private static final String FIND_TAGS_SQL =
             "SELECT t.name FROM tags t " +
@@ -96,62 +96,44 @@ public final class QuestionRepository {
     private static final String CLEAR_TAGS_SQL =
             "DELETE FROM question_tags WHERE question_id = ?";
 
-    private static final String UPSERT_TAG_SQL =
-            "INSERT INTO tags (name, usage_count) VALUES (?, 1) " +
-                    "ON DUPLICATE KEY UPDATE usage_count = usage_count + 1";
-
-    private static final String FIND_TAG_ID_SQL = "SELECT id FROM tags WHERE name = ?";
-
-    private static final String LINK_TAG_SQL =
-            "INSERT INTO question_tags (question_id, tag_id) VALUES (?, ?) " +
-                    "ON DUPLICATE KEY UPDATE question_id = question_id";
-
     private static final String UPDATE_VOTES_SQL =
             "UPDATE questions SET upvotes = ?, downvotes = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
 
-    private static final String UPDATE_ANSWER_COUNT_SQL =
-            "UPDATE questions SET answer_count = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
-
     private static final String UPDATE_SOLVED_SQL =
             "UPDATE questions SET is_solved = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
             
     private static final String UPDATE_VIEW_COUNT_SQL =
             "UPDATE questions SET view_count = view_count + 1, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
             
-    private static final String CREATE_ANSWERS_TABLE_SQL =
-            "CREATE TABLE IF NOT EXISTS answers (" +
-                    "id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
-                    "question_id BIGINT NOT NULL, " +
-                    "user_id BIGINT NOT NULL, " +
-                    "content TEXT NOT NULL, " +
-                    "upvotes INT NOT NULL DEFAULT 0, " +
-                    "downvotes INT NOT NULL DEFAULT 0, " +
-                    "is_accepted BOOLEAN NOT NULL DEFAULT FALSE, " +
-                    "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
-                    "updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP, " +
-                    "FOREIGN KEY (question_id) REFERENCES questions(id) ON DELETE CASCADE)";
-                    
-    private static final String INSERT_ANSWER_SQL =
-            "INSERT INTO answers (question_id, user_id, content, created_at) VALUES (?, ?, ?, ?)";
-            
-    private static final String FIND_ANSWERS_SQL =
-            "SELECT a.*, u.name AS user_name FROM answers a " +
-                    "LEFT JOIN users u ON a.user_id = u.id " +
-                    "WHERE a.question_id = ? ORDER BY a.is_accepted DESC, a.upvotes DESC, a.created_at ASC";
-                    
     private static final String UPDATE_ANSWER_VOTES_SQL =
             "UPDATE answers SET upvotes = ?, downvotes = ?, updated_at = CURRENT_TIMESTAMP WHERE id = ?";
 
+    private static final String FIND_FULLTEXT_INDEX_SQL =
+            "SELECT 1 FROM information_schema.STATISTICS " +
+                    "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'questions' " +
+                    "AND INDEX_NAME = 'ft_questions_title_content' LIMIT 1";
+
+    // MySQL error for MATCH without a FULLTEXT index on the column list
+    private static final int ER_FT_MATCHING_KEY_NOT_FOUND = 1191;
+
+    // Most questions updated by one batched view count statement
+    private static final int MAX_VIEW_COUNTS_PER_UPDATE = 256;
+
+    private volatile Boolean fullTextIndexPresent;
+
     private QuestionRepository() {
         try {
-            initializeTables();
+            SchemaMigrator.ensureCurrent();
         } catch (SQLException ex) {
-            throw new IllegalStateException("Failed to initialise question tables", ex);
+            throw new IllegalStateException("Failed to initialise the database schema", ex);
         }
     }
 
-    public static QuestionRepository getInstance() {
-        return INSTANCE;
+    public static synchronized QuestionRepository getInstance() {
+        if (instance == null) {
+            instance = new QuestionRepository();
+        }
+        return instance;
     }
 
     public Question save(Question question) throws SQLException {
@@ -288,6 +270,15 @@ public final class QuestionRepository {
         }
     }
 
+    /**
+     * Loads one question with its full content, context and author name.
+     * List queries only return summaries, so this is the fetch to use when a
+     * question is opened.
+     *
+     * @param id The question id
+     * @return The question, or empty if it does not exist
+     * @throws SQLException If a database error occurs
+     */
     public Optional<Question> findById(Long id) throws SQLException {
         JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
         Connection connection = provider.getConnection();
@@ -297,8 +288,8 @@ public final class QuestionRepository {
                 if (!rs.next()) {
                     return Optional.empty();
                 }
-                Question question = mapResult(rs);
-                loadTags(connection, question);
+                Question question = QuestionRowMapper.mapQuestion(rs);
+                QuestionTagLoader.loadTags(connection, List.of(question));
                 return Optional.of(question);
             }
         } finally {
@@ -309,19 +300,8 @@ public final class QuestionRepository {
     public List<Question> findPage(int limit, int offset) throws SQLException {
         JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
         Connection connection = provider.getConnection();
-        try (PreparedStatement statement = connection.prepareStatement(FIND_PAGE_SQL)) {
-            statement.setInt(1, Math.max(1, limit));
-            statement.setInt(2, Math.max(0, offset));
-            try (ResultSet rs = statement.executeQuery()) {
-                List<Question> questions = new ArrayList<>();
-                while (rs.next()) {
-                    questions.add(mapResult(rs));
-                }
-                for (Question question : questions) {
-                    loadTags(connection, question);
-                }
-                return questions;
-            }
+        try {
+            return readQuestions(connection, limit, offset);
         } finally {
             provider.releaseConnection(connection);
         }
@@ -330,20 +310,84 @@ public final class QuestionRepository {
     public List<Question> findByUserId(Long userId, int limit, int offset) throws SQLException {
         JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
         Connection connection = provider.getConnection();
+        try {
+            return readUserQuestions(connection, userId, limit, offset);
+        } finally {
+            provider.releaseConnection(connection);
+        }
+    }
+
+    static List<Question> readQuestions(Connection connection, int limit, int offset) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_PAGE_SQL)) {
+            statement.setInt(1, Math.max(1, limit));
+            statement.setInt(2, Math.max(0, offset));
+            return readSummaries(connection, statement);
+        }
+    }
+
+    static List<Question> readUserQuestions(Connection connection, Long userId, int limit, int offset)
+            throws SQLException {
         try (PreparedStatement statement = connection.prepareStatement(FIND_BY_USER_SQL)) {
             statement.setLong(1, userId);
             statement.setInt(2, Math.max(1, limit));
             statement.setInt(3, Math.max(0, offset));
-            try (ResultSet rs = statement.executeQuery()) {
-                List<Question> questions = new ArrayList<>();
-                while (rs.next()) {
-                    questions.add(mapResult(rs));
-                }
-                for (Question question : questions) {
-                    loadTags(connection, question);
-                }
-                return questions;
+            return readSummaries(connection, statement);
+        }
+    }
+
+    /**
+     * Lists the newest questions a page at a time, continuing from a cursor
+     * rather than an offset so deep pages cost the same as the first one.
+     *
+     * @param limit The page size
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @return The page and the cursor of the next one
+     * @throws SQLException If a database error occurs
+     * @throws IllegalArgumentException If the cursor is malformed
+     */
+    public QuestionPage findPage(int limit, String cursor) throws SQLException {
+        int pageSize = Math.max(1, limit);
+        QuestionCursor after = cursor == null ? null : QuestionCursor.decode(cursor, SortOption.NEWEST);
+        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+        Connection connection = provider.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(
+                after == null ? FIND_FIRST_PAGE_SQL : FIND_PAGE_AFTER_SQL)) {
+            int index = 1;
+            if (after != null) {
+                index = bindNewestCursor(statement, index, after);
+            }
+            statement.setInt(index, pageSize + 1);
+            return readPage(connection, statement, pageSize, SortOption.NEWEST, 0, true);
+        } finally {
+            provider.releaseConnection(connection);
+        }
+    }
+
+    /**
+     * Lists a user's questions, newest first, continuing from a cursor.
+     *
+     * @param userId The author
+     * @param limit The page size
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @return The page and the cursor of the next one
+     * @throws SQLException If a database error occurs
+     * @throws IllegalArgumentException If the cursor is malformed
+     */
+    public QuestionPage findByUserId(Long userId, int limit, String cursor) throws SQLException {
+        Objects.requireNonNull(userId, "userId");
+        int pageSize = Math.max(1, limit);
+        QuestionCursor after = cursor == null ? null : QuestionCursor.decode(cursor, SortOption.NEWEST);
+        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+        Connection connection = provider.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(
+                after == null ? FIND_FIRST_BY_USER_SQL : FIND_BY_USER_AFTER_SQL)) {
+            statement.setLong(1, userId);
+            int index = 2;
+            if (after != null) {
+                index = bindNewestCursor(statement, index, after);
             }
+            statement.setInt(index, pageSize + 1);
+            return readPage(connection, statement, pageSize, SortOption.NEWEST, 0, true);
         } finally {
             provider.releaseConnection(connection);
         }
@@ -419,13 +463,6 @@ public final class QuestionRepository {
         }, UPDATE_VOTES_SQL);
     }
 
-    public boolean updateAnswerCount(Long questionId, int answerCount) throws SQLException {
-        return runSimpleUpdate(questionId, ps -> {
-            ps.setInt(1, answerCount);
-            return 2;
-        }, UPDATE_ANSWER_COUNT_SQL);
-    }
-
     public boolean updateSolvedStatus(Long questionId, boolean solved) throws SQLException {
         return runSimpleUpdate(questionId, ps -> {
             ps.setBoolean(1, solved);
@@ -437,32 +474,67 @@ public final class QuestionRepository {
         if (criteria == null) {
             return Collections.emptyList();
         }
-        SearchQueryBuilder builder = new SearchQueryBuilder(criteria);
-        String sql = builder.build();
-        List<Object> parameters = builder.getParametersSnapshot();
+        return searchPage(criteria).getQuestions();
+    }
 
-        LOGGER.debug("[QUESTION_SEARCH_SQL] " + sql);
-        LOGGER.debug("[QUESTION_SEARCH_PARAMS] " + parameters);
+    /**
+     * Searches questions a page at a time. When the criteria carry a cursor the
+     * page starts right after it and the offset is ignored; otherwise the
+     * offset is honoured so existing callers keep working.
+     *
+     * @param criteria The search criteria
+     * @return The page and the cursor of the next one
+     * @throws SQLException If a database error occurs
+     * @throws IllegalArgumentException If the cursor is malformed or was issued for another sort
+     */
+    public QuestionPage searchPage(QuestionSearchCriteria criteria) throws SQLException {
+        if (criteria == null) {
+            return new QuestionPage(Collections.emptyList(), null);
+        }
+        boolean fullText = DatabaseConfig.isFullTextSearchEnabled() && hasFullTextIndex();
+        try {
+            return searchPage(criteria, fullText);
+        } catch (SQLException ex) {
+            if (!fullText || ex.getErrorCode() != ER_FT_MATCHING_KEY_NOT_FOUND) {
+                throw ex;
+            }
+            // The index went away after it was detected; stop trying it
+            LOGGER.warning("FULLTEXT index on questions is missing, falling back to LIKE search");
+            fullTextIndexPresent = Boolean.FALSE;
+            return searchPage(criteria, false);
+        }
+    }
 
+    /**
+     * Runs a search with the full-text path allowed or not. The full-text path
+     * is still skipped for search text with no word long enough to be indexed.
+     */
+    QuestionPage searchPage(QuestionSearchCriteria criteria, boolean allowFullText) throws SQLException {
         JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
         Connection connection = provider.getConnection();
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            builder.apply(statement);
-            try (ResultSet rs = statement.executeQuery()) {
-                List<Question> questions = new ArrayList<>();
-                while (rs.next()) {
-                    questions.add(mapResult(rs));
-                }
-                for (Question question : questions) {
-                    loadTags(connection, question);
-                }
-                return questions;
-            }
+        try {
+            return readSearchPage(connection, criteria, allowFullText);
         } finally {
             provider.releaseConnection(connection);
         }
     }
 
+    static QuestionPage readSearchPage(Connection connection, QuestionSearchCriteria criteria,
+                                       boolean allowFullText) throws SQLException {
+        SearchQueryBuilder builder = new SearchQueryBuilder(criteria, allowFullText);
+        String sql = builder.build();
+
+        // Enable with log.level.com.upnext.app.data.question.QuestionRepository=DEBUG
+        LOGGER.debug("[QUESTION_SEARCH_SQL] {}", sql);
+        LOGGER.debug(() -> "[QUESTION_SEARCH_PARAMS] " + builder.getParametersSnapshot());
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            builder.apply(statement);
+            return readPage(connection, statement, criteria.getLimit(), criteria.getSortOption(),
+                    builder.getStartOffset(), !criteria.isFullContent());
+        }
+    }
+
     /**
      * Increments the view count for a question.
      * 
@@ -473,6 +545,63 @@ public final class QuestionRepository {
     public boolean incrementViewCount(Long questionId) throws SQLException {
         return runSimpleUpdate(questionId, ps -> 1, UPDATE_VIEW_COUNT_SQL);
     }
+
+    /**
+     * Adds accumulated view counts to several questions at once, one
+     * {@code UPDATE ... CASE} statement per chunk of ids, in a single
+     * transaction. Used by {@link ViewCountBuffer}; unlike
+     * {@link #incrementViewCount(Long)} it leaves {@code updated_at} alone.
+     *
+     * @param deltas Views to add, by question id
+     * @throws SQLException If a database error occurs; no counts are added then
+     */
+    public void addViewCounts(Map<Long, Integer> deltas) throws SQLException {
+        if (deltas == null || deltas.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(deltas.entrySet());
+        // Ascending ids so concurrent flushes lock rows in the same order
+        entries.sort(Map.Entry.comparingByKey());
+        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+        Connection connection = provider.getConnection();
+        try {
+            connection.setAutoCommit(false);
+            for (int start = 0; start < entries.size(); start += MAX_VIEW_COUNTS_PER_UPDATE) {
+                List<Map.Entry<Long, Integer>> chunk =
+                        entries.subList(start, Math.min(entries.size(), start + MAX_VIEW_COUNTS_PER_UPDATE));
+                addViewCountChunk(connection, chunk);
+            }
+            connection.commit();
+        } catch (SQLException ex) {
+            safeRollback(connection);
+            throw ex;
+        } finally {
+            resetAndRelease(provider, connection);
+        }
+    }
+
+    private void addViewCountChunk(Connection connection, List<Map.Entry<Long, Integer>> chunk) throws SQLException {
+        StringBuilder sql = new StringBuilder("UPDATE questions SET view_count = view_count + CASE id");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(" WHEN ? THEN ?");
+        }
+        sql.append(" ELSE 0 END, updated_at = updated_at WHERE id IN (");
+        for (int i = 0; i < chunk.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+        try (PreparedStatement statement = connection.prepareStatement(sql.toString())) {
+            int index = 1;
+            for (Map.Entry<Long, Integer> entry : chunk) {
+                statement.setLong(index++, entry.getKey());
+                statement.setInt(index++, entry.getValue());
+            }
+            for (Map.Entry<Long, Integer> entry : chunk) {
+                statement.setLong(index++, entry.getKey());
+            }
+            statement.executeUpdate();
+        }
+    }
     
     /**
      * Marks a question as solved.
@@ -485,61 +614,6 @@ public final class QuestionRepository {
         return updateSolvedStatus(questionId, true);
     }
     
-    /**
-     * Finds answers for a specific question.
-     * 
-     * @param questionId The question ID
-     * @return A list of answers
-     * @throws SQLException If a database error occurs
-     */
-    public List<Answer> findAnswersForQuestion(Long questionId) throws SQLException {
-        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
-        Connection connection = provider.getConnection();
-        try (PreparedStatement statement = connection.prepareStatement(FIND_ANSWERS_SQL)) {
-            statement.setLong(1, questionId);
-            
-            List<Answer> answers = new ArrayList<>();
-            try (ResultSet rs = statement.executeQuery()) {
-                while (rs.next()) {
-                    Answer answer = new Answer();
-                    answer.setId(rs.getLong("id"));
-                    answer.setQuestionId(rs.getLong("question_id"));
-                    answer.setUserId(rs.getLong("user_id"));
-                    answer.setContent(rs.getString("content"));
-                    answer.setUpvotes(rs.getInt("upvotes"));
-                    answer.setDownvotes(rs.getInt("downvotes"));
-                    answer.setAccepted(rs.getBoolean("is_accepted"));
-                    
-                    // Get user name if available
-                    try {
-                        String userName = rs.getString("user_name");
-                        if (userName != null) {
-                            answer.setUserName(userName);
-                        }
-                    } catch (SQLException e) {
-                        // Column might not exist
-                    }
-                    
-                    Timestamp createdAt = rs.getTimestamp("created_at");
-                    if (createdAt != null) {
-                        answer.setCreatedAt(createdAt.toLocalDateTime());
-                    }
-                    
-                    Timestamp updatedAt = rs.getTimestamp("updated_at");
-                    if (updatedAt != null) {
-                        answer.setUpdatedAt(updatedAt.toLocalDateTime());
-                    }
-                    
-                    answers.add(answer);
-                }
-            }
-            
-            return answers;
-        } finally {
-            provider.releaseConnection(connection);
-        }
-    }
-    
     /**
      * Gets the tags associated with a question.
      * 
@@ -567,7 +641,8 @@ public final class QuestionRepository {
     }
     
     /**
-     * Saves a new answer to a question.
+     * Saves a new answer to a question and adds one to the question's answer
+     * count in the same transaction.
      * 
      * @param answer The answer to save
      * @return The saved answer with ID populated
@@ -587,54 +662,16 @@ public final class QuestionRepository {
         
         JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
         Connection connection = provider.getConnection();
-        try (PreparedStatement statement = connection.prepareStatement(INSERT_ANSWER_SQL, Statement.RETURN_GENERATED_KEYS)) {
-            statement.setLong(1, answer.getQuestionId());
-            statement.setLong(2, answer.getUserId());
-            statement.setString(3, answer.getContent());
-            
-            LocalDateTime now = LocalDateTime.now();
-            statement.setTimestamp(4, Timestamp.valueOf(now));
-            
-            int rowsAffected = statement.executeUpdate();
-            
-            if (rowsAffected > 0) {
-                try (ResultSet generatedKeys = statement.getGeneratedKeys()) {
-                    if (generatedKeys.next()) {
-                        long id = generatedKeys.getLong(1);
-                        answer.setId(id);
-                        
-                        // Increment answer count for the question
-                        updateAnswerCount(answer.getQuestionId(), getAnswerCount(connection, answer.getQuestionId()) + 1);
-                        
-                        return answer;
-                    }
-                }
-            }
-            
-            throw new SQLException("Failed to save answer, no ID obtained.");
+        try {
+            connection.setAutoCommit(false);
+            Answer saved = AnswerWriter.insert(connection, answer);
+            connection.commit();
+            return saved;
+        } catch (SQLException | RuntimeException ex) {
+            safeRollback(connection);
+            throw ex;
         } finally {
-            provider.releaseConnection(connection);
-        }
-    }
-    
-    /**
-     * Gets the current answer count for a question.
-     * 
-     * @param connection The database connection
-     * @param questionId The question ID
-     * @return The number of answers for the question
-     * @throws SQLException If a database error occurs
-     */
-    private int getAnswerCount(Connection connection, Long questionId) throws SQLException {
-        String sql = "SELECT COUNT(*) FROM answers WHERE question_id = ?";
-        try (PreparedStatement statement = connection.prepareStatement(sql)) {
-            statement.setLong(1, questionId);
-            try (ResultSet rs = statement.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1);
-                }
-                return 0;
-            }
+            resetAndRelease(provider, connection);
         }
     }
     
@@ -666,27 +703,9 @@ public final class QuestionRepository {
         }
     }
     
-    private void initializeTables() throws SQLException {
-        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
-        Connection connection = provider.getConnection();
-        Statement statement = null;
-        try {
-            statement = connection.createStatement();
-            statement.execute(CREATE_SUBJECTS_TABLE_SQL);
-            statement.execute(CREATE_QUESTIONS_TABLE_SQL);
-            statement.execute(CREATE_TAGS_TABLE_SQL);
-            statement.execute(CREATE_QUESTION_TAGS_TABLE_SQL);
-            statement.execute(CREATE_ANSWERS_TABLE_SQL);
-        } finally {
-            closeQuietly(statement);
-            provider.releaseConnection(connection);
-        }
-    }
-
     /**
      * Inserts question tags with proper usage count management.
-     * This is an improved version of replaceTags that doesn't clear existing tags first
-     * and provides better duplicate handling.
+     * Unlike replaceTags this doesn't clear existing tags first.
      * 
      * @param connection The database connection (must be in transaction)
      * @param questionId The question ID
@@ -694,136 +713,97 @@ public final class QuestionRepository {
      * @throws SQLException If there's a database error
      */
     private void insertQuestionTagsWithUsageCount(Connection connection, Long questionId, List<String> tags) throws SQLException {
-        if (tags == null || tags.isEmpty()) {
-            return;
-        }
-        
-        try (PreparedStatement upsert = connection.prepareStatement(UPSERT_TAG_SQL);
-             PreparedStatement findId = connection.prepareStatement(FIND_TAG_ID_SQL);
-             PreparedStatement link = connection.prepareStatement(LINK_TAG_SQL)) {
-            
-            for (String tag : tags) {
-                if (tag == null || tag.trim().isEmpty()) {
-                    continue;
-                }
-                
-                // Step 1: Upsert the tag (insert or increment usage count)
-                upsert.setString(1, tag);
-                upsert.executeUpdate();
-                
-                // Step 2: Get the tag ID
-                findId.setString(1, tag);
-                try (ResultSet rs = findId.executeQuery()) {
-                    if (rs.next()) {
-                        // Step 3: Link question to tag (ignore duplicates)
-                        link.setLong(1, questionId);
-                        link.setLong(2, rs.getLong(1));
-                        link.executeUpdate();
-                    } else {
-                        LOGGER.warning("Tag was upserted but not found: " + tag);
-                    }
-                }
-            }
-        }
+        QuestionTagWriter.linkTags(connection, questionId, tags);
     }
 
     private void replaceTags(Connection connection, Long questionId, List<String> tags) throws SQLException {
-        List<String> safeTags = tags == null ? Collections.emptyList() : tags;
         try (PreparedStatement delete = connection.prepareStatement(CLEAR_TAGS_SQL)) {
             delete.setLong(1, questionId);
             delete.executeUpdate();
         }
-        if (safeTags.isEmpty()) {
-            return;
-        }
-        try (PreparedStatement upsert = connection.prepareStatement(UPSERT_TAG_SQL);
-             PreparedStatement findId = connection.prepareStatement(FIND_TAG_ID_SQL);
-             PreparedStatement link = connection.prepareStatement(LINK_TAG_SQL)) {
-            for (String raw : safeTags) {
-                String tag = raw == null ? null : raw.trim();
-                if (tag == null || tag.isEmpty()) {
-                    continue;
-                }
-                upsert.setString(1, tag);
-                upsert.executeUpdate();
-                findId.setString(1, tag);
-                try (ResultSet rs = findId.executeQuery()) {
-                    if (rs.next()) {
-                        link.setLong(1, questionId);
-                        link.setLong(2, rs.getLong(1));
-                        link.executeUpdate();
-                    }
-                }
-            }
-        }
-    }
-
-    private void loadTags(Connection connection, Question question) throws SQLException {
-        try (PreparedStatement statement = connection.prepareStatement(FIND_TAGS_SQL)) {
-            statement.setLong(1, question.getId());
-            try (ResultSet rs = statement.executeQuery()) {
-                List<String> tags = new ArrayList<>();
-                while (rs.next()) {
-                    tags.add(rs.getString("name"));
+        List<String> trimmed = new ArrayList<>();
+        if (tags != null) {
+            for (String raw : tags) {
+                if (raw != null) {
+                    trimmed.add(raw.trim());
                 }
-                question.setTags(tags);
             }
         }
+        QuestionTagWriter.linkTags(connection, questionId, trimmed);
     }
 
-    private Question mapResult(ResultSet rs) throws SQLException {
-        Question question = new Question();
-        question.setId(rs.getLong("id"));
-        question.setUserId(rs.getLong("user_id"));
-        question.setTitle(rs.getString("title"));
-        question.setContent(rs.getString("content"));
-        
-        // Get context field (might be null in older data)
-        try {
-            question.setContext(rs.getString("context"));
-        } catch (SQLException e) {
-            // Context column might not exist in older DB schema
-            question.setContext(null);
+    /**
+     * Checks once whether the FULLTEXT index from migration 014 exists, so
+     * databases that have not run it keep using LIKE search.
+     */
+    private boolean hasFullTextIndex() {
+        Boolean present = fullTextIndexPresent;
+        if (present != null) {
+            return present;
         }
-        
-        long subjectId = rs.getLong("subject_id");
-        if (!rs.wasNull()) {
-            question.setSubjectId(subjectId);
-        }
-        question.setSubjectName(rs.getString("subject_name"));
-        question.setUpvotes(rs.getInt("upvotes"));
-        question.setDownvotes(rs.getInt("downvotes"));
-        question.setAnswerCount(rs.getInt("answer_count"));
-        question.setSolved(rs.getBoolean("is_solved"));
-        
-        // Get view count
         try {
-            question.setViewCount(rs.getInt("view_count"));
-        } catch (SQLException e) {
-            // View count might not exist in older DB schema
-            question.setViewCount(0);
+            JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+            Connection connection = provider.getConnection();
+            try (PreparedStatement statement = connection.prepareStatement(FIND_FULLTEXT_INDEX_SQL);
+                 ResultSet rs = statement.executeQuery()) {
+                present = rs.next();
+            } finally {
+                provider.releaseConnection(connection);
+            }
+        } catch (SQLException ex) {
+            LOGGER.logException("Failed to look up the questions FULLTEXT index", ex);
+            present = Boolean.FALSE;
         }
-        
-        Timestamp created = rs.getTimestamp("created_at");
-        Timestamp updated = rs.getTimestamp("updated_at");
-        if (created != null) {
-            question.setCreatedAt(created.toLocalDateTime());
+        if (!present) {
+            LOGGER.info("No FULLTEXT index on questions(title, content), using LIKE search");
         }
-        if (updated != null) {
-            question.setUpdatedAt(updated.toLocalDateTime());
+        fullTextIndexPresent = present;
+        return present;
+    }
+
+    private int bindNewestCursor(PreparedStatement statement, int index, QuestionCursor cursor) throws SQLException {
+        statement.setTimestamp(index++, (Timestamp) cursor.getSortValue());
+        statement.setTimestamp(index++, (Timestamp) cursor.getSortValue());
+        statement.setLong(index++, cursor.getId());
+        return index;
+    }
+
+    /**
+     * Reads question summaries and loads the tags of all of them with one
+     * more query.
+     */
+    private static List<Question> readSummaries(Connection connection, PreparedStatement statement)
+            throws SQLException {
+        List<Question> questions = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                questions.add(QuestionRowMapper.mapSummary(rs));
+            }
         }
-        
-        // Try to get user name (might be included in a join)
-        try {
-            String userName = rs.getString("user_name");
-            if (userName != null) {
-                question.setUserName(userName);
+        QuestionTagLoader.loadTags(connection, questions);
+        return questions;
+    }
+
+    /**
+     * Reads a page queried with one row more than the page size; the extra row
+     * only tells whether another page follows and is dropped.
+     */
+    private static QuestionPage readPage(Connection connection, PreparedStatement statement, int pageSize,
+                                         SortOption sortOption, int pageOffset, boolean summary)
+            throws SQLException {
+        List<Question> questions = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                questions.add(summary ? QuestionRowMapper.mapSummary(rs) : QuestionRowMapper.mapQuestion(rs));
             }
-        } catch (SQLException e) {
-            // User name column might not exist in the result set
         }
-        
-        return question;
+        String nextCursor = null;
+        if (questions.size() > pageSize) {
+            questions.subList(pageSize, questions.size()).clear();
+            nextCursor = QuestionCursor.next(questions, sortOption, pageOffset).encode();
+        }
+        QuestionTagLoader.loadTags(connection, questions);
+        return new QuestionPage(questions, nextCursor);
     }
 
     private void validateQuestionForSave(Question question) {
@@ -896,25 +876,92 @@ public final class QuestionRepository {
         int bind(PreparedStatement ps) throws SQLException;
     }
 
-    private static final class SearchQueryBuilder {
+    /**
+     * Builds the search statement. Search text goes through the FULLTEXT index
+     * when allowed and the text has an indexable word; otherwise it falls back
+     * to LIKE matching, which cannot use an index for a leading wildcard.
+     */
+    static final class SearchQueryBuilder {
+        // InnoDB's default innodb_ft_min_token_size; shorter words are not indexed
+        static final int MIN_FULLTEXT_WORD_LENGTH = 3;
+
+        private static final String MATCH_SQL = "MATCH(q.title, q.content) AGAINST (? IN BOOLEAN MODE)";
+
         private final QuestionSearchCriteria criteria;
         private final StringBuilder sql = new StringBuilder();
         private final List<Object> parameters = new ArrayList<>();
+        private final QuestionCursor cursor;
+        private final String booleanQuery;
 
-        private SearchQueryBuilder(QuestionSearchCriteria criteria) {
+        SearchQueryBuilder(QuestionSearchCriteria criteria, boolean allowFullText) {
             this.criteria = criteria;
+            this.cursor = criteria.getCursor() == null
+                    ? null
+                    : QuestionCursor.decode(criteria.getCursor(), criteria.getSortOption());
+            this.booleanQuery = allowFullText && hasText(criteria.getSearchText())
+                    ? toBooleanQuery(criteria.getSearchText())
+                    : null;
+        }
+
+        /**
+         * Turns search text into a boolean-mode query that requires every
+         * indexable word, each as a prefix so results follow the user's typing.
+         *
+         * @param searchText The raw search text
+         * @return The query, or null if no word is long enough to be indexed
+         */
+        static String toBooleanQuery(String searchText) {
+            StringBuilder query = new StringBuilder();
+            // Splitting on everything but letters and digits also drops boolean operators
+            for (String word : searchText.split("[^\\p{L}\\p{N}]+")) {
+                if (word.length() >= MIN_FULLTEXT_WORD_LENGTH) {
+                    if (query.length() > 0) {
+                        query.append(' ');
+                    }
+                    query.append('+').append(word).append('*');
+                }
+            }
+            return query.length() == 0 ? null : query.toString();
+        }
+
+        boolean isFullText() {
+            return booleanQuery != null;
         }
 
-        private String build() {
-            sql.append("SELECT DISTINCT q.*, s.name AS subject_name FROM questions q ");
+        String build() {
+            SortOption sortOption = criteria.getSortOption();
+            boolean rankByRelevance = sortOption == SortOption.RELEVANCE && isFullText();
+            sql.append("SELECT DISTINCT ")
+                    .append(criteria.isFullContent() ? "q.*, s.name AS subject_name" : SUMMARY_COLUMNS);
+            if (rankByRelevance) {
+                sql.append(", ").append(MATCH_SQL).append(" AS relevance");
+                parameters.add(booleanQuery);
+            }
+            sql.append(" FROM questions q ");
             sql.append("LEFT JOIN subjects s ON q.subject_id = s.id ");
             boolean filterByTags = criteria.getTags() != null && !criteria.getTags().isEmpty();
             if (filterByTags) {
                 sql.append("INNER JOIN question_tags qt ON q.id = qt.question_id ");
                 sql.append("INNER JOIN tags t ON qt.tag_id = t.id ");
             }
+            if (isFullText()) {
+                // Each branch is an index lookup; OR-ing them in the WHERE clause
+                // would stop MySQL from using the FULLTEXT index at all
+                sql.append("INNER JOIN (")
+                        .append("SELECT id AS match_id FROM questions ")
+                        .append("WHERE MATCH(title, content) AGAINST (? IN BOOLEAN MODE) ")
+                        .append("UNION SELECT qt2.question_id FROM question_tags qt2 ")
+                        .append("INNER JOIN tags t2 ON qt2.tag_id = t2.id WHERE t2.name LIKE ? ")
+                        .append("UNION SELECT q2.id FROM questions q2 ")
+                        .append("INNER JOIN users u ON u.id = q2.user_id WHERE u.name LIKE ?")
+                        .append(") fts ON fts.match_id = q.id ");
+                String prefixValue = criteria.getSearchText().trim() + '%';
+                parameters.add(booleanQuery); // title and content
+                parameters.add(prefixValue); // tags
+                parameters.add(prefixValue); // user names
+            }
             List<String> clauses = new ArrayList<>();
-            if (hasText(criteria.getSearchText())) {
+            if (hasText(criteria.getSearchText()) && !isFullText()) {
                 // Enhanced search across title, content, tags, and user names
                 clauses.add("(q.title LIKE ? OR q.content LIKE ? OR " +
                            "EXISTS (SELECT 1 FROM question_tags qt2 INNER JOIN tags t2 ON qt2.tag_id = t2.id " +
@@ -940,6 +987,9 @@ public final class QuestionRepository {
             if (criteria.isOnlySolved()) {
                 clauses.add("q.is_solved = TRUE");
             }
+            if (cursor != null && !cursor.isOffset()) {
+                clauses.add(cursor.predicate("q", parameters));
+            }
             if (filterByTags) {
                 StringBuilder tagPlaceholders = new StringBuilder("t.name IN (");
                 for (int i = 0; i < criteria.getTags().size(); i++) {
@@ -966,14 +1016,31 @@ public final class QuestionRepository {
                 sql.append("GROUP BY q.id HAVING COUNT(DISTINCT t.id) = ? ");
                 parameters.add(criteria.getTags().size());
             }
-            sql.append("ORDER BY ").append(criteria.getSortOption().getSqlOrderBy()).append(' ');
-            sql.append("LIMIT ? OFFSET ?");
-            parameters.add(criteria.getLimit());
-            parameters.add(criteria.getOffset());
+            SortOption order = sortOption == SortOption.RELEVANCE && !rankByRelevance ? SortOption.NEWEST : sortOption;
+            sql.append("ORDER BY ").append(QuestionCursor.orderBy(order, "q")).append(' ');
+            // One extra row tells whether another page follows
+            if (cursor != null && !cursor.isOffset()) {
+                sql.append("LIMIT ?");
+                parameters.add(criteria.getLimit() + 1);
+            } else {
+                sql.append("LIMIT ? OFFSET ?");
+                parameters.add(criteria.getLimit() + 1);
+                parameters.add(getStartOffset());
+            }
             return sql.toString();
         }
 
-        private List<Object> getParametersSnapshot() {
+        /**
+         * Gets the offset the page starts at; 0 for keyset pages.
+         */
+        int getStartOffset() {
+            if (cursor == null) {
+                return criteria.getOffset();
+            }
+            return cursor.isOffset() ? cursor.getOffset() : 0;
+        }
+
+        List<Object> getParametersSnapshot() {
             return new ArrayList<>(parameters);
         }
 
@@ -988,6 +1055,8 @@ public final class QuestionRepository {
                     statement.setInt(index++, (Integer) parameter);
                 } else if (parameter instanceof Boolean) {
                     statement.setBoolean(index++, (Boolean) parameter);
+                } else if (parameter instanceof Timestamp) {
+                    statement.setTimestamp(index++, (Timestamp) parameter);
                 } else {
                     throw new SQLException("Unsupported parameter type: " + parameter.getClass().getName());
                 }
@@ -0,0 +1,143 @@
+package com.upnext.app.data.question;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+import com.upnext.app.domain.question.Answer;
+import com.upnext.app.domain.question.Question;
+
+/**
+ * Maps question and answer rows to domain objects, shared by the repositories
+ * that select them.
+ */
+final class QuestionRowMapper {
+
+    private QuestionRowMapper() {
+    }
+
+    /**
+     * Maps a row selected with {@link QuestionRepository#SUMMARY_COLUMNS}. The content is only a
+     * preview, so the question is flagged as a summary.
+     */
+    static Question mapSummary(ResultSet rs) throws SQLException {
+        Question question = new Question();
+        question.setId(rs.getLong("id"));
+        question.setUserId(rs.getLong("user_id"));
+        question.setTitle(rs.getString("title"));
+        question.setContent(rs.getString("content"));
+        long subjectId = rs.getLong("subject_id");
+        if (!rs.wasNull()) {
+            question.setSubjectId(subjectId);
+        }
+        question.setSubjectName(rs.getString("subject_name"));
+        question.setUpvotes(rs.getInt("upvotes"));
+        question.setDownvotes(rs.getInt("downvotes"));
+        question.setAnswerCount(rs.getInt("answer_count"));
+        question.setSolved(rs.getBoolean("is_solved"));
+        question.setViewCount(rs.getInt("view_count"));
+        Timestamp created = rs.getTimestamp("created_at");
+        Timestamp updated = rs.getTimestamp("updated_at");
+        if (created != null) {
+            question.setCreatedAt(created.toLocalDateTime());
+        }
+        if (updated != null) {
+            question.setUpdatedAt(updated.toLocalDateTime());
+        }
+        question.setSummary(true);
+        return question;
+    }
+
+    /**
+     * Maps a full questions row, as selected by {@link QuestionRepository#findById(Long)}.
+     */
+    static Question mapQuestion(ResultSet rs) throws SQLException {
+        Question question = new Question();
+        question.setId(rs.getLong("id"));
+        question.setUserId(rs.getLong("user_id"));
+        question.setTitle(rs.getString("title"));
+        question.setContent(rs.getString("content"));
+        
+        // Get context field (might be null in older data)
+        try {
+            question.setContext(rs.getString("context"));
+        } catch (SQLException e) {
+            // Context column might not exist in older DB schema
+            question.setContext(null);
+        }
+        
+        long subjectId = rs.getLong("subject_id");
+        if (!rs.wasNull()) {
+            question.setSubjectId(subjectId);
+        }
+        question.setSubjectName(rs.getString("subject_name"));
+        question.setUpvotes(rs.getInt("upvotes"));
+        question.setDownvotes(rs.getInt("downvotes"));
+        question.setAnswerCount(rs.getInt("answer_count"));
+        question.setSolved(rs.getBoolean("is_solved"));
+        
+        // Get view count
+        try {
+            question.setViewCount(rs.getInt("view_count"));
+        } catch (SQLException e) {
+            // View count might not exist in older DB schema
+            question.setViewCount(0);
+        }
+        
+        Timestamp created = rs.getTimestamp("created_at");
+        Timestamp updated = rs.getTimestamp("updated_at");
+        if (created != null) {
+            question.setCreatedAt(created.toLocalDateTime());
+        }
+        if (updated != null) {
+            question.setUpdatedAt(updated.toLocalDateTime());
+        }
+        
+        // Try to get user name (might be included in a join)
+        try {
+            String userName = rs.getString("user_name");
+            if (userName != null) {
+                question.setUserName(userName);
+            }
+        } catch (SQLException e) {
+            // User name column might not exist in the result set
+        }
+        
+        return question;
+    }
+
+    /**
+     * Maps an answers row joined with its author's name.
+     */
+    static Answer mapAnswer(ResultSet rs) throws SQLException {
+        Answer answer = new Answer();
+        answer.setId(rs.getLong("id"));
+        answer.setQuestionId(rs.getLong("question_id"));
+        answer.setUserId(rs.getLong("user_id"));
+        answer.setContent(rs.getString("content"));
+        answer.setUpvotes(rs.getInt("upvotes"));
+        answer.setDownvotes(rs.getInt("downvotes"));
+        answer.setAccepted(rs.getBoolean("is_accepted"));
+        
+        // Get user name if available
+        try {
+            String userName = rs.getString("user_name");
+            if (userName != null) {
+                answer.setUserName(userName);
+            }
+        } catch (SQLException e) {
+            // Column might not exist
+        }
+        
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        if (createdAt != null) {
+            answer.setCreatedAt(createdAt.toLocalDateTime());
+        }
+        
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        if (updatedAt != null) {
+            answer.setUpdatedAt(updatedAt.toLocalDateTime());
+        }
+        return answer;
+    }
+}
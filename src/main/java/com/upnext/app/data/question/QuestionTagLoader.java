@@ -0,0 +1,99 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.upnext.app.domain.question.Question;
+
+/**
+ * Loads the tags of a list of questions with one query per chunk of ids
+ * instead of one query per question.
+ * <p>
+ * The {@code IN} list is padded to the next power of two by repeating the last
+ * id, so only a handful of distinct statements exist and each stays in the
+ * connection's prepared statement cache.
+ */
+final class QuestionTagLoader {
+    // Most ids bound in one IN list; larger lists are split into chunks
+    static final int MAX_IDS_PER_QUERY = 512;
+
+    private static final String FIND_TAGS_FOR_QUESTIONS_SQL_PREFIX =
+            "SELECT qt.question_id, t.name FROM question_tags qt " +
+                    "INNER JOIN tags t ON t.id = qt.tag_id " +
+                    "WHERE qt.question_id IN (";
+
+    private static final String FIND_TAGS_FOR_QUESTIONS_SQL_SUFFIX =
+            ") ORDER BY qt.question_id, t.name";
+
+    private QuestionTagLoader() {
+    }
+
+    /**
+     * Sets the tags of every question in the list. Questions without tags get
+     * an empty list.
+     *
+     * @param connection The connection to query on
+     * @param questions The questions to fill in, each with an id
+     * @throws SQLException If a database error occurs
+     */
+    static void loadTags(Connection connection, List<Question> questions) throws SQLException {
+        if (questions.isEmpty()) {
+            return;
+        }
+        Map<Long, List<String>> tagsById = new HashMap<>();
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Question question : questions) {
+            ids.add(question.getId());
+        }
+        List<Long> orderedIds = new ArrayList<>(ids);
+        for (int start = 0; start < orderedIds.size(); start += MAX_IDS_PER_QUERY) {
+            List<Long> chunk = orderedIds.subList(start, Math.min(orderedIds.size(), start + MAX_IDS_PER_QUERY));
+            loadChunk(connection, chunk, tagsById);
+        }
+        for (Question question : questions) {
+            List<String> tags = tagsById.get(question.getId());
+            question.setTags(tags == null ? new ArrayList<>() : new ArrayList<>(tags));
+        }
+    }
+
+    private static void loadChunk(Connection connection, List<Long> ids, Map<Long, List<String>> tagsById)
+            throws SQLException {
+        int placeholders = paddedSize(ids.size());
+        try (PreparedStatement statement = connection.prepareStatement(buildSql(placeholders))) {
+            for (int i = 0; i < placeholders; i++) {
+                statement.setLong(i + 1, ids.get(Math.min(i, ids.size() - 1)));
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    tagsById.computeIfAbsent(rs.getLong(1), id -> new ArrayList<>()).add(rs.getString(2));
+                }
+            }
+        }
+    }
+
+    /**
+     * Rounds an id count up to the next power of two, capped at {@link #MAX_IDS_PER_QUERY}.
+     */
+    static int paddedSize(int count) {
+        if (count <= 1) {
+            return 1;
+        }
+        return Math.min(MAX_IDS_PER_QUERY, Integer.highestOneBit(count - 1) << 1);
+    }
+
+    static String buildSql(int placeholders) {
+        StringBuilder sql = new StringBuilder(FIND_TAGS_FOR_QUESTIONS_SQL_PREFIX);
+        for (int i = 0; i < placeholders; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        return sql.append(FIND_TAGS_FOR_QUESTIONS_SQL_SUFFIX).toString();
+    }
+}
@@ -0,0 +1,125 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.upnext.app.core.Logger;
+
+/**
+ * Links tags to a question with three statements however many tags there are:
+ * one multi-row upsert into {@code tags}, one {@code SELECT ... IN (...)} for
+ * their ids, and one batched insert into {@code question_tags}.
+ * <p>
+ * Tag names are upserted in sorted order so concurrent saves sharing tags lock
+ * the same {@code tags} rows in the same order and cannot deadlock each other.
+ */
+final class QuestionTagWriter {
+    private static final Logger LOGGER = Logger.getInstance(QuestionTagWriter.class);
+
+    private static final String UPSERT_TAGS_SQL_PREFIX =
+            "INSERT INTO tags (name, usage_count) VALUES ";
+
+    private static final String UPSERT_TAGS_SQL_SUFFIX =
+            " ON DUPLICATE KEY UPDATE usage_count = usage_count + 1";
+
+    private static final String FIND_TAG_IDS_SQL_PREFIX =
+            "SELECT id, name FROM tags WHERE name IN (";
+
+    private static final String LINK_TAG_SQL =
+            "INSERT INTO question_tags (question_id, tag_id) VALUES (?, ?) " +
+                    "ON DUPLICATE KEY UPDATE question_id = question_id";
+
+    private QuestionTagWriter() {
+    }
+
+    /**
+     * Upserts the tags, bumping the usage count of existing ones, and links
+     * them to the question. Blank names are skipped and names differing only
+     * in case are stored once, as the {@code tags.name} unique key would.
+     *
+     * @param connection The connection to write on, normally inside a transaction
+     * @param questionId The question to link the tags to
+     * @param tags The tag names, already trimmed or normalized by the caller
+     * @throws SQLException If a database error occurs
+     */
+    static void linkTags(Connection connection, Long questionId, List<String> tags) throws SQLException {
+        List<String> names = distinctSortedNames(tags);
+        if (names.isEmpty()) {
+            return;
+        }
+        upsertTags(connection, names);
+        Map<String, Long> idsByName = findTagIds(connection, names);
+        try (PreparedStatement link = connection.prepareStatement(LINK_TAG_SQL)) {
+            for (String name : names) {
+                Long tagId = idsByName.get(name.toLowerCase(Locale.ROOT));
+                if (tagId == null) {
+                    LOGGER.warning("Tag was upserted but not found: " + name);
+                    continue;
+                }
+                link.setLong(1, questionId);
+                link.setLong(2, tagId);
+                link.addBatch();
+            }
+            link.executeBatch();
+        }
+    }
+
+    /**
+     * Drops blank names and case-insensitive duplicates, keeping the first
+     * spelling, and sorts the rest.
+     */
+    static List<String> distinctSortedNames(List<String> tags) {
+        Map<String, String> byKey = new TreeMap<>();
+        if (tags != null) {
+            for (String tag : tags) {
+                if (tag == null || tag.isBlank()) {
+                    continue;
+                }
+                byKey.putIfAbsent(tag.toLowerCase(Locale.ROOT), tag);
+            }
+        }
+        return new ArrayList<>(byKey.values());
+    }
+
+    private static void upsertTags(Connection connection, List<String> names) throws SQLException {
+        StringBuilder sql = new StringBuilder(UPSERT_TAGS_SQL_PREFIX);
+        for (int i = 0; i < names.size(); i++) {
+            sql.append(i == 0 ? "(?, 1)" : ", (?, 1)");
+        }
+        sql.append(UPSERT_TAGS_SQL_SUFFIX);
+        try (PreparedStatement upsert = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < names.size(); i++) {
+                upsert.setString(i + 1, names.get(i));
+            }
+            upsert.executeUpdate();
+        }
+    }
+
+    private static Map<String, Long> findTagIds(Connection connection, List<String> names) throws SQLException {
+        StringBuilder sql = new StringBuilder(FIND_TAG_IDS_SQL_PREFIX);
+        for (int i = 0; i < names.size(); i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(')');
+        Map<String, Long> idsByName = new HashMap<>();
+        try (PreparedStatement find = connection.prepareStatement(sql.toString())) {
+            for (int i = 0; i < names.size(); i++) {
+                find.setString(i + 1, names.get(i));
+            }
+            try (ResultSet rs = find.executeQuery()) {
+                while (rs.next()) {
+                    idsByName.put(rs.getString(2).toLowerCase(Locale.ROOT), rs.getLong(1));
+                }
+            }
+        }
+        return idsByName;
+    }
+}
@@ -14,10 +14,30 @@ import com.upnext.app.domain.question.QuestionVote.VoteType;
 /**
  * Repository for managing question votes in the database.
  * Implements Reddit-like voting where each user can vote only once per question.
+ * <p>
+ * A vote is applied in one transaction that first locks the question's row,
+ * so votes on the same question are serialized. The vote row is written and
+ * {@code questions.upvotes/downvotes} are adjusted by the change it makes,
+ * which keeps the counters equal to the votes on record without recounting.
  */
 public class QuestionVoteRepository {
     private static QuestionVoteRepository instance;
-    private final Logger logger = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(QuestionVoteRepository.class);
+    
+    private static final String LOCK_QUESTION_COUNTS_SQL =
+        "SELECT upvotes, downvotes FROM questions WHERE id = ? FOR UPDATE";
+    private static final String FIND_VOTE_TYPE_SQL =
+        "SELECT vote_type FROM question_votes WHERE user_id = ? AND question_id = ?";
+    private static final String INSERT_VOTE_SQL =
+        "INSERT INTO question_votes (user_id, question_id, vote_type) VALUES (?, ?, ?)";
+    private static final String UPDATE_VOTE_SQL =
+        "UPDATE question_votes SET vote_type = ?, updated_at = CURRENT_TIMESTAMP " +
+        "WHERE user_id = ? AND question_id = ?";
+    private static final String DELETE_VOTE_SQL =
+        "DELETE FROM question_votes WHERE user_id = ? AND question_id = ?";
+    private static final String APPLY_VOTE_DELTA_SQL =
+        "UPDATE questions SET upvotes = upvotes + ?, downvotes = downvotes + ?, " +
+        "updated_at = CURRENT_TIMESTAMP WHERE id = ?";
     
     private QuestionVoteRepository() {}
     
@@ -67,87 +87,138 @@ public class QuestionVoteRepository {
      * If the user hasn't voted, creates a new vote.
      * If the user has voted the same way, removes the vote.
      * If the user has voted differently, updates the vote.
+     * The question's vote counters are updated in the same transaction.
      * 
      * @param userId The ID of the user
      * @param questionId The ID of the question
      * @param voteType The type of vote (upvote/downvote)
-     * @return The vote operation result
-     * @throws SQLException If database error occurs
+     * @return What the vote did and the question's new counts
+     * @throws SQLException If the question does not exist or a database error occurs
      */
-    public VoteResult castVote(Long userId, Long questionId, VoteType voteType) throws SQLException {
-        Optional<QuestionVote> existingVote = findByUserAndQuestion(userId, questionId);
+    public VoteOutcome castVote(Long userId, Long questionId, VoteType voteType) throws SQLException {
+        if (userId == null || questionId == null || voteType == null) {
+            throw new IllegalArgumentException("User ID, question ID and vote type cannot be null");
+        }
         
-        if (existingVote.isPresent()) {
-            QuestionVote vote = existingVote.get();
-            if (vote.getVoteType() == voteType) {
+        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+        Connection connection = provider.getConnection();
+        try {
+            return castVote(connection, userId, questionId, voteType);
+        } finally {
+            provider.releaseConnection(connection);
+        }
+    }
+    
+    static VoteOutcome castVote(Connection connection, Long userId, Long questionId, VoteType voteType)
+            throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            // Locking the question first serializes every vote on it
+            int[] counts = lockVoteCounts(connection, questionId);
+            VoteType previous = findVoteType(connection, userId, questionId);
+            
+            VoteResult result;
+            VoteType current;
+            if (previous == null) {
+                // No existing vote - create new vote
+                result = VoteResult.CREATED;
+                current = voteType;
+                createVote(connection, userId, questionId, voteType);
+            } else if (previous == voteType) {
                 // Same vote type - remove the vote (toggle off)
-                removeVote(userId, questionId);
-                return VoteResult.REMOVED;
+                result = VoteResult.REMOVED;
+                current = null;
+                removeVote(connection, userId, questionId);
             } else {
                 // Different vote type - update the vote
-                updateVote(userId, questionId, voteType);
-                return VoteResult.UPDATED;
+                result = VoteResult.UPDATED;
+                current = voteType;
+                updateVote(connection, userId, questionId, voteType);
             }
-        } else {
-            // No existing vote - create new vote
-            createVote(userId, questionId, voteType);
-            return VoteResult.CREATED;
+            
+            int[] delta = voteDelta(previous, current);
+            applyVoteDelta(connection, questionId, delta);
+            connection.commit();
+            
+            VoteOutcome outcome = new VoteOutcome(result, current, counts[0] + delta[0], counts[1] + delta[1]);
+            LOGGER.info("Vote on question {} by user {}: {}", questionId, userId, outcome);
+            return outcome;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
         }
     }
     
     /**
-     * Creates a new vote.
+     * Works out how a vote change moves the question's counters.
+     * 
+     * @param previous The user's vote before, or null if none
+     * @param current The user's vote after, or null if removed
+     * @return The change to [upvotes, downvotes]
      */
-    private void createVote(Long userId, Long questionId, VoteType voteType) throws SQLException {
-        String sql = "INSERT INTO question_votes (user_id, question_id, vote_type) VALUES (?, ?, ?)";
-        
-        Connection connection = null;
-        try {
-            connection = JdbcConnectionProvider.getInstance().getConnection();
-            try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                statement.setLong(1, userId);
-                statement.setLong(2, questionId);
-                statement.setString(3, voteType.getValue());
-                
-                int rowsAffected = statement.executeUpdate();
-                if (rowsAffected == 0) {
-                    throw new SQLException("Failed to create vote");
+    static int[] voteDelta(VoteType previous, VoteType current) {
+        int[] delta = new int[2];
+        if (previous != null) {
+            delta[previous == VoteType.UPVOTE ? 0 : 1]--;
+        }
+        if (current != null) {
+            delta[current == VoteType.UPVOTE ? 0 : 1]++;
+        }
+        return delta;
+    }
+    
+    private static int[] lockVoteCounts(Connection connection, Long questionId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_QUESTION_COUNTS_SQL)) {
+            statement.setLong(1, questionId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new SQLException("Question not found: " + questionId);
                 }
-                
-                logger.info("Created new vote: user=" + userId + ", question=" + questionId + ", vote=" + voteType);
+                return new int[] { resultSet.getInt("upvotes"), resultSet.getInt("downvotes") };
             }
-        } finally {
-            if (connection != null) {
-                JdbcConnectionProvider.getInstance().releaseConnection(connection);
+        }
+    }
+    
+    private static VoteType findVoteType(Connection connection, Long userId, Long questionId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(FIND_VOTE_TYPE_SQL)) {
+            statement.setLong(1, userId);
+            statement.setLong(2, questionId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? VoteType.fromString(resultSet.getString("vote_type")) : null;
             }
         }
     }
     
     /**
-     * Updates an existing vote to a new type.
+     * Creates a new vote.
      */
-    private void updateVote(Long userId, Long questionId, VoteType voteType) throws SQLException {
-        String sql = "UPDATE question_votes SET vote_type = ?, updated_at = CURRENT_TIMESTAMP " +
-                    "WHERE user_id = ? AND question_id = ?";
-        
-        Connection connection = null;
-        try {
-            connection = JdbcConnectionProvider.getInstance().getConnection();
-            try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                statement.setString(1, voteType.getValue());
-                statement.setLong(2, userId);
-                statement.setLong(3, questionId);
-                
-                int rowsAffected = statement.executeUpdate();
-                if (rowsAffected == 0) {
-                    throw new SQLException("Failed to update vote");
-                }
-                
-                logger.info("Updated vote: user=" + userId + ", question=" + questionId + ", vote=" + voteType);
+    private static void createVote(Connection connection, Long userId, Long questionId, VoteType voteType)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_VOTE_SQL)) {
+            statement.setLong(1, userId);
+            statement.setLong(2, questionId);
+            statement.setString(3, voteType.getValue());
+            
+            if (statement.executeUpdate() == 0) {
+                throw new SQLException("Failed to create vote");
             }
-        } finally {
-            if (connection != null) {
-                JdbcConnectionProvider.getInstance().releaseConnection(connection);
+        }
+    }
+    
+    /**
+     * Updates an existing vote to a new type.
+     */
+    private static void updateVote(Connection connection, Long userId, Long questionId, VoteType voteType)
+            throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(UPDATE_VOTE_SQL)) {
+            statement.setString(1, voteType.getValue());
+            statement.setLong(2, userId);
+            statement.setLong(3, questionId);
+            
+            if (statement.executeUpdate() == 0) {
+                throw new SQLException("Failed to update vote");
             }
         }
     }
@@ -155,30 +226,26 @@ public class QuestionVoteRepository {
     /**
      * Removes a vote.
      */
-    private void removeVote(Long userId, Long questionId) throws SQLException {
-        String sql = "DELETE FROM question_votes WHERE user_id = ? AND question_id = ?";
-        
-        Connection connection = null;
-        try {
-            connection = JdbcConnectionProvider.getInstance().getConnection();
-            try (PreparedStatement statement = connection.prepareStatement(sql)) {
-                statement.setLong(1, userId);
-                statement.setLong(2, questionId);
-                
-                int rowsAffected = statement.executeUpdate();
-                if (rowsAffected == 0) {
-                    throw new SQLException("Failed to remove vote");
-                }
-                
-                logger.info("Removed vote: user=" + userId + ", question=" + questionId);
-            }
-        } finally {
-            if (connection != null) {
-                JdbcConnectionProvider.getInstance().releaseConnection(connection);
+    private static void removeVote(Connection connection, Long userId, Long questionId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(DELETE_VOTE_SQL)) {
+            statement.setLong(1, userId);
+            statement.setLong(2, questionId);
+            
+            if (statement.executeUpdate() == 0) {
+                throw new SQLException("Failed to remove vote");
             }
         }
     }
     
+    private static void applyVoteDelta(Connection connection, Long questionId, int[] delta) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(APPLY_VOTE_DELTA_SQL)) {
+            statement.setInt(1, delta[0]);
+            statement.setInt(2, delta[1]);
+            statement.setLong(3, questionId);
+            statement.executeUpdate();
+        }
+    }
+    
     /**
      * Counts votes for a question.
      * 
@@ -230,6 +297,36 @@ public class QuestionVoteRepository {
         return vote;
     }
     
+    /**
+     * The outcome of a vote: what it did, the user's vote afterwards, and the
+     * question's counts once it was applied.
+     */
+    public static final class VoteOutcome {
+        private final VoteResult result;
+        private final VoteType viewerVote;
+        private final int upvotes;
+        private final int downvotes;
+        
+        public VoteOutcome(VoteResult result, VoteType viewerVote, int upvotes, int downvotes) {
+            this.result = result;
+            this.viewerVote = viewerVote;
+            this.upvotes = upvotes;
+            this.downvotes = downvotes;
+        }
+        
+        public VoteResult getResult() { return result; }
+        public VoteType getViewerVote() { return viewerVote; }
+        public int getUpvotes() { return upvotes; }
+        public int getDownvotes() { return downvotes; }
+        public int getNetVotes() { return upvotes - downvotes; }
+        
+        @Override
+        public String toString() {
+            return "VoteOutcome{result=" + result + ", viewerVote=" + viewerVote
+                + ", upvotes=" + upvotes + ", downvotes=" + downvotes + "}";
+        }
+    }
+    
     /**
      * Represents the result of a vote operation.
      */
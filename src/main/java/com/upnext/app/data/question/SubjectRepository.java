@@ -5,13 +5,14 @@ import com.upnext.app.data.JdbcConnectionProvider;
 import com.upnext.app.domain.question.Subject;
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Repository for Subject entity database operations.
  * Handles CRUD operations for question subjects in the database.
  */
 public class SubjectRepository {
-    private static final Logger logger = Logger.getInstance();
+    private static final Logger logger = Logger.getInstance(SubjectRepository.class);
     private static SubjectRepository instance;
 
     // SQL queries
@@ -33,6 +34,12 @@ public class SubjectRepository {
     private static final String FIND_ALL_SUBJECTS_SQL = 
             "SELECT * FROM subjects ORDER BY name";
 
+    // Subjects are reference data that every subject picker reads, so the list
+    // is loaded once and dropped whenever a subject is written. The generation
+    // keeps a load that raced a write from caching the list it read before it.
+    private volatile List<Subject> cachedSubjects;
+    private final AtomicInteger generation = new AtomicInteger();
+
     /**
      * Private constructor to enforce singleton pattern.
      */
@@ -83,6 +90,7 @@ public class SubjectRepository {
             
             return subject;
         } finally {
+            invalidateCache();
             if (generatedKeys != null) {
                 generatedKeys.close();
             }
@@ -103,6 +111,10 @@ public class SubjectRepository {
      * @throws SQLException If there's an error querying the database
      */
     public Optional<Subject> findById(Long id) throws SQLException {
+        List<Subject> cached = cachedSubjects;
+        if (cached != null) {
+            return cached.stream().filter(subject -> subject.getId().equals(id)).findFirst().map(this::copy);
+        }
         Connection connection = null;
         PreparedStatement statement = null;
         ResultSet resultSet = null;
@@ -188,6 +200,7 @@ public class SubjectRepository {
             int affectedRows = statement.executeUpdate();
             return affectedRows > 0;
         } finally {
+            invalidateCache();
             if (statement != null) {
                 statement.close();
             }
@@ -216,6 +229,7 @@ public class SubjectRepository {
             int affectedRows = statement.executeUpdate();
             return affectedRows > 0;
         } finally {
+            invalidateCache();
             if (statement != null) {
                 statement.close();
             }
@@ -226,12 +240,37 @@ public class SubjectRepository {
     }
     
     /**
-     * Finds all subjects in the database.
+     * Finds all subjects in the database. The list is cached until a subject
+     * is saved, updated or deleted.
      * 
-     * @return A list of all subjects
+     * @return A list of all subjects, ordered by name
      * @throws SQLException If there's an error querying the database
      */
     public List<Subject> findAll() throws SQLException {
+        List<Subject> cached = cachedSubjects;
+        if (cached == null) {
+            int loadedGeneration = generation.get();
+            cached = Collections.unmodifiableList(loadAll());
+            if (generation.get() == loadedGeneration) {
+                cachedSubjects = cached;
+            }
+        }
+        List<Subject> subjects = new ArrayList<>(cached.size());
+        for (Subject subject : cached) {
+            subjects.add(copy(subject));
+        }
+        return subjects;
+    }
+
+    /**
+     * Drops the cached subject list so the next read goes to the database.
+     */
+    public void invalidateCache() {
+        generation.incrementAndGet();
+        cachedSubjects = null;
+    }
+
+    private List<Subject> loadAll() throws SQLException {
         Connection connection = null;
         Statement statement = null;
         ResultSet resultSet = null;
@@ -259,6 +298,17 @@ public class SubjectRepository {
         }
     }
     
+    /**
+     * Copies a cached subject so callers cannot change the cached one.
+     */
+    private Subject copy(Subject subject) {
+        Subject copy = new Subject();
+        copy.setId(subject.getId());
+        copy.setName(subject.getName());
+        copy.setDescription(subject.getDescription());
+        return copy;
+    }
+
     /**
      * Maps a database result set to a Subject object.
      * 
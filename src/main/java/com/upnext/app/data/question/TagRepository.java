@@ -15,7 +15,7 @@ import com.upnext.app.data.JdbcConnectionProvider;
 import com.upnext.app.domain.question.Tag;
 
 public final class TagRepository {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(TagRepository.class);
     private static final TagRepository INSTANCE = new TagRepository();
 
     private static final String INSERT_SQL =
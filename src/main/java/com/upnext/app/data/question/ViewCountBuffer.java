@@ -0,0 +1,213 @@
+package com.upnext.app.data.question;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.upnext.app.config.DatabaseConfig;
+import com.upnext.app.core.Logger;
+
+/**
+ * Write-behind accumulator for question view counts.
+ * <p>
+ * Opening a question only adds one to an in-memory delta; a background thread
+ * writes all pending deltas with one batched statement every flush interval,
+ * instead of one locking {@code UPDATE} per page view. Deltas live in a fixed
+ * set of lock stripes chosen by question id, so concurrent viewers of different
+ * questions rarely contend and a flush swaps each stripe out in O(1).
+ * <p>
+ * A crash loses at most one flush interval of views, which the configured
+ * maximum loss window bounds. Pending views are drained on shutdown, and a
+ * failed flush puts its deltas back to be retried on the next one.
+ */
+public final class ViewCountBuffer {
+    private static final Logger LOGGER = Logger.getInstance(ViewCountBuffer.class);
+
+    // Number of lock stripes; a power of two so the stripe is a mask of the hash
+    private static final int STRIPES = 16;
+    // Distinct questions pending before a flush is started ahead of schedule
+    static final int EARLY_FLUSH_THRESHOLD = 1024;
+
+    private static volatile ViewCountBuffer instance;
+
+    /**
+     * Writes a set of accumulated deltas.
+     */
+    @FunctionalInterface
+    interface Writer {
+        void write(Map<Long, Integer> deltas) throws SQLException;
+    }
+
+    private final Object[] locks = new Object[STRIPES];
+    // Each map is only touched while holding the lock of the same index
+    private final List<Map<Long, Integer>> stripes = new ArrayList<>(STRIPES);
+    private final AtomicInteger pendingQuestions = new AtomicInteger();
+    private final AtomicBoolean earlyFlushScheduled = new AtomicBoolean();
+    // Serializes flushes so a drain never runs alongside a scheduled flush
+    private final Object flushLock = new Object();
+    private final Writer writer;
+    private final ScheduledExecutorService flusher;
+    private volatile boolean closed;
+
+    ViewCountBuffer(Writer writer, long flushIntervalMs) {
+        this.writer = writer;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+            stripes.add(new HashMap<>());
+        }
+        if (flushIntervalMs > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "upnext-view-count-flusher");
+                thread.setDaemon(true);
+                thread.setPriority(Thread.MIN_PRIORITY);
+                return thread;
+            });
+            flusher.scheduleWithFixedDelay(this::flushQuietly,
+                    flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    /**
+     * Gets the shared buffer, creating it on first use with the configured
+     * flush interval. Pending views are drained when the JVM shuts down.
+     *
+     * @return The view count buffer
+     */
+    public static ViewCountBuffer getInstance() {
+        ViewCountBuffer buffer = instance;
+        if (buffer == null) {
+            synchronized (ViewCountBuffer.class) {
+                buffer = instance;
+                if (buffer == null) {
+                    buffer = new ViewCountBuffer(deltas -> QuestionRepository.getInstance().addViewCounts(deltas),
+                            DatabaseConfig.getViewCountFlushIntervalMs());
+                    Runtime.getRuntime().addShutdownHook(new Thread(buffer::close, "upnext-view-count-drain"));
+                    instance = buffer;
+                }
+            }
+        }
+        return buffer;
+    }
+
+    /**
+     * Records one view of a question. With a zero flush interval, or after the
+     * buffer has been closed, the view is written immediately.
+     *
+     * @param questionId The viewed question
+     */
+    public void recordView(Long questionId) {
+        if (questionId == null) {
+            return;
+        }
+        add(questionId, 1);
+        if (flusher == null || closed) {
+            flushQuietly();
+        }
+    }
+
+    /**
+     * Writes every pending delta now.
+     *
+     * @throws SQLException If the write fails; the deltas are kept for the next flush
+     */
+    public void flush() throws SQLException {
+        synchronized (flushLock) {
+            Map<Long, Integer> deltas = drainPending();
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                writer.write(deltas);
+            } catch (SQLException | RuntimeException ex) {
+                for (Map.Entry<Long, Integer> entry : deltas.entrySet()) {
+                    add(entry.getKey(), entry.getValue());
+                }
+                throw ex;
+            }
+        }
+    }
+
+    /**
+     * Stops the background flusher and writes whatever is still pending.
+     * Views recorded afterwards are written immediately.
+     */
+    public void close() {
+        closed = true;
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flushQuietly();
+    }
+
+    /**
+     * Gets the number of views recorded but not yet written.
+     *
+     * @return The pending view count
+     */
+    public long getPendingViews() {
+        long total = 0;
+        for (int i = 0; i < STRIPES; i++) {
+            synchronized (locks[i]) {
+                for (int delta : stripes.get(i).values()) {
+                    total += delta;
+                }
+            }
+        }
+        return total;
+    }
+
+    private void add(Long questionId, int delta) {
+        int stripe = stripeOf(questionId);
+        boolean newQuestion;
+        synchronized (locks[stripe]) {
+            newQuestion = stripes.get(stripe).merge(questionId, delta, Integer::sum) == delta;
+        }
+        if (newQuestion && pendingQuestions.incrementAndGet() >= EARLY_FLUSH_THRESHOLD
+                && flusher != null && !closed && earlyFlushScheduled.compareAndSet(false, true)) {
+            try {
+                flusher.execute(() -> {
+                    earlyFlushScheduled.set(false);
+                    flushQuietly();
+                });
+            } catch (RuntimeException ex) {
+                // Flusher shut down concurrently; the drain on close covers it
+                earlyFlushScheduled.set(false);
+            }
+        }
+    }
+
+    private Map<Long, Integer> drainPending() {
+        Map<Long, Integer> deltas = new HashMap<>();
+        for (int i = 0; i < STRIPES; i++) {
+            Map<Long, Integer> drained;
+            synchronized (locks[i]) {
+                drained = stripes.set(i, new HashMap<>());
+            }
+            deltas.putAll(drained);
+        }
+        pendingQuestions.addAndGet(-deltas.size());
+        return deltas;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (SQLException | RuntimeException ex) {
+            LOGGER.logException("Failed to write buffered question views, will retry", ex);
+        }
+    }
+
+    private static int stripeOf(Long questionId) {
+        int hash = questionId.hashCode();
+        return (hash ^ (hash >>> 16)) & (STRIPES - 1);
+    }
+}
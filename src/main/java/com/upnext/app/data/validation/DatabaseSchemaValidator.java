@@ -19,7 +19,7 @@ import com.upnext.app.data.JdbcConnectionProvider;
  * Checks for proper table structure, foreign key relationships, and indexes.
  */
 public class DatabaseSchemaValidator {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(DatabaseSchemaValidator.class);
     
     /**
      * Results of schema validation
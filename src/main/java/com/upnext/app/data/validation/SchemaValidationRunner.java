@@ -7,7 +7,7 @@ import com.upnext.app.core.Logger;
  * Run this to check if the database meets all requirements for the Question Answering system.
  */
 public class SchemaValidationRunner {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(SchemaValidationRunner.class);
     
     public static void main(String[] args) {
         System.out.println("=".repeat(60));
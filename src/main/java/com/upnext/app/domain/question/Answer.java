@@ -17,6 +17,7 @@ public class Answer {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String userName; // Denormalized field for the user's name
+    private Boolean viewerVote; // Transient: the current user's vote, true for an upvote
     
     // Default constructor
     public Answer() {
@@ -256,6 +257,24 @@ public class Answer {
         this.userName = userName;
     }
     
+    /**
+     * Gets the current user's vote on this answer, when it was loaded with one.
+     * 
+     * @return true for an upvote, false for a downvote, or null if there is none
+     */
+    public Boolean getViewerVote() {
+        return viewerVote;
+    }
+
+    /**
+     * Sets the current user's vote on this answer.
+     * 
+     * @param viewerVote true for an upvote, false for a downvote, or null if there is none
+     */
+    public void setViewerVote(Boolean viewerVote) {
+        this.viewerVote = viewerVote;
+    }
+    
     /**
      * Updates the timestamp to the current time.
      */
@@ -0,0 +1,63 @@
+package com.upnext.app.domain.question;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of a question's answers, the number of answers the question has,
+ * and the cursor that continues after the page.
+ */
+public class AnswerPage {
+    private final List<Answer> answers;
+    private final int totalCount;
+    private final String nextCursor;
+
+    /**
+     * Creates a page.
+     *
+     * @param answers The answers on this page, in display order
+     * @param totalCount The number of answers the question has across all pages
+     * @param nextCursor The cursor of the following page, or null if this is the last page
+     */
+    public AnswerPage(List<Answer> answers, int totalCount, String nextCursor) {
+        this.answers = answers != null ? answers : Collections.emptyList();
+        this.totalCount = totalCount;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the answers on this page.
+     *
+     * @return The answers, in display order
+     */
+    public List<Answer> getAnswers() {
+        return answers;
+    }
+
+    /**
+     * Gets the number of answers the question has, counted when its first page was loaded.
+     *
+     * @return The total answer count
+     */
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the cursor to pass back to fetch the following page.
+     *
+     * @return The cursor, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Checks whether another page follows this one.
+     *
+     * @return true if {@link #getNextCursor()} is set
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
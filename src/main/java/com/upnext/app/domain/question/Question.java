@@ -25,6 +25,8 @@ public class Question {
     private List<String> tags = new ArrayList<>();
     private int viewCount;
     private String userName; // Denormalized field for the user's name
+    private boolean summary; // Content holds only a preview and context was not loaded
+    private QuestionVote.VoteType viewerVote; // Transient: the current user's vote, if loaded
     
     // Default constructor
     public Question() {
@@ -425,6 +427,44 @@ public class Question {
         this.userName = userName;
     }
 
+    /**
+     * Gets the current user's vote on this question, when it was loaded with one.
+     * 
+     * @return The vote type, or null if the user has not voted
+     */
+    public QuestionVote.VoteType getViewerVote() {
+        return viewerVote;
+    }
+
+    /**
+     * Sets the current user's vote on this question.
+     * 
+     * @param viewerVote The vote type, or null if the user has not voted
+     */
+    public void setViewerVote(QuestionVote.VoteType viewerVote) {
+        this.viewerVote = viewerVote;
+    }
+
+    /**
+     * Checks whether this question was loaded as a list summary. A summary's
+     * content is only a short preview and its context is not loaded; fetch the
+     * question by id for the full body.
+     * 
+     * @return true if only the summary was loaded
+     */
+    public boolean isSummary() {
+        return summary;
+    }
+
+    /**
+     * Sets whether this question was loaded as a list summary.
+     * 
+     * @param summary true if the content is only a preview
+     */
+    public void setSummary(boolean summary) {
+        this.summary = summary;
+    }
+
     @Override
     public String toString() {
         return "Question{" +
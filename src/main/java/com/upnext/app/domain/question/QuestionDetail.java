@@ -0,0 +1,65 @@
+package com.upnext.app.domain.question;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Everything the question detail screen shows, loaded together: the question
+ * with its tags, the first page of its answers, and the questions related to
+ * it. Viewer-specific votes are carried on the question and answers
+ * themselves.
+ */
+public class QuestionDetail {
+    private final Question question;
+    private final AnswerPage answers;
+    private final List<Question> relatedQuestions;
+
+    /**
+     * Creates a question detail.
+     *
+     * @param question The question, with its full content and tags
+     * @param answers The first page of answers, or null if there are none
+     * @param relatedQuestions The related questions, or null if they could not be loaded
+     */
+    public QuestionDetail(Question question, AnswerPage answers, List<Question> relatedQuestions) {
+        this.question = question;
+        this.answers = answers != null ? answers : new AnswerPage(Collections.emptyList(), 0, null);
+        this.relatedQuestions = relatedQuestions;
+    }
+
+    /**
+     * Gets the question.
+     *
+     * @return The question, with its full content and tags
+     */
+    public Question getQuestion() {
+        return question;
+    }
+
+    /**
+     * Gets the first page of answers to the question.
+     *
+     * @return The answers on the first page, in display order
+     */
+    public List<Answer> getAnswers() {
+        return answers.getAnswers();
+    }
+
+    /**
+     * Gets the first page of answers with the answer count and the cursor of the next page.
+     *
+     * @return The first answer page
+     */
+    public AnswerPage getAnswerPage() {
+        return answers;
+    }
+
+    /**
+     * Gets the questions related to this one.
+     *
+     * @return The related questions, or null if they could not be loaded
+     */
+    public List<Question> getRelatedQuestions() {
+        return relatedQuestions;
+    }
+}
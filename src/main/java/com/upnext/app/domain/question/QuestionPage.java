@@ -0,0 +1,51 @@
+package com.upnext.app.domain.question;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of questions together with the cursor that continues after it.
+ */
+public class QuestionPage {
+    private final List<Question> questions;
+    private final String nextCursor;
+
+    /**
+     * Creates a page.
+     *
+     * @param questions The questions on this page, in sort order
+     * @param nextCursor The cursor of the following page, or null if this is the last page
+     */
+    public QuestionPage(List<Question> questions, String nextCursor) {
+        this.questions = questions != null ? questions : Collections.emptyList();
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the questions on this page.
+     *
+     * @return The questions, in sort order
+     */
+    public List<Question> getQuestions() {
+        return questions;
+    }
+
+    /**
+     * Gets the cursor to pass to {@link QuestionSearchCriteria#setCursor(String)}
+     * to fetch the following page.
+     *
+     * @return The cursor, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Checks whether another page follows this one.
+     *
+     * @return true if {@link #getNextCursor()} is set
+     */
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
@@ -17,21 +17,31 @@ public class QuestionSearchCriteria {
     private boolean onlySolved = false;
     private int limit = 20;
     private int offset = 0;
+    private String cursor;
+    private boolean fullContent = false;
     
     /**
      * Enum defining sort options for question search results.
      */
     public enum SortOption {
-        NEWEST("created_at DESC"),
-        OLDEST("created_at ASC"),
-        MOST_UPVOTED("upvotes DESC"),
-        MOST_VIEWED("view_count DESC"),
-        MOST_ANSWERED("answer_count DESC");
+        NEWEST("created_at", true),
+        OLDEST("created_at", false),
+        MOST_UPVOTED("upvotes", true),
+        MOST_VIEWED("view_count", true),
+        MOST_ANSWERED("answer_count", true),
+        /**
+         * Best full-text match first. Sorts on the computed match score rather
+         * than a questions column, and falls back to {@link #NEWEST} order when
+         * there is no search text or full-text search is unavailable.
+         */
+        RELEVANCE("relevance", true);
         
-        private final String sqlOrderBy;
+        private final String sortColumn;
+        private final boolean descending;
         
-        SortOption(String sqlOrderBy) {
-            this.sqlOrderBy = sqlOrderBy;
+        SortOption(String sortColumn, boolean descending) {
+            this.sortColumn = sortColumn;
+            this.descending = descending;
         }
         
         /**
@@ -40,7 +50,26 @@ public class QuestionSearchCriteria {
          * @return The SQL ORDER BY clause
          */
         public String getSqlOrderBy() {
-            return sqlOrderBy;
+            return sortColumn + (descending ? " DESC" : " ASC");
+        }
+        
+        /**
+         * Gets the questions column this option sorts on. For {@link #RELEVANCE}
+         * this is the alias of the computed match score.
+         * 
+         * @return The column name, without a table alias
+         */
+        public String getSortColumn() {
+            return sortColumn;
+        }
+        
+        /**
+         * Checks whether this option sorts from the largest value down.
+         * 
+         * @return true for descending order, false for ascending
+         */
+        public boolean isDescending() {
+            return descending;
         }
     }
     
@@ -236,4 +265,48 @@ public class QuestionSearchCriteria {
         this.offset = offset >= 0 ? offset : 0;
         return this;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Gets the cursor of the page to continue from.
+     * 
+     * @return The cursor returned with the previous page, or null for the first page
+     */
+    public String getCursor() {
+        return cursor;
+    }
+    
+    /**
+     * Sets the cursor of the page to continue from. When a cursor is set the
+     * offset is ignored and the page starts right after the row the cursor
+     * was taken from.
+     * 
+     * @param cursor The cursor returned with the previous page, or null for the first page
+     * @return This criteria object for chaining
+     */
+    public QuestionSearchCriteria setCursor(String cursor) {
+        this.cursor = cursor != null && !cursor.isBlank() ? cursor : null;
+        return this;
+    }
+    
+    /**
+     * Checks whether results carry their full content and context rather than
+     * the short content preview lists are loaded with.
+     * 
+     * @return true if the full body is loaded
+     */
+    public boolean isFullContent() {
+        return fullContent;
+    }
+    
+    /**
+     * Sets whether results carry their full content and context. Only needed
+     * by callers that read the whole body, such as relevance scoring.
+     * 
+     * @param fullContent true to load the full body
+     * @return This criteria object for chaining
+     */
+    public QuestionSearchCriteria setFullContent(boolean fullContent) {
+        this.fullContent = fullContent;
+        return this;
+    }
+}
@@ -0,0 +1,291 @@
+package com.upnext.app.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.swing.SwingUtilities;
+
+import com.upnext.app.config.DatabaseConfig;
+import com.upnext.app.core.Logger;
+
+/**
+ * Runs data access off the Event Dispatch Thread and hands the results back to it.
+ * <p>
+ * Calls run on a small worker pool sized to the connection pool, since a call
+ * beyond that would only wait for a connection. Success and failure callbacks
+ * are always delivered on the EDT, so they may touch Swing components directly.
+ * <p>
+ * Screens submit their reads through a {@link TaskGroup}, which reports when it
+ * has work in flight (to show a loading indicator) and can drop all of it when
+ * the user navigates away. Cancelling never interrupts a call that has already
+ * started; its result is simply not delivered.
+ */
+public final class AsyncDataService {
+    private static final Logger LOGGER = Logger.getInstance(AsyncDataService.class);
+
+    // Calls waiting for a worker beyond this are rejected rather than queued
+    static final int QUEUE_CAPACITY = 64;
+
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 30;
+
+    // Singleton instance
+    private static AsyncDataService instance;
+
+    private final ExecutorService workers;
+    private final Executor callbackExecutor;
+
+    /**
+     * A data access call, typically a repository method.
+     *
+     * @param <T> The result type
+     */
+    @FunctionalInterface
+    public interface DataCall<T> {
+        T call() throws Exception;
+    }
+
+    /**
+     * Private constructor to enforce singleton pattern.
+     */
+    private AsyncDataService() {
+        this(createWorkers(DatabaseConfig.getPoolMaxSize()), SwingUtilities::invokeLater);
+    }
+
+    AsyncDataService(ExecutorService workers, Executor callbackExecutor) {
+        this.workers = workers;
+        this.callbackExecutor = callbackExecutor;
+    }
+
+    /**
+     * Gets the singleton instance of the service.
+     *
+     * @return The service instance
+     */
+    public static synchronized AsyncDataService getInstance() {
+        if (instance == null) {
+            instance = new AsyncDataService();
+        }
+        return instance;
+    }
+
+    /**
+     * Runs a call on a worker thread and delivers its outcome on the EDT.
+     * Use this directly for writes that must finish even if the user leaves
+     * the screen; reads belong in a {@link TaskGroup}.
+     *
+     * @param call The data access to run
+     * @param onSuccess Receives the result on the EDT
+     * @param onFailure Receives the exception on the EDT, including a rejection when the queue is full
+     * @param <T> The result type
+     * @return The task, which can be cancelled
+     */
+    public <T> Task submit(DataCall<T> call, Consumer<? super T> onSuccess, Consumer<? super Exception> onFailure) {
+        return submit(call, onSuccess, onFailure, null);
+    }
+
+    /**
+     * Creates a group for the reads of one screen or component.
+     *
+     * @return A new, idle task group
+     */
+    public TaskGroup newGroup() {
+        return new TaskGroup();
+    }
+
+    private <T> Task submit(DataCall<T> call, Consumer<? super T> onSuccess, Consumer<? super Exception> onFailure,
+            Runnable onSettled) {
+        Task task = new Task(onSettled);
+        try {
+            task.future = workers.submit(() -> {
+                if (task.isCancelled()) {
+                    return;
+                }
+                try {
+                    T result = call.call();
+                    deliver(task, () -> onSuccess.accept(result));
+                } catch (Exception e) {
+                    deliver(task, () -> onFailure.accept(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            LOGGER.warning("Data call rejected, {} calls already waiting", QUEUE_CAPACITY);
+            deliver(task, () -> onFailure.accept(e));
+        }
+        return task;
+    }
+
+    private void deliver(Task task, Runnable callback) {
+        callbackExecutor.execute(() -> {
+            if (!task.settle()) {
+                // Cancelled while the call was running
+                return;
+            }
+            try {
+                callback.run();
+            } finally {
+                task.notifySettled();
+            }
+        });
+    }
+
+    private static ExecutorService createWorkers(int size) {
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "upnext-data-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(size, size,
+                WORKER_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * A submitted call. Its callbacks run at most once, and never after it is cancelled.
+     */
+    public static final class Task {
+        private final AtomicBoolean settled = new AtomicBoolean();
+        private final Runnable onSettled;
+        private volatile boolean cancelled;
+        private volatile Future<?> future;
+
+        private Task(Runnable onSettled) {
+            this.onSettled = onSettled;
+        }
+
+        /**
+         * Cancels the call. A call that has not started is skipped; one that
+         * is running finishes, but its callbacks are not delivered. Must be
+         * called on the EDT.
+         *
+         * @return true if the task was still pending
+         */
+        public boolean cancel() {
+            if (!settled.compareAndSet(false, true)) {
+                return false;
+            }
+            cancelled = true;
+            Future<?> pending = future;
+            if (pending != null) {
+                pending.cancel(false);
+            }
+            notifySettled();
+            return true;
+        }
+
+        /**
+         * Checks if the task was cancelled before its callbacks ran.
+         *
+         * @return true if cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * Checks if the task's callbacks have run or it was cancelled.
+         *
+         * @return true if the task is no longer pending
+         */
+        public boolean isDone() {
+            return settled.get();
+        }
+
+        private boolean settle() {
+            return settled.compareAndSet(false, true);
+        }
+
+        private void notifySettled() {
+            if (onSettled != null) {
+                onSettled.run();
+            }
+        }
+    }
+
+    /**
+     * The pending reads of one screen or component. All methods, and the busy
+     * listener, run on the EDT.
+     */
+    public final class TaskGroup {
+        private final Set<Task> pending = new LinkedHashSet<>();
+        private Consumer<Boolean> busyListener = busy -> { };
+
+        private TaskGroup() {
+        }
+
+        /**
+         * Sets the listener told when the group goes from idle to busy and back,
+         * typically to show and hide a {@code LoadingPanel}.
+         *
+         * @param listener Receives true when work starts and false when none is left
+         */
+        public void setBusyListener(Consumer<Boolean> listener) {
+            this.busyListener = listener != null ? listener : busy -> { };
+        }
+
+        /**
+         * Runs a call as part of this group.
+         *
+         * @param call The data access to run
+         * @param onSuccess Receives the result on the EDT
+         * @param onFailure Receives the exception on the EDT
+         * @param <T> The result type
+         * @return The task, which can be cancelled on its own
+         */
+        public <T> Task submit(DataCall<T> call, Consumer<? super T> onSuccess,
+                Consumer<? super Exception> onFailure) {
+            Task[] self = new Task[1];
+            boolean wasIdle = pending.isEmpty();
+            Task task = AsyncDataService.this.submit(call, onSuccess, onFailure, () -> finished(self[0]));
+            self[0] = task;
+            if (!task.isDone()) {
+                pending.add(task);
+                if (wasIdle) {
+                    busyListener.accept(true);
+                }
+            }
+            return task;
+        }
+
+        /**
+         * Cancels every pending call in the group.
+         *
+         * @return true if any call was still pending
+         */
+        public boolean cancelAll() {
+            boolean cancelledAny = false;
+            for (Task task : pending.toArray(new Task[0])) {
+                cancelledAny |= task.cancel();
+            }
+            return cancelledAny;
+        }
+
+        /**
+         * Checks if the group has calls in flight.
+         *
+         * @return true if any call is pending
+         */
+        public boolean isBusy() {
+            return !pending.isEmpty();
+        }
+
+        private void finished(Task task) {
+            if (task != null && pending.remove(task) && pending.isEmpty()) {
+                busyListener.accept(false);
+            }
+        }
+    }
+}
@@ -25,7 +25,7 @@ public class AuthService {
     // Dependencies
     private final UserRepository userRepository;
     private final SkillService skillService;
-    private final Logger logger = Logger.getInstance();
+    private final Logger logger = Logger.getInstance(AuthService.class);
     
     // Current user session
     private User currentUser;
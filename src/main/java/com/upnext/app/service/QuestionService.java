@@ -16,7 +16,7 @@ import com.upnext.app.domain.question.Question;
  * Handles validation, business logic, and coordination with repositories.
  */
 public final class QuestionService {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(QuestionService.class);
     private static final QuestionService INSTANCE = new QuestionService();
     
     // Dependencies
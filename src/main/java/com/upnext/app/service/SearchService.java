@@ -31,7 +31,7 @@ import com.upnext.app.service.search.TokenUtils;
  * - Support for exact and fuzzy matching strategies
  */
 public class SearchService {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(SearchService.class);
     private static final SearchService INSTANCE = new SearchService();
     
     // Thresholds for fuzzy matching
@@ -80,6 +80,7 @@ public class SearchService {
         try {
             QuestionSearchCriteria criteria = new QuestionSearchCriteria()
                 .setSearchText(query)
+                .setSortOption(QuestionSearchCriteria.SortOption.RELEVANCE)
                 .setLimit(limit)
                 .setOffset(offset);
                 
@@ -132,7 +133,8 @@ public class SearchService {
         // Create a criteria with the longest token to get candidate matches
             QuestionSearchCriteria criteria = new QuestionSearchCriteria()
             .setSearchText(candidateToken)
-                    .setLimit(MAX_FUZZY_CANDIDATES);
+                    .setLimit(MAX_FUZZY_CANDIDATES)
+                    .setFullContent(true);  // Scoring reads the whole body
                     
             List<Question> candidates = questionDataAccess.search(criteria);
             
@@ -316,7 +318,8 @@ public class SearchService {
             QuestionSearchCriteria criteria = new QuestionSearchCriteria()
                     .setSearchText(searchBuilder.toString())
                     .setSubjectId(sourceQuestion.getSubjectId())
-                    .setLimit(limit * 2);  // Get more candidates for filtering
+                    .setLimit(limit * 2)  // Get more candidates for filtering
+                    .setFullContent(true);
                     
             // Exclude the source question itself
             List<Question> candidates = questionDataAccess.search(criteria).stream()
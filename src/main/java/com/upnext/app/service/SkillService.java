@@ -20,7 +20,7 @@ public class SkillService {
     
     // Dependencies
     private final SkillDataAccess skillDataAccess;
-    private final Logger logger = Logger.getInstance();
+    private final Logger logger = Logger.getInstance(SkillService.class);
     
     /**
      * Private constructor to enforce singleton pattern.
@@ -33,7 +33,7 @@ import com.upnext.app.ui.theme.AppTheme;
  * Provides a rich text input area with validation and user feedback.
  */
 public class AnswerInputPanel extends JPanel {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(AnswerInputPanel.class);
     
     // Layout constants
     private static final int PADDING_MEDIUM = 16;
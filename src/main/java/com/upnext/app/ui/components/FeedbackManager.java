@@ -20,7 +20,7 @@ public final class FeedbackManager {
         ERROR
     }
     
-    private static final Logger logger = Logger.getInstance();
+    private static final Logger logger = Logger.getInstance(FeedbackManager.class);
     
     private FeedbackManager() {
         // Private constructor to prevent instantiation
@@ -24,14 +24,15 @@ import javax.swing.JOptionPane;
 import javax.swing.JPanel;
 import javax.swing.JProgressBar;
 import javax.swing.JSeparator;
-import javax.swing.SwingUtilities;
 import javax.swing.border.CompoundBorder;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.MatteBorder;
 
 import com.upnext.app.App;
 import com.upnext.app.core.Logger;
+import com.upnext.app.data.UserRepository;
 import com.upnext.app.domain.User;
+import com.upnext.app.service.AsyncDataService;
 import com.upnext.app.service.AuthService;
 import com.upnext.app.ui.navigation.ViewNavigator;
 import com.upnext.app.ui.theme.AppTheme;
@@ -55,6 +56,9 @@ public class ProfileSummaryCard extends JPanel {
     private final JLabel upvotesCountLabel;
     private final JPanel metricsPanel;
     private final JPanel loadingPanel;
+    private final AsyncDataService.TaskGroup statisticsLoads = AsyncDataService.getInstance().newGroup();
+    private User statisticsUser;
+    private boolean loadInterrupted;
     
     // Constants
     private static final int AVATAR_SIZE = 64;
@@ -300,31 +304,48 @@ public class ProfileSummaryCard extends JPanel {
         // Set avatar with initials
         avatarLabel.setText(getInitials(user.getName()));
         
-        // Calculate and set accurate metrics
-        SwingUtilities.invokeLater(() -> {
-            try {
-                com.upnext.app.data.UserRepository.UserStatistics stats = 
-                    com.upnext.app.data.UserRepository.getInstance().calculateUserStatistics(user.getId());
-                
-                questionsAskedCountLabel.setText(String.valueOf(stats.getQuestionsAsked()));
-                answersGivenCountLabel.setText(String.valueOf(stats.getAnswersGiven()));
-                upvotesCountLabel.setText(String.valueOf(stats.getTotalUpvotes()));
-                
-                // Update the user object with the calculated stats
-                user.setQuestionsAsked(stats.getQuestionsAsked());
-                user.setAnswersGiven(stats.getAnswersGiven());
-                user.setTotalUpvotes(stats.getTotalUpvotes());
-                
-            } catch (Exception e) {
-                Logger.getInstance().error("Failed to calculate user statistics: " + e.getMessage());
-                // Fallback to user object values (which might be outdated)
-                questionsAskedCountLabel.setText(String.valueOf(user.getQuestionsAsked()));
-                answersGivenCountLabel.setText(String.valueOf(user.getAnswersGiven()));
-                upvotesCountLabel.setText(String.valueOf(user.getTotalUpvotes()));
-            }
+        // Calculate and set accurate metrics in the background, replacing
+        // any calculation still running for a previously shown user
+        statisticsLoads.cancelAll();
+        statisticsUser = user;
+        loadInterrupted = false;
+        statisticsLoads.submit(() -> UserRepository.getInstance().calculateUserStatistics(user.getId()), stats -> {
+            questionsAskedCountLabel.setText(String.valueOf(stats.getQuestionsAsked()));
+            answersGivenCountLabel.setText(String.valueOf(stats.getAnswersGiven()));
+            upvotesCountLabel.setText(String.valueOf(stats.getTotalUpvotes()));
+            
+            // Update the user object with the calculated stats
+            user.setQuestionsAsked(stats.getQuestionsAsked());
+            user.setAnswersGiven(stats.getAnswersGiven());
+            user.setTotalUpvotes(stats.getTotalUpvotes());
+        }, e -> {
+            Logger.getInstance().error("Failed to calculate user statistics: " + e.getMessage());
+            // Fallback to user object values (which might be outdated)
+            questionsAskedCountLabel.setText(String.valueOf(user.getQuestionsAsked()));
+            answersGivenCountLabel.setText(String.valueOf(user.getAnswersGiven()));
+            upvotesCountLabel.setText(String.valueOf(user.getTotalUpvotes()));
         });
     }
     
+    /**
+     * Cancels a statistics calculation still in flight, e.g. when the user
+     * leaves the screen. It runs again on {@link #resumeInterruptedLoad()}.
+     */
+    public void cancelPendingLoads() {
+        if (statisticsLoads.cancelAll()) {
+            loadInterrupted = true;
+        }
+    }
+    
+    /**
+     * Recalculates the statistics if a calculation was cancelled before it finished.
+     */
+    public void resumeInterruptedLoad() {
+        if (loadInterrupted && statisticsUser != null) {
+            updateFromUser(statisticsUser);
+        }
+    }
+    
     /**
      * Shows the loading state while waiting for user data
      */
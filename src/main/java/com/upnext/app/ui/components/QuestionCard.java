@@ -4,6 +4,7 @@ package com.upnext.app.ui.components;
 import java.awt.BorderLayout;
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Container;
 import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
@@ -25,6 +26,7 @@ import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.SwingConstants;
+import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 import javax.swing.border.LineBorder;
 
@@ -34,6 +36,10 @@ import com.upnext.app.ui.theme.AppTheme;
 /**
  * Card component that displays a question with metadata and vote controls.
  * Used in the question feed to show question previews.
+ * <p>
+ * The feed paints a single card for every row rather than holding one card per
+ * question, so clicks reach it through {@link #hitAt(int, int)} instead of its
+ * own listeners.
  */
 public class QuestionCard extends JPanel {
     // Logger removed as it's not needed in this class
@@ -55,6 +61,15 @@ public class QuestionCard extends JPanel {
     private JPanel tagsPanel;
     private static final int ICON_SIZE = 18;
     
+    /**
+     * The part of a card a click landed on.
+     */
+    enum Hit {
+        CARD,
+        UPVOTE,
+        DOWNVOTE
+    }
+    
     // Model
     private Question question;
     private QuestionCardListener listener;
@@ -346,6 +361,35 @@ public class QuestionCard extends JPanel {
         }
     }
     
+    /**
+     * Works out which part of the card a point falls on, laying the card out
+     * at its current size first since a painted card is never validated.
+     * 
+     * @param x The x coordinate, relative to the card
+     * @param y The y coordinate, relative to the card
+     * @return The vote button under the point, or {@link Hit#CARD} for anywhere else
+     */
+    Hit hitAt(int x, int y) {
+        layoutTree(this);
+        Component target = SwingUtilities.getDeepestComponentAt(this, x, y);
+        if (target == upvoteButton) {
+            return Hit.UPVOTE;
+        }
+        if (target == downvoteButton) {
+            return Hit.DOWNVOTE;
+        }
+        return Hit.CARD;
+    }
+    
+    private static void layoutTree(Component component) {
+        if (component instanceof Container container) {
+            container.doLayout();
+            for (Component child : container.getComponents()) {
+                layoutTree(child);
+            }
+        }
+    }
+    
     /**
      * Updates the vote count in the UI.
      * This method should be called after a successful vote operation.
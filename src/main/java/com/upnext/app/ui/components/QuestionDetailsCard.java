@@ -6,7 +6,6 @@ import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
-import java.sql.SQLException;
 import java.util.List;
 
 import javax.swing.BorderFactory;
@@ -18,7 +17,6 @@ import javax.swing.border.EmptyBorder;
 
 import com.upnext.app.App;
 import com.upnext.app.core.Logger;
-import com.upnext.app.data.question.QuestionRepository;
 import com.upnext.app.domain.question.Question;
 import com.upnext.app.ui.navigation.ViewNavigator;
 import com.upnext.app.ui.theme.AppTheme;
@@ -30,7 +28,7 @@ import com.upnext.app.ui.theme.AppTheme;
  * subject information, tags, and user details.
  */
 public class QuestionDetailsCard extends JPanel {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(QuestionDetailsCard.class);
     
     // Layout constants
     private static final int PADDING_MEDIUM = 16;
@@ -49,7 +47,6 @@ public class QuestionDetailsCard extends JPanel {
     
     // Data
     private Question currentQuestion;
-    private final QuestionRepository questionRepository;
     
     /**
      * Creates a new question details card.
@@ -63,8 +60,6 @@ public class QuestionDetailsCard extends JPanel {
             new EmptyBorder(PADDING_MEDIUM, PADDING_MEDIUM, PADDING_MEDIUM, PADDING_MEDIUM)
         ));
         
-        questionRepository = QuestionRepository.getInstance();
-        
         // Create header
         JLabel headerLabel = new JLabel("Question Details");
         headerLabel.setFont(AppTheme.HEADING_FONT.deriveFont(Font.BOLD, 16f));
@@ -179,7 +174,7 @@ public class QuestionDetailsCard extends JPanel {
         subjectLabel.setText(subjectText);
         
         // Update tags
-        loadAndDisplayTags(question.getId());
+        displayTags(question.getTags());
         
         // Update user info
         String username = question.getUserName();
@@ -209,43 +204,31 @@ public class QuestionDetailsCard extends JPanel {
     }
     
     /**
-     * Loads and displays tags for the question.
+     * Displays the question's tags, which are loaded with the question.
      * 
-     * @param questionId The question ID
+     * @param tags The tag names
      */
-    private void loadAndDisplayTags(Long questionId) {
+    private void displayTags(List<String> tags) {
         tagsPanel.removeAll();
         
-        try {
-            List<String> tags = questionRepository.getTagsForQuestion(questionId);
+        if (tags.isEmpty()) {
+            JLabel noTagsLabel = new JLabel("No tags");
+            noTagsLabel.setFont(AppTheme.PRIMARY_FONT.deriveFont(Font.ITALIC, 11f));
+            noTagsLabel.setForeground(AppTheme.TEXT_SECONDARY);
+            noTagsLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            tagsPanel.add(noTagsLabel);
+        } else {
+            // Create a flow panel for tags
+            JPanel tagFlowPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, PADDING_TINY, PADDING_TINY));
+            tagFlowPanel.setOpaque(false);
+            tagFlowPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
             
-            if (tags.isEmpty()) {
-                JLabel noTagsLabel = new JLabel("No tags");
-                noTagsLabel.setFont(AppTheme.PRIMARY_FONT.deriveFont(Font.ITALIC, 11f));
-                noTagsLabel.setForeground(AppTheme.TEXT_SECONDARY);
-                noTagsLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-                tagsPanel.add(noTagsLabel);
-            } else {
-                // Create a flow panel for tags
-                JPanel tagFlowPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, PADDING_TINY, PADDING_TINY));
-                tagFlowPanel.setOpaque(false);
-                tagFlowPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
-                
-                for (String tag : tags) {
-                    JLabel tagChip = createTagChip(tag);
-                    tagFlowPanel.add(tagChip);
-                }
-                
-                tagsPanel.add(tagFlowPanel);
+            for (String tag : tags) {
+                JLabel tagChip = createTagChip(tag);
+                tagFlowPanel.add(tagChip);
             }
             
-        } catch (SQLException e) {
-            LOGGER.logException("Error loading tags for question: " + questionId, e);
-            JLabel errorLabel = new JLabel("Error loading tags");
-            errorLabel.setFont(AppTheme.PRIMARY_FONT.deriveFont(Font.ITALIC, 11f));
-            errorLabel.setForeground(Color.RED);
-            errorLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-            tagsPanel.add(errorLabel);
+            tagsPanel.add(tagFlowPanel);
         }
     }
     
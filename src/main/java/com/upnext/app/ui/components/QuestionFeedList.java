@@ -0,0 +1,332 @@
+package com.upnext.app.ui.components;
+
+import java.awt.BorderLayout;
+import java.awt.Component;
+import java.awt.Cursor;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javax.swing.DefaultListModel;
+import javax.swing.JList;
+import javax.swing.JPanel;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListSelectionModel;
+import javax.swing.border.EmptyBorder;
+
+import com.upnext.app.domain.question.Question;
+
+/**
+ * The rows of the question feed. Only the questions are kept; one
+ * {@link QuestionCard} paints every visible row in turn, so the number of
+ * components stays the same however many pages have been loaded, and adding
+ * a page costs only that page.
+ * <p>
+ * Rows share a fixed height measured from a sample card, so the list never has
+ * to measure the questions it holds.
+ * <p>
+ * The list holds at most {@link #MAX_PAGES} pages. Appending past that drops
+ * the oldest page from the top and keeps the cursor that fetched it, so it can
+ * be fetched again and put back with {@link #prependPage}, which in turn drops
+ * the newest page from the bottom.
+ */
+class QuestionFeedList extends JList<Question> {
+    private static final long serialVersionUID = 1L;
+
+    // Pages kept in the list; older ones are dropped and fetched again by cursor
+    static final int MAX_PAGES = 10;
+
+    private final DefaultListModel<Question> model;
+    private final CardRenderer renderer;
+    private QuestionCard.QuestionCardListener cardListener;
+    // The pages in the list, top first
+    private final List<Page> pages = new ArrayList<>();
+    // Cursors of the pages dropped from the top, the one just above the list last
+    private final List<String> earlierCursors = new ArrayList<>();
+
+    /**
+     * Creates an empty feed list.
+     *
+     * @param cardGap The space left below each card
+     */
+    QuestionFeedList(int cardGap) {
+        model = new DefaultListModel<>();
+        renderer = new CardRenderer(cardGap);
+        setModel(model);
+        setCellRenderer(renderer);
+        setOpaque(false);
+        setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        setFocusable(false);
+        setCursor(new Cursor(Cursor.HAND_CURSOR));
+
+        // Width follows the viewport; height is the same for every row
+        setFixedCellWidth(0);
+        setFixedCellHeight(renderer.getListCellRendererComponent(this, sampleQuestion(), 0, false, false)
+                .getPreferredSize().height);
+
+        addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent evt) {
+                handleClick(evt.getPoint());
+            }
+        });
+    }
+
+    /**
+     * Sets the listener told about card clicks and votes.
+     *
+     * @param listener The listener to set
+     */
+    void setCardListener(QuestionCard.QuestionCardListener listener) {
+        this.cardListener = listener;
+    }
+
+    /**
+     * Appends a page of questions to the end of the feed, dropping the oldest
+     * page from the top if the list would hold more than {@link #MAX_PAGES}.
+     *
+     * @param questions The questions to add
+     * @param cursor The cursor the page was fetched with, or null for the first page
+     * @return The number of rows dropped from the top
+     */
+    int appendPage(List<Question> questions, String cursor) {
+        if (questions.isEmpty()) {
+            return 0;
+        }
+        model.addAll(questions);
+        pages.add(new Page(cursor, questions.size()));
+        if (pages.size() <= MAX_PAGES) {
+            return 0;
+        }
+        Page oldest = pages.remove(0);
+        model.removeRange(0, oldest.size - 1);
+        earlierCursors.add(oldest.cursor);
+        return oldest.size;
+    }
+
+    /**
+     * Puts back the page just above the list, fetched again with
+     * {@link #getEarlierCursor()}, dropping the newest page from the bottom
+     * if the list would hold more than {@link #MAX_PAGES}.
+     *
+     * @param questions The questions of the earlier page
+     * @return The cursor that fetches the dropped bottom page again, or null
+     *         if no page was dropped
+     */
+    String prependPage(List<Question> questions) {
+        String cursor = earlierCursors.remove(earlierCursors.size() - 1);
+        model.addAll(0, questions);
+        pages.add(0, new Page(cursor, questions.size()));
+        if (pages.size() <= MAX_PAGES) {
+            return null;
+        }
+        Page newest = pages.remove(pages.size() - 1);
+        if (newest.size > 0) {
+            model.removeRange(model.size() - newest.size, model.size() - 1);
+        }
+        return newest.cursor;
+    }
+
+    /**
+     * Checks if pages were dropped from the top of the list.
+     *
+     * @return true if {@link #getEarlierCursor()} has a page to fetch
+     */
+    boolean hasEarlierPages() {
+        return !earlierCursors.isEmpty();
+    }
+
+    /**
+     * Gets the cursor that fetches the page just above the list.
+     *
+     * @return The cursor, null for the first page
+     */
+    String getEarlierCursor() {
+        return earlierCursors.get(earlierCursors.size() - 1);
+    }
+
+    /**
+     * Inserts a question at the top of the feed, replacing any existing row
+     * for the same question.
+     *
+     * @param question The question to insert
+     */
+    void prependQuestion(Question question) {
+        int existing = indexOf(question.getId());
+        if (existing >= 0) {
+            model.remove(existing);
+            pageAt(existing).size--;
+        }
+        model.add(0, question);
+        if (pages.isEmpty()) {
+            pages.add(new Page(null, 0));
+        }
+        pages.get(0).size++;
+    }
+
+    /**
+     * Keeps only the given number of rows from the top, as the first page of
+     * the feed, and forgets any pages dropped above it.
+     *
+     * @param size The number of rows to keep
+     */
+    void truncate(int size) {
+        if (model.size() > size) {
+            model.removeRange(size, model.size() - 1);
+        }
+        pages.clear();
+        earlierCursors.clear();
+        if (!model.isEmpty()) {
+            pages.add(new Page(null, model.size()));
+        }
+    }
+
+    /**
+     * Repaints the row showing the given question, e.g. after its vote counts change.
+     *
+     * @param question The changed question
+     */
+    void refreshQuestion(Question question) {
+        int index = indexOf(question.getId());
+        if (index >= 0) {
+            model.set(index, question);
+        }
+    }
+
+    /**
+     * Removes every question from the feed.
+     */
+    void clear() {
+        model.clear();
+        pages.clear();
+        earlierCursors.clear();
+    }
+
+    /**
+     * Gets the number of questions in the feed.
+     *
+     * @return The row count
+     */
+    int getQuestionCount() {
+        return model.size();
+    }
+
+    /**
+     * Gets the questions in the feed, top first.
+     *
+     * @return An unmodifiable copy of the rows
+     */
+    List<Question> getQuestions() {
+        return Collections.unmodifiableList(Collections.list(model.elements()));
+    }
+
+    /**
+     * Routes a click to the card listener as a vote or a selection, depending
+     * on which part of the painted card it hit.
+     *
+     * @param point The click location in list coordinates
+     */
+    void handleClick(Point point) {
+        int index = locationToIndex(point);
+        Rectangle bounds = index >= 0 ? getCellBounds(index, index) : null;
+        if (bounds == null || !bounds.contains(point) || cardListener == null) {
+            return;
+        }
+        int x = point.x - bounds.x;
+        int y = point.y - bounds.y;
+        if (y >= bounds.height - renderer.cardGap) {
+            // The gap between two cards
+            return;
+        }
+        Question question = model.get(index);
+        switch (renderer.hitAt(this, question, index, bounds, x, y)) {
+            case UPVOTE -> cardListener.onUpvote(question);
+            case DOWNVOTE -> cardListener.onDownvote(question);
+            case CARD -> cardListener.onQuestionSelected(question);
+        }
+    }
+
+    private Page pageAt(int index) {
+        int end = 0;
+        for (Page page : pages) {
+            end += page.size;
+            if (index < end) {
+                return page;
+            }
+        }
+        throw new IndexOutOfBoundsException("Row " + index + " is not in any page");
+    }
+
+    private int indexOf(Long questionId) {
+        for (int i = 0; i < model.size(); i++) {
+            if (Objects.equals(model.get(i).getId(), questionId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * A question that fills every line of the card, including the tag row,
+     * used to measure the row height.
+     */
+    private static Question sampleQuestion() {
+        Question sample = new Question();
+        sample.setTitle("Sample question");
+        sample.setContent("Sample content");
+        sample.setSubjectName("Subject");
+        sample.setTags(List.of("tag"));
+        sample.setCreatedAt(LocalDateTime.now());
+        return sample;
+    }
+
+    /**
+     * The rows one fetch added, and the cursor it was made with.
+     */
+    private static final class Page {
+        private final String cursor;
+        private int size;
+
+        private Page(String cursor, int size) {
+            this.cursor = cursor;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Paints each row with the same card, wrapped to leave a gap below it.
+     */
+    private static final class CardRenderer implements ListCellRenderer<Question> {
+        private final QuestionCard card = new QuestionCard(null);
+        private final JPanel row = new JPanel(new BorderLayout());
+        private final int cardGap;
+
+        private CardRenderer(int cardGap) {
+            this.cardGap = cardGap;
+            row.setOpaque(false);
+            row.setBorder(new EmptyBorder(0, 0, cardGap, 0));
+            row.add(card, BorderLayout.CENTER);
+        }
+
+        @Override
+        public Component getListCellRendererComponent(JList<? extends Question> list, Question question,
+                int index, boolean isSelected, boolean cellHasFocus) {
+            card.updateCard(question);
+            return row;
+        }
+
+        private QuestionCard.Hit hitAt(JList<? extends Question> list, Question question, int index,
+                Rectangle bounds, int x, int y) {
+            getListCellRendererComponent(list, question, index, false, false);
+            row.setBounds(0, 0, bounds.width, bounds.height);
+            row.doLayout();
+            return card.hitAt(x, y);
+        }
+    }
+}
@@ -6,7 +6,6 @@ import java.awt.Cursor;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,6 +16,7 @@ import javax.swing.JButton;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
+import javax.swing.JScrollBar;
 import javax.swing.JScrollPane;
 import javax.swing.JToggleButton;
 import javax.swing.ScrollPaneConstants;
@@ -28,30 +28,39 @@ import com.upnext.app.data.question.QuestionRepository;
 import com.upnext.app.data.question.QuestionVoteRepository;
 import com.upnext.app.domain.User;
 import com.upnext.app.domain.question.Question;
+import com.upnext.app.domain.question.QuestionPage;
 import com.upnext.app.domain.question.QuestionSearchCriteria;
 import com.upnext.app.domain.question.QuestionVote.VoteType;
 import com.upnext.app.domain.question.Subject;
 import com.upnext.app.domain.question.Tag;
+import com.upnext.app.service.AsyncDataService;
 import com.upnext.app.service.AuthService;
 import com.upnext.app.ui.theme.AppTheme;
 
 /**
  * Panel that displays a feed of question cards with filtering options.
  * Supports toolbar filters (Hot/New/Unanswered/Solved) and handles empty states.
+ * Questions are loaded off the EDT; a loading indicator stands in for the feed
+ * until the first page arrives. The feed keeps a window of pages; pages that
+ * scroll out of it at the top are fetched again on request.
  */
 public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCardListener {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(QuestionFeedPanel.class);
     private static final int PADDING = 16;
     private static final int CARD_GAP = 10;
     private static final int PAGE_SIZE = 10;
     
     // UI Components
-    private final JPanel feedPanel;
+    private final QuestionFeedList feedList;
+    private final JPanel contentPanel;
     private final JPanel toolbarPanel;
     private final JPanel loadMorePanel;
+    private final JPanel loadEarlierPanel;
     private final JPanel emptyStatePanel;
+    private final LoadingPanel loadingPanel;
     private final JScrollPane scrollPane;
     private final JButton loadMoreButton;
+    private final JButton loadEarlierButton;
     
     // Filter buttons
     private JToggleButton newButton;
@@ -60,10 +69,14 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
     private JToggleButton solvedButton;
     
     // Data and state
-    private final List<Question> questions = new ArrayList<>();
     private final QuestionRepository questionRepository;
     private final QuestionVoteRepository voteRepository;
-    private int currentPage = 0;
+    private final AsyncDataService dataService;
+    private final AsyncDataService.TaskGroup feedLoads;
+    private boolean loadInterrupted;
+    // Whether the load in flight fetches a page dropped from the top of the feed
+    private boolean loadingEarlier;
+    private String nextCursor;
     private boolean hasMoreQuestions = true;
     private QuestionSearchCriteria currentCriteria = new QuestionSearchCriteria();
     private QuestionFeedListener feedListener;
@@ -74,6 +87,9 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
     public QuestionFeedPanel() {
         questionRepository = QuestionRepository.getInstance();
         voteRepository = QuestionVoteRepository.getInstance();
+        dataService = AsyncDataService.getInstance();
+        feedLoads = dataService.newGroup();
+        feedLoads.setBusyListener(this::setLoading);
         
         setLayout(new BorderLayout());
         setOpaque(false);
@@ -81,11 +97,10 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
         // Create the toolbar for filter options
         toolbarPanel = createToolbarPanel();
         
-        // Create the feed panel for question cards
-        feedPanel = new JPanel();
-        feedPanel.setOpaque(false);
-        feedPanel.setLayout(new BoxLayout(feedPanel, BoxLayout.Y_AXIS));
-        feedPanel.setBorder(new EmptyBorder(PADDING, 0, PADDING, 0));
+        // Create the feed list, which paints only the visible question cards
+        feedList = new QuestionFeedList(CARD_GAP);
+        feedList.setBorder(new EmptyBorder(PADDING, 0, PADDING, 0));
+        feedList.setCardListener(this);
         
         // Create load more button panel
         loadMorePanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
@@ -95,8 +110,18 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
     loadMoreButton.addActionListener(event -> loadMoreQuestions());
         loadMorePanel.add(loadMoreButton);
         
+        // Shown above the feed once pages have been dropped from its top
+        loadEarlierPanel = new JPanel(new FlowLayout(FlowLayout.CENTER));
+        loadEarlierPanel.setOpaque(false);
+        loadEarlierButton = new JButton("Show Earlier Questions");
+        loadEarlierButton.setFont(AppTheme.PRIMARY_FONT);
+        loadEarlierButton.addActionListener(event -> loadEarlierQuestions());
+        loadEarlierPanel.add(loadEarlierButton);
+        loadEarlierPanel.setVisible(false);
+        
         // Create empty state panel
         emptyStatePanel = createEmptyStatePanel();
+        loadingPanel = LoadingPanel.Operations.loadingQuestions();
         
         // Create the scroll pane
         scrollPane = new JScrollPane();
@@ -107,9 +132,14 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
         scrollPane.setHorizontalScrollBarPolicy(ScrollPaneConstants.HORIZONTAL_SCROLLBAR_NEVER);
         
         // Initial setup with feed panel
-        JPanel contentPanel = new JPanel(new BorderLayout());
+        JPanel listPanel = new JPanel(new BorderLayout());
+        listPanel.setOpaque(false);
+        listPanel.add(loadEarlierPanel, BorderLayout.NORTH);
+        listPanel.add(feedList, BorderLayout.CENTER);
+        
+        contentPanel = new JPanel(new BorderLayout());
         contentPanel.setOpaque(false);
-        contentPanel.add(feedPanel, BorderLayout.NORTH);
+        contentPanel.add(listPanel, BorderLayout.NORTH);
         contentPanel.add(loadMorePanel, BorderLayout.CENTER);
         
         scrollPane.setViewportView(contentPanel);
@@ -283,7 +313,6 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
         // Reset criteria to defaults
         currentCriteria = new QuestionSearchCriteria();
         currentCriteria.setLimit(PAGE_SIZE);
-        currentCriteria.setOffset(currentPage * PAGE_SIZE);
         
         // Apply sort option based on selected filter
         if (hotButton.isSelected()) {
@@ -301,24 +330,118 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
     }
     
     /**
-     * Loads questions based on current search criteria.
+     * Loads questions based on current search criteria in the background.
      */
     private void loadQuestions() {
-        try {
-            List<Question> results = questionRepository.search(currentCriteria);
-            
-            // Check if we have more pages
-            hasMoreQuestions = results.size() == PAGE_SIZE;
-            loadMoreButton.setVisible(hasMoreQuestions);
-            
-            // Add results to our list
-            questions.addAll(results);
-            
-            // Update UI
-            updateFeed();
-        } catch (SQLException e) {
+        QuestionSearchCriteria criteria = currentCriteria;
+        String cursor = criteria.getCursor();
+        loadingEarlier = false;
+        feedLoads.submit(() -> questionRepository.searchPage(criteria), page -> showPage(page, cursor), e -> {
             LOGGER.logException("Failed to load questions", e);
+            updateFeed();
             showErrorMessage("Failed to load questions. Please try again later.");
+        });
+    }
+    
+    /**
+     * Appends a loaded page of questions to the feed.
+     * 
+     * @param page The page returned by the repository
+     * @param cursor The cursor the page was fetched with
+     */
+    private void showPage(QuestionPage page, String cursor) {
+        // Remember where the next page starts
+        nextCursor = page.getNextCursor();
+        hasMoreQuestions = page.hasMore();
+        loadMoreButton.setVisible(hasMoreQuestions);
+        
+        // Add results to the end of the feed; the oldest page may drop off the top
+        int dropped = feedList.appendPage(page.getQuestions(), cursor);
+        if (dropped > 0) {
+            // Keep the rows in view where they were
+            JScrollBar scrollBar = scrollPane.getVerticalScrollBar();
+            scrollBar.setValue(scrollBar.getValue() - dropped * feedList.getFixedCellHeight());
+        }
+        loadEarlierPanel.setVisible(feedList.hasEarlierPages());
+        
+        // Update UI
+        updateFeed();
+    }
+    
+    /**
+     * Fetches again the page just above the feed, which was dropped from it
+     * when later pages were loaded.
+     */
+    private void loadEarlierQuestions() {
+        if (!feedList.hasEarlierPages()) {
+            return;
+        }
+        currentCriteria.setCursor(feedList.getEarlierCursor());
+        QuestionSearchCriteria criteria = currentCriteria;
+        loadingEarlier = true;
+        feedLoads.submit(() -> questionRepository.searchPage(criteria), this::showEarlierPage, e -> {
+            LOGGER.logException("Failed to load earlier questions", e);
+            loadingEarlier = false;
+            showErrorMessage("Failed to load questions. Please try again later.");
+        });
+    }
+    
+    /**
+     * Puts a page fetched again back at the top of the feed. The newest page
+     * may drop off the bottom, in which case "Load More" fetches it again.
+     * 
+     * @param page The page returned by the repository
+     */
+    private void showEarlierPage(QuestionPage page) {
+        loadingEarlier = false;
+        String droppedCursor = feedList.prependPage(page.getQuestions());
+        if (droppedCursor != null) {
+            nextCursor = droppedCursor;
+            hasMoreQuestions = true;
+            loadMoreButton.setVisible(true);
+        }
+        loadEarlierPanel.setVisible(feedList.hasEarlierPages());
+        updateFeed();
+    }
+    
+    /**
+     * Shows the loading indicator in place of an empty feed while questions
+     * load, and keeps "Load More" disabled until the current page arrives.
+     * 
+     * @param busy Whether a load is in flight
+     */
+    private void setLoading(boolean busy) {
+        loadMoreButton.setEnabled(!busy);
+        loadEarlierButton.setEnabled(!busy);
+        if (busy && feedList.getQuestionCount() == 0) {
+            loadingPanel.showLoading("Loading questions...");
+            scrollPane.setViewportView(loadingPanel);
+        } else if (!busy) {
+            loadingPanel.hideLoading();
+        }
+    }
+    
+    /**
+     * Cancels any question load in flight, e.g. when the user leaves the screen.
+     * The feed reloads on {@link #resumeInterruptedLoad()}.
+     */
+    public void cancelPendingLoads() {
+        if (feedLoads.cancelAll()) {
+            loadInterrupted = true;
+        }
+    }
+    
+    /**
+     * Reloads the feed if a load was cancelled before it finished.
+     */
+    public void resumeInterruptedLoad() {
+        if (loadInterrupted) {
+            loadInterrupted = false;
+            if (loadingEarlier) {
+                loadEarlierQuestions();
+            } else {
+                loadQuestions();
+            }
         }
     }
     
@@ -326,42 +449,24 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
      * Loads the next page of questions.
      */
     private void loadMoreQuestions() {
-        // Increment page and update offset
-        currentPage++;
-        currentCriteria.setOffset(currentPage * PAGE_SIZE);
+        if (nextCursor == null) {
+            return;
+        }
+        // Continue after the last question shown
+        currentCriteria.setCursor(nextCursor);
         
         // Load more questions
         loadQuestions();
     }
     
     /**
-     * Updates the feed panel with current questions.
+     * Shows the feed, or the empty state when there are no questions. The
+     * feed list repaints itself as questions are added, so nothing is rebuilt.
      */
     private void updateFeed() {
-        // Clear the feed panel
-        feedPanel.removeAll();
-        
-        // Check if we have questions
-        if (questions.isEmpty()) {
-            // Show empty state
+        if (feedList.getQuestionCount() == 0) {
             scrollPane.setViewportView(emptyStatePanel);
-        } else {
-            // Add question cards to feed
-            for (Question question : questions) {
-                QuestionCard card = new QuestionCard(question);
-                card.setListener(this);
-                card.setMaximumSize(new Dimension(Integer.MAX_VALUE, card.getPreferredSize().height));
-                card.setAlignmentX(Component.LEFT_ALIGNMENT);
-                feedPanel.add(card);
-                feedPanel.add(Box.createRigidArea(new Dimension(0, CARD_GAP)));
-            }
-            
-            // Set the feed as the viewport view
-            JPanel contentPanel = new JPanel(new BorderLayout());
-            contentPanel.setOpaque(false);
-            contentPanel.add(feedPanel, BorderLayout.NORTH);
-            contentPanel.add(loadMorePanel, BorderLayout.CENTER);
-            
+        } else if (scrollPane.getViewport().getView() != contentPanel) {
             scrollPane.setViewportView(contentPanel);
         }
         
@@ -370,6 +475,16 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
         repaint();
     }
 
+    /**
+     * Gets the questions currently in the feed, top first. Exposed for
+     * integration tests.
+     *
+     * @return The questions in the feed
+     */
+    public List<Question> getQuestions() {
+        return feedList.getQuestions();
+    }
+
     /**
      * Inserts a newly created question at the top of the feed so that users see
      * their contribution immediately without waiting for a full reload.
@@ -382,17 +497,13 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
         }
 
         SwingUtilities.invokeLater(() -> {
-            // Remove an existing copy of the same question if present
-            questions.removeIf(existing -> existing.getId() != null && existing.getId().equals(question.getId()));
-
-            // Insert at the top and trim to current page size
-            questions.add(0, question);
-            if (questions.size() > PAGE_SIZE) {
-                questions.subList(PAGE_SIZE, questions.size()).clear();
-            }
+            // Insert at the top, replacing any existing copy, and trim to current page size
+            feedList.prependQuestion(question);
+            feedList.truncate(PAGE_SIZE);
+            loadEarlierPanel.setVisible(false);
 
-            // Update paging state and redraw cards
-            boolean shouldShowLoadMore = hasMoreQuestions || questions.size() >= PAGE_SIZE;
+            // Update paging state and show the feed
+            boolean shouldShowLoadMore = hasMoreQuestions || feedList.getQuestionCount() >= PAGE_SIZE;
             loadMoreButton.setVisible(shouldShowLoadMore);
             updateFeed();
         });
@@ -402,9 +513,13 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
      * Resets the feed to start fresh with new filters.
      */
     private void resetFeed() {
-        currentPage = 0;
-        questions.clear();
-        feedPanel.removeAll();
+        feedLoads.cancelAll();
+        loadInterrupted = false;
+        loadingEarlier = false;
+        nextCursor = null;
+        currentCriteria.setCursor(null);
+        feedList.clear();
+        loadEarlierPanel.setVisible(false);
     }
     
     /**
@@ -463,13 +578,11 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
         resetFeed();
         
         // Copy the provided criteria values to our current criteria
-        // but keep our pagination settings
+        // but keep our page size and start from the first page
         int limit = currentCriteria.getLimit();
-        int offset = 0; // Reset to first page
         
         currentCriteria = new QuestionSearchCriteria();
         currentCriteria.setLimit(limit);
-        currentCriteria.setOffset(offset);
         
         // Copy all filter values
         currentCriteria.setSearchText(criteria.getSearchText());
@@ -547,94 +660,54 @@ public class QuestionFeedPanel extends JPanel implements QuestionCard.QuestionCa
     
     @Override
     public void onUpvote(Question question) {
-        try {
-            // Get current user
-            User currentUser = AuthService.getInstance().getCurrentUser();
-            if (currentUser == null) {
-                showErrorMessage("Please sign in to vote on questions.");
-                return;
-            }
-            
-            // Cast the vote using the new Reddit-like system
-            var voteResult = voteRepository.castVote(currentUser.getId(), question.getId(), VoteType.UPVOTE);
-            
-            // Recalculate and update vote counts from the database
-            int[] voteCounts = voteRepository.countVotes(question.getId());
-            question.setUpvotes(voteCounts[0]);
-            question.setDownvotes(voteCounts[1]);
-            
-            // Update question vote counts in database
-            questionRepository.updateVoteCounts(question.getId(), question.getUpvotes(), question.getDownvotes());
-            
-            // Find and update the card in the UI
-            for (Component component : feedPanel.getComponents()) {
-                if (component instanceof QuestionCard card && card.getQuestion().getId().equals(question.getId())) {
-                    card.updateVoteCount();
-                    break;
-                }
-            }
-            
-            // Show feedback based on vote result
-            String message = switch (voteResult) {
-                case CREATED -> "Upvoted!";
-                case UPDATED -> "Changed to upvote!";
-                case REMOVED -> "Upvote removed!";
-            };
-            LOGGER.info("Vote action: " + message + " for question " + question.getId());
-            
-            if (feedListener != null) {
-                feedListener.onQuestionVoted(question);
-            }
-        } catch (SQLException e) {
-            LOGGER.logException("Failed to upvote question", e);
-            showErrorMessage("Failed to upvote question. Please try again later.");
-        }
+        castVote(question, VoteType.UPVOTE);
     }
     
     @Override
     public void onDownvote(Question question) {
-        try {
-            // Get current user
-            User currentUser = AuthService.getInstance().getCurrentUser();
-            if (currentUser == null) {
-                showErrorMessage("Please sign in to vote on questions.");
-                return;
-            }
-            
-            // Cast the vote using the new Reddit-like system
-            var voteResult = voteRepository.castVote(currentUser.getId(), question.getId(), VoteType.DOWNVOTE);
-            
-            // Recalculate and update vote counts from the database
-            int[] voteCounts = voteRepository.countVotes(question.getId());
-            question.setUpvotes(voteCounts[0]);
-            question.setDownvotes(voteCounts[1]);
-            
-            // Update question vote counts in database
-            questionRepository.updateVoteCounts(question.getId(), question.getUpvotes(), question.getDownvotes());
+        castVote(question, VoteType.DOWNVOTE);
+    }
+    
+    /**
+     * Casts the current user's vote in the background and refreshes the
+     * question's card with the counts the vote left behind. The vote is not tied to
+     * the feed's loads, so it still completes if the user leaves the screen.
+     * 
+     * @param question The question being voted on
+     * @param voteType The vote the user clicked
+     */
+    private void castVote(Question question, VoteType voteType) {
+        // Get current user
+        User currentUser = AuthService.getInstance().getCurrentUser();
+        if (currentUser == null) {
+            showErrorMessage("Please sign in to vote on questions.");
+            return;
+        }
+        
+        String action = voteType == VoteType.UPVOTE ? "upvote" : "downvote";
+        dataService.submit(() -> voteRepository.castVote(currentUser.getId(), question.getId(), voteType),
+        outcome -> {
+            question.setUpvotes(outcome.getUpvotes());
+            question.setDownvotes(outcome.getDownvotes());
             
-            // Find and update the card in the UI
-            for (Component component : feedPanel.getComponents()) {
-                if (component instanceof QuestionCard card && card.getQuestion().getId().equals(question.getId())) {
-                    card.updateVoteCount();
-                    break;
-                }
-            }
+            // Repaint the question's row in the feed
+            feedList.refreshQuestion(question);
             
             // Show feedback based on vote result
-            String message = switch (voteResult) {
-                case CREATED -> "Downvoted!";
-                case UPDATED -> "Changed to downvote!";
-                case REMOVED -> "Downvote removed!";
+            String message = switch (outcome.getResult()) {
+                case CREATED -> voteType == VoteType.UPVOTE ? "Upvoted!" : "Downvoted!";
+                case UPDATED -> "Changed to " + action + "!";
+                case REMOVED -> (voteType == VoteType.UPVOTE ? "Upvote" : "Downvote") + " removed!";
             };
             LOGGER.info("Vote action: " + message + " for question " + question.getId());
             
             if (feedListener != null) {
                 feedListener.onQuestionVoted(question);
             }
-        } catch (SQLException e) {
-            LOGGER.logException("Failed to downvote question", e);
-            showErrorMessage("Failed to downvote question. Please try again later.");
-        }
+        }, e -> {
+            LOGGER.logException("Failed to " + action + " question", e);
+            showErrorMessage("Failed to " + action + " question. Please try again later.");
+        });
     }
     
     /**
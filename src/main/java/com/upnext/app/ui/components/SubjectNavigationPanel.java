@@ -5,7 +5,6 @@ import java.awt.Color;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.FlowLayout;
-import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashSet;
@@ -31,14 +30,16 @@ import com.upnext.app.data.question.SubjectRepository;
 import com.upnext.app.data.question.TagRepository;
 import com.upnext.app.domain.question.Subject;
 import com.upnext.app.domain.question.Tag;
+import com.upnext.app.service.AsyncDataService;
 import com.upnext.app.ui.theme.AppTheme;
 
 /**
  * Panel component for subject navigation and tag selection.
  * Allows users to select a single subject and multiple tags for filtering content.
+ * Subjects and tags are loaded off the EDT.
  */
 public class SubjectNavigationPanel extends JPanel {
-    private static final Logger LOGGER = Logger.getInstance();
+    private static final Logger LOGGER = Logger.getInstance(SubjectNavigationPanel.class);
     
     // UI constants
     private static final int PADDING = 10;
@@ -48,11 +49,14 @@ public class SubjectNavigationPanel extends JPanel {
     // Repositories
     private final SubjectRepository subjectRepository;
     private final TagRepository tagRepository;
+    private final AsyncDataService.TaskGroup loads;
+    private boolean loadInterrupted;
     
     // UI components
     private final JPanel subjectsPanel;
     private final JPanel tagsPanel;
     private final ButtonGroup subjectButtonGroup;
+    private final LoadingPanel subjectsLoadingPanel;
     
     // State tracking
     private Subject selectedSubject;
@@ -72,6 +76,8 @@ public class SubjectNavigationPanel extends JPanel {
         // Get repository instances
         subjectRepository = SubjectRepository.getInstance();
         tagRepository = TagRepository.getInstance();
+        loads = AsyncDataService.getInstance().newGroup();
+        subjectsLoadingPanel = new LoadingPanel("Loading subjects...");
         
         // Set up the subjects panel
         JPanel subjectsHeader = new JPanel(new BorderLayout());
@@ -263,125 +269,164 @@ public class SubjectNavigationPanel extends JPanel {
     }
     
     /**
-     * Loads subjects from the repository and populates the UI.
+     * Cancels loads still in flight, e.g. when the user leaves the screen.
+     * The data reloads on {@link #resumeInterruptedLoad()}.
+     */
+    public void cancelPendingLoads() {
+        if (loads.cancelAll()) {
+            loadInterrupted = true;
+        }
+    }
+    
+    /**
+     * Reloads the panel if a load was cancelled before it finished.
+     */
+    public void resumeInterruptedLoad() {
+        if (loadInterrupted) {
+            loadInterrupted = false;
+            refreshData();
+        }
+    }
+    
+    /**
+     * Loads subjects from the repository in the background, showing a loading
+     * indicator until the first list arrives.
      */
     private void loadSubjects() {
+        if (subjectsPanel.getComponentCount() == 0) {
+            subjectsLoadingPanel.showLoading();
+            subjectsPanel.add(subjectsLoadingPanel);
+        }
+        loads.submit(subjectRepository::findAll, this::showSubjects, e -> {
+            LOGGER.logException("Error loading subjects", e);
+            subjectsLoadingPanel.hideLoading();
+            subjectsPanel.remove(subjectsLoadingPanel);
+            showErrorMessage("Failed to load subjects. Please try again later.");
+        });
+    }
+    
+    /**
+     * Populates the subject list, keeping any subject selected while it loaded.
+     * 
+     * @param subjects The subjects to show
+     */
+    private void showSubjects(List<Subject> subjects) {
+        subjectsLoadingPanel.hideLoading();
         subjectsPanel.removeAll();
         subjectButtonGroup.clearSelection();
         
-        try {
-            List<Subject> subjects = subjectRepository.findAll();
+        // Add "All Subjects" option
+        JRadioButton allSubjectsButton = new JRadioButton("All Subjects");
+        allSubjectsButton.setOpaque(false);
+        allSubjectsButton.setActionCommand("all");
+        allSubjectsButton.setFont(AppTheme.PRIMARY_FONT);
+        allSubjectsButton.addActionListener(event -> {
+            selectedSubject = null;
+            notifyFilterChanged();
+        });
+        
+        subjectButtonGroup.add(allSubjectsButton);
+        subjectsPanel.add(allSubjectsButton);
+        
+        // Select "All Subjects" unless a subject was chosen already
+        allSubjectsButton.setSelected(selectedSubject == null);
+        
+        // Add each subject as a radio button
+        for (Subject subject : subjects) {
+            JRadioButton subjectButton = new JRadioButton(subject.getName());
+            subjectButton.setOpaque(false);
+            subjectButton.setActionCommand(subject.getId().toString());
+            subjectButton.setFont(AppTheme.PRIMARY_FONT);
             
-            // Add "All Subjects" option
-            JRadioButton allSubjectsButton = new JRadioButton("All Subjects");
-            allSubjectsButton.setOpaque(false);
-            allSubjectsButton.setActionCommand("all");
-            allSubjectsButton.setFont(AppTheme.PRIMARY_FONT);
-            allSubjectsButton.addActionListener(event -> {
-                selectedSubject = null;
+            subjectButton.addActionListener(event -> {
+                selectedSubject = subject;
                 notifyFilterChanged();
             });
             
-            subjectButtonGroup.add(allSubjectsButton);
-            subjectsPanel.add(allSubjectsButton);
-            
-            // Select "All Subjects" by default
-            allSubjectsButton.setSelected(true);
-            
-            // Add each subject as a radio button
-            for (Subject subject : subjects) {
-                JRadioButton subjectButton = new JRadioButton(subject.getName());
-                subjectButton.setOpaque(false);
-                subjectButton.setActionCommand(subject.getId().toString());
-                subjectButton.setFont(AppTheme.PRIMARY_FONT);
-                
-                subjectButton.addActionListener(event -> {
-                    selectedSubject = subject;
-                    notifyFilterChanged();
-                });
-                
-                subjectButtonGroup.add(subjectButton);
-                subjectsPanel.add(subjectButton);
-            }
-            
-            subjectsPanel.revalidate();
-            subjectsPanel.repaint();
-        } catch (SQLException e) {
-            LOGGER.logException("Error loading subjects", e);
-            showErrorMessage("Failed to load subjects. Please try again later.");
+            subjectButton.setSelected(selectedSubject != null && subject.getId().equals(selectedSubject.getId()));
+            subjectButtonGroup.add(subjectButton);
+            subjectsPanel.add(subjectButton);
         }
+        
+        subjectsPanel.revalidate();
+        subjectsPanel.repaint();
     }
     
     /**
-     * Loads trending tags from the repository and populates the UI.
+     * Loads trending tags from the repository in the background.
      */
     private void loadTrendingTags() {
+        loads.submit(() -> tagRepository.findTrendingTags(MAX_TRENDING_TAGS), this::showTrendingTags, e -> {
+            LOGGER.logException("Error loading trending tags", e);
+            showErrorMessage("Failed to load trending tags. Please try again later.");
+        });
+    }
+    
+    /**
+     * Populates the tag list with toggle buttons.
+     * 
+     * @param trendingTags The tags to show
+     */
+    private void showTrendingTags(List<Tag> trendingTags) {
         tagsPanel.removeAll();
         
-        try {
-            List<Tag> trendingTags = tagRepository.findTrendingTags(MAX_TRENDING_TAGS);
+        // Add each trending tag as a toggle button
+        for (Tag tag : trendingTags) {
+            JToggleButton tagButton = new JToggleButton(tag.getName());
+            tagButton.setOpaque(false);
+            tagButton.setFont(AppTheme.PRIMARY_FONT.deriveFont(11f));
+            tagButton.setBorderPainted(true);
+            tagButton.setContentAreaFilled(false);
             
-            // Add each trending tag as a toggle button
-            for (Tag tag : trendingTags) {
-                JToggleButton tagButton = new JToggleButton(tag.getName());
-                tagButton.setOpaque(false);
-                tagButton.setFont(AppTheme.PRIMARY_FONT.deriveFont(11f));
-                tagButton.setBorderPainted(true);
-                tagButton.setContentAreaFilled(false);
-                
-                // Create more pill-shaped border with rounded appearance
-                tagButton.setBorder(BorderFactory.createCompoundBorder(
-                        BorderFactory.createLineBorder(new Color(0xD1D5DB), 1),
-                        new EmptyBorder(4, 8, 4, 8)));
-                        
-                tagButton.setForeground(AppTheme.TEXT_SECONDARY);
-                tagButton.setFocusPainted(false);
-                
-                // Set consistent size to ensure proper grid-like wrapping
-                // Calculate width based on text but keep it within reasonable bounds
-                int textWidth = tagButton.getFontMetrics(tagButton.getFont()).stringWidth(tag.getName());
-                int buttonWidth = Math.min(Math.max(70, textWidth + 20), 90); // Min 70px, max 90px
-                tagButton.setPreferredSize(new Dimension(buttonWidth, 28));
-                tagButton.setMinimumSize(new Dimension(buttonWidth, 28));
-                tagButton.setMaximumSize(new Dimension(buttonWidth, 28));
-                
-                // Selected state styling - more subtle like in the reference
-                tagButton.addChangeListener(changeEvent -> {
-                    if (tagButton.isSelected()) {
-                        tagButton.setBackground(new Color(0xE0E7FF)); // Light blue background
-                        tagButton.setForeground(new Color(0x3B82F6)); // Blue text
-                        tagButton.setContentAreaFilled(true);
-                        tagButton.setBorder(BorderFactory.createCompoundBorder(
-                                BorderFactory.createLineBorder(new Color(0x3B82F6), 1),
-                                new EmptyBorder(4, 8, 4, 8)));
-                    } else {
-                        tagButton.setContentAreaFilled(false);
-                        tagButton.setForeground(AppTheme.TEXT_SECONDARY);
-                        tagButton.setBorder(BorderFactory.createCompoundBorder(
-                                BorderFactory.createLineBorder(new Color(0xD1D5DB), 1),
-                                new EmptyBorder(4, 8, 4, 8)));
-                    }
-                });
-                
-                // Action listener to update selected tags
-                tagButton.addActionListener(event -> {
-                    if (tagButton.isSelected()) {
-                        selectedTags.add(tag);
-                    } else {
-                        selectedTags.remove(tag);
-                    }
-                    notifyFilterChanged();
-                });
-                
-                tagsPanel.add(tagButton);
-            }
+            // Create more pill-shaped border with rounded appearance
+            tagButton.setBorder(BorderFactory.createCompoundBorder(
+                    BorderFactory.createLineBorder(new Color(0xD1D5DB), 1),
+                    new EmptyBorder(4, 8, 4, 8)));
+                    
+            tagButton.setForeground(AppTheme.TEXT_SECONDARY);
+            tagButton.setFocusPainted(false);
             
-            tagsPanel.revalidate();
-            tagsPanel.repaint();
-        } catch (SQLException e) {
-            LOGGER.logException("Error loading trending tags", e);
-            showErrorMessage("Failed to load trending tags. Please try again later.");
+            // Set consistent size to ensure proper grid-like wrapping
+            // Calculate width based on text but keep it within reasonable bounds
+            int textWidth = tagButton.getFontMetrics(tagButton.getFont()).stringWidth(tag.getName());
+            int buttonWidth = Math.min(Math.max(70, textWidth + 20), 90); // Min 70px, max 90px
+            tagButton.setPreferredSize(new Dimension(buttonWidth, 28));
+            tagButton.setMinimumSize(new Dimension(buttonWidth, 28));
+            tagButton.setMaximumSize(new Dimension(buttonWidth, 28));
+            
+            // Selected state styling - more subtle like in the reference
+            tagButton.addChangeListener(changeEvent -> {
+                if (tagButton.isSelected()) {
+                    tagButton.setBackground(new Color(0xE0E7FF)); // Light blue background
+                    tagButton.setForeground(new Color(0x3B82F6)); // Blue text
+                    tagButton.setContentAreaFilled(true);
+                    tagButton.setBorder(BorderFactory.createCompoundBorder(
+                            BorderFactory.createLineBorder(new Color(0x3B82F6), 1),
+                            new EmptyBorder(4, 8, 4, 8)));
+                } else {
+                    tagButton.setContentAreaFilled(false);
+                    tagButton.setForeground(AppTheme.TEXT_SECONDARY);
+                    tagButton.setBorder(BorderFactory.createCompoundBorder(
+                            BorderFactory.createLineBorder(new Color(0xD1D5DB), 1),
+                            new EmptyBorder(4, 8, 4, 8)));
+                }
+            });
+            
+            // Action listener to update selected tags
+            tagButton.addActionListener(event -> {
+                if (tagButton.isSelected()) {
+                    selectedTags.add(tag);
+                } else {
+                    selectedTags.remove(tag);
+                }
+                notifyFilterChanged();
+            });
+            
+            tagsPanel.add(tagButton);
         }
+        
+        tagsPanel.revalidate();
+        tagsPanel.repaint();
     }
     
     /**
@@ -45,7 +45,7 @@ public class DeleteAccountDialog extends JDialog {
     private boolean confirmed = false;
     private String enteredPassword = null;
     
-    private static final Logger logger = Logger.getInstance();
+    private static final Logger logger = Logger.getInstance(DeleteAccountDialog.class);
     
     /**
      * Creates a new DeleteAccountDialog.
@@ -0,0 +1,20 @@
+package com.upnext.app.ui.navigation;
+
+/**
+ * Implemented by screens that want to know when the {@link ViewNavigator}
+ * shows or hides them, for example to cancel loads whose results would no
+ * longer be seen.
+ */
+public interface NavigationAware {
+
+    /**
+     * Called after the screen has been shown.
+     */
+    default void onNavigatedTo() {
+    }
+
+    /**
+     * Called when another screen replaces this one, or when this screen is released.
+     */
+    void onNavigatedAway();
+}
@@ -1,46 +1,108 @@
 package com.upnext.app.ui.navigation;
 
 import java.awt.*;
-import java.util.HashMap;
+import java.awt.event.AWTEventListener;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 import javax.swing.*;
 
+import com.upnext.app.core.Logger;
+
 /**
  * Manages navigation between different screens/views in the application.
  * Provides methods to register screens and navigate between them.
+ * <p>
+ * Screens can be registered as ready-made panels or as factories. A factory
+ * screen is built the first time it is navigated to or asked for, so startup
+ * only pays for the screens the user actually sees. Likely next screens can be
+ * {@linkplain #preload preloaded}, which builds them one at a time while the
+ * user is not typing or moving the mouse. Screens registered as releasable are
+ * dropped once they have not been shown for a while, and rebuilt by their
+ * factory on the next visit.
+ * <p>
+ * Screens implementing {@link NavigationAware} are told when they are shown
+ * and when they are left.
  */
 public class ViewNavigator {
+    private static final Logger LOGGER = Logger.getInstance(ViewNavigator.class);
+
     // Singleton instance
     private static ViewNavigator instance;
-    
+
+    // Releasable screens not shown for this long are dropped on the next navigation
+    static final long RELEASE_AFTER_MS = TimeUnit.MINUTES.toMillis(5);
+
+    // How long input must have been quiet before a preload builds a screen
+    static final int PRELOAD_IDLE_MS = 300;
+
+    private static final long USER_INPUT_EVENTS =
+            AWTEvent.KEY_EVENT_MASK | AWTEvent.MOUSE_EVENT_MASK | AWTEvent.MOUSE_MOTION_EVENT_MASK;
+
     // The container where screens will be swapped
     private final JPanel container;
-    
+
     // CardLayout for managing screen transitions
     private final CardLayout cardLayout;
-    
+
     // Map to store registered screens
-    private final Map<String, JPanel> screens;
-    
+    private final Map<String, ScreenEntry> screens;
+
+    // Screens waiting to be built in idle time
+    private final Deque<String> preloadQueue;
+    private final Timer preloadTimer;
+    private final AWTEventListener inputListener;
+    private final LongSupplier clock;
+    private volatile long lastInputAt;
+
     // Current screen id
     private String currentScreen;
-    
+
+    /**
+     * A registered screen: either a panel given up front, or a factory and
+     * the panel it built, if any.
+     */
+    private static final class ScreenEntry {
+        private final Supplier<? extends JPanel> factory;
+        private final boolean releasable;
+        private JPanel panel;
+        private long lastShownAt;
+
+        private ScreenEntry(Supplier<? extends JPanel> factory, boolean releasable, JPanel panel) {
+            this.factory = factory;
+            this.releasable = releasable;
+            this.panel = panel;
+        }
+    }
+
     /**
      * Private constructor to enforce singleton pattern.
-     * 
+     *
      * @param container The container where screens will be swapped
      */
     private ViewNavigator(JPanel container) {
+        this(container, System::currentTimeMillis);
+    }
+
+    ViewNavigator(JPanel container, LongSupplier clock) {
         this.container = container;
         this.cardLayout = new CardLayout();
         this.container.setLayout(cardLayout);
-        this.screens = new HashMap<>();
+        this.screens = new LinkedHashMap<>();
+        this.preloadQueue = new ArrayDeque<>();
+        this.clock = clock;
+        this.preloadTimer = new Timer(PRELOAD_IDLE_MS, event -> preloadStep());
+        this.inputListener = event -> recordUserInput();
         this.currentScreen = null;
     }
-    
+
     /**
      * Initializes the navigator with the container where screens will be swapped.
-     * 
+     *
      * @param container The container panel
      * @return The ViewNavigator singleton instance
      */
@@ -52,10 +114,10 @@ public class ViewNavigator {
         }
         return instance;
     }
-    
+
     /**
      * Gets the singleton instance of the ViewNavigator.
-     * 
+     *
      * @return The ViewNavigator singleton instance
      * @throws IllegalStateException if the navigator has not been initialized
      */
@@ -65,59 +127,212 @@ public class ViewNavigator {
         }
         return instance;
     }
-    
+
     /**
-     * Registers a screen with the navigator.
-     * 
+     * Registers a screen with the navigator, replacing any screen registered
+     * under the same ID.
+     *
      * @param screenId The unique identifier for the screen
      * @param screen The screen panel to register
      */
     public void registerScreen(String screenId, JPanel screen) {
-        screens.put(screenId, screen);
+        removeScreen(screenId);
+        screens.put(screenId, new ScreenEntry(null, false, screen));
         container.add(screen, screenId);
     }
-    
+
+    /**
+     * Registers a screen that is built by the factory the first time it is
+     * needed, and kept from then on.
+     *
+     * @param screenId The unique identifier for the screen
+     * @param factory Builds the screen, including any wiring it needs
+     */
+    public void registerScreen(String screenId, Supplier<? extends JPanel> factory) {
+        registerScreen(screenId, factory, false);
+    }
+
     /**
-     * Navigates to the specified screen.
-     * 
+     * Registers a screen that is built by the factory the first time it is
+     * needed. A releasable screen is dropped once it has not been shown for
+     * {@link #RELEASE_AFTER_MS}, so it should not hold state the user would
+     * expect to find again; the factory builds a fresh one on the next visit.
+     *
+     * @param screenId The unique identifier for the screen
+     * @param factory Builds the screen, including any wiring it needs
+     * @param releasable Whether the screen may be released when unused
+     */
+    public void registerScreen(String screenId, Supplier<? extends JPanel> factory, boolean releasable) {
+        removeScreen(screenId);
+        screens.put(screenId, new ScreenEntry(factory, releasable, null));
+    }
+
+    /**
+     * Navigates to the specified screen, building it first if needed.
+     *
      * @param screenId The identifier of the screen to navigate to
      * @throws IllegalArgumentException if the screen ID is not registered
      */
     public void navigateTo(String screenId) {
-        if (!screens.containsKey(screenId)) {
+        ScreenEntry entry = screens.get(screenId);
+        if (entry == null) {
             throw new IllegalArgumentException("Screen not registered: " + screenId);
         }
-        
+        build(screenId, entry);
+
+        long now = clock.getAsLong();
+        ScreenEntry previous = currentScreen != null ? screens.get(currentScreen) : null;
+        if (previous != null) {
+            previous.lastShownAt = now;
+            if (previous != entry) {
+                notifyNavigatedAway(previous.panel);
+            }
+        }
+        entry.lastShownAt = now;
         currentScreen = screenId;
         cardLayout.show(container, screenId);
+        if (entry.panel instanceof NavigationAware aware) {
+            aware.onNavigatedTo();
+        }
+        releaseUnusedScreens(now);
+    }
+
+    /**
+     * Builds the given screens one at a time while the user is idle, so the
+     * next navigation to them is instant. Screens that are already built or
+     * not registered are skipped.
+     *
+     * @param screenIds The screens the user is likely to visit next
+     */
+    public void preload(String... screenIds) {
+        for (String screenId : screenIds) {
+            ScreenEntry entry = screens.get(screenId);
+            if (entry != null && entry.panel == null && !preloadQueue.contains(screenId)) {
+                preloadQueue.addLast(screenId);
+            }
+        }
+        if (!preloadQueue.isEmpty() && !preloadTimer.isRunning()) {
+            lastInputAt = clock.getAsLong();
+            Toolkit.getDefaultToolkit().addAWTEventListener(inputListener, USER_INPUT_EVENTS);
+            preloadTimer.start();
+        }
     }
-    
+
     /**
      * Gets the current screen ID.
-     * 
+     *
      * @return The current screen ID, or null if no screen is showing
      */
     public String getCurrentScreen() {
         return currentScreen;
     }
-    
+
     /**
      * Checks if a screen with the specified ID is registered.
-     * 
+     *
      * @param screenId The screen ID to check
      * @return True if the screen is registered, false otherwise
      */
     public boolean hasScreen(String screenId) {
         return screens.containsKey(screenId);
     }
-    
+
     /**
-     * Returns the screen panel for the given ID.
-     * 
+     * Checks if a registered screen has been built and not since released.
+     *
+     * @param screenId The screen ID to check
+     * @return True if the screen's panel currently exists
+     */
+    public boolean isScreenBuilt(String screenId) {
+        ScreenEntry entry = screens.get(screenId);
+        return entry != null && entry.panel != null;
+    }
+
+    /**
+     * Returns the screen panel for the given ID, building it first if needed.
+     *
      * @param screenId The ID of the screen to retrieve
      * @return The screen panel, or null if not found
      */
     public JPanel getScreen(String screenId) {
-        return screens.get(screenId);
+        ScreenEntry entry = screens.get(screenId);
+        return entry == null ? null : build(screenId, entry);
+    }
+
+    /**
+     * Returns the screen for the given ID as its concrete type, building it
+     * first if needed.
+     *
+     * @param screenId The ID of the screen to retrieve
+     * @param type The screen class
+     * @return The screen, or null if not found
+     * @throws ClassCastException if the screen is not of the given type
+     */
+    public <T extends JPanel> T getScreen(String screenId, Class<T> type) {
+        return type.cast(getScreen(screenId));
+    }
+
+    /**
+     * Builds one queued screen if the user has been idle long enough, and
+     * stops preloading once the queue is empty. Runs on the preload timer.
+     */
+    void preloadStep() {
+        if (clock.getAsLong() - lastInputAt < PRELOAD_IDLE_MS) {
+            return;
+        }
+        String screenId = preloadQueue.pollFirst();
+        if (screenId != null) {
+            ScreenEntry entry = screens.get(screenId);
+            if (entry != null) {
+                build(screenId, entry);
+            }
+        }
+        if (preloadQueue.isEmpty()) {
+            preloadTimer.stop();
+            Toolkit.getDefaultToolkit().removeAWTEventListener(inputListener);
+        }
+    }
+
+    void recordUserInput() {
+        lastInputAt = clock.getAsLong();
+    }
+
+    private JPanel build(String screenId, ScreenEntry entry) {
+        if (entry.panel == null) {
+            long start = System.nanoTime();
+            entry.panel = entry.factory.get();
+            entry.lastShownAt = clock.getAsLong();
+            container.add(entry.panel, screenId);
+            LOGGER.info("Built screen {} in {} ms", screenId,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        }
+        return entry.panel;
+    }
+
+    private void releaseUnusedScreens(long now) {
+        for (Map.Entry<String, ScreenEntry> screen : screens.entrySet()) {
+            ScreenEntry entry = screen.getValue();
+            if (entry.releasable && entry.panel != null && !screen.getKey().equals(currentScreen)
+                    && now - entry.lastShownAt >= RELEASE_AFTER_MS) {
+                notifyNavigatedAway(entry.panel);
+                container.remove(entry.panel);
+                entry.panel = null;
+                LOGGER.info("Released screen {} after {} ms unused", screen.getKey(), now - entry.lastShownAt);
+            }
+        }
+    }
+
+    private void notifyNavigatedAway(JPanel panel) {
+        if (panel instanceof NavigationAware aware) {
+            aware.onNavigatedAway();
+        }
+    }
+
+    private void removeScreen(String screenId) {
+        ScreenEntry previous = screens.remove(screenId);
+        if (previous != null && previous.panel != null) {
+            container.remove(previous.panel);
+        }
+        preloadQueue.remove(screenId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package com.upnext.app.ui.screens;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.upnext.app.domain.question.Answer;
+import com.upnext.app.domain.question.AnswerPage;
+
+/**
+ * The answers shown on the question detail screen, in display order, and
+ * where the next page of them starts.
+ * <p>
+ * Pages are shown in the order the query returns them. An answer the viewer
+ * posts sorts after every stored answer, so it is held below the pages, after
+ * the placeholder for the answers not loaded yet, and later pages go above
+ * it. A page that brings back an answer already shown skips it.
+ */
+final class AnswerList {
+    private final Map<Long, Answer> shown = new HashMap<>();
+    private final List<Answer> pageAnswers = new ArrayList<>();
+    private final List<Answer> postedAnswers = new ArrayList<>();
+    // Where the next page starts, or null once all pages are in
+    private String nextCursor;
+    private int totalCount;
+
+    /**
+     * Replaces the answers with a question's first page.
+     *
+     * @param page The first page, with the question's answer count
+     * @return The answers to show, in order
+     */
+    List<Answer> showFirstPage(AnswerPage page) {
+        clear();
+        totalCount = page.getTotalCount();
+        return appendPage(page);
+    }
+
+    /**
+     * Adds a page below the pages shown and above any posted answers.
+     *
+     * @param page The page, in display order
+     * @return The answers of the page not shown yet, in order
+     */
+    List<Answer> appendPage(AnswerPage page) {
+        List<Answer> added = new ArrayList<>();
+        for (Answer answer : page.getAnswers()) {
+            if (shown.putIfAbsent(answer.getId(), answer) == null) {
+                pageAnswers.add(answer);
+                added.add(answer);
+            }
+        }
+        nextCursor = page.getNextCursor();
+        return added;
+    }
+
+    /**
+     * Adds an answer the viewer just posted at the end of the list.
+     *
+     * @param answer The answer, with its ID set
+     * @return true if it was added, false if it is already shown
+     */
+    boolean addPosted(Answer answer) {
+        if (shown.putIfAbsent(answer.getId(), answer) != null) {
+            return false;
+        }
+        postedAnswers.add(answer);
+        totalCount++;
+        return true;
+    }
+
+    /**
+     * Stops paging, so no further page is requested until the list is reloaded.
+     */
+    void stopPaging() {
+        nextCursor = null;
+    }
+
+    /**
+     * Removes every answer and forgets the paging position.
+     */
+    void clear() {
+        shown.clear();
+        pageAnswers.clear();
+        postedAnswers.clear();
+        nextCursor = null;
+        totalCount = 0;
+    }
+
+    /**
+     * Gets a shown answer.
+     *
+     * @param answerId The answer's ID
+     * @return The answer, or null if it is not shown
+     */
+    Answer get(Long answerId) {
+        return shown.get(answerId);
+    }
+
+    /**
+     * Gets the answers in display order: the pages, then the posted answers.
+     *
+     * @return The shown answers
+     */
+    List<Answer> getAnswers() {
+        List<Answer> answers = new ArrayList<>(pageAnswers);
+        answers.addAll(postedAnswers);
+        return Collections.unmodifiableList(answers);
+    }
+
+    boolean isEmpty() {
+        return shown.isEmpty();
+    }
+
+    /**
+     * Checks if a page remains to be loaded, which the placeholder stands in for.
+     *
+     * @return true if a next cursor is set
+     */
+    boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Gets how many answers are not shown yet.
+     *
+     * @return The remaining count, never negative
+     */
+    int getRemaining() {
+        return Math.max(0, totalCount - shown.size());
+    }
+}
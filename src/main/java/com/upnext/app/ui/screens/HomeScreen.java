@@ -24,6 +24,7 @@ import com.upnext.app.ui.components.HeroBar;
 import com.upnext.app.ui.components.ProfileSummaryCard;
 import com.upnext.app.ui.components.QuestionFeedPanel;
 import com.upnext.app.ui.components.SubjectNavigationPanel;
+import com.upnext.app.ui.navigation.NavigationAware;
 import com.upnext.app.ui.navigation.ViewNavigator;
 import com.upnext.app.ui.theme.AppTheme;
 
@@ -32,8 +33,11 @@ import com.upnext.app.ui.theme.AppTheme;
  * Left column: Subject navigation and filters
  * Center column: Question feed
  * Right column: Profile summary and metrics
+ * <p>
+ * Loads still running when the user leaves the screen are cancelled, and
+ * rerun when the user comes back.
  */
-public class HomeScreen extends JPanel {
+public class HomeScreen extends JPanel implements NavigationAware {
     // Layout constants
     public static final int PADDING_LARGE = 24;
     public static final int PADDING_MEDIUM = 16;
@@ -58,6 +62,7 @@ public class HomeScreen extends JPanel {
     private final JPanel rightColumn;
     private final HeroBar heroBar;
     private QuestionFeedPanel questionFeedPanel;
+    private SubjectNavigationPanel navigationPanel;
     
     // Filter manager for unified filter state
     private final FilterManager filterManager = FilterManager.getInstance();
@@ -199,6 +204,20 @@ public class HomeScreen extends JPanel {
         return heroBar;
     }
 
+    @Override
+    public void onNavigatedAway() {
+        navigationPanel.cancelPendingLoads();
+        questionFeedPanel.cancelPendingLoads();
+        profileSummaryCard.cancelPendingLoads();
+    }
+    
+    @Override
+    public void onNavigatedTo() {
+        navigationPanel.resumeInterruptedLoad();
+        questionFeedPanel.resumeInterruptedLoad();
+        profileSummaryCard.resumeInterruptedLoad();
+    }
+
     /**
      * Exposes the question feed panel for integration tests.
      *
@@ -224,7 +243,7 @@ public class HomeScreen extends JPanel {
         headerLabel.setBorder(new EmptyBorder(0, 0, PADDING_MEDIUM, 0));
         
         // Subject navigation panel
-        SubjectNavigationPanel navigationPanel = new SubjectNavigationPanel();
+        navigationPanel = new SubjectNavigationPanel();
         
         // Connect the SubjectNavigationPanel to the FilterManager
         navigationPanel.setFilterChangeListener((subject, tags) -> {
@@ -429,11 +448,9 @@ public class HomeScreen extends JPanel {
             // Navigate to question detail screen
             navigator.navigateTo(App.QUESTION_DETAIL_SCREEN);
             
-            // Get the question detail screen and load the question
+            // Get the question detail screen and load the question in the background
             QuestionDetailScreen detailScreen = (QuestionDetailScreen) navigator.getScreen(App.QUESTION_DETAIL_SCREEN);
-            boolean loaded = detailScreen.loadQuestion(questionId);
-            
-            if (!loaded) {
+            detailScreen.loadQuestion(questionId, question -> { }, () -> {
                 // If loading fails, navigate back to home screen
                 navigator.navigateTo(App.HOME_SCREEN);
                 FeedbackManager.showError(
@@ -441,7 +458,7 @@ public class HomeScreen extends JPanel {
                     "Failed to load question details. Please try again.",
                     "Error"
                 );
-            }
+            });
         } catch (Exception e) {
             Logger.getInstance().logException("Error navigating to question detail: " + e.getMessage(), e);
             FeedbackManager.showError(
@@ -11,13 +11,17 @@ import java.awt.GradientPaint;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.GridLayout;
+import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.sql.SQLException;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
@@ -27,39 +31,49 @@ import javax.swing.JLabel;
 import javax.swing.JPanel;
 import javax.swing.JScrollPane;
 import javax.swing.JTextArea;
+import javax.swing.JViewport;
 import javax.swing.SwingUtilities;
 import javax.swing.border.EmptyBorder;
 
 import com.upnext.app.App;
 import com.upnext.app.core.Logger;
 import com.upnext.app.data.question.AnswerRepository;
-import com.upnext.app.data.question.AnswerRepository.VoteResult;
+import com.upnext.app.data.question.PaginatedAnswerRepository;
+import com.upnext.app.data.question.QuestionDetailRepository;
 import com.upnext.app.data.question.QuestionRepository;
 import com.upnext.app.data.question.QuestionVoteRepository;
 import com.upnext.app.data.question.TagRepository;
+import com.upnext.app.data.question.ViewCountBuffer;
 import com.upnext.app.domain.User;
 import com.upnext.app.domain.question.Answer;
+import com.upnext.app.domain.question.AnswerPage;
 import com.upnext.app.domain.question.Question;
+import com.upnext.app.domain.question.QuestionDetail;
 import com.upnext.app.domain.question.QuestionVote;
 import com.upnext.app.domain.question.Tag;
+import com.upnext.app.service.AsyncDataService;
 import com.upnext.app.service.AuthService;
 import com.upnext.app.service.SearchService;
 import com.upnext.app.ui.components.AnswerInputPanel;
 import com.upnext.app.ui.components.FeedbackManager;
 import com.upnext.app.ui.components.FilterManager;
 import com.upnext.app.ui.components.HeroBar;
+import com.upnext.app.ui.components.LoadingPanel;
 import com.upnext.app.ui.components.QuestionDetailsCard;
 import com.upnext.app.ui.components.TagChip;
 import com.upnext.app.ui.components.VotePanel;
+import com.upnext.app.ui.navigation.NavigationAware;
 import com.upnext.app.ui.navigation.ViewNavigator;
 import com.upnext.app.ui.theme.AppTheme;
 
 /**
  * Screen for displaying question details including answers and related questions.
  * Preserves filter state when navigating back to the home screen.
+ * Answer reloads and votes run off the EDT; answer loads still pending when
+ * the user leaves the screen are cancelled.
  */
-public class QuestionDetailScreen extends JPanel {
-    private static final Logger LOGGER = Logger.getInstance();
+public class QuestionDetailScreen extends JPanel implements NavigationAware {
+    private static final Logger LOGGER = Logger.getInstance(QuestionDetailScreen.class);
     
     // Layout constants
     private static final int PADDING_MEDIUM = 16;
@@ -89,6 +103,7 @@ public class QuestionDetailScreen extends JPanel {
     private final JLabel questionAuthorMetaLabel;
     private final JPanel questionTagPanel;
     private final JLabel answersHeaderLabel;
+    private final JLabel answersPlaceholder;
     private final JLabel relatedQuestionsHeaderLabel;
     private final AnswerInputPanel answerInputPanel;
     private final VotePanel questionVotePanel;
@@ -97,11 +112,23 @@ public class QuestionDetailScreen extends JPanel {
     private Question currentQuestion;
     private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
+    private final QuestionDetailRepository questionDetailRepository;
+    private final PaginatedAnswerRepository paginatedAnswerRepository;
     private final TagRepository tagRepository;
     private final SearchService searchService;
     private final AuthService authService;
     private final FilterManager filterManager;
     private final QuestionVoteRepository questionVoteRepository;
+    private final AsyncDataService dataService;
+    private final AsyncDataService.TaskGroup questionLoads;
+    private final AsyncDataService.TaskGroup answerLoads;
+    private final LoadingPanel answersLoadingPanel;
+    private boolean loadingMoreAnswers;
+    // Answers with a card on screen, in order, and the vote panel of each
+    private final AnswerList answerList = new AnswerList();
+    private final Map<Long, VotePanel> answerVotePanels = new HashMap<>();
+    // Pages of answers go above this, answers the viewer posts below it
+    private final Component postedAnswersMarker = Box.createRigidArea(new Dimension(0, 0));
     
     // Responsive layout components
     private final JPanel mainContentPanel;
@@ -124,11 +151,16 @@ public class QuestionDetailScreen extends JPanel {
         // Initialize repositories and services
     questionRepository = QuestionRepository.getInstance();
     answerRepository = AnswerRepository.getInstance();
+    questionDetailRepository = QuestionDetailRepository.getInstance();
+    paginatedAnswerRepository = PaginatedAnswerRepository.getInstance();
     tagRepository = TagRepository.getInstance();
     searchService = SearchService.getInstance();
     authService = AuthService.getInstance();
     filterManager = FilterManager.getInstance();
     questionVoteRepository = QuestionVoteRepository.getInstance();
+    dataService = AsyncDataService.getInstance();
+    questionLoads = dataService.newGroup();
+    answerLoads = dataService.newGroup();
         
     // Create hero section (top navigation bar with search)
     heroBar = new HeroBar();
@@ -283,6 +315,18 @@ public class QuestionDetailScreen extends JPanel {
         answersPanel = new JPanel();
         answersPanel.setLayout(new BoxLayout(answersPanel, BoxLayout.Y_AXIS));
         answersPanel.setOpaque(false);
+        answersPanel.add(postedAnswersMarker);
+        
+        // Shown above the answers while they reload
+        answersLoadingPanel = LoadingPanel.Operations.loadingAnswers();
+        answerLoads.setBusyListener(this::setAnswersLoading);
+        
+        // Stands in for the answers not loaded yet; the next page loads as it scrolls into view
+        answersPlaceholder = new JLabel();
+        answersPlaceholder.setFont(AppTheme.PRIMARY_FONT.deriveFont(Font.ITALIC));
+        answersPlaceholder.setForeground(AppTheme.TEXT_SECONDARY);
+        answersPlaceholder.setBorder(new EmptyBorder(PADDING_SMALL, 0, PADDING_SMALL, 0));
+        answersPlaceholder.setAlignmentX(Component.LEFT_ALIGNMENT);
         
         // Add to answers section
         answersSection.add(answersHeaderLabel, BorderLayout.NORTH);
@@ -334,6 +378,7 @@ public class QuestionDetailScreen extends JPanel {
         
         // Store content scroll pane for responsive layout switching
         contentScrollPane = scrollPane;
+        contentScrollPane.getViewport().addChangeListener(e -> loadMoreAnswersIfNearView());
         
         // Initialize responsive layout
         setupResponsiveLayout();
@@ -357,49 +402,67 @@ public class QuestionDetailScreen extends JPanel {
     }
     
     /**
-     * Loads a question for display.
+     * Loads a question for display in the background, showing any error on
+     * the screen.
      * 
      * @param questionId The ID of the question to load
-     * @return true if the question was loaded successfully, false otherwise
      */
-    public boolean loadQuestion(Long questionId) {
+    public void loadQuestion(Long questionId) {
+        loadQuestion(questionId, question -> { }, () -> { });
+    }
+    
+    /**
+     * Loads a question for display in the background. The question, its
+     * answers and related questions are fetched off the EDT and shown
+     * together; a load still in flight for another question is dropped.
+     * Callbacks run on the EDT, and neither runs if the load is cancelled
+     * by a newer one or by navigating away.
+     * 
+     * @param questionId The ID of the question to load
+     * @param onLoaded Receives the question once it is shown
+     * @param onFailed Runs if the question was not found or could not be loaded
+     */
+    public void loadQuestion(Long questionId, Consumer<Question> onLoaded, Runnable onFailed) {
         if (questionId == null) {
             LOGGER.error("Attempted to load question with null ID");
-            return false;
+            onFailed.run();
+            return;
         }
         
-        try {
-            // Clear previous content
-            clearContent();
+        // Drop the previous question and answers still loading for it
+        questionLoads.cancelAll();
+        answerLoads.cancelAll();
+        clearContent();
+        titleLabel.setText("Loading question...");
+        
+        Long userId = currentUserId();
+        questionLoads.submit(() -> questionDetailRepository.load(questionId, userId), loaded -> {
+            if (loaded.isEmpty()) {
+                LOGGER.error("Question not found with ID: " + questionId);
+                showErrorState("Question not found");
+                onFailed.run();
+                return;
+            }
+            QuestionDetail detail = loaded.get();
+            Question question = detail.getQuestion();
+            this.currentQuestion = question;
+            displayQuestion(question);
+            // Update left-side details card
+            questionDetailsCard.setQuestion(question);
+            displayAnswers(detail.getAnswerPage());
+            displayRelatedQuestions(question, detail.getRelatedQuestions());
             
-            // Load question
-            questionRepository.findById(questionId).ifPresentOrElse(
-                question -> {
-                    this.currentQuestion = question;
-                    displayQuestion(question);
-                    // Update left-side details card
-                    questionDetailsCard.setQuestion(question);
-                    loadAnswers(questionId);
-                    loadRelatedQuestions(question);
-                    
-                    // Set question ID for answer input panel
-                    answerInputPanel.setQuestionId(questionId);
-                    
-                    // Increment view count in background
-                    incrementViewCount(questionId);
-                },
-                () -> {
-                    LOGGER.error("Question not found with ID: " + questionId);
-                    showErrorState("Question not found");
-                }
-            );
+            // Set question ID for answer input panel
+            answerInputPanel.setQuestionId(questionId);
             
-            return currentQuestion != null;
-        } catch (SQLException e) {
+            // Increment view count in background
+            incrementViewCount(questionId);
+            onLoaded.accept(question);
+        }, e -> {
             LOGGER.logException("Error loading question with ID: " + questionId, e);
             showErrorState("Error loading question");
-            return false;
-        }
+            onFailed.run();
+        });
     }
     
     /**
@@ -409,7 +472,7 @@ public class QuestionDetailScreen extends JPanel {
         titleLabel.setText("");
         contentArea.setText("");
         metadataLabel.setText("");
-        answersPanel.removeAll();
+        clearAnswers();
         relatedQuestionsPanel.removeAll();
         currentQuestion = null;
     }
@@ -456,6 +519,8 @@ public class QuestionDetailScreen extends JPanel {
         int netVotes = question.getUpvotes() - question.getDownvotes();
         questionVotePanel.setVoteCount(netVotes);
         questionVotePanel.setItemId(question.getId());
+        questionVotePanel.setVoteState(question.getViewerVote() == QuestionVote.VoteType.UPVOTE,
+            question.getViewerVote() == QuestionVote.VoteType.DOWNVOTE);
 
         displayQuestionTags(question);
 
@@ -472,27 +537,23 @@ public class QuestionDetailScreen extends JPanel {
     private void displayQuestionTags(Question question) {
         questionTagPanel.removeAll();
 
-        try {
-            List<String> tags = questionRepository.getTagsForQuestion(question.getId());
-            if (tags.isEmpty()) {
-                questionTagPanel.setVisible(false);
-            } else {
-                JLabel tagsLabel = new JLabel("Tags:");
-                tagsLabel.setFont(AppTheme.PRIMARY_FONT.deriveFont(Font.BOLD, 12f));
-                tagsLabel.setForeground(AppTheme.TEXT_SECONDARY);
-                questionTagPanel.add(tagsLabel);
-
-                for (String tag : tags) {
-                    TagChip tagChip = TagChip.createCompact(tag);
-                    tagChip.setOnClickCallback(this::applyTagFilter);
-                    questionTagPanel.add(tagChip);
-                }
+        // Tags were loaded with the question
+        List<String> tags = question.getTags();
+        if (tags.isEmpty()) {
+            questionTagPanel.setVisible(false);
+        } else {
+            JLabel tagsLabel = new JLabel("Tags:");
+            tagsLabel.setFont(AppTheme.PRIMARY_FONT.deriveFont(Font.BOLD, 12f));
+            tagsLabel.setForeground(AppTheme.TEXT_SECONDARY);
+            questionTagPanel.add(tagsLabel);
 
-                questionTagPanel.setVisible(true);
+            for (String tag : tags) {
+                TagChip tagChip = TagChip.createCompact(tag);
+                tagChip.setOnClickCallback(this::applyTagFilter);
+                questionTagPanel.add(tagChip);
             }
-        } catch (SQLException e) {
-            LOGGER.logException("Error loading tags for question: " + question.getId(), e);
-            questionTagPanel.setVisible(false);
+
+            questionTagPanel.setVisible(true);
         }
 
         questionTagPanel.revalidate();
@@ -580,51 +641,191 @@ public class QuestionDetailScreen extends JPanel {
         ViewNavigator.getInstance().navigateTo(App.PROFILE_LAYOUT_SCREEN);
     }
 
+    @Override
+    public void onNavigatedAway() {
+        questionLoads.cancelAll();
+        answerLoads.cancelAll();
+    }
+    
     /**
-     * Loads answers for the question.
+     * Reloads the first page of answers for the question, with the current
+     * user's votes, in the background. A newer reload replaces one still in flight.
      * 
      * @param questionId The ID of the question
      */
     private void loadAnswers(Long questionId) {
-        answersPanel.removeAll();
-        
-        try {
-            List<Answer> answers = questionRepository.findAnswersForQuestion(questionId);
-            
-            if (answers.isEmpty()) {
-                JLabel noAnswersLabel = new JLabel("Be the first to answer this question!");
-                noAnswersLabel.setFont(AppTheme.PRIMARY_FONT.deriveFont(Font.ITALIC));
-                noAnswersLabel.setForeground(AppTheme.TEXT_SECONDARY);
-                noAnswersLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-                answersPanel.add(noAnswersLabel);
-            } else {
-                // Sort answers by verification status first, then by net vote score (highest first)
-                answers.sort((a1, a2) -> {
-                    // Verified answers come first
-                    if (a1.isVerified() != a2.isVerified()) {
-                        return a1.isVerified() ? -1 : 1;
-                    }
-                    // Within each group, sort by net vote score (upvotes - downvotes)
-                    int score1 = a1.getUpvotes() - a1.getDownvotes();
-                    int score2 = a2.getUpvotes() - a2.getDownvotes();
-                    return Integer.compare(score2, score1);
-                });
-                
-                for (Answer answer : answers) {
-                    JPanel answerCard = createAnswerCard(answer);
-                    answersPanel.add(answerCard);
-                    answersPanel.add(Box.createRigidArea(new Dimension(0, PADDING_MEDIUM)));
-                }
-            }
-            
-            answersPanel.revalidate();
-            answersPanel.repaint();
-        } catch (SQLException e) {
+        Long userId = currentUserId();
+        answerLoads.cancelAll();
+        answerLoads.submit(() -> paginatedAnswerRepository.findAnswerPage(questionId, userId,
+                PaginatedAnswerRepository.DEFAULT_PAGE_SIZE, null), this::displayAnswers, e -> {
             LOGGER.logException("Error loading answers for question: " + questionId, e);
+            clearAnswers();
             JLabel errorLabel = new JLabel("Error loading answers");
             errorLabel.setForeground(Color.RED);
             errorLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
             answersPanel.add(errorLabel);
+            answersPanel.revalidate();
+            answersPanel.repaint();
+        });
+    }
+    
+    /**
+     * Loads the next page of answers once the placeholder below the shown
+     * answers comes within a screen's height of the visible area, so the
+     * page is usually ready before the reader reaches it.
+     */
+    private void loadMoreAnswersIfNearView() {
+        if (!answerList.hasMore() || answerLoads.isBusy() || !answersPlaceholder.isShowing()) {
+            return;
+        }
+        JViewport viewport = contentScrollPane.getViewport();
+        Rectangle visible = viewport.getViewRect();
+        visible.height *= 2;
+        Rectangle placeholder = SwingUtilities.convertRectangle(answersPanel, answersPlaceholder.getBounds(),
+            viewport.getView());
+        if (visible.intersects(placeholder)) {
+            loadMoreAnswers();
+        }
+    }
+    
+    /**
+     * Fetches the page of answers after those shown and appends it. Ignored
+     * while another answer load is in flight.
+     */
+    private void loadMoreAnswers() {
+        if (currentQuestion == null || !answerList.hasMore() || answerLoads.isBusy()) {
+            return;
+        }
+        Long questionId = currentQuestion.getId();
+        Long userId = currentUserId();
+        String cursor = answerList.getNextCursor();
+        loadingMoreAnswers = true;
+        answerLoads.submit(() -> paginatedAnswerRepository.findAnswerPage(questionId, userId,
+                PaginatedAnswerRepository.DEFAULT_PAGE_SIZE, cursor), this::appendAnswers, e -> {
+            LOGGER.logException("Error loading more answers for question: " + questionId, e);
+            // Stop scrolling from retrying at once; the next reload starts over
+            answerList.stopPaging();
+            answersPlaceholder.setText("Could not load the remaining answers");
+        });
+    }
+    
+    /**
+     * Shows the loading indicator above the answers while they reload, or in
+     * the placeholder while the next page loads.
+     * 
+     * @param busy Whether a load is in flight
+     */
+    private void setAnswersLoading(boolean busy) {
+        if (loadingMoreAnswers) {
+            loadingMoreAnswers = busy;
+            updateAnswersPlaceholder();
+            return;
+        }
+        if (busy) {
+            answersLoadingPanel.showLoading("Loading answers...");
+            answersLoadingPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            answersPanel.add(answersLoadingPanel, 0);
+        } else {
+            answersLoadingPanel.hideLoading();
+            answersPanel.remove(answersLoadingPanel);
+        }
+        answersPanel.revalidate();
+        answersPanel.repaint();
+    }
+    
+    /**
+     * Displays the first page of answers to the question, replacing any shown.
+     * 
+     * @param page The answers in display order, with the answer count
+     */
+    private void displayAnswers(AnswerPage page) {
+        clearAnswers();
+        
+        if (page.getAnswers().isEmpty()) {
+            JLabel noAnswersLabel = new JLabel("Be the first to answer this question!");
+            noAnswersLabel.setFont(AppTheme.PRIMARY_FONT.deriveFont(Font.ITALIC));
+            noAnswersLabel.setForeground(AppTheme.TEXT_SECONDARY);
+            noAnswersLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            answersPanel.add(noAnswersLabel, answersPanel.getComponentZOrder(postedAnswersMarker));
+            answersPanel.revalidate();
+            answersPanel.repaint();
+        } else {
+            showAnswers(answerList.showFirstPage(page));
+        }
+    }
+    
+    /**
+     * Adds a page of answers below the pages shown. The order comes from the
+     * query, so pages are never re-sorted here; an answer already on screen,
+     * such as one the viewer just posted, is skipped. The answer count is
+     * kept from the first page.
+     * 
+     * @param page The answers in display order, with the answer count
+     */
+    private void appendAnswers(AnswerPage page) {
+        showAnswers(answerList.appendPage(page));
+    }
+    
+    /**
+     * Adds cards for answers newly in the list above any the viewer posted,
+     * and keeps the placeholder after them while more pages remain.
+     * 
+     * @param answers The answers to show, in order
+     */
+    private void showAnswers(List<Answer> answers) {
+        answersPanel.remove(answersPlaceholder);
+        for (Answer answer : answers) {
+            addAnswerCard(answer, answersPanel.getComponentZOrder(postedAnswersMarker));
+        }
+        if (answerList.hasMore()) {
+            answersPanel.add(answersPlaceholder, answersPanel.getComponentZOrder(postedAnswersMarker));
+            updateAnswersPlaceholder();
+        }
+        
+        answersPanel.revalidate();
+        answersPanel.repaint();
+        // A short page may leave the placeholder in view; keep going until it is not
+        SwingUtilities.invokeLater(this::loadMoreAnswersIfNearView);
+    }
+    
+    /**
+     * Adds a card for an answer to the answers panel.
+     * 
+     * @param answer The answer to show
+     * @param index Where to add the card, or -1 for the end
+     * @return The card
+     */
+    private JPanel addAnswerCard(Answer answer, int index) {
+        JPanel answerCard = createAnswerCard(answer);
+        Component spacing = Box.createRigidArea(new Dimension(0, PADDING_MEDIUM));
+        if (index < 0) {
+            answersPanel.add(answerCard);
+            answersPanel.add(spacing);
+        } else {
+            answersPanel.add(answerCard, index);
+            answersPanel.add(spacing, index + 1);
+        }
+        return answerCard;
+    }
+    
+    /**
+     * Removes every answer card and forgets the paging position.
+     */
+    private void clearAnswers() {
+        answersPanel.removeAll();
+        answersPanel.add(postedAnswersMarker);
+        answerList.clear();
+        answerVotePanels.clear();
+    }
+    
+    private void updateAnswersPlaceholder() {
+        int remaining = answerList.getRemaining();
+        if (loadingMoreAnswers) {
+            answersPlaceholder.setText("Loading more answers...");
+        } else if (remaining > 0) {
+            answersPlaceholder.setText(remaining + " more " + (remaining == 1 ? "answer" : "answers"));
+        } else {
+            answersPlaceholder.setText("More answers");
         }
     }
     
@@ -657,6 +858,9 @@ public class QuestionDetailScreen extends JPanel {
         // Calculate and set initial vote count
         int netVoteScore = answer.getUpvotes() - answer.getDownvotes();
         votingPanel.setVoteCount(netVoteScore);
+        votingPanel.setVoteState(Boolean.TRUE.equals(answer.getViewerVote()),
+            Boolean.FALSE.equals(answer.getViewerVote()));
+        answerVotePanels.put(answer.getId(), votingPanel);
         
         // Right side - content panel
         JPanel contentPanel = new JPanel();
@@ -758,14 +962,13 @@ public class QuestionDetailScreen extends JPanel {
      * @param isUpvote true for upvote, false for downvote
      */
     private void handleAnswerVote(Long answerId, Boolean isUpvote) {
-        try {
-            User currentUser = authService.getCurrentUser();
-            if (currentUser == null) {
-                FeedbackManager.showWarning(this, "Please log in to vote", "Authentication Required");
-                return;
-            }
-            
-            VoteResult result = answerRepository.voteAnswer(answerId, currentUser.getId(), isUpvote);
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            FeedbackManager.showWarning(this, "Please log in to vote", "Authentication Required");
+            return;
+        }
+        
+        dataService.submit(() -> answerRepository.voteAnswer(answerId, currentUser.getId(), isUpvote), result -> {
             LOGGER.info("Answer " + answerId + " vote updated. Upvotes=" + result.getUpvotes()
                 + ", Downvotes=" + result.getDownvotes());
             
@@ -774,40 +977,38 @@ public class QuestionDetailScreen extends JPanel {
                 (isUpvote ? "Upvote" : "Downvote") + " recorded successfully", 
                 "Vote Recorded");
             
-            // Note: The VotePanel will be updated automatically via the loadAnswers refresh
-            // Refresh the answers display to show updated vote counts
-            if (currentQuestion != null) {
-                loadAnswers(currentQuestion.getId());
+            Answer answer = answerList.get(answerId);
+            if (answer == null) {
+                return;
             }
-            
-        } catch (SQLException e) {
-            FeedbackManager.showError(this, "Database error while voting: " + e.getMessage(), "Database Error");
-        }
+            if (answer.isVerified() != result.isVerified()) {
+                // Crossing the verified threshold moves the answer; reload so the order is right
+                loadAnswers(answer.getQuestionId());
+                return;
+            }
+            // Update the answer's card in place rather than rebuilding the list
+            answer.setUpvotes(result.getUpvotes());
+            answer.setDownvotes(result.getDownvotes());
+            answer.setViewerVote(isUpvote.equals(answer.getViewerVote()) ? null : isUpvote);
+            VotePanel votePanel = answerVotePanels.get(answerId);
+            if (votePanel != null) {
+                votePanel.setVoteCount(result.getNetVotes());
+                votePanel.setVoteState(Boolean.TRUE.equals(answer.getViewerVote()),
+                    Boolean.FALSE.equals(answer.getViewerVote()));
+            }
+        }, e -> FeedbackManager.showError(this, "Database error while voting: " + e.getMessage(), "Database Error"));
     }
     
     /**
-     * Loads related questions.
+     * Displays related questions.
      * 
-     * @param question The current question to find related questions for
+     * @param question The current question
+     * @param relatedQuestions Questions sharing its tags, or null if the lookup failed
      */
-    private void loadRelatedQuestions(Question question) {
+    private void displayRelatedQuestions(Question question, List<Question> relatedQuestions) {
         relatedQuestionsPanel.removeAll();
         
-        // Prefer questions that share the same tags (exact match filtering)
-        List<Question> relatedQuestions;
-        try {
-            var criteria = new com.upnext.app.domain.question.QuestionSearchCriteria()
-                    .setTags(question.getTags())
-                    .setLimit(10);
-            relatedQuestions = questionRepository.search(criteria);
-            // Exclude the current question
-            relatedQuestions.removeIf(q -> q.getId().equals(question.getId()));
-            // Keep top 5
-            if (relatedQuestions.size() > 5) {
-                relatedQuestions = relatedQuestions.subList(0, 5);
-            }
-        } catch (SQLException ex) {
-            LOGGER.logException("Error finding related questions by tags", ex);
+        if (relatedQuestions == null) {
             // Fallback to service-based heuristic if tag query fails
             relatedQuestions = searchService.getRelatedQuestions(question, 5);
         }
@@ -877,22 +1078,21 @@ public class QuestionDetailScreen extends JPanel {
     }
     
     /**
-     * Increments the view count for a question.
+     * Increments the view count for a question. The view is buffered and
+     * written to the database in the background with other views.
      * 
      * @param questionId The ID of the question
      */
     private void incrementViewCount(Long questionId) {
-        SwingUtilities.invokeLater(() -> {
-            try {
-                questionRepository.incrementViewCount(questionId);
-                if (currentQuestion != null) {
-                    currentQuestion.incrementViewCount();
-                }
-            } catch (SQLException e) {
-                LOGGER.logException("Failed to increment view count for question: " + questionId, e);
-                // Non-critical operation, don't show error to user
-            }
-        });
+        ViewCountBuffer.getInstance().recordView(questionId);
+        if (currentQuestion != null) {
+            currentQuestion.incrementViewCount();
+        }
+    }
+    
+    private Long currentUserId() {
+        User currentUser = authService.getCurrentUser();
+        return currentUser != null ? currentUser.getId() : null;
     }
     
     /**
@@ -909,67 +1109,72 @@ public class QuestionDetailScreen extends JPanel {
             return;
         }
 
-        try {
-            User currentUser = authService.getCurrentUser();
-            if (currentUser == null) {
-                FeedbackManager.showWarning(this, "Please log in to vote", "Authentication Required");
+        User currentUser = authService.getCurrentUser();
+        if (currentUser == null) {
+            FeedbackManager.showWarning(this, "Please log in to vote", "Authentication Required");
+            return;
+        }
+
+        QuestionVote.VoteType voteType = isUpvote ? QuestionVote.VoteType.UPVOTE : QuestionVote.VoteType.DOWNVOTE;
+        dataService.submit(() -> questionVoteRepository.castVote(currentUser.getId(), questionId, voteType), outcome -> {
+            // The user may have moved on to another question meanwhile
+            if (currentQuestion == null || !Objects.equals(currentQuestion.getId(), questionId)) {
                 return;
             }
 
-            QuestionVote.VoteType voteType = isUpvote ? QuestionVote.VoteType.UPVOTE : QuestionVote.VoteType.DOWNVOTE;
-            QuestionVoteRepository.VoteResult voteResult = questionVoteRepository.castVote(currentUser.getId(), questionId, voteType);
-
-            int[] counts = questionVoteRepository.countVotes(questionId);
-            int upvotes = counts[0];
-            int downvotes = counts[1];
+            currentQuestion.setUpvotes(outcome.getUpvotes());
+            currentQuestion.setDownvotes(outcome.getDownvotes());
 
-            currentQuestion.setUpvotes(upvotes);
-            currentQuestion.setDownvotes(downvotes);
-            questionRepository.updateVoteCounts(questionId, upvotes, downvotes);
-
-            questionVotePanel.setVoteCount(upvotes - downvotes);
+            questionVotePanel.setVoteCount(outcome.getNetVotes());
+            currentQuestion.setViewerVote(outcome.getViewerVote());
+            questionVotePanel.setVoteState(currentQuestion.getViewerVote() == QuestionVote.VoteType.UPVOTE,
+                currentQuestion.getViewerVote() == QuestionVote.VoteType.DOWNVOTE);
 
             String message;
-            if (voteResult == QuestionVoteRepository.VoteResult.REMOVED) {
+            if (outcome.getResult() == QuestionVoteRepository.VoteResult.REMOVED) {
                 message = "Vote removed";
             } else {
                 message = isUpvote ? "Upvote recorded" : "Downvote recorded";
             }
 
             FeedbackManager.showInfo(this, message, "Vote Recorded");
-
-        } catch (SQLException e) {
-            FeedbackManager.showError(this, "Database error while voting: " + e.getMessage(), "Database Error");
-        }
+        }, e -> FeedbackManager.showError(this, "Database error while voting: " + e.getMessage(), "Database Error"));
     }
     
     /**
      * Handles a new answer being submitted successfully.
-     * Refreshes the answers display and updates the question's answer count.
+     * Adds its card at the end of the answers, below the placeholder for any
+     * not loaded yet, without reloading them, and updates the question's
+     * answer count.
      * 
-     * @param newAnswer The newly submitted answer (unused - we refresh from database)
+     * @param newAnswer The newly submitted answer, with its ID set
      */
     private void handleNewAnswer(Answer newAnswer) {
         if (currentQuestion == null || newAnswer == null) {
             return;
         }
         
-        try {
-            // Update the question's answer count
-            currentQuestion.incrementAnswerCount();
-            
-            // Refresh answers display to show the new answer at the top
-            loadAnswers(currentQuestion.getId());
-            
-            // Update answers header
-            answersHeaderLabel.setText(currentQuestion.getAnswerCount() + " Answers");
-            
-            LOGGER.info("Answer display refreshed after new submission for question: " + currentQuestion.getId());
-            
-        } catch (Exception e) {
-            LOGGER.logException("Error refreshing answers display after new submission", e);
-            // Don't show error to user as the answer was already saved successfully
+        boolean firstAnswer = answerList.isEmpty();
+        if (!answerList.addPosted(newAnswer)) {
+            return;
         }
+        
+        // Update the question's answer count
+        currentQuestion.incrementAnswerCount();
+        answersHeaderLabel.setText(currentQuestion.getAnswerCount() + " Answers");
+        
+        if (firstAnswer) {
+            // Drop the "be the first" prompt
+            answersPanel.removeAll();
+            answersPanel.add(postedAnswersMarker);
+        }
+        // A new answer sorts last, so it stays below later pages, which skip it
+        JPanel card = addAnswerCard(newAnswer, -1);
+        answersPanel.revalidate();
+        answersPanel.repaint();
+        SwingUtilities.invokeLater(() -> card.scrollRectToVisible(new Rectangle(card.getSize())));
+        
+        LOGGER.info("Answer added to display after new submission for question: " + currentQuestion.getId());
     }
     
     /**
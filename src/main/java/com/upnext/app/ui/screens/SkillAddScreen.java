@@ -74,7 +74,7 @@ public class SkillAddScreen extends JPanel {
     public static final String SCREEN_ID = "add-skill";
     
     // Logger
-    private final Logger logger = Logger.getInstance();
+    private final Logger logger = Logger.getInstance(SkillAddScreen.class);
     
     /**
      * Creates a new skill add screen with a complete form UI.
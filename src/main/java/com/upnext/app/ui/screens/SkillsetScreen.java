@@ -41,7 +41,7 @@ public class SkillsetScreen extends JPanel {
     public static final String SCREEN_ID = "skillset";
     
     // Logger
-    private final Logger logger = Logger.getInstance();
+    private final Logger logger = Logger.getInstance(SkillsetScreen.class);
     
     /**
      * Creates a new skillset screen.
@@ -1,96 +0,0 @@
--- UpNext Database Schema
--- This schema creates tables only if they don't exist to preserve data
-
-
--- Users Table
-CREATE TABLE IF NOT EXISTS users (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
-    name VARCHAR(255) NOT NULL,
-    email VARCHAR(255) NOT NULL UNIQUE,
-    password_hash VARCHAR(255) NOT NULL,
-    salt VARCHAR(255) NOT NULL,
-    active BOOLEAN DEFAULT TRUE,
-    questions_asked INT NOT NULL DEFAULT 0,
-    answers_given INT NOT NULL DEFAULT 0,
-    total_upvotes INT NOT NULL DEFAULT 0,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
-);
-
--- Skills Table
-CREATE TABLE IF NOT EXISTS skills (
-    skill_id BIGINT PRIMARY KEY AUTO_INCREMENT,
-    user_id BIGINT NOT NULL,
-    skill_name VARCHAR(100) NOT NULL,
-    description VARCHAR(255),
-    proficiency_level INT NOT NULL DEFAULT 1,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    CONSTRAINT fk_skills_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
-    INDEX idx_skills_user (user_id)
-);
-
--- Subjects Table
-CREATE TABLE IF NOT EXISTS subjects (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
-    name VARCHAR(100) NOT NULL UNIQUE,
-    description VARCHAR(500)
-);
-
--- Tags Table
-CREATE TABLE IF NOT EXISTS tags (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
-    name VARCHAR(50) NOT NULL UNIQUE,
-    usage_count INT NOT NULL DEFAULT 0,
-    INDEX idx_tags_usage_count (usage_count)
-);
-
--- Questions Table
-CREATE TABLE IF NOT EXISTS questions (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
-    user_id BIGINT NOT NULL,
-    subject_id BIGINT,
-    title VARCHAR(255) NOT NULL,
-    content TEXT NOT NULL,
-    context TEXT,
-    upvotes INT NOT NULL DEFAULT 0,
-    downvotes INT NOT NULL DEFAULT 0,
-    answer_count INT NOT NULL DEFAULT 0,
-    is_solved BOOLEAN NOT NULL DEFAULT FALSE,
-    view_count INT NOT NULL DEFAULT 0,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    CONSTRAINT fk_questions_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
-    CONSTRAINT fk_questions_subject FOREIGN KEY (subject_id) REFERENCES subjects(id) ON DELETE SET NULL,
-    INDEX idx_questions_user (user_id),
-    INDEX idx_questions_subject (subject_id),
-    INDEX idx_questions_created_at (created_at)
-);
-
--- Question Tags Junction Table
-CREATE TABLE IF NOT EXISTS question_tags (
-    question_id BIGINT NOT NULL,
-    tag_id BIGINT NOT NULL,
-    PRIMARY KEY (question_id, tag_id),
-    CONSTRAINT fk_question_tags_question FOREIGN KEY (question_id) REFERENCES questions(id) ON DELETE CASCADE,
-    CONSTRAINT fk_question_tags_tag FOREIGN KEY (tag_id) REFERENCES tags(id) ON DELETE CASCADE
-);
-
--- Answers Table
-CREATE TABLE IF NOT EXISTS answers (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
-    question_id BIGINT NOT NULL,
-    user_id BIGINT NOT NULL,
-    content TEXT NOT NULL,
-    is_accepted BOOLEAN DEFAULT FALSE,
-    upvotes INT DEFAULT 0,
-    downvotes INT DEFAULT 0,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    CONSTRAINT fk_answers_question FOREIGN KEY (question_id) REFERENCES questions(id) ON DELETE CASCADE,
-    CONSTRAINT fk_answers_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
-    INDEX idx_answers_question (question_id),
-    INDEX idx_answers_user (user_id)
-);
-
--- Schema creation complete
@@ -0,0 +1,5 @@
+CREATE TABLE IF NOT EXISTS subjects (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    description VARCHAR(500)
+);
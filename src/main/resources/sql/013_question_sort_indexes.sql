@@ -0,0 +1,8 @@
+-- Indexes backing keyset (cursor) pagination of the question feed.
+-- Pages are ordered by the sort column and then by id, and InnoDB secondary
+-- indexes end with the primary key, so an index on the sort column alone lets
+-- each page seek straight to its cursor. created_at and view_count are
+-- already covered by idx_questions_created_at and idx_questions_view_count.
+CREATE INDEX idx_questions_upvotes ON questions (upvotes);
+
+CREATE INDEX idx_questions_answer_count ON questions (answer_count);
@@ -0,0 +1,9 @@
+-- FULLTEXT index for question search.
+-- The idx_questions_title_fulltext and idx_questions_content_search indexes
+-- once listed in 011_performance_indexes.sql were plain B-tree indexes and
+-- could not serve '%text%' searches, so they are dropped where they exist.
+DROP INDEX idx_questions_title_fulltext ON questions;
+
+DROP INDEX idx_questions_content_search ON questions;
+
+ALTER TABLE questions ADD FULLTEXT INDEX ft_questions_title_content (title, content);
@@ -0,0 +1,14 @@
+-- Recount questions.upvotes/downvotes from question_votes once.
+-- Votes now adjust these counters by delta in the same transaction as the
+-- vote itself, so they must start out matching the votes on record; earlier
+-- versions overwrote them with separately computed totals.
+UPDATE questions q
+LEFT JOIN (
+    SELECT question_id,
+           SUM(vote_type = 'upvote') AS upvotes,
+           SUM(vote_type = 'downvote') AS downvotes
+    FROM question_votes
+    GROUP BY question_id
+) v ON v.question_id = q.id
+SET q.upvotes = COALESCE(v.upvotes, 0),
+    q.downvotes = COALESCE(v.downvotes, 0);
@@ -0,0 +1,122 @@
+package com.upnext.app.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for size and daily rollover in {@link LogFileSink}, and compression
+ * and retention of the rolled-over segments.
+ */
+public class LogFileSinkTest {
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private Path directory;
+    private Path logFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("upnext-log-test");
+        logFile = directory.resolve("upnext.log");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        for (Path file : listFiles()) {
+            Files.deleteIfExists(file);
+        }
+        Files.deleteIfExists(directory);
+    }
+
+    @Test
+    public void testSizeLimitRollsOverAndCompresses() throws IOException {
+        LogFileSink sink = new LogFileSink(logFile, 100, false, 0, true);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            sink.rollIfNeeded(now);
+            sink.append(String.format("line %02d %s%n", i, "x".repeat(50)));
+        }
+        sink.close();
+
+        List<Path> segments = segments();
+        assertEquals(2, segments.size());
+        for (Path segment : segments) {
+            assertTrue(segment.getFileName().toString().endsWith(".log.gz"));
+        }
+        String first = gunzip(directory.resolve("upnext-" + LocalDate.now() + ".1.log.gz"));
+        assertTrue(first.startsWith("line 00"));
+        assertTrue(Files.readString(logFile).startsWith("line 04"));
+    }
+
+    @Test
+    public void testNewDayRollsOverWithPreviousDate() throws IOException {
+        LogFileSink sink = new LogFileSink(logFile, 0, true, 0, false);
+        long now = System.currentTimeMillis();
+        sink.rollIfNeeded(now);
+        sink.append("today\n");
+        sink.rollIfNeeded(now + DAY_MILLIS);
+        sink.append("tomorrow\n");
+        sink.close();
+
+        Path segment = directory.resolve("upnext-" + LocalDate.now() + ".1.log");
+        assertEquals("today\n", Files.readString(segment));
+        assertEquals("tomorrow\n", Files.readString(logFile));
+    }
+
+    @Test
+    public void testOldestSegmentsBeyondHistoryAreDeleted() throws IOException {
+        LogFileSink sink = new LogFileSink(logFile, 10, false, 2, false);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 6; i++) {
+            sink.rollIfNeeded(now);
+            sink.append("entry number " + i + "\n");
+        }
+        sink.close();
+
+        assertEquals(2, segments().size());
+    }
+
+    @Test
+    public void testOversizedFileFromEarlierRunIsRolledOnOpen() throws IOException {
+        Files.writeString(logFile, "x".repeat(200));
+
+        LogFileSink sink = new LogFileSink(logFile, 100, false, 0, false);
+        sink.close();
+
+        assertEquals(1, segments().size());
+        assertEquals(0L, Files.size(logFile));
+    }
+
+    private List<Path> segments() throws IOException {
+        List<Path> segments = listFiles();
+        segments.remove(logFile);
+        return segments;
+    }
+
+    private List<Path> listFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            stream.forEach(files::add);
+        }
+        return files;
+    }
+
+    private static String gunzip(Path file) throws IOException {
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(file))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
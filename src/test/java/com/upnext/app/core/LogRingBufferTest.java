@@ -0,0 +1,124 @@
+package com.upnext.app.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LogRingBuffer}, the queue behind asynchronous logging.
+ */
+public class LogRingBufferTest {
+
+    @Test
+    public void testElementsComeOutInOrder() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(4);
+        buffer.offer(1);
+        buffer.offer(2);
+        buffer.offer(3);
+
+        assertEquals(1, buffer.poll());
+        assertEquals(2, buffer.poll());
+        assertEquals(3, buffer.poll());
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testFullBufferRejectsUntilDrained() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(2);
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertFalse(buffer.offer(3));
+
+        assertEquals(1, buffer.poll());
+        assertTrue(buffer.offer(3));
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    public void testSlotsAreReusedAcrossManyLaps() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(8);
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(buffer.offer(i));
+            assertEquals(i, buffer.poll());
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void testDrainToRespectsLimit() {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        assertEquals(3, buffer.drainTo(drained::add, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+        assertEquals(2, buffer.size());
+    }
+
+    @Test
+    public void testCapacityMustBePowerOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new LogRingBuffer<Integer>(6));
+    }
+
+    @Test
+    public void testConcurrentProducersLoseNothing() throws InterruptedException {
+        int producers = 4;
+        int perProducer = 20_000;
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // Each producer's values must arrive in the order it offered them
+        int[] lastSeen = new int[producers];
+        Arrays.fill(lastSeen, -1);
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        int received = 0;
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            Integer value = buffer.poll();
+            if (value == null) {
+                Thread.onSpinWait();
+                continue;
+            }
+            int producer = value / perProducer;
+            assertTrue(value % perProducer > lastSeen[producer]);
+            lastSeen[producer] = value % perProducer;
+            received++;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(producers * perProducer, received);
+        assertTrue(buffer.isEmpty());
+    }
+}
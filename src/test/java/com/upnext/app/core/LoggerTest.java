@@ -0,0 +1,72 @@
+package com.upnext.app.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for level gating and message formatting in {@link Logger}.
+ */
+public class LoggerTest {
+    private final Logger logger = Logger.getInstance(LoggerTest.class);
+    private final Logger.Level originalLevel = logger.getLevel();
+
+    @AfterEach
+    public void tearDown() {
+        logger.setLevel(originalLevel);
+    }
+
+    @Test
+    public void testLevelsAreOrderedBySeverity() {
+        assertTrue(Logger.Level.ERROR.isAtLeast(Logger.Level.WARNING));
+        assertTrue(Logger.Level.WARNING.isAtLeast(Logger.Level.INFO));
+        assertTrue(Logger.Level.INFO.isAtLeast(Logger.Level.DEBUG));
+        assertFalse(Logger.Level.DEBUG.isAtLeast(Logger.Level.INFO));
+    }
+
+    @Test
+    public void testDisabledSupplierIsNeverCalled() {
+        logger.setLevel(Logger.Level.INFO);
+        AtomicInteger calls = new AtomicInteger();
+
+        logger.debug(() -> "expensive " + calls.incrementAndGet());
+
+        assertFalse(logger.isDebugEnabled());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void testEnabledSupplierIsCalledOnce() {
+        logger.setLevel(Logger.Level.DEBUG);
+        logger.setConsoleOutput(false);
+        AtomicInteger calls = new AtomicInteger();
+
+        logger.debug(() -> "expensive " + calls.incrementAndGet());
+
+        assertEquals(1, calls.get());
+        logger.setConsoleOutput(true);
+    }
+
+    @Test
+    public void testPlaceholdersAreReplacedInOrder() {
+        assertEquals("Loaded 3 answers for question 7",
+                Logger.formatMessage("Loaded {} answers for question {}", 3, 7L));
+    }
+
+    @Test
+    public void testMissingArgumentsLeavePlaceholders() {
+        assertEquals("a=1 b={}", Logger.formatMessage("a={} b={}", 1));
+        assertEquals("no placeholders", Logger.formatMessage("no placeholders", "extra"));
+    }
+
+    @Test
+    public void testSameClassGetsSameLogger() {
+        assertSame(logger, Logger.getInstance(LoggerTest.class));
+        assertEquals(LoggerTest.class.getName(), logger.getName());
+    }
+}
@@ -0,0 +1,65 @@
+package com.upnext.app.core;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StartupTimer}: phases are recorded with their duration and
+ * their offset from the start, from any thread.
+ */
+public class StartupTimerTest {
+
+    @Test
+    public void testPhaseRecordsDurationAndOffset() {
+        long start = 1_000_000_000L;
+        StartupTimer timer = new StartupTimer(start);
+
+        long duration = timer.record("schema check", start + TimeUnit.MILLISECONDS.toNanos(40),
+                start + TimeUnit.MILLISECONDS.toNanos(165));
+
+        assertEquals(125, duration);
+        assertEquals(List.of("schema check 125 ms (at +40 ms)"), timer.getPhases());
+    }
+
+    @Test
+    public void testPhasesAreListedInFinishOrder() {
+        long start = 0L;
+        StartupTimer timer = new StartupTimer(start);
+
+        timer.record("theme", 0L, TimeUnit.MILLISECONDS.toNanos(5));
+        timer.record("connection pool warm-up", 0L, TimeUnit.MILLISECONDS.toNanos(90));
+
+        List<String> phases = timer.getPhases();
+        assertTrue(phases.get(0).startsWith("theme "));
+        assertTrue(phases.get(1).startsWith("connection pool warm-up "));
+    }
+
+    @Test
+    public void testConcurrentPhasesAreAllRecorded() throws InterruptedException {
+        StartupTimer timer = new StartupTimer();
+        int threads = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                String phase = "phase-" + t;
+                executor.execute(() -> {
+                    timer.record(phase, timer.mark());
+                    done.countDown();
+                });
+            }
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads, timer.getPhases().size());
+    }
+}
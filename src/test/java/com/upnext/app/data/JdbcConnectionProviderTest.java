@@ -4,6 +4,13 @@ import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.ResultSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.upnext.app.config.DatabaseConfig;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -35,6 +42,9 @@ public class JdbcConnectionProviderTest {
             System.out.println("Running testConnectionPoolSize...");
             tester.testConnectionPoolSize();
             
+            System.out.println("Running testConcurrentBorrowNeverExceedsMaximum...");
+            tester.testConcurrentBorrowNeverExceedsMaximum();
+            
             System.out.println("All tests passed!");
         } catch (SQLException e) {
             System.err.println("Test failed with SQLException: " + e.getMessage());
@@ -57,6 +67,8 @@ public class JdbcConnectionProviderTest {
     public static void setup() throws SQLException {
         // Get the connection provider instance
         connectionProvider = com.upnext.app.data.JdbcConnectionProvider.getInstance();
+        // Open the minimum pool size up front, as application startup does
+        connectionProvider.warmUp();
     }
     
     /**
@@ -153,4 +165,53 @@ public class JdbcConnectionProviderTest {
             throw new AssertionError("Available connection count should be greater than 0, but was: " + availableCount);
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Test that a burst of concurrent borrowers never pushes the number of open
+     * connections past the configured maximum and that every borrower is served.
+     * 
+     * @throws SQLException If there's an error during the test
+     */
+    public void testConcurrentBorrowNeverExceedsMaximum() throws SQLException {
+        int maxPoolSize = DatabaseConfig.getPoolMaxSize();
+        int borrowers = maxPoolSize * 3;
+        ExecutorService executor = Executors.newFixedThreadPool(borrowers);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger served = new AtomicInteger();
+        AtomicInteger peakOpen = new AtomicInteger();
+        
+        try {
+            for (int i = 0; i < borrowers; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    Connection connection = connectionProvider.getConnection();
+                    try {
+                        peakOpen.accumulateAndGet(connectionProvider.getActiveConnectionCount(), Math::max);
+                        Thread.sleep(20);
+                        served.incrementAndGet();
+                    } finally {
+                        connectionProvider.releaseConnection(connection);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                throw new AssertionError("Borrowers did not finish in time");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for borrowers", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        if (served.get() != borrowers) {
+            throw new AssertionError("Expected " + borrowers + " borrowers to be served, but was: " + served.get());
+        }
+        if (peakOpen.get() > maxPoolSize) {
+            throw new AssertionError("Open connections exceeded maximum " + maxPoolSize + ": " + peakOpen.get());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.upnext.app.data;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the bucketed latency histogram used by the connection pool metrics.
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    public void testEmptyHistogramReportsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMeanMillis(), 0.0);
+        assertEquals(0.0, histogram.getPercentileMillis(99), 0.0);
+    }
+
+    @Test
+    public void testPercentilesAreWithinBucketResolution() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertEquals(100, histogram.getCount());
+        double p50 = histogram.getPercentileMillis(50);
+        assertTrue(p50 >= 1.0 && p50 <= 2.1, "p50 should be close to 1 ms but was " + p50);
+        assertEquals(500.0, histogram.getPercentileMillis(100), 0.001);
+        assertEquals(500.0, histogram.getMaxMillis(), 0.001);
+        assertEquals(5.99, histogram.getMeanMillis(), 0.001);
+    }
+
+    @Test
+    public void testResetClearsSamples() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(TimeUnit.MILLISECONDS.toNanos(10));
+
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0.0, histogram.getMaxMillis(), 0.0);
+    }
+}
@@ -0,0 +1,124 @@
+package com.upnext.app.data;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests for {@link PooledConnection}: the prepared statement cache and broken
+ * connection detection.
+ * Uses {@link JdbcStub}, so no database is required.
+ */
+public class PooledConnectionTest {
+    private JdbcStub jdbc;
+    private PooledConnection connection;
+    private SQLException executeFailure;
+
+    @BeforeEach
+    public void setUp() {
+        executeFailure = null;
+        jdbc = new JdbcStub(execution -> {
+            if (executeFailure != null) {
+                throw executeFailure;
+            }
+            return null;
+        });
+        connection = new PooledConnection(jdbc.connection(), null, 2);
+    }
+
+    @Test
+    public void testRepeatedSqlReusesDriverStatement() throws SQLException {
+        PreparedStatement first = connection.prepareStatement("SELECT 1");
+        first.close();
+        PreparedStatement second = connection.prepareStatement("SELECT 1");
+        second.close();
+
+        assertSame(first, second);
+        assertEquals(1, jdbc.prepared().size());
+        assertEquals(0, jdbc.closeCount());
+    }
+
+    @Test
+    public void testNestedUseOfSameSqlGetsSeparateStatement() throws SQLException {
+        PreparedStatement outer = connection.prepareStatement("SELECT 1");
+        PreparedStatement inner = connection.prepareStatement("SELECT 1");
+
+        assertNotSame(outer, inner);
+        assertEquals(2, jdbc.prepared().size());
+
+        inner.close();
+        outer.close();
+        assertEquals(1, jdbc.closeCount());
+        assertEquals(1, connection.getCachedStatementCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedStatementIsEvicted() throws SQLException {
+        connection.prepareStatement("SELECT 1").close();
+        connection.prepareStatement("SELECT 2").close();
+        connection.prepareStatement("SELECT 1").close();
+        connection.prepareStatement("SELECT 3").close();
+
+        assertEquals(2, connection.getCachedStatementCount());
+        assertEquals(1, jdbc.closeCount());
+
+        // "SELECT 2" was the eldest entry and must be prepared again
+        connection.prepareStatement("SELECT 2").close();
+        assertEquals(4, jdbc.prepared().size());
+    }
+
+    @Test
+    public void testStatementEvictedWhileInUseClosesOnRelease() throws SQLException {
+        PreparedStatement held = connection.prepareStatement("SELECT 1");
+        connection.prepareStatement("SELECT 2").close();
+        connection.prepareStatement("SELECT 3").close();
+
+        assertEquals(0, jdbc.closeCount());
+        held.close();
+        assertEquals(1, jdbc.closeCount());
+    }
+
+    @Test
+    public void testClosePhysicallyClosesCachedStatements() throws SQLException {
+        connection.prepareStatement("SELECT 1").close();
+        connection.prepareStatement("SELECT 2").close();
+
+        connection.closePhysically();
+
+        // Two statements plus the connection itself
+        assertEquals(3, jdbc.closeCount());
+        assertTrue(connection.getCachedStatementCount() == 0);
+    }
+
+    @Test
+    public void testCommunicationsFailureMarksConnectionBroken() throws SQLException {
+        executeFailure = new SQLException("Communications link failure", "08S01");
+        PreparedStatement statement = connection.prepareStatement("UPDATE questions SET view_count = 1");
+
+        assertThrows(SQLException.class, statement::executeUpdate);
+        statement.close();
+
+        assertTrue(connection.isBroken());
+    }
+
+    @Test
+    public void testConstraintViolationKeepsConnectionUsable() throws SQLException {
+        executeFailure = new SQLException("Duplicate entry", "23000", 1062);
+        PreparedStatement statement = connection.prepareStatement("INSERT INTO tags (name) VALUES (?)");
+
+        assertThrows(SQLException.class, statement::executeUpdate);
+        statement.close();
+
+        assertFalse(connection.isBroken());
+    }
+}
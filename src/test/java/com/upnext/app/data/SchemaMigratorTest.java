@@ -0,0 +1,168 @@
+package com.upnext.app.data;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.data.SchemaMigrator.Migration;
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests for {@link SchemaMigrator}: a current schema costs one query, only
+ * unrecorded scripts run, and statements already in place on older databases
+ * are skipped. Uses {@link JdbcStub}, so no database is required.
+ */
+public class SchemaMigratorTest {
+    private final Map<Integer, String> recorded = new HashMap<>();
+    private final Map<String, Integer> failures = new HashMap<>();
+    private boolean versionTableExists;
+    private JdbcStub jdbc;
+    private List<String> executedSql;
+
+    private final List<Migration> migrations = List.of(
+            Migration.of("001_create_users.sql", "CREATE TABLE users (id INT);"),
+            Migration.of("002_add_indexes.sql", "-- Indexes\nCREATE INDEX idx_a ON users (id);\nCREATE INDEX idx_b ON users (id);"));
+
+    @BeforeEach
+    public void setUp() {
+        jdbc = new JdbcStub(this::answer);
+        executedSql = jdbc.executed();
+        recorded.clear();
+        failures.clear();
+        versionTableExists = true;
+    }
+
+    @Test
+    public void testCurrentSchemaCostsOneQuery() throws SQLException {
+        for (Migration migration : migrations) {
+            recorded.put(migration.getVersion(), migration.getChecksum());
+        }
+
+        assertEquals(0, SchemaMigrator.migrate(jdbc.connection(), migrations));
+
+        assertEquals(1, executedSql.size());
+        assertTrue(executedSql.get(0).startsWith("SELECT version, checksum FROM schema_version"));
+    }
+
+    @Test
+    public void testNewDatabaseAppliesEveryScriptInOrder() throws SQLException {
+        versionTableExists = false;
+
+        assertEquals(2, SchemaMigrator.migrate(jdbc.connection(), migrations));
+
+        assertTrue(executedSql.indexOf("CREATE TABLE users (id INT)")
+                < executedSql.indexOf("CREATE INDEX idx_a ON users (id)"));
+        assertEquals(migrations.get(0).getChecksum(), recorded.get(1));
+        assertEquals(migrations.get(1).getChecksum(), recorded.get(2));
+        assertTrue(executedSql.get(executedSql.size() - 1).startsWith("SELECT RELEASE_LOCK"));
+    }
+
+    @Test
+    public void testOnlyUnrecordedScriptsRun() throws SQLException {
+        recorded.put(1, migrations.get(0).getChecksum());
+
+        assertEquals(1, SchemaMigrator.migrate(jdbc.connection(), migrations));
+
+        assertFalse(executedSql.contains("CREATE TABLE users (id INT)"));
+        assertTrue(executedSql.contains("CREATE INDEX idx_b ON users (id)"));
+        assertTrue(recorded.containsKey(2));
+    }
+
+    @Test
+    public void testStatementsAlreadyInPlaceAreSkipped() throws SQLException {
+        recorded.put(1, migrations.get(0).getChecksum());
+        // Duplicate key name: an older database already has this index
+        failures.put("CREATE INDEX idx_a ON users (id)", 1061);
+
+        SchemaMigrator.migrate(jdbc.connection(), migrations);
+
+        assertTrue(executedSql.contains("CREATE INDEX idx_b ON users (id)"));
+        assertTrue(recorded.containsKey(2));
+    }
+
+    @Test
+    public void testFailedScriptIsNotRecorded() {
+        recorded.put(1, migrations.get(0).getChecksum());
+        // Syntax error
+        failures.put("CREATE INDEX idx_a ON users (id)", 1064);
+
+        SQLException ex = assertThrows(SQLException.class,
+                () -> SchemaMigrator.migrate(jdbc.connection(), migrations));
+
+        assertEquals(1064, ex.getErrorCode());
+        assertFalse(recorded.containsKey(2));
+        assertFalse(executedSql.contains("CREATE INDEX idx_b ON users (id)"));
+        assertTrue(executedSql.get(executedSql.size() - 1).startsWith("SELECT RELEASE_LOCK"));
+    }
+
+    @Test
+    public void testMigrationNameAndChecksum() {
+        Migration migration = Migration.of("008_add_question_context.sql", "SELECT 1;\n");
+
+        assertEquals(8, migration.getVersion());
+        assertEquals("add question context", migration.getDescription());
+        assertEquals(64, migration.getChecksum().length());
+        assertEquals(migration.getChecksum(), Migration.of("008_x.sql", "SELECT 1;\r\n").getChecksum());
+        assertNotEquals(migration.getChecksum(), Migration.of("008_x.sql", "SELECT 2;\n").getChecksum());
+    }
+
+    @Test
+    public void testBundledScriptsLoadInVersionOrder() throws SQLException {
+        List<Migration> bundled = SchemaMigrator.loadMigrations();
+
+        assertEquals(SchemaMigrator.SCRIPTS.size(), bundled.size());
+        for (int i = 1; i < bundled.size(); i++) {
+            assertTrue(bundled.get(i - 1).getVersion() < bundled.get(i).getVersion());
+        }
+        for (Migration migration : bundled) {
+            assertFalse(SqlScriptSplitter.split(migration.getScript()).isEmpty());
+        }
+    }
+
+    /**
+     * Plays the database: schema statements may fail with a configured error
+     * code, the version table holds {@code recorded}, and the migration lock
+     * is always granted.
+     */
+    private Object answer(JdbcStub.Execution execution) throws SQLException {
+        String sql = execution.getSql();
+        switch (execution.getMethod()) {
+            case "execute":
+                if (sql.startsWith("CREATE TABLE IF NOT EXISTS schema_version")) {
+                    versionTableExists = true;
+                }
+                Integer errorCode = failures.get(sql);
+                if (errorCode != null) {
+                    throw new SQLException("stub failure", "42000", errorCode);
+                }
+                return false;
+            case "executeUpdate":
+                recorded.put((Integer) execution.getParameter(1), (String) execution.getParameter(3));
+                return 1;
+            default:
+                List<Map<String, Object>> rows = new ArrayList<>();
+                if (sql.startsWith("SELECT version")) {
+                    if (!versionTableExists) {
+                        throw new SQLException("Table 'schema_version' doesn't exist", "42S02", 1146);
+                    }
+                    for (Map.Entry<Integer, String> entry : recorded.entrySet()) {
+                        rows.add(JdbcStub.row("version", entry.getKey(), "checksum", entry.getValue()));
+                    }
+                } else {
+                    // GET_LOCK and RELEASE_LOCK both report success
+                    rows.add(JdbcStub.row("lock", 1));
+                }
+                return JdbcStub.resultSet(rows);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.upnext.app.data;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link SqlScriptSplitter}: semicolons inside literals, quoted
+ * identifiers and comments do not end a statement.
+ */
+public class SqlScriptSplitterTest {
+
+    @Test
+    public void testSplitsOnSemicolons() {
+        List<String> statements = SqlScriptSplitter.split("CREATE TABLE a (x INT);\nCREATE TABLE b (y INT);\n");
+
+        assertEquals(List.of("CREATE TABLE a (x INT)", "CREATE TABLE b (y INT)"), statements);
+    }
+
+    @Test
+    public void testLastStatementNeedsNoSemicolon() {
+        assertEquals(List.of("SELECT 1", "SELECT 2"), SqlScriptSplitter.split("SELECT 1; SELECT 2"));
+    }
+
+    @Test
+    public void testSemicolonsInsideLiteralsAreKept() {
+        List<String> statements = SqlScriptSplitter.split(
+                "INSERT INTO t VALUES ('a;b', \"c;d\", 'it''s; fine');\nSELECT `odd;name` FROM t;");
+
+        assertEquals(List.of("INSERT INTO t VALUES ('a;b', \"c;d\", 'it''s; fine')",
+                "SELECT `odd;name` FROM t"), statements);
+    }
+
+    @Test
+    public void testBackslashEscapedQuoteDoesNotEndLiteral() {
+        List<String> statements = SqlScriptSplitter.split(
+                "INSERT INTO subjects VALUES ('General', 'Questions that don\\'t fit; anywhere');\nSELECT 1;");
+
+        assertEquals(2, statements.size());
+        assertEquals("INSERT INTO subjects VALUES ('General', 'Questions that don\\'t fit; anywhere')",
+                statements.get(0));
+    }
+
+    @Test
+    public void testPreparedDynamicSqlStaysIntact() {
+        String script = "SET @sql = (SELECT IF(x > 0,\n"
+                + "    \"SELECT 'Column context already exists'\",\n"
+                + "    \"ALTER TABLE questions ADD COLUMN context TEXT\"\n"
+                + "));\n"
+                + "PREPARE stmt FROM @sql;\n"
+                + "EXECUTE stmt;\n"
+                + "DEALLOCATE PREPARE stmt;\n";
+
+        List<String> statements = SqlScriptSplitter.split(script);
+
+        assertEquals(4, statements.size());
+        assertTrue(statements.get(0).contains("\"SELECT 'Column context already exists'\""));
+        assertEquals("PREPARE stmt FROM @sql", statements.get(1));
+        assertEquals("DEALLOCATE PREPARE stmt", statements.get(3));
+    }
+
+    @Test
+    public void testCommentsAreDropped() {
+        String script = "-- header; with a semicolon\n"
+                + "# another; comment\n"
+                + "/* block; comment */ CREATE INDEX idx ON t (a); -- trailing\n"
+                + "-- only a comment at the end\n";
+
+        assertEquals(List.of("CREATE INDEX idx ON t (a)"), SqlScriptSplitter.split(script));
+    }
+
+    @Test
+    public void testDashesWithoutWhitespaceAreNotComments() {
+        assertEquals(List.of("SELECT 5--1"), SqlScriptSplitter.split("SELECT 5--1;"));
+    }
+
+    @Test
+    public void testExecutableCommentsAreKept() {
+        assertEquals(List.of("CREATE TABLE t (x INT) /*!50100 ENGINE=InnoDB */"),
+                SqlScriptSplitter.split("CREATE TABLE t (x INT) /*!50100 ENGINE=InnoDB */;"));
+    }
+
+    @Test
+    public void testEmptyScriptHasNoStatements() {
+        assertTrue(SqlScriptSplitter.split("  -- nothing here\n;;\n").isEmpty());
+    }
+}
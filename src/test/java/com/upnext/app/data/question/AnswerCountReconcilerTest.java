@@ -0,0 +1,100 @@
+package com.upnext.app.data.question;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests for {@link AnswerCountReconciler}: a chunk locks its questions, then
+ * repairs only their id range, in one transaction.
+ * Uses {@link JdbcStub}, so no database is required.
+ */
+public class AnswerCountReconcilerTest {
+    // Parameters bound to the repair: range start and end, twice
+    private final List<Object> repairRange = new ArrayList<>();
+
+    private List<Long> questionIds;
+    private int driftedQuestions;
+    private boolean failRepair;
+    private JdbcStub jdbc;
+
+    @BeforeEach
+    public void setUp() {
+        repairRange.clear();
+        questionIds = Collections.emptyList();
+        driftedQuestions = 0;
+        failRepair = false;
+        jdbc = new JdbcStub(this::answer);
+    }
+
+    @Test
+    public void testChunkIsLockedThenRepairedAsOneRange() throws SQLException {
+        questionIds = List.of(5L, 8L, 13L);
+        driftedQuestions = 1;
+
+        AnswerCountReconciler.Chunk chunk = AnswerCountReconciler.repairChunk(jdbc.connection(), 2L, 3);
+
+        assertEquals(List.of("setAutoCommit(false)", "SELECT", "UPDATE", "commit", "setAutoCommit(true)"), calls());
+        assertEquals(List.of(2L, 13L, 2L, 13L), repairRange);
+        assertEquals(13L, chunk.getLastId());
+        assertEquals(3, chunk.getQuestions());
+        assertEquals(1, chunk.getRepaired());
+    }
+
+    @Test
+    public void testPastTheLastQuestionNothingIsWritten() throws SQLException {
+        AnswerCountReconciler.Chunk chunk = AnswerCountReconciler.repairChunk(jdbc.connection(), 40L, 3);
+
+        assertEquals(List.of("setAutoCommit(false)", "SELECT", "commit", "setAutoCommit(true)"), calls());
+        assertEquals(40L, chunk.getLastId());
+        assertEquals(0, chunk.getQuestions());
+    }
+
+    @Test
+    public void testFailedRepairIsRolledBack() {
+        questionIds = List.of(1L);
+        failRepair = true;
+
+        assertThrows(SQLException.class, () -> AnswerCountReconciler.repairChunk(jdbc.connection(), 0L, 3));
+        assertEquals(List.of("setAutoCommit(false)", "SELECT", "UPDATE", "rollback", "setAutoCommit(true)"), calls());
+    }
+
+    /**
+     * Answers the lock with the stored question ids and the repair with the
+     * number of drifted questions.
+     */
+    private Object answer(JdbcStub.Execution execution) throws SQLException {
+        if (execution.isQuery()) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            for (Long id : questionIds) {
+                rows.add(JdbcStub.row("id", id));
+            }
+            return JdbcStub.resultSet(rows);
+        }
+        if (failRepair) {
+            throw new SQLException("Lock wait timeout exceeded");
+        }
+        repairRange.addAll(execution.getParameters());
+        return driftedQuestions;
+    }
+
+    /**
+     * The stub's log with each statement shortened to its verb.
+     */
+    private List<String> calls() {
+        List<String> calls = new ArrayList<>();
+        for (String entry : jdbc.log()) {
+            calls.add(entry.startsWith("SELECT") || entry.startsWith("UPDATE") ? entry.substring(0, 6) : entry);
+        }
+        return calls;
+    }
+}
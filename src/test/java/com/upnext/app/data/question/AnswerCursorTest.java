@@ -0,0 +1,76 @@
+package com.upnext.app.data.question;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.domain.question.Answer;
+
+/**
+ * Tests for {@link AnswerCursor}: cursors survive encoding with the answer
+ * count, and the seek predicate follows the mixed directions of the answer order.
+ */
+public class AnswerCursorTest {
+
+    @Test
+    public void testRoundTripKeepsKeyAndTotal() {
+        Answer answer = answer(42L, true, 12);
+        AnswerCursor cursor = AnswerCursor.after(answer, 87);
+
+        AnswerCursor decoded = AnswerCursor.decode(cursor.encode());
+
+        assertEquals(42L, decoded.getId());
+        assertEquals(87, decoded.getTotalCount());
+        List<Object> original = new ArrayList<>();
+        List<Object> roundTripped = new ArrayList<>();
+        cursor.predicate("a", original);
+        decoded.predicate("a", roundTripped);
+        assertEquals(original, roundTripped);
+    }
+
+    @Test
+    public void testPredicateSeeksInSortDirection() {
+        Answer answer = answer(5L, false, 3);
+        List<Object> parameters = new ArrayList<>();
+
+        String predicate = AnswerCursor.after(answer, 10).predicate("a", parameters);
+
+        assertEquals("(a.is_accepted < ? OR (a.is_accepted = ? AND (a.upvotes < ? OR (a.upvotes = ? AND "
+                + "(a.created_at > ? OR (a.created_at = ? AND a.id > ?))))))", predicate);
+        assertEquals(List.of(false, false, 3, 3, Timestamp.valueOf(answer.getCreatedAt()),
+                Timestamp.valueOf(answer.getCreatedAt()), 5L), parameters);
+    }
+
+    @Test
+    public void testOrderMatchesTheSortingIndex() {
+        assertEquals("a.is_accepted DESC, a.upvotes DESC, a.created_at ASC, a.id ASC", AnswerCursor.orderBy("a"));
+    }
+
+    @Test
+    public void testEncodedFormIsOpaque() {
+        String encoded = AnswerCursor.after(answer(1L, false, 0), 1).encode();
+
+        assertFalse(encoded.contains("|"));
+    }
+
+    @Test
+    public void testMalformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> AnswerCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> AnswerCursor.decode("MXwy"));
+    }
+
+    private static Answer answer(long id, boolean accepted, int upvotes) {
+        Answer answer = new Answer();
+        answer.setId(id);
+        answer.setAccepted(accepted);
+        answer.setUpvotes(upvotes);
+        answer.setCreatedAt(LocalDateTime.of(2024, 3, 1, 9, 30, 15));
+        return answer;
+    }
+}
@@ -0,0 +1,139 @@
+package com.upnext.app.data.question;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests for {@link AnswerVoteWriter}: a vote costs the same four statements
+ * however many votes the answer has, never re-aggregates
+ * {@code answer_votes}, and moves the counters by the change it made.
+ * Uses {@link JdbcStub}, so no database is required.
+ */
+public class AnswerVoteWriterTest {
+    private static final long ANSWER_ID = 3L;
+    private static final long USER_ID = 9L;
+
+    // Statements run against the stub "database", shortened by label()
+    private final List<String> statements = new ArrayList<>();
+    // Parameters bound to the counter update: up delta, down delta, threshold, id
+    private final List<Object> deltaUpdate = new ArrayList<>();
+
+    private int storedUpvotes;
+    private int storedDownvotes;
+    private Boolean storedVote;
+    private boolean answerExists;
+    private JdbcStub jdbc;
+
+    @BeforeEach
+    public void setUp() {
+        jdbc = new JdbcStub(this::answer);
+        statements.clear();
+        deltaUpdate.clear();
+        storedUpvotes = 0;
+        storedDownvotes = 0;
+        storedVote = null;
+        answerExists = true;
+    }
+
+    @Test
+    public void testFirstVoteIsAddedWithoutRecounting() throws SQLException {
+        storedUpvotes = 500;
+        storedDownvotes = 40;
+
+        AnswerRepository.VoteResult result = AnswerVoteWriter.castVote(jdbc.connection(), ANSWER_ID, USER_ID, true);
+
+        assertEquals(List.of("SELECT upvotes,", "SELECT is_upvote", "INSERT INTO answer_votes", "UPDATE answers"),
+                statements);
+        assertEquals(List.of(1, 0, AnswerVoteWriter.VERIFIED_UPVOTE_THRESHOLD, ANSWER_ID), deltaUpdate);
+        assertFalse(jdbc.executed().stream().anyMatch(sql -> sql.contains("SUM(")));
+        assertEquals(501, result.getUpvotes());
+        assertEquals(40, result.getDownvotes());
+    }
+
+    @Test
+    public void testOppositeVoteMovesOneVoteAcross() throws SQLException {
+        storedUpvotes = 4;
+        storedDownvotes = 2;
+        storedVote = true;
+
+        AnswerRepository.VoteResult result = AnswerVoteWriter.castVote(jdbc.connection(), ANSWER_ID, USER_ID, false);
+
+        assertTrue(statements.contains("UPDATE answer_votes"));
+        assertEquals(List.of(-1, 1), deltaUpdate.subList(0, 2));
+        assertEquals(3, result.getUpvotes());
+        assertEquals(3, result.getDownvotes());
+    }
+
+    @Test
+    public void testSameVoteAgainRemovesIt() throws SQLException {
+        storedDownvotes = 1;
+        storedVote = false;
+
+        AnswerRepository.VoteResult result = AnswerVoteWriter.castVote(jdbc.connection(), ANSWER_ID, USER_ID, false);
+
+        assertTrue(statements.contains("DELETE FROM answer_votes"));
+        assertEquals(List.of(0, -1), deltaUpdate.subList(0, 2));
+        assertEquals(0, result.getDownvotes());
+    }
+
+    @Test
+    public void testVerifiedStatusFollowsTheNewCount() throws SQLException {
+        storedUpvotes = AnswerVoteWriter.VERIFIED_UPVOTE_THRESHOLD - 1;
+
+        AnswerRepository.VoteResult result = AnswerVoteWriter.castVote(jdbc.connection(), ANSWER_ID, USER_ID, true);
+
+        assertTrue(result.isVerified());
+        // The flag is set by the counter update itself, not a second statement
+        assertEquals(1, statements.stream().filter(s -> s.equals("UPDATE answers")).count());
+    }
+
+    @Test
+    public void testMissingAnswerIsRejectedBeforeAnyWrite() {
+        answerExists = false;
+
+        assertThrows(SQLException.class, () -> AnswerVoteWriter.castVote(jdbc.connection(), ANSWER_ID, USER_ID, true));
+        assertEquals(List.of("SELECT upvotes,"), statements);
+    }
+
+    /**
+     * Plays the database: the answer's counters and the user's stored vote.
+     */
+    private Object answer(JdbcStub.Execution execution) {
+        String sql = execution.getSql();
+        statements.add(label(sql));
+        if (execution.isQuery()) {
+            if (sql.startsWith("SELECT upvotes")) {
+                return JdbcStub.resultSet(answerExists
+                        ? List.of(JdbcStub.row("upvotes", storedUpvotes, "downvotes", storedDownvotes))
+                        : List.of());
+            }
+            return JdbcStub.resultSet(storedVote != null
+                    ? List.of(JdbcStub.row("is_upvote", storedVote))
+                    : List.of());
+        }
+        if (sql.startsWith("UPDATE answers ")) {
+            deltaUpdate.addAll(execution.getParameters());
+        }
+        return 1;
+    }
+
+    /**
+     * Shortens a statement to its verb and table, or its first two words for a select.
+     */
+    private static String label(String sql) {
+        String[] words = sql.split(" ");
+        return sql.startsWith("INSERT") || sql.startsWith("DELETE")
+                ? words[0] + " " + words[1] + " " + words[2]
+                : words[0] + " " + words[1];
+    }
+}
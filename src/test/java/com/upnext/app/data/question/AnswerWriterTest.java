@@ -0,0 +1,76 @@
+package com.upnext.app.data.question;
+
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.domain.question.Answer;
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests for {@link AnswerWriter}: saving an answer moves the question's
+ * counter by one, locking the question before the answer is inserted, and
+ * never counts the question's answers.
+ * Uses {@link JdbcStub}, so no database is required.
+ */
+public class AnswerWriterTest {
+    private static final long QUESTION_ID = 4L;
+    private static final long NEW_ANSWER_ID = 31L;
+
+    private boolean questionExists;
+    private JdbcStub jdbc;
+    // Statements run against the stub "database", in order
+    private List<String> executedSql;
+
+    @BeforeEach
+    public void setUp() {
+        questionExists = true;
+        jdbc = new JdbcStub(this::answer);
+        executedSql = jdbc.executed();
+    }
+
+    @Test
+    public void testCounterIsIncrementedBeforeTheInsert() throws SQLException {
+        Answer saved = AnswerWriter.insert(jdbc.connection(), newAnswer());
+
+        assertEquals(2, executedSql.size());
+        assertTrue(executedSql.get(0).contains("answer_count = answer_count + 1"), executedSql.get(0));
+        assertTrue(executedSql.get(1).startsWith("INSERT INTO answers"), executedSql.get(1));
+        assertFalse(executedSql.stream().anyMatch(sql -> sql.contains("COUNT(")));
+        assertEquals(Long.valueOf(NEW_ANSWER_ID), saved.getId());
+        assertNotNull(saved.getCreatedAt());
+    }
+
+    @Test
+    public void testMissingQuestionIsRejectedBeforeTheInsert() {
+        questionExists = false;
+
+        assertThrows(SQLException.class, () -> AnswerWriter.insert(jdbc.connection(), newAnswer()));
+        assertEquals(1, executedSql.size());
+    }
+
+    private static Answer newAnswer() {
+        Answer answer = new Answer();
+        answer.setQuestionId(QUESTION_ID);
+        answer.setUserId(2L);
+        answer.setContent("Use a layout manager.");
+        return answer;
+    }
+
+    /**
+     * Updates the question row if it exists and hands out the new answer's id.
+     */
+    private Object answer(JdbcStub.Execution execution) {
+        if ("getGeneratedKeys".equals(execution.getMethod())) {
+            return JdbcStub.resultSet(List.of(JdbcStub.row("id", NEW_ANSWER_ID)));
+        }
+        return execution.getSql().startsWith("UPDATE") && !questionExists ? 0 : 1;
+    }
+}
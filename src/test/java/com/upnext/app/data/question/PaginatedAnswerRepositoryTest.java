@@ -0,0 +1,125 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.core.Logger;
+import com.upnext.app.data.JdbcConnectionProvider;
+import com.upnext.app.data.UserRepository;
+import com.upnext.app.domain.User;
+import com.upnext.app.domain.question.Answer;
+import com.upnext.app.domain.question.Question;
+
+/**
+ * Test class for PaginatedAnswerRepository single-answer loading.
+ * Checks the counts it returns and, through EXPLAIN, that loading one answer
+ * never scans a whole table.
+ */
+public class PaginatedAnswerRepositoryTest {
+    private static final Logger LOGGER = Logger.getInstance();
+
+    private PaginatedAnswerRepository paginatedAnswerRepository;
+    private AnswerRepository answerRepository;
+
+    private User author;
+    private User voter;
+    private Answer testAnswer;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        paginatedAnswerRepository = PaginatedAnswerRepository.getInstance();
+        answerRepository = AnswerRepository.getInstance();
+        UserRepository userRepository = UserRepository.getInstance();
+
+        long timestamp = System.currentTimeMillis();
+        author = createTestUser(userRepository, "paged_author_" + timestamp + "@example.com", "Paged Author");
+        voter = createTestUser(userRepository, "paged_voter_" + timestamp + "@example.com", "Paged Voter");
+
+        Question question = new Question();
+        question.setUserId(author.getId());
+        question.setTitle("Test Question for Answer Loading");
+        question.setContent("This is a test question for loading a single answer.");
+        question = QuestionRepository.getInstance().save(question);
+
+        Answer answer = new Answer();
+        answer.setQuestionId(question.getId());
+        answer.setUserId(author.getId());
+        answer.setContent("This is a test answer for single answer loading.");
+        testAnswer = answerRepository.save(answer);
+    }
+
+    @Test
+    public void testFindAnswerWithVotesReturnsCurrentCounts() throws SQLException {
+        answerRepository.voteAnswer(testAnswer.getId(), voter.getId(), true);
+        answerRepository.voteAnswer(testAnswer.getId(), author.getId(), false);
+
+        Answer loaded = paginatedAnswerRepository.findAnswerWithVotes(testAnswer.getId());
+
+        assertNotNull(loaded);
+        assertEquals(1, loaded.getUpvotes());
+        assertEquals(1, loaded.getDownvotes());
+        assertEquals("Paged Author", loaded.getUserName());
+    }
+
+    @Test
+    public void testFindAnswerWithVotesPlanHasNoFullScan() throws SQLException {
+        answerRepository.voteAnswer(testAnswer.getId(), voter.getId(), true);
+
+        List<String> plan = explain(PaginatedAnswerRepository.FIND_ANSWER_WITH_VOTES_SQL, testAnswer.getId());
+        LOGGER.info("Plan for single answer load: " + plan);
+
+        assertFalse(plan.isEmpty(), "EXPLAIN should describe the query");
+        for (String step : plan) {
+            // ALL is a table scan and index a full index scan; DERIVED is an aggregated subquery
+            assertFalse(step.contains("type=ALL") || step.contains("type=index,"), "Full scan in plan: " + step);
+            assertFalse(step.contains("select_type=DERIVED"), "Derived table in plan: " + step);
+            assertFalse(step.contains("table=answer_votes"), "Vote rows read in plan: " + step);
+        }
+        assertTrue(plan.stream().anyMatch(step -> step.contains("table=a,") && step.contains("key=PRIMARY")),
+                "Answer should be read by primary key: " + plan);
+    }
+
+    /**
+     * Runs EXPLAIN for a query taking one id parameter, one entry per plan row.
+     */
+    private static List<String> explain(String sql, Long id) throws SQLException {
+        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+        Connection connection = provider.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            statement.setLong(1, id);
+            List<String> plan = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    plan.add("select_type=" + rs.getString("select_type")
+                            + ", table=" + rs.getString("table")
+                            + ", type=" + rs.getString("type")
+                            + ", key=" + rs.getString("key"));
+                }
+            }
+            return plan;
+        } finally {
+            provider.releaseConnection(connection);
+        }
+    }
+
+    private static User createTestUser(UserRepository userRepository, String email, String name)
+            throws SQLException {
+        User user = new User();
+        user.setName(name);
+        user.setEmail(email);
+        user.setPasswordHash("test_hash");
+        user.setSalt("test_salt");
+        return userRepository.save(user);
+    }
+}
@@ -0,0 +1,98 @@
+package com.upnext.app.data.question;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.domain.question.Question;
+import com.upnext.app.domain.question.QuestionSearchCriteria.SortOption;
+
+/**
+ * Tests for {@link QuestionCursor}: cursors survive encoding for every sort
+ * option and produce seek predicates in the direction of the sort.
+ */
+public class QuestionCursorTest {
+
+    @Test
+    public void testRoundTripForEverySortOption() {
+        Question question = question(42L);
+        for (SortOption sortOption : SortOption.values()) {
+            QuestionCursor cursor = QuestionCursor.after(question, sortOption);
+
+            QuestionCursor decoded = QuestionCursor.decode(cursor.encode(), sortOption);
+
+            assertEquals(sortOption, decoded.getSortOption());
+            assertEquals(cursor.getSortValue(), decoded.getSortValue());
+            assertEquals(42L, decoded.getId());
+        }
+    }
+
+    @Test
+    public void testSortValueComesFromTheSortColumn() {
+        Question question = question(7L);
+
+        assertEquals(Timestamp.valueOf(question.getCreatedAt()),
+                QuestionCursor.after(question, SortOption.NEWEST).getSortValue());
+        assertEquals(12, QuestionCursor.after(question, SortOption.MOST_UPVOTED).getSortValue());
+        assertEquals(340, QuestionCursor.after(question, SortOption.MOST_VIEWED).getSortValue());
+        assertEquals(3, QuestionCursor.after(question, SortOption.MOST_ANSWERED).getSortValue());
+    }
+
+    @Test
+    public void testEncodedFormIsOpaque() {
+        String encoded = QuestionCursor.after(question(1L), SortOption.NEWEST).encode();
+
+        assertFalse(encoded.contains("NEWEST"));
+        assertFalse(encoded.contains("|"));
+    }
+
+    @Test
+    public void testCursorForAnotherSortIsRejected() {
+        String encoded = QuestionCursor.after(question(1L), SortOption.NEWEST).encode();
+
+        assertThrows(IllegalArgumentException.class,
+                () -> QuestionCursor.decode(encoded, SortOption.MOST_UPVOTED));
+    }
+
+    @Test
+    public void testMalformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> QuestionCursor.decode("not a cursor!", SortOption.NEWEST));
+        assertThrows(IllegalArgumentException.class,
+                () -> QuestionCursor.decode("TkVXRVNU", SortOption.NEWEST));
+    }
+
+    @Test
+    public void testPredicateFollowsSortDirection() {
+        List<Object> parameters = new ArrayList<>();
+        String descending = QuestionCursor.after(question(9L), SortOption.MOST_UPVOTED).predicate("q", parameters);
+
+        assertEquals("(q.upvotes < ? OR (q.upvotes = ? AND q.id < ?))", descending);
+        assertEquals(List.of(12, 12, 9L), parameters);
+
+        String ascending = QuestionCursor.after(question(9L), SortOption.OLDEST).predicate("q", new ArrayList<>());
+        assertEquals("(q.created_at > ? OR (q.created_at = ? AND q.id > ?))", ascending);
+    }
+
+    @Test
+    public void testOrderByBreaksTiesOnId() {
+        assertEquals("q.created_at DESC, q.id DESC", QuestionCursor.orderBy(SortOption.NEWEST, "q"));
+        assertEquals("q.created_at ASC, q.id ASC", QuestionCursor.orderBy(SortOption.OLDEST, "q"));
+    }
+
+    private Question question(long id) {
+        Question question = new Question();
+        question.setId(id);
+        question.setCreatedAt(LocalDateTime.of(2025, 3, 14, 9, 26, 53));
+        question.setUpvotes(12);
+        question.setViewCount(340);
+        question.setAnswerCount(3);
+        return question;
+    }
+}
@@ -0,0 +1,149 @@
+package com.upnext.app.data.question;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.domain.question.Answer;
+import com.upnext.app.domain.question.AnswerPage;
+import com.upnext.app.domain.question.Question;
+import com.upnext.app.domain.question.QuestionVote.VoteType;
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests for {@link QuestionDetailRepository}: the question comes back with its
+ * tags and the viewer's vote from one statement, and each page of answers
+ * carries the viewer's votes and the answer count from one statement.
+ * Uses {@link JdbcStub}, so no database is required.
+ */
+public class QuestionDetailRepositoryTest {
+    private List<Map<String, Object>> rows;
+    private JdbcStub jdbc;
+    private List<String> executedSql;
+    // The most recent query, with the parameters it was run with
+    private JdbcStub.Execution lastQuery;
+
+    @BeforeEach
+    public void setUp() {
+        lastQuery = null;
+        jdbc = new JdbcStub(execution -> {
+            lastQuery = execution;
+            return JdbcStub.resultSet(rows);
+        });
+        executedSql = jdbc.executed();
+    }
+
+    @Test
+    public void testQuestionTagsAndViewerVoteComeFromOneStatement() throws SQLException {
+        rows = List.of(questionRow("awt,java,swing", "downvote"));
+
+        Question question = QuestionDetailRepository.readQuestion(jdbc.connection(), 7L, 3L);
+
+        assertEquals(1, executedSql.size());
+        assertEquals(List.of("awt", "java", "swing"), question.getTags());
+        assertEquals(VoteType.DOWNVOTE, question.getViewerVote());
+        assertEquals("Ada", question.getUserName());
+        assertEquals(3L, lastQuery.getParameter(1));
+        assertEquals(7L, lastQuery.getParameter(2));
+    }
+
+    @Test
+    public void testQuestionWithoutTagsOrVote() throws SQLException {
+        rows = List.of(questionRow(null, null));
+
+        Question question = QuestionDetailRepository.readQuestion(jdbc.connection(), 7L, null);
+
+        assertTrue(question.getTags().isEmpty());
+        assertNull(question.getViewerVote());
+        assertEquals(Types.BIGINT, lastQuery.getParameter(1));
+    }
+
+    @Test
+    public void testMissingQuestion() throws SQLException {
+        rows = List.of();
+
+        assertNull(QuestionDetailRepository.readQuestion(jdbc.connection(), 7L, 3L));
+    }
+
+    @Test
+    public void testAnswersCarryViewerVotes() throws SQLException {
+        rows = List.of(answerRow(1L, Boolean.TRUE), answerRow(2L, Boolean.FALSE), answerRow(3L, null));
+
+        AnswerPage page = PaginatedAnswerRepository.readAnswerPage(jdbc.connection(), 7L, 3L, 20, null);
+        List<Answer> answers = page.getAnswers();
+
+        assertEquals(1, executedSql.size());
+        assertEquals(3, answers.size());
+        assertEquals(Boolean.TRUE, answers.get(0).getViewerVote());
+        assertEquals(Boolean.FALSE, answers.get(1).getViewerVote());
+        assertNull(answers.get(2).getViewerVote());
+        assertEquals("Grace", answers.get(0).getUserName());
+    }
+
+    @Test
+    public void testFirstAnswerPageCountsEveryAnswerInTheSameStatement() throws SQLException {
+        rows = List.of(answerRow(1L, null), answerRow(2L, null), answerRow(3L, null));
+
+        AnswerPage page = PaginatedAnswerRepository.readAnswerPage(jdbc.connection(), 7L, null, 2, null);
+
+        assertEquals(1, executedSql.size());
+        assertTrue(executedSql.get(0).contains("COUNT(*) OVER()"));
+        assertEquals(2, page.getAnswers().size());
+        assertEquals(45, page.getTotalCount());
+        assertTrue(page.hasMore());
+        // One row beyond the page is asked for to tell whether another follows
+        assertEquals(3, lastQuery.getParameter(3));
+    }
+
+    @Test
+    public void testNextAnswerPageSeeksPastTheCursor() throws SQLException {
+        rows = List.of(answerRow(1L, null), answerRow(2L, null), answerRow(3L, null));
+        String cursor = PaginatedAnswerRepository.readAnswerPage(jdbc.connection(), 7L, null, 2, null).getNextCursor();
+        executedSql.clear();
+        rows = List.of(answerRow(3L, null));
+
+        AnswerPage next = PaginatedAnswerRepository.readAnswerPage(jdbc.connection(), 7L, null, 2, cursor);
+
+        String sql = executedSql.get(0);
+        assertFalse(sql.contains("OVER()"));
+        assertFalse(sql.contains("OFFSET"));
+        assertTrue(sql.contains("a.id > ?"));
+        assertEquals(45, next.getTotalCount());
+        assertFalse(next.hasMore());
+        // viewer, question, then the seek key ending with the last answer's id
+        assertEquals(2L, lastQuery.getParameter(9));
+    }
+
+    private Map<String, Object> questionRow(String tagNames, String viewerVote) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", 7L);
+        row.put("user_id", 2L);
+        row.put("title", "Why does my JTable flicker?");
+        row.put("content", "Full body");
+        row.put("user_name", "Ada");
+        row.put("tag_names", tagNames);
+        row.put("viewer_vote", viewerVote);
+        return row;
+    }
+
+    private Map<String, Object> answerRow(Long id, Boolean viewerUpvote) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", id);
+        row.put("question_id", 7L);
+        row.put("user_id", 4L);
+        row.put("content", "Use double buffering");
+        row.put("user_name", "Grace");
+        row.put("viewer_upvote", viewerUpvote);
+        row.put("total_count", 45);
+        return row;
+    }
+}
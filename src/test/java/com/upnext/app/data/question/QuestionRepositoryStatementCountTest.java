@@ -0,0 +1,90 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.domain.question.Question;
+import com.upnext.app.domain.question.QuestionSearchCriteria;
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests that {@link QuestionRepository} list reads prepare the same number of
+ * statements whatever the page size: one for the page and one for the tags of
+ * every question on it. Uses {@link JdbcStub}, so no database is required.
+ */
+public class QuestionRepositoryStatementCountTest {
+    private static final int[] PAGE_SIZES = { 5, 20 };
+
+    @FunctionalInterface
+    private interface ListRead {
+        List<Question> read(Connection connection, int pageSize) throws SQLException;
+    }
+
+    @Test
+    public void testFindPageStatementCountIsFixed() throws SQLException {
+        assertStatementCountIsFixed((connection, pageSize) ->
+                QuestionRepository.readQuestions(connection, pageSize, 0));
+    }
+
+    @Test
+    public void testFindByUserIdStatementCountIsFixed() throws SQLException {
+        assertStatementCountIsFixed((connection, pageSize) ->
+                QuestionRepository.readUserQuestions(connection, 2L, pageSize, 0));
+    }
+
+    @Test
+    public void testLikeSearchStatementCountIsFixed() throws SQLException {
+        assertStatementCountIsFixed((connection, pageSize) -> QuestionRepository.readSearchPage(connection,
+                new QuestionSearchCriteria().setSearchText("swing").setLimit(pageSize), false).getQuestions());
+    }
+
+    @Test
+    public void testFullTextSearchStatementCountIsFixed() throws SQLException {
+        assertStatementCountIsFixed((connection, pageSize) -> QuestionRepository.readSearchPage(connection,
+                new QuestionSearchCriteria().setSearchText("swing").setLimit(pageSize), true).getQuestions());
+    }
+
+    private void assertStatementCountIsFixed(ListRead listRead) throws SQLException {
+        for (int pageSize : PAGE_SIZES) {
+            JdbcStub jdbc = new JdbcStub(execution -> answer(execution, pageSize));
+
+            List<Question> questions = listRead.read(jdbc.connection(), pageSize);
+
+            assertEquals(pageSize, questions.size());
+            assertEquals(2, jdbc.prepared().size(), "statements for a page of " + pageSize);
+            for (Question question : questions) {
+                assertEquals(List.of("java", "swing"), question.getTags());
+            }
+        }
+    }
+
+    /**
+     * Answers the tag query with two tags per bound question id and any other
+     * query with a full page of question rows.
+     */
+    private static Object answer(JdbcStub.Execution execution, int pageSize) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        if (execution.getSql().startsWith("SELECT qt.question_id")) {
+            // The padded IN list repeats the last id
+            for (Object id : new LinkedHashSet<>(execution.getParameters())) {
+                rows.add(JdbcStub.row("question_id", id, "name", "java"));
+                rows.add(JdbcStub.row("question_id", id, "name", "swing"));
+            }
+            return JdbcStub.resultSet(rows);
+        }
+        Timestamp createdAt = Timestamp.valueOf("2024-05-01 12:00:00");
+        for (long id = 1; id <= pageSize; id++) {
+            rows.add(JdbcStub.row("id", id, "user_id", 2L, "title", "Question " + id,
+                    "content", "Preview", "created_at", createdAt, "updated_at", createdAt));
+        }
+        return JdbcStub.resultSet(rows);
+    }
+}
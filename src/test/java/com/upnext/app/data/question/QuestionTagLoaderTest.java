@@ -0,0 +1,99 @@
+package com.upnext.app.data.question;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.domain.question.Question;
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests for {@link QuestionTagLoader}: tags for a whole page are fetched with
+ * a constant number of queries and grouped back onto the right questions.
+ * Uses {@link JdbcStub}, so no database is required.
+ */
+public class QuestionTagLoaderTest {
+    // question id -> tag names, as the stub "database" holds them
+    private final Map<Long, List<String>> storedTags = new HashMap<>();
+    private int queryCount;
+    private JdbcStub jdbc;
+
+    @BeforeEach
+    public void setUp() {
+        storedTags.clear();
+        queryCount = 0;
+        jdbc = new JdbcStub(this::answer);
+    }
+
+    @Test
+    public void testQueryCountIsConstantAsPageGrows() throws SQLException {
+        for (int pageSize : new int[] { 1, 5, 20, 100, QuestionTagLoader.MAX_IDS_PER_QUERY }) {
+            queryCount = 0;
+            QuestionTagLoader.loadTags(jdbc.connection(), questions(pageSize));
+            assertEquals(1, queryCount, "queries for a page of " + pageSize);
+        }
+    }
+
+    @Test
+    public void testVeryLargeListIsSplitIntoChunks() throws SQLException {
+        QuestionTagLoader.loadTags(jdbc.connection(), questions(QuestionTagLoader.MAX_IDS_PER_QUERY + 1));
+        assertEquals(2, queryCount);
+    }
+
+    @Test
+    public void testTagsAreGroupedOntoTheirQuestions() throws SQLException {
+        storedTags.put(1L, List.of("algebra", "calculus"));
+        storedTags.put(3L, List.of("physics"));
+        List<Question> page = questions(3);
+
+        QuestionTagLoader.loadTags(jdbc.connection(), page);
+
+        assertEquals(List.of("algebra", "calculus"), page.get(0).getTags());
+        assertTrue(page.get(1).getTags().isEmpty());
+        assertEquals(List.of("physics"), page.get(2).getTags());
+    }
+
+    @Test
+    public void testPlaceholderCountIsPaddedToPowerOfTwo() throws SQLException {
+        QuestionTagLoader.loadTags(jdbc.connection(), questions(5));
+        QuestionTagLoader.loadTags(jdbc.connection(), questions(7));
+
+        // Both pages share the eight-placeholder statement
+        assertEquals(jdbc.prepared().get(0), jdbc.prepared().get(1));
+        assertEquals(8, QuestionTagLoader.paddedSize(5));
+        assertEquals(1, QuestionTagLoader.paddedSize(1));
+        assertEquals(QuestionTagLoader.MAX_IDS_PER_QUERY, QuestionTagLoader.paddedSize(10_000));
+    }
+
+    private List<Question> questions(int count) {
+        List<Question> questions = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            Question question = new Question();
+            question.setId(id);
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    /**
+     * Answers each tag query with the stored tags of the bound question ids.
+     */
+    private Object answer(JdbcStub.Execution execution) {
+        queryCount++;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Object id : new LinkedHashSet<>(execution.getParameters())) {
+            for (String tag : storedTags.getOrDefault(id, List.of())) {
+                rows.add(JdbcStub.row("question_id", id, "name", tag));
+            }
+        }
+        return JdbcStub.resultSet(rows);
+    }
+}
@@ -0,0 +1,106 @@
+package com.upnext.app.data.question;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests for {@link QuestionTagWriter}: a question's tags are written with a
+ * fixed number of round trips however many tags it has.
+ * Uses {@link JdbcStub}, so no database is required.
+ */
+public class QuestionTagWriterTest {
+    // Round trips to the stub "database", one entry per execute call
+    private final List<String> executions = new ArrayList<>();
+    // (question id, tag id) pairs added to link batches
+    private final List<long[]> linkedPairs = new ArrayList<>();
+    private final List<String> upsertedNames = new ArrayList<>();
+    private JdbcStub jdbc;
+
+    @BeforeEach
+    public void setUp() {
+        jdbc = new JdbcStub(this::answer);
+        executions.clear();
+        linkedPairs.clear();
+        upsertedNames.clear();
+    }
+
+    @Test
+    public void testRoundTripsAreConstantAsTagCountGrows() throws SQLException {
+        for (int tagCount : new int[] { 1, 3, 10 }) {
+            executions.clear();
+            List<String> tags = new ArrayList<>();
+            for (int i = 0; i < tagCount; i++) {
+                tags.add("tag" + i);
+            }
+
+            QuestionTagWriter.linkTags(jdbc.connection(), 7L, tags);
+
+            assertEquals(List.of("executeUpdate", "executeQuery", "executeBatch"), executions,
+                    "round trips for " + tagCount + " tags");
+        }
+    }
+
+    @Test
+    public void testEveryTagIsLinkedToTheQuestion() throws SQLException {
+        QuestionTagWriter.linkTags(jdbc.connection(), 7L, List.of("swing", "java", "awt"));
+
+        assertEquals(3, linkedPairs.size());
+        for (long[] pair : linkedPairs) {
+            assertEquals(7L, pair[0]);
+        }
+    }
+
+    @Test
+    public void testNamesAreDedupedAndSortedBeforeUpsert() throws SQLException {
+        QuestionTagWriter.linkTags(jdbc.connection(), 7L, List.of("swing", "Java", " ", "java", "awt"));
+
+        assertEquals(List.of("awt", "Java", "swing"), upsertedNames);
+    }
+
+    @Test
+    public void testNoRoundTripsWithoutTags() throws SQLException {
+        QuestionTagWriter.linkTags(jdbc.connection(), 7L, List.of());
+        QuestionTagWriter.linkTags(jdbc.connection(), 7L, null);
+
+        assertTrue(executions.isEmpty());
+    }
+
+    /**
+     * Records each round trip and answers the id lookup with one row per
+     * bound name, ids counting from 1.
+     */
+    private Object answer(JdbcStub.Execution execution) {
+        executions.add(execution.getMethod());
+        switch (execution.getMethod()) {
+            case "executeUpdate":
+                if (execution.getSql().startsWith("INSERT INTO tags")) {
+                    for (Object name : execution.getParameters()) {
+                        upsertedNames.add((String) name);
+                    }
+                }
+                return execution.getParameters().size();
+            case "executeQuery":
+                List<Map<String, Object>> rows = new ArrayList<>();
+                for (Object name : execution.getParameters()) {
+                    rows.add(JdbcStub.row("id", rows.size() + 1L, "name", name));
+                }
+                return JdbcStub.resultSet(rows);
+            case "executeBatch":
+                for (Map<Integer, Object> link : execution.getBatch()) {
+                    linkedPairs.add(new long[] { (Long) link.get(1), (Long) link.get(2) });
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.upnext.app.data.question;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.core.Logger;
+import com.upnext.app.data.JdbcConnectionProvider;
+import com.upnext.app.data.UserRepository;
+import com.upnext.app.domain.User;
+import com.upnext.app.domain.question.Question;
+import com.upnext.app.domain.question.QuestionVote.VoteType;
+
+/**
+ * Stress test for question voting against the database: many threads cast,
+ * switch and withdraw votes on one question at once, and afterwards the
+ * question's upvote and downvote counters must equal the votes on record.
+ */
+public class QuestionVoteConcurrencyTest {
+    private static final Logger LOGGER = Logger.getInstance();
+
+    private static final int THREADS = 8;
+    private static final int VOTES_PER_THREAD = 50;
+    private static final int VOTERS = 6;
+
+    private QuestionVoteRepository voteRepository;
+    private UserRepository userRepository;
+
+    private final List<User> voters = new ArrayList<>();
+    private Question testQuestion;
+
+    @BeforeEach
+    public void setUp() throws SQLException {
+        LOGGER.info("Setting up QuestionVoteConcurrencyTest");
+
+        voteRepository = QuestionVoteRepository.getInstance();
+        userRepository = UserRepository.getInstance();
+
+        long timestamp = System.currentTimeMillis();
+        voters.clear();
+        for (int i = 0; i < VOTERS; i++) {
+            User user = new User();
+            user.setName("Concurrent Voter " + i);
+            user.setEmail("concurrent_voter" + i + "_" + timestamp + "@example.com");
+            user.setPasswordHash("test_hash");
+            user.setSalt("test_salt");
+            voters.add(userRepository.save(user));
+        }
+
+        Question question = new Question();
+        question.setUserId(voters.get(0).getId());
+        question.setTitle("Test Question for Concurrent Voting");
+        question.setContent("This is a test question that many users vote on at once.");
+        testQuestion = QuestionRepository.getInstance().save(question);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        try {
+            if (testQuestion != null) {
+                // Votes go with the question through ON DELETE CASCADE
+                QuestionRepository.getInstance().delete(testQuestion.getId());
+            }
+            for (User voter : voters) {
+                userRepository.delete(voter.getId());
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error during concurrent voting test cleanup: " + e.getMessage());
+        }
+    }
+
+    @Test
+    public void testCountersMatchVotesUnderConcurrentVoting() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Random random = new Random(t);
+                results.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < VOTES_PER_THREAD; i++) {
+                        User voter = voters.get(random.nextInt(VOTERS));
+                        VoteType type = random.nextBoolean() ? VoteType.UPVOTE : VoteType.DOWNVOTE;
+                        voteRepository.castVote(voter.getId(), testQuestion.getId(), type);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            // Any failed vote, such as a duplicate key or deadlock, fails the test here
+            for (Future<?> result : results) {
+                result.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        int[] counters = readCounters(testQuestion.getId());
+        int[] votes = countVotes(testQuestion.getId());
+        LOGGER.info("Counters after concurrent voting: " + counters[0] + " up, " + counters[1]
+                + " down; votes on record: " + votes[0] + " up, " + votes[1] + " down");
+
+        assertArrayEquals(votes, counters);
+    }
+
+    private static int[] readCounters(Long questionId) throws SQLException {
+        return query("SELECT upvotes, downvotes FROM questions WHERE id = ?", questionId);
+    }
+
+    private static int[] countVotes(Long questionId) throws SQLException {
+        return query("SELECT COALESCE(SUM(vote_type = 'upvote'), 0), COALESCE(SUM(vote_type = 'downvote'), 0) "
+                + "FROM question_votes WHERE question_id = ?", questionId);
+    }
+
+    /**
+     * Runs a query taking one id parameter and returns its two integer columns.
+     */
+    private static int[] query(String sql, Long id) throws SQLException {
+        JdbcConnectionProvider provider = JdbcConnectionProvider.getInstance();
+        Connection connection = provider.getConnection();
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                return new int[] { rs.getInt(1), rs.getInt(2) };
+            }
+        } finally {
+            provider.releaseConnection(connection);
+        }
+    }
+}
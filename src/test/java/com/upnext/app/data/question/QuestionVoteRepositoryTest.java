@@ -0,0 +1,143 @@
+package com.upnext.app.data.question;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.data.question.QuestionVoteRepository.VoteOutcome;
+import com.upnext.app.data.question.QuestionVoteRepository.VoteResult;
+import com.upnext.app.domain.question.QuestionVote.VoteType;
+import com.upnext.app.test.JdbcStub;
+
+/**
+ * Tests for {@link QuestionVoteRepository#castVote}: a vote is applied in one
+ * transaction that locks the question before reading the user's vote, and
+ * moves the counters by the change the vote makes.
+ * Uses {@link JdbcStub}, so no database is required; that the counters stay
+ * equal to the votes under concurrent voting is checked against MySQL by
+ * {@link QuestionVoteConcurrencyTest}.
+ */
+public class QuestionVoteRepositoryTest {
+    private static final long QUESTION_ID = 7L;
+    private static final long USER_ID = 1L;
+
+    // Parameters bound to the counter update: up delta, down delta, id
+    private final List<Object> deltaUpdate = new ArrayList<>();
+
+    private String storedVote;
+    private boolean failDeltaUpdate;
+    private JdbcStub jdbc;
+
+    @BeforeEach
+    public void setUp() {
+        deltaUpdate.clear();
+        storedVote = null;
+        failDeltaUpdate = false;
+        jdbc = new JdbcStub(this::answer);
+    }
+
+    @Test
+    public void testQuestionIsLockedBeforeTheVoteIsRead() throws SQLException {
+        VoteOutcome outcome = QuestionVoteRepository.castVote(jdbc.connection(), USER_ID, QUESTION_ID,
+                VoteType.UPVOTE);
+
+        assertEquals(List.of("setAutoCommit(false)", "SELECT upvotes,", "SELECT vote_type",
+                "INSERT INTO question_votes", "UPDATE questions", "commit", "setAutoCommit(true)"), calls());
+        assertEquals(VoteResult.CREATED, outcome.getResult());
+        assertEquals(List.of(1, 0, QUESTION_ID), deltaUpdate);
+        assertEquals(5, outcome.getUpvotes());
+        assertEquals(2, outcome.getDownvotes());
+    }
+
+    @Test
+    public void testSameVoteAgainIsRemoved() throws SQLException {
+        storedVote = "upvote";
+
+        VoteOutcome outcome = QuestionVoteRepository.castVote(jdbc.connection(), USER_ID, QUESTION_ID,
+                VoteType.UPVOTE);
+
+        assertEquals("DELETE FROM question_votes", calls().get(3));
+        assertEquals(VoteResult.REMOVED, outcome.getResult());
+        assertNull(outcome.getViewerVote());
+        assertEquals(List.of(-1, 0), deltaUpdate.subList(0, 2));
+    }
+
+    @Test
+    public void testOppositeVoteIsSwitched() throws SQLException {
+        storedVote = "upvote";
+
+        VoteOutcome outcome = QuestionVoteRepository.castVote(jdbc.connection(), USER_ID, QUESTION_ID,
+                VoteType.DOWNVOTE);
+
+        assertEquals("UPDATE question_votes", calls().get(3));
+        assertEquals(VoteResult.UPDATED, outcome.getResult());
+        assertEquals(List.of(-1, 1), deltaUpdate.subList(0, 2));
+        assertEquals(3, outcome.getUpvotes());
+        assertEquals(3, outcome.getDownvotes());
+    }
+
+    @Test
+    public void testFailedVoteIsRolledBack() {
+        failDeltaUpdate = true;
+
+        assertThrows(SQLException.class,
+                () -> QuestionVoteRepository.castVote(jdbc.connection(), USER_ID, QUESTION_ID, VoteType.UPVOTE));
+
+        List<String> calls = calls();
+        assertEquals(List.of("rollback", "setAutoCommit(true)"), calls.subList(calls.size() - 2, calls.size()));
+    }
+
+    @Test
+    public void testVoteDelta() {
+        assertArrayEquals(new int[] { 1, 0 }, QuestionVoteRepository.voteDelta(null, VoteType.UPVOTE));
+        assertArrayEquals(new int[] { -1, 1 }, QuestionVoteRepository.voteDelta(VoteType.UPVOTE, VoteType.DOWNVOTE));
+        assertArrayEquals(new int[] { 0, -1 }, QuestionVoteRepository.voteDelta(VoteType.DOWNVOTE, null));
+    }
+
+    /**
+     * Plays the database: a question with 4 upvotes and 2 downvotes, and the
+     * user's stored vote.
+     */
+    private Object answer(JdbcStub.Execution execution) throws SQLException {
+        String sql = execution.getSql();
+        if (sql.startsWith("SELECT upvotes")) {
+            return JdbcStub.resultSet(List.of(JdbcStub.row("upvotes", 4, "downvotes", 2)));
+        }
+        if (sql.startsWith("SELECT vote_type")) {
+            return JdbcStub.resultSet(storedVote != null ? List.of(JdbcStub.row("vote_type", storedVote)) : List.of());
+        }
+        if (sql.startsWith("UPDATE questions")) {
+            if (failDeltaUpdate) {
+                throw new SQLException("Lock wait timeout exceeded");
+            }
+            deltaUpdate.addAll(execution.getParameters());
+        }
+        return 1;
+    }
+
+    /**
+     * The stub's log with each statement shortened to its verb and table, or
+     * its first two words for a select.
+     */
+    private List<String> calls() {
+        List<String> calls = new ArrayList<>();
+        for (String entry : jdbc.log()) {
+            String[] words = entry.split(" ");
+            if (entry.startsWith("INSERT") || entry.startsWith("DELETE")) {
+                calls.add(words[0] + " " + words[1] + " " + words[2]);
+            } else if (words.length > 1) {
+                calls.add(words[0] + " " + words[1]);
+            } else {
+                calls.add(entry);
+            }
+        }
+        return calls;
+    }
+}
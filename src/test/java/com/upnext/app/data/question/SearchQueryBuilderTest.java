@@ -0,0 +1,98 @@
+package com.upnext.app.data.question;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.data.question.QuestionRepository.SearchQueryBuilder;
+import com.upnext.app.domain.question.QuestionSearchCriteria;
+import com.upnext.app.domain.question.QuestionSearchCriteria.SortOption;
+
+/**
+ * Tests for the statement {@link SearchQueryBuilder} produces: the FULLTEXT
+ * path, its relevance ordering, and the LIKE fallback.
+ */
+public class SearchQueryBuilderTest {
+
+    @Test
+    public void testBooleanQueryRequiresEveryWordAsPrefix() {
+        assertEquals("+REST* +API*", SearchQueryBuilder.toBooleanQuery("REST API"));
+        assertEquals("+spring* +boot*", SearchQueryBuilder.toBooleanQuery("  spring-boot  "));
+    }
+
+    @Test
+    public void testBooleanQueryDropsOperatorsAndShortWords() {
+        assertEquals("+java*", SearchQueryBuilder.toBooleanQuery("-java\" ~is @a"));
+        assertNull(SearchQueryBuilder.toBooleanQuery("C# ok"));
+    }
+
+    @Test
+    public void testFullTextSearchUsesMatchInsteadOfLike() {
+        SearchQueryBuilder builder = new SearchQueryBuilder(
+                new QuestionSearchCriteria().setSearchText("concurrency"), true);
+
+        String sql = builder.build();
+
+        assertTrue(builder.isFullText());
+        assertTrue(sql.contains("MATCH(title, content) AGAINST (? IN BOOLEAN MODE)"));
+        assertFalse(sql.contains("q.title LIKE"));
+        assertEquals("+concurrency*", builder.getParametersSnapshot().get(0));
+        assertEquals("concurrency%", builder.getParametersSnapshot().get(1));
+    }
+
+    @Test
+    public void testRelevanceSortRanksByMatchScore() {
+        SearchQueryBuilder builder = new SearchQueryBuilder(new QuestionSearchCriteria()
+                .setSearchText("concurrency")
+                .setSortOption(SortOption.RELEVANCE), true);
+
+        String sql = builder.build();
+
+        assertTrue(sql.contains("AS relevance"));
+        assertTrue(sql.contains("ORDER BY relevance DESC, q.id DESC"));
+    }
+
+    @Test
+    public void testLikeFallbackWhenFullTextUnavailable() {
+        SearchQueryBuilder builder = new SearchQueryBuilder(new QuestionSearchCriteria()
+                .setSearchText("concurrency")
+                .setSortOption(SortOption.RELEVANCE), false);
+
+        String sql = builder.build();
+
+        assertFalse(builder.isFullText());
+        assertFalse(sql.contains("MATCH("));
+        assertTrue(sql.contains("q.title LIKE ?"));
+        assertTrue(sql.contains("ORDER BY q.created_at DESC, q.id DESC"));
+    }
+
+    @Test
+    public void testResultsAreSummariesWithContentPreview() {
+        String sql = new SearchQueryBuilder(
+                new QuestionSearchCriteria().setSearchText("concurrency"), true).build();
+
+        assertFalse(sql.contains("q.*"));
+        assertFalse(sql.contains("q.context"));
+        assertTrue(sql.contains("LEFT(q.content, " + QuestionRepository.CONTENT_PREVIEW_LENGTH + ") AS content"));
+    }
+
+    @Test
+    public void testFullContentSelectsWholeRow() {
+        String sql = new SearchQueryBuilder(new QuestionSearchCriteria()
+                .setSearchText("concurrency")
+                .setFullContent(true), true).build();
+
+        assertTrue(sql.startsWith("SELECT DISTINCT q.*, s.name AS subject_name"));
+        assertFalse(sql.contains("LEFT(q.content"));
+    }
+
+    @Test
+    public void testLikeFallbackForTextWithoutIndexableWords() {
+        SearchQueryBuilder builder = new SearchQueryBuilder(
+                new QuestionSearchCriteria().setSearchText("Go"), true);
+
+        assertFalse(builder.build().contains("MATCH("));
+    }
+}
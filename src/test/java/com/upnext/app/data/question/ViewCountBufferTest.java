@@ -0,0 +1,132 @@
+package com.upnext.app.data.question;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ViewCountBuffer}: views are coalesced per question, written
+ * in one batch, retried after a failed write and drained on close.
+ * Uses a recording writer, so no database is required.
+ */
+public class ViewCountBufferTest {
+    private final List<Map<Long, Integer>> writes = new ArrayList<>();
+    private ViewCountBuffer buffer;
+    private boolean failWrites;
+
+    @AfterEach
+    public void tearDown() {
+        if (buffer != null) {
+            buffer.close();
+        }
+    }
+
+    @Test
+    public void testViewsAreCoalescedIntoOneWrite() throws SQLException {
+        buffer = new ViewCountBuffer(this::record, TimeUnit.HOURS.toMillis(1));
+        for (int i = 0; i < 5; i++) {
+            buffer.recordView(1L);
+        }
+        buffer.recordView(2L);
+
+        assertTrue(writes.isEmpty());
+        assertEquals(6, buffer.getPendingViews());
+
+        buffer.flush();
+
+        assertEquals(1, writes.size());
+        assertEquals(Map.of(1L, 5, 2L, 1), writes.get(0));
+        assertEquals(0, buffer.getPendingViews());
+    }
+
+    @Test
+    public void testConcurrentViewsAreAllCounted() throws Exception {
+        buffer = new ViewCountBuffer(this::record, TimeUnit.HOURS.toMillis(1));
+        int threads = 8;
+        int viewsPerThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < viewsPerThread; i++) {
+                        buffer.recordView((long) (i % 10));
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        buffer.flush();
+
+        int total = 0;
+        for (int delta : writes.get(0).values()) {
+            total += delta;
+        }
+        assertEquals(threads * viewsPerThread, total);
+    }
+
+    @Test
+    public void testFailedWriteIsRetriedOnNextFlush() throws SQLException {
+        buffer = new ViewCountBuffer(this::record, TimeUnit.HOURS.toMillis(1));
+        buffer.recordView(3L);
+        failWrites = true;
+
+        assertThrows(SQLException.class, buffer::flush);
+        assertEquals(1, buffer.getPendingViews());
+
+        failWrites = false;
+        buffer.recordView(3L);
+        buffer.flush();
+
+        assertEquals(Map.of(3L, 2), writes.get(0));
+    }
+
+    @Test
+    public void testCloseDrainsPendingViews() {
+        buffer = new ViewCountBuffer(this::record, TimeUnit.HOURS.toMillis(1));
+        buffer.recordView(4L);
+
+        buffer.close();
+
+        assertEquals(List.of(Map.of(4L, 1)), writes);
+    }
+
+    @Test
+    public void testZeroIntervalWritesThrough() {
+        buffer = new ViewCountBuffer(this::record, 0L);
+
+        buffer.recordView(5L);
+        buffer.recordView(5L);
+
+        assertEquals(List.of(Map.of(5L, 1), Map.of(5L, 1)), writes);
+    }
+
+    private synchronized void record(Map<Long, Integer> deltas) throws SQLException {
+        if (failWrites) {
+            throw new SQLException("database unavailable");
+        }
+        writes.add(new HashMap<>(deltas));
+    }
+}
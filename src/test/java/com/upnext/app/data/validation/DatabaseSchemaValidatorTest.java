@@ -77,7 +77,7 @@ public class DatabaseSchemaValidatorTest {
             // Test the expected connection parameters
             com.upnext.app.config.DatabaseConfig.initialize();
             
-            String expectedUrl = "jdbc:mysql://127.0.0.1:3306/upnex";
+            String expectedUrl = "jdbc:mysql://127.0.0.1:3306/upnex?rewriteBatchedStatements=true&useServerPrepStmts=true";
             String expectedUser = "root";
             String expectedPassword = "hari";
             
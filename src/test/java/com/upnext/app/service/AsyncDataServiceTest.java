@@ -0,0 +1,191 @@
+package com.upnext.app.service;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link AsyncDataService}: results reach the callbacks only through
+ * the callback executor, cancelled work is never delivered, and task groups
+ * report when they are busy. Workers and the EDT are stood in for by queues
+ * the test drains by hand, so nothing runs concurrently.
+ */
+public class AsyncDataServiceTest {
+    private ManualExecutor workers;
+    private ManualExecutor edt;
+    private AsyncDataService service;
+    private final List<Object> delivered = new ArrayList<>();
+    private final List<Exception> failures = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        workers = new ManualExecutor();
+        edt = new ManualExecutor();
+        service = new AsyncDataService(workers, edt);
+        delivered.clear();
+        failures.clear();
+    }
+
+    @Test
+    public void testResultIsDeliveredThroughCallbackExecutor() {
+        AsyncDataService.Task task = service.submit(() -> "answers", delivered::add, failures::add);
+
+        workers.runAll();
+        assertTrue(delivered.isEmpty());
+        assertFalse(task.isDone());
+
+        edt.runAll();
+        assertEquals(List.of("answers"), delivered);
+        assertTrue(task.isDone());
+    }
+
+    @Test
+    public void testFailureIsDeliveredToFailureCallback() {
+        service.submit(() -> {
+            throw new SQLException("Communications link failure");
+        }, delivered::add, failures::add);
+
+        workers.runAll();
+        edt.runAll();
+
+        assertTrue(delivered.isEmpty());
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof SQLException);
+    }
+
+    @Test
+    public void testTaskCancelledBeforeStartNeverRuns() {
+        AtomicInteger calls = new AtomicInteger();
+        AsyncDataService.Task task = service.submit(calls::incrementAndGet, delivered::add, failures::add);
+
+        assertTrue(task.cancel());
+        workers.runAll();
+        edt.runAll();
+
+        assertEquals(0, calls.get());
+        assertTrue(delivered.isEmpty());
+        assertTrue(task.isCancelled());
+    }
+
+    @Test
+    public void testTaskCancelledWhileRunningIsNotDelivered() {
+        AsyncDataService.Task task = service.submit(() -> "stale", delivered::add, failures::add);
+
+        workers.runAll();
+        assertTrue(task.cancel());
+        edt.runAll();
+
+        assertTrue(delivered.isEmpty());
+        assertTrue(failures.isEmpty());
+        assertFalse(task.cancel());
+    }
+
+    @Test
+    public void testGroupReportsBusyUntilLastTaskSettles() {
+        List<Boolean> busyChanges = new ArrayList<>();
+        AsyncDataService.TaskGroup group = service.newGroup();
+        group.setBusyListener(busyChanges::add);
+
+        group.submit(() -> "subjects", delivered::add, failures::add);
+        group.submit(() -> "tags", delivered::add, failures::add);
+        assertTrue(group.isBusy());
+        assertEquals(List.of(true), busyChanges);
+
+        workers.runAll();
+        edt.runAll();
+
+        assertFalse(group.isBusy());
+        assertEquals(List.of(true, false), busyChanges);
+        assertEquals(List.of("subjects", "tags"), delivered);
+    }
+
+    @Test
+    public void testCancelAllDropsPendingWork() {
+        List<Boolean> busyChanges = new ArrayList<>();
+        AsyncDataService.TaskGroup group = service.newGroup();
+        group.setBusyListener(busyChanges::add);
+        group.submit(() -> "questions", delivered::add, failures::add);
+
+        workers.runAll();
+        assertTrue(group.cancelAll());
+        edt.runAll();
+
+        assertTrue(delivered.isEmpty());
+        assertFalse(group.isBusy());
+        assertEquals(List.of(true, false), busyChanges);
+        assertFalse(group.cancelAll());
+    }
+
+    @Test
+    public void testRejectedCallIsReportedAsFailure() {
+        AsyncDataService saturated = new AsyncDataService(new ManualExecutor() {
+            @Override
+            public void execute(Runnable command) {
+                throw new RejectedExecutionException("queue full");
+            }
+        }, edt);
+        AsyncDataService.TaskGroup group = saturated.newGroup();
+
+        group.submit(() -> "questions", delivered::add, failures::add);
+        edt.runAll();
+
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof RejectedExecutionException);
+        assertFalse(group.isBusy());
+    }
+
+    /**
+     * Queues submitted work until the test runs it.
+     */
+    private static class ManualExecutor extends AbstractExecutorService {
+        private final Deque<Runnable> queue = new ArrayDeque<>();
+
+        void runAll() {
+            Runnable next;
+            while ((next = queue.pollFirst()) != null) {
+                next.run();
+            }
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            queue.addLast(command);
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return new ArrayList<>(queue);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.upnext.app.test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory stand-in for a JDBC driver, for unit tests of code that works on
+ * a {@link Connection} and so needs no database.
+ * <p>
+ * Every statement execution is passed to a {@link Handler}, which answers it
+ * or throws to simulate a failure. A handler that returns null gets the
+ * driver's plain answer: no rows, one row updated. The stub records the SQL
+ * it prepared and ran and the transaction calls made on its connections, for
+ * tests to check afterwards.
+ */
+public final class JdbcStub {
+    /**
+     * Answers one statement execution.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * @param execution The execution to answer
+         * @return A {@link ResultSet} for a query or generated keys, an
+         *         {@link Integer} update count, an {@code int[]} for a batch,
+         *         a {@link Boolean} for {@code execute}, or null for the
+         *         default answer
+         * @throws SQLException To make the execution fail
+         */
+        Object answer(Execution execution) throws SQLException;
+    }
+
+    private final Handler handler;
+    private final List<String> prepared = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> executed = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> log = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger closeCount = new AtomicInteger();
+
+    /**
+     * Creates a stub that gives every execution the default answer.
+     */
+    public JdbcStub() {
+        this(execution -> null);
+    }
+
+    /**
+     * Creates a stub that answers executions through a handler.
+     *
+     * @param handler The handler
+     */
+    public JdbcStub(Handler handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Opens a connection to the stub. Each connection tracks its own
+     * auto-commit and closed state.
+     *
+     * @return The connection
+     */
+    public Connection connection() {
+        boolean[] autoCommit = { true };
+        boolean[] closed = { false };
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "prepareStatement":
+                            prepared.add((String) args[0]);
+                            return statement(PreparedStatement.class, (String) args[0]);
+                        case "createStatement":
+                            return statement(Statement.class, null);
+                        case "setAutoCommit":
+                            autoCommit[0] = (Boolean) args[0];
+                            log.add("setAutoCommit(" + args[0] + ")");
+                            return null;
+                        case "getAutoCommit":
+                            return autoCommit[0];
+                        case "commit":
+                        case "rollback":
+                            log.add(method.getName());
+                            return null;
+                        case "close":
+                            if (!closed[0]) {
+                                closed[0] = true;
+                                closeCount.incrementAndGet();
+                            }
+                            return null;
+                        case "isClosed":
+                            return closed[0];
+                        default:
+                            return defaultValue(method);
+                    }
+                });
+    }
+
+    /**
+     * Gets the SQL of every statement prepared, in order.
+     *
+     * @return The live list of prepared SQL
+     */
+    public List<String> prepared() {
+        return prepared;
+    }
+
+    /**
+     * Gets the SQL of every execution, in order.
+     *
+     * @return The live list of executed SQL
+     */
+    public List<String> executed() {
+        return executed;
+    }
+
+    /**
+     * Gets the executed SQL interleaved with the transaction calls, such as
+     * {@code setAutoCommit(false)}, {@code commit} and {@code rollback}.
+     *
+     * @return The live log
+     */
+    public List<String> log() {
+        return log;
+    }
+
+    /**
+     * Gets how many statements and connections were closed, each counted once.
+     *
+     * @return The close count
+     */
+    public int closeCount() {
+        return closeCount.get();
+    }
+
+    /**
+     * Builds a row from alternating column labels and values. Columns can be
+     * read by label or by their 1-based position.
+     *
+     * @param labelsAndValues Label, value, label, value...
+     * @return The row
+     */
+    public static Map<String, Object> row(Object... labelsAndValues) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (int i = 0; i < labelsAndValues.length; i += 2) {
+            row.put((String) labelsAndValues[i], labelsAndValues[i + 1]);
+        }
+        return row;
+    }
+
+    /**
+     * Builds a result set over the given rows. Missing and null values read
+     * as JDBC's defaults and set {@code wasNull}.
+     *
+     * @param rows The rows
+     * @return The result set
+     */
+    public static ResultSet resultSet(List<? extends Map<String, Object>> rows) {
+        int[] cursor = { -1 };
+        boolean[] lastNull = { false };
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+                    String name = method.getName();
+                    if ("next".equals(name)) {
+                        return ++cursor[0] < rows.size();
+                    }
+                    if ("wasNull".equals(name)) {
+                        return lastNull[0];
+                    }
+                    if (!name.startsWith("get") || args == null || args.length != 1) {
+                        return defaultValue(method);
+                    }
+                    Object value = column(rows.get(cursor[0]), args[0]);
+                    lastNull[0] = value == null;
+                    return convert(value, method);
+                });
+    }
+
+    private Object statement(Class<? extends Statement> type, String preparedSql) {
+        Map<Integer, Object> bound = new TreeMap<>();
+        List<Map<Integer, Object>> batch = new ArrayList<>();
+        boolean[] closed = { false };
+        String[] lastSql = { preparedSql };
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                // setNull binds the SQL type, so tests can tell which null was set
+                bound.put((Integer) args[0], args[1]);
+                return null;
+            }
+            switch (name) {
+                case "clearParameters":
+                    bound.clear();
+                    return null;
+                case "addBatch":
+                    batch.add(new TreeMap<>(bound));
+                    return null;
+                case "clearBatch":
+                    batch.clear();
+                    return null;
+                case "executeQuery":
+                case "executeUpdate":
+                case "executeBatch":
+                case "execute":
+                    String sql = args != null && args.length > 0 ? (String) args[0] : preparedSql;
+                    lastSql[0] = sql;
+                    executed.add(sql);
+                    log.add(sql);
+                    Execution execution = new Execution(name, sql, bound, batch);
+                    if ("executeBatch".equals(name)) {
+                        batch.clear();
+                    }
+                    Object answer = handler.answer(execution);
+                    return answer != null ? answer : defaultAnswer(execution);
+                case "getGeneratedKeys":
+                    Object keys = handler.answer(new Execution(name, lastSql[0], bound, batch));
+                    return keys != null ? keys : resultSet(List.of());
+                case "close":
+                    if (!closed[0]) {
+                        closed[0] = true;
+                        closeCount.incrementAndGet();
+                    }
+                    return null;
+                case "isClosed":
+                    return closed[0];
+                default:
+                    return defaultValue(method);
+            }
+        });
+    }
+
+    private static Object defaultAnswer(Execution execution) {
+        switch (execution.getMethod()) {
+            case "executeQuery":
+                return resultSet(List.of());
+            case "executeUpdate":
+                return 1;
+            case "executeBatch":
+                int[] counts = new int[execution.getBatch().size()];
+                Arrays.fill(counts, 1);
+                return counts;
+            default:
+                return false;
+        }
+    }
+
+    private static Object column(Map<String, Object> row, Object key) {
+        if (key instanceof Integer) {
+            int index = (Integer) key - 1;
+            return index < row.size() ? new ArrayList<>(row.values()).get(index) : null;
+        }
+        return row.get(key);
+    }
+
+    private static Object convert(Object value, Method method) {
+        Class<?> type = method.getReturnType();
+        if (value == null) {
+            return defaultValue(method);
+        }
+        if (type == long.class) {
+            return ((Number) value).longValue();
+        }
+        if (type == int.class) {
+            return ((Number) value).intValue();
+        }
+        if (type == double.class) {
+            return ((Number) value).doubleValue();
+        }
+        if (type == boolean.class) {
+            return value instanceof Boolean ? value : ((Number) value).intValue() != 0;
+        }
+        if (type == String.class) {
+            return value.toString();
+        }
+        return value;
+    }
+
+    private static Object defaultValue(Method method) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        return null;
+    }
+
+    /**
+     * One statement execution, with the parameters bound when it ran.
+     */
+    public static final class Execution {
+        private final String method;
+        private final String sql;
+        private final Map<Integer, Object> parameters;
+        private final List<Map<Integer, Object>> batch;
+
+        Execution(String method, String sql, Map<Integer, Object> parameters, List<Map<Integer, Object>> batch) {
+            this.method = method;
+            this.sql = sql;
+            this.parameters = new TreeMap<>(parameters);
+            this.batch = new ArrayList<>(batch);
+        }
+
+        /**
+         * @return The JDBC method, such as {@code executeQuery} or {@code getGeneratedKeys}
+         */
+        public String getMethod() {
+            return method;
+        }
+
+        /**
+         * @return The SQL executed
+         */
+        public String getSql() {
+            return sql;
+        }
+
+        /**
+         * @param index The 1-based parameter index
+         * @return The bound value, or null if unbound
+         */
+        public Object getParameter(int index) {
+            return parameters.get(index);
+        }
+
+        /**
+         * @return The bound values in parameter order
+         */
+        public List<Object> getParameters() {
+            return new ArrayList<>(parameters.values());
+        }
+
+        /**
+         * @return The parameter sets added with {@code addBatch}
+         */
+        public List<Map<Integer, Object>> getBatch() {
+            return batch;
+        }
+
+        /**
+         * @return true for {@code executeQuery}
+         */
+        public boolean isQuery() {
+            return "executeQuery".equals(method);
+        }
+    }
+}
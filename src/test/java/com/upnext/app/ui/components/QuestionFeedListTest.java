@@ -0,0 +1,169 @@
+package com.upnext.app.ui.components;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.domain.question.Question;
+
+/**
+ * Tests for {@link QuestionFeedList}: pages are appended without touching
+ * earlier rows, the list keeps a bounded window of pages, a single card paints
+ * every row, and clicks on the painted card reach the right listener method.
+ */
+public class QuestionFeedListTest {
+    private static final int CARD_GAP = 10;
+
+    private QuestionFeedList list;
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        list = new QuestionFeedList(CARD_GAP);
+        events.clear();
+        list.setCardListener(new QuestionCard.QuestionCardListener() {
+            @Override
+            public void onQuestionSelected(Question question) {
+                events.add("select " + question.getId());
+            }
+
+            @Override
+            public void onUpvote(Question question) {
+                events.add("upvote " + question.getId());
+            }
+
+            @Override
+            public void onDownvote(Question question) {
+                events.add("downvote " + question.getId());
+            }
+        });
+    }
+
+    @Test
+    public void testAppendingPageOnlyAddsThatPage() {
+        list.appendPage(page(0, 10), null);
+        List<String> changes = new ArrayList<>();
+        list.getModel().addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                changes.add("added " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                changes.add("removed");
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                changes.add("changed");
+            }
+        });
+
+        list.appendPage(page(10, 10), "c10");
+
+        assertEquals(List.of("added 10-19"), changes);
+        assertEquals(20, list.getQuestionCount());
+    }
+
+    @Test
+    public void testOldestPageIsDroppedPastTheWindow() {
+        for (int i = 0; i < QuestionFeedList.MAX_PAGES; i++) {
+            assertEquals(0, list.appendPage(page(i * 10, 10), i == 0 ? null : "c" + i * 10));
+        }
+        assertFalse(list.hasEarlierPages());
+
+        int dropped = list.appendPage(page(QuestionFeedList.MAX_PAGES * 10, 10), "last");
+
+        assertEquals(10, dropped);
+        assertEquals(QuestionFeedList.MAX_PAGES * 10, list.getQuestionCount());
+        assertEquals(Long.valueOf(10), list.getQuestions().get(0).getId());
+        assertTrue(list.hasEarlierPages());
+        assertNull(list.getEarlierCursor());
+    }
+
+    @Test
+    public void testEarlierPageComesBackAndNewestIsDropped() {
+        for (int i = 0; i <= QuestionFeedList.MAX_PAGES + 1; i++) {
+            list.appendPage(page(i * 10, 10), i == 0 ? null : "c" + i * 10);
+        }
+        assertEquals("c10", list.getEarlierCursor());
+
+        String droppedCursor = list.prependPage(page(10, 10));
+
+        assertEquals("c" + (QuestionFeedList.MAX_PAGES + 1) * 10, droppedCursor);
+        assertEquals(QuestionFeedList.MAX_PAGES * 10, list.getQuestionCount());
+        assertEquals(Long.valueOf(10), list.getQuestions().get(0).getId());
+        assertEquals(Long.valueOf(QuestionFeedList.MAX_PAGES * 10 + 9),
+                list.getQuestions().get(list.getQuestionCount() - 1).getId());
+        assertTrue(list.hasEarlierPages());
+        assertNull(list.getEarlierCursor());
+    }
+
+    @Test
+    public void testOneCardPaintsEveryRow() {
+        list.appendPage(page(0, 50), null);
+
+        assertSame(list.getCellRenderer().getListCellRendererComponent(list, list.getModel().getElementAt(0), 0, false, false),
+                list.getCellRenderer().getListCellRendererComponent(list, list.getModel().getElementAt(49), 49, false, false));
+        assertTrue(list.getFixedCellHeight() > CARD_GAP);
+    }
+
+    @Test
+    public void testClicksReachTheControlUnderThem() {
+        list.appendPage(page(0, 3), null);
+        list.setSize(600, list.getFixedCellHeight() * 3);
+        Rectangle row = list.getCellBounds(1, 1);
+
+        // The vote buttons sit at the left, above and below the count
+        list.handleClick(new Point(row.x + 22, row.y + 24));
+        list.handleClick(new Point(row.x + 22, row.y + 70));
+        list.handleClick(new Point(row.x + 300, row.y + 24));
+        // The gap below the card is not part of it
+        list.handleClick(new Point(row.x + 300, row.y + row.height - CARD_GAP / 2));
+
+        assertEquals(List.of("upvote 1", "downvote 1", "select 1"), events);
+    }
+
+    @Test
+    public void testPrependReplacesExistingRow() {
+        list.appendPage(page(0, 3), null);
+        Question updated = question(2);
+
+        list.prependQuestion(updated);
+        list.truncate(2);
+
+        assertEquals(2, list.getQuestionCount());
+        assertSame(updated, list.getQuestions().get(0));
+        assertEquals(Long.valueOf(0), list.getQuestions().get(1).getId());
+        assertFalse(list.hasEarlierPages());
+    }
+
+    private static List<Question> page(int firstId, int size) {
+        List<Question> questions = new ArrayList<>();
+        for (int i = firstId; i < firstId + size; i++) {
+            questions.add(question(i));
+        }
+        return questions;
+    }
+
+    private static Question question(long id) {
+        Question question = new Question();
+        question.setId(id);
+        question.setTitle("Question " + id);
+        question.setContent("Content of question " + id);
+        return question;
+    }
+}
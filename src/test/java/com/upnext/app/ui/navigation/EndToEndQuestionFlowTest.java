@@ -2,6 +2,7 @@ package com.upnext.app.ui.navigation;
 
 import java.awt.Color;
 import java.awt.Component;
+import java.awt.Rectangle;
 import java.awt.event.MouseEvent;
 import java.awt.event.MouseListener;
 import java.lang.reflect.Field;
@@ -14,10 +15,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
 import javax.swing.JButton;
 import javax.swing.JLabel;
+import javax.swing.JList;
 import javax.swing.JPanel;
 import javax.swing.JTextArea;
 import javax.swing.SwingUtilities;
@@ -46,7 +49,6 @@ import com.upnext.app.domain.question.Subject;
 import com.upnext.app.service.AuthService;
 import com.upnext.app.ui.components.AnswerInputPanel;
 import com.upnext.app.ui.components.FilterManager;
-import com.upnext.app.ui.components.QuestionCard;
 import com.upnext.app.ui.components.QuestionFeedPanel;
 import com.upnext.app.ui.components.TagChip;
 import com.upnext.app.ui.components.VotePanel;
@@ -165,27 +167,13 @@ class EndToEndQuestionFlowTest {
             }
         }, Duration.ofSeconds(5));
 
-        // Find and click on the question card
-        QuestionCard questionCard = runOnEdt(() -> findQuestionCard(feedPanel, testQuestion.getTitle()));
-        assertNotNull(questionCard, "Question card should be found in feed");
+        // Find the question in the feed
+        Question feedQuestion = runOnEdt(() -> findQuestionInFeed(feedPanel, testQuestion.getTitle()));
+        assertNotNull(feedQuestion, "Question should be found in feed");
 
-        // Simulate question card click
-        CountDownLatch navigationLatch = new CountDownLatch(1);
-        runOnEdt(() -> {
-            try {
-                MouseListener[] listeners = questionCard.getMouseListeners();
-                if (listeners.length > 0) {
-                    MouseEvent clickEvent = new MouseEvent(questionCard, MouseEvent.MOUSE_CLICKED, 
-                        System.currentTimeMillis(), 0, 10, 10, 1, false);
-                    listeners[0].mouseClicked(clickEvent);
-                }
-                navigationLatch.countDown();
-            } catch (Exception e) {
-                fail("Failed to click question card: " + e.getMessage());
-            }
-        });
-
-        assertTrue(navigationLatch.await(3, TimeUnit.SECONDS), "Navigation should complete");
+        // Click the question's card in the feed list
+        JList<?> feedList = getPrivateField(feedPanel, "feedList", JList.class);
+        runOnEdt(() -> clickQuestionInFeed(feedList, feedQuestion));
 
         // PART 2: Question Detail Page Verification
         
@@ -193,8 +181,15 @@ class EndToEndQuestionFlowTest {
         waitUntil(() -> navigator.getCurrentScreen().equals(App.QUESTION_DETAIL_SCREEN), Duration.ofSeconds(3));
         assertEquals(App.QUESTION_DETAIL_SCREEN, navigator.getCurrentScreen());
 
-        // Verify question details are loaded
+        // Verify question details are loaded; they load in the background
         JLabel titleLabel = getPrivateField(questionDetailScreen, "titleLabel", JLabel.class);
+        waitUntil(() -> {
+            try {
+                return runOnEdt(() -> testQuestion.getTitle().equals(titleLabel.getText()));
+            } catch (Exception e) {
+                return false;
+            }
+        }, Duration.ofSeconds(5));
         assertEquals(testQuestion.getTitle(), runOnEdt(titleLabel::getText));
 
         // Verify answers are displayed
@@ -221,10 +216,8 @@ class EndToEndQuestionFlowTest {
         setAuthenticatedUser(voter);
 
         // Navigate to question detail
-        runOnEdt(() -> {
-            navigator.navigateTo(App.QUESTION_DETAIL_SCREEN);
-            questionDetailScreen.loadQuestion(testQuestion.getId());
-        });
+        runOnEdt(() -> navigator.navigateTo(App.QUESTION_DETAIL_SCREEN));
+        loadQuestion(testQuestion.getId());
 
         // Get answer input panel
         AnswerInputPanel inputPanel = getPrivateField(questionDetailScreen, "answerInputPanel", AnswerInputPanel.class);
@@ -275,10 +268,8 @@ class EndToEndQuestionFlowTest {
         setAuthenticatedUser(voter);
 
         // Navigate to question detail
-        runOnEdt(() -> {
-            navigator.navigateTo(App.QUESTION_DETAIL_SCREEN);
-            questionDetailScreen.loadQuestion(testQuestion.getId());
-        });
+        runOnEdt(() -> navigator.navigateTo(App.QUESTION_DETAIL_SCREEN));
+        loadQuestion(testQuestion.getId());
 
         // Get answers panel and find vote panel
         JPanel answersPanel = getPrivateField(questionDetailScreen, "answersPanel", JPanel.class);
@@ -313,7 +304,7 @@ class EndToEndQuestionFlowTest {
         }
 
         // Reload question to see verified badge
-        runOnEdt(() -> questionDetailScreen.loadQuestion(testQuestion.getId()));
+        loadQuestion(testQuestion.getId());
 
         // Check for verified badge (this would appear as "✓ Verified Answer" label)
         assertTrue(runOnEdt(() -> containsVerifiedBadge(answersPanel)),
@@ -324,10 +315,8 @@ class EndToEndQuestionFlowTest {
     @DisplayName("Verify user profile navigation from question/answer avatars")
     void testUserProfileNavigation() throws Exception {
         // Navigate to question detail
-        runOnEdt(() -> {
-            navigator.navigateTo(App.QUESTION_DETAIL_SCREEN);
-            questionDetailScreen.loadQuestion(testQuestion.getId());
-        });
+        runOnEdt(() -> navigator.navigateTo(App.QUESTION_DETAIL_SCREEN));
+        loadQuestion(testQuestion.getId());
 
         // Test question author profile navigation
         JLabel questionAuthorLabel = getPrivateField(questionDetailScreen, "questionAuthorNameLabel", JLabel.class);
@@ -383,10 +372,8 @@ class EndToEndQuestionFlowTest {
 
         // Test tag-based filtering
         // Navigate to question detail to test tag chips
-        runOnEdt(() -> {
-            navigator.navigateTo(App.QUESTION_DETAIL_SCREEN);
-            questionDetailScreen.loadQuestion(testQuestion.getId());
-        });
+        runOnEdt(() -> navigator.navigateTo(App.QUESTION_DETAIL_SCREEN));
+        loadQuestion(testQuestion.getId());
 
         // Find tag chips
         JPanel tagPanel = getPrivateField(questionDetailScreen, "questionTagPanel", JPanel.class);
@@ -418,6 +405,20 @@ class EndToEndQuestionFlowTest {
 
     // ===== Helper Methods =====
 
+    /**
+     * Loads a question into the detail screen and waits until it is shown.
+     */
+    private void loadQuestion(Long questionId) throws Exception {
+        AtomicBoolean loaded = new AtomicBoolean(false);
+        CountDownLatch settled = new CountDownLatch(1);
+        runOnEdt(() -> questionDetailScreen.loadQuestion(questionId, question -> {
+            loaded.set(true);
+            settled.countDown();
+        }, settled::countDown));
+        assertTrue(settled.await(5, TimeUnit.SECONDS), "Question load should finish");
+        assertTrue(loaded.get(), "Question should load successfully");
+    }
+
     private void cleanupDatabase() throws SQLException {
         try (Connection connection = JdbcConnectionProvider.getInstance().getConnection();
              Statement statement = connection.createStatement()) {
@@ -564,42 +565,43 @@ class EndToEndQuestionFlowTest {
         fail("Condition not met within timeout: " + timeout);
     }
 
-    private boolean containsQuestionInFeed(QuestionFeedPanel feedPanel, String questionTitle) {
-        try {
-            // Use reflection to access feed content
-            Field questionsField = QuestionFeedPanel.class.getDeclaredField("questions");
-            questionsField.setAccessible(true);
-            @SuppressWarnings("unchecked")
-            List<Question> questions = (List<Question>) questionsField.get(feedPanel);
-            
-            return questions.stream().anyMatch(q -> q.getTitle().equals(questionTitle));
-        } catch (Exception e) {
-            return false;
+    /**
+     * Clicks the body of a question's card in the feed list, so the click goes
+     * through the list's own mouse handling as a user's would.
+     */
+    private void clickQuestionInFeed(JList<?> feedList, Question question) {
+        if (feedList.getWidth() == 0) {
+            // The home screen is not in a window, so lay the rows out at a typical width
+            feedList.setSize(800, feedList.getPreferredSize().height);
         }
-    }
-
-    private QuestionCard findQuestionCard(QuestionFeedPanel feedPanel, String questionTitle) {
-        try {
-            Component[] components = feedPanel.getComponents();
-            for (Component component : components) {
-                if (component instanceof QuestionCard) {
-                    QuestionCard card = (QuestionCard) component;
-                    // Check if this card contains our question title
-                    Component[] cardComponents = card.getComponents();
-                    for (Component cardComponent : cardComponents) {
-                        if (cardComponent instanceof JLabel) {
-                            JLabel label = (JLabel) cardComponent;
-                            if (questionTitle.equals(label.getText())) {
-                                return card;
-                            }
-                        }
-                    }
-                }
+        int index = -1;
+        for (int i = 0; i < feedList.getModel().getSize(); i++) {
+            if (question.getId().equals(((Question) feedList.getModel().getElementAt(i)).getId())) {
+                index = i;
+                break;
             }
-        } catch (Exception e) {
-            // Return null if not found
         }
-        return null;
+        assertTrue(index >= 0, "Question should have a row in the feed list");
+
+        // On the title, to the right of the vote buttons
+        Rectangle row = feedList.getCellBounds(index, index);
+        int x = row.x + row.width / 2;
+        int y = row.y + 24;
+        for (int id : new int[] { MouseEvent.MOUSE_PRESSED, MouseEvent.MOUSE_RELEASED, MouseEvent.MOUSE_CLICKED }) {
+            feedList.dispatchEvent(new MouseEvent(feedList, id, System.currentTimeMillis(), 0, x, y, 1, false,
+                MouseEvent.BUTTON1));
+        }
+    }
+
+    private boolean containsQuestionInFeed(QuestionFeedPanel feedPanel, String questionTitle) {
+        return findQuestionInFeed(feedPanel, questionTitle) != null;
+    }
+
+    private Question findQuestionInFeed(QuestionFeedPanel feedPanel, String questionTitle) {
+        return feedPanel.getQuestions().stream()
+            .filter(q -> questionTitle.equals(q.getTitle()))
+            .findFirst()
+            .orElse(null);
     }
 
     private boolean containsAnswerText(JPanel answersPanel, String answerContent) {
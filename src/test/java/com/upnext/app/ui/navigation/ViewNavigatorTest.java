@@ -0,0 +1,167 @@
+package com.upnext.app.ui.navigation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.swing.JPanel;
+import javax.swing.SwingUtilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ViewNavigator} screen factories: screens are built on first
+ * use, preloaded only while input is idle, and releasable screens are dropped
+ * after going unused; navigation-aware screens hear when they are shown and
+ * left. Uses a hand-driven clock, so no waiting is required.
+ */
+public class ViewNavigatorTest {
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private final AtomicInteger homeBuilds = new AtomicInteger();
+    private final AtomicInteger detailBuilds = new AtomicInteger();
+    private JPanel container;
+    private ViewNavigator navigator;
+
+    @BeforeEach
+    public void setUp() {
+        container = new JPanel();
+        navigator = new ViewNavigator(container, now::get);
+        navigator.registerScreen("signIn", new JPanel());
+        navigator.registerScreen("home", () -> {
+            homeBuilds.incrementAndGet();
+            return new JPanel();
+        });
+        navigator.registerScreen("detail", () -> {
+            detailBuilds.incrementAndGet();
+            return new JPanel();
+        }, true);
+    }
+
+    @Test
+    public void testFactoryScreenIsBuiltOnFirstNavigation() {
+        assertTrue(navigator.hasScreen("home"));
+        assertFalse(navigator.isScreenBuilt("home"));
+        assertEquals(1, container.getComponentCount());
+
+        navigator.navigateTo("home");
+        navigator.navigateTo("signIn");
+        navigator.navigateTo("home");
+
+        assertEquals(1, homeBuilds.get());
+        assertEquals("home", navigator.getCurrentScreen());
+        assertEquals(2, container.getComponentCount());
+    }
+
+    @Test
+    public void testGetScreenBuildsOnDemand() {
+        JPanel home = navigator.getScreen("home", JPanel.class);
+
+        assertTrue(navigator.isScreenBuilt("home"));
+        assertSame(home, navigator.getScreen("home"));
+        assertEquals(1, homeBuilds.get());
+    }
+
+    @Test
+    public void testPreloadWaitsForIdleInput() throws Exception {
+        // On the EDT, so the preload timer cannot tick in between the steps
+        SwingUtilities.invokeAndWait(() -> {
+            navigator.preload("home", "detail");
+            navigator.recordUserInput();
+
+            navigator.preloadStep();
+            assertEquals(0, homeBuilds.get());
+
+            now.addAndGet(ViewNavigator.PRELOAD_IDLE_MS);
+            navigator.preloadStep();
+            assertEquals(1, homeBuilds.get());
+            assertEquals(0, detailBuilds.get());
+
+            navigator.preloadStep();
+            assertEquals(1, detailBuilds.get());
+
+            navigator.navigateTo("home");
+            assertEquals(1, homeBuilds.get());
+        });
+    }
+
+    @Test
+    public void testReleasableScreenIsRebuiltAfterGoingUnused() {
+        navigator.navigateTo("detail");
+        JPanel first = navigator.getScreen("detail");
+        navigator.navigateTo("home");
+
+        now.addAndGet(ViewNavigator.RELEASE_AFTER_MS);
+        navigator.navigateTo("signIn");
+
+        assertFalse(navigator.isScreenBuilt("detail"));
+        assertTrue(navigator.isScreenBuilt("home"));
+
+        navigator.navigateTo("detail");
+        assertEquals(2, detailBuilds.get());
+        assertNotSame(first, navigator.getScreen("detail"));
+    }
+
+    @Test
+    public void testCurrentScreenIsNeverReleased() {
+        navigator.navigateTo("detail");
+
+        now.addAndGet(ViewNavigator.RELEASE_AFTER_MS * 2);
+        navigator.navigateTo("detail");
+
+        assertTrue(navigator.isScreenBuilt("detail"));
+        assertEquals(1, detailBuilds.get());
+    }
+
+    @Test
+    public void testRegisteringAgainReplacesScreen() {
+        JPanel replacement = new JPanel();
+
+        navigator.registerScreen("signIn", replacement);
+
+        assertSame(replacement, navigator.getScreen("signIn"));
+        assertEquals(1, container.getComponentCount());
+    }
+
+    @Test
+    public void testNavigationAwareScreenIsToldWhenShownAndLeft() {
+        List<String> events = new ArrayList<>();
+        navigator.registerScreen("aware", () -> new AwareScreen(events), true);
+
+        navigator.navigateTo("aware");
+        navigator.navigateTo("aware");
+        navigator.navigateTo("home");
+
+        assertEquals(List.of("to", "to", "away"), events);
+
+        now.addAndGet(ViewNavigator.RELEASE_AFTER_MS);
+        navigator.navigateTo("signIn");
+
+        assertFalse(navigator.isScreenBuilt("aware"));
+        assertEquals(List.of("to", "to", "away", "away"), events);
+    }
+
+    private static final class AwareScreen extends JPanel implements NavigationAware {
+        private final List<String> events;
+
+        private AwareScreen(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void onNavigatedTo() {
+            events.add("to");
+        }
+
+        @Override
+        public void onNavigatedAway() {
+            events.add("away");
+        }
+    }
+}
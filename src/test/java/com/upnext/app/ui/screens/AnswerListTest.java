@@ -0,0 +1,127 @@
+package com.upnext.app.ui.screens;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.upnext.app.domain.question.Answer;
+import com.upnext.app.domain.question.AnswerPage;
+
+/**
+ * Tests for {@link AnswerList}: pages are appended in order above answers the
+ * viewer posts, answers already shown are skipped, and the placeholder count
+ * covers the answers not loaded yet.
+ */
+public class AnswerListTest {
+    private AnswerList answerList;
+
+    @BeforeEach
+    public void setUp() {
+        answerList = new AnswerList();
+    }
+
+    @Test
+    public void testPagesAreAppendedInOrder() {
+        assertEquals(List.of(1L, 2L), ids(answerList.showFirstPage(page(5, "c2", 1L, 2L))));
+        assertEquals(List.of(3L, 4L), ids(answerList.appendPage(page(5, "c4", 3L, 4L))));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), ids(answerList.getAnswers()));
+        assertTrue(answerList.hasMore());
+        assertEquals("c4", answerList.getNextCursor());
+        assertEquals(1, answerList.getRemaining());
+    }
+
+    @Test
+    public void testPostedAnswerStaysBelowLaterPages() {
+        answerList.showFirstPage(page(4, "c2", 1L, 2L));
+
+        assertTrue(answerList.addPosted(answer(9L)));
+        answerList.appendPage(page(4, "c3", 3L));
+
+        assertEquals(List.of(1L, 2L, 3L, 9L), ids(answerList.getAnswers()));
+    }
+
+    @Test
+    public void testPageSkipsAnswerAlreadyPosted() {
+        answerList.showFirstPage(page(2, "c2", 1L, 2L));
+        answerList.addPosted(answer(3L));
+
+        List<Answer> added = answerList.appendPage(page(3, null, 3L));
+
+        assertTrue(added.isEmpty());
+        assertEquals(List.of(1L, 2L, 3L), ids(answerList.getAnswers()));
+        assertFalse(answerList.hasMore());
+    }
+
+    @Test
+    public void testAnswerShownTwiceIsNotPostedAgain() {
+        answerList.showFirstPage(page(1, null, 1L));
+
+        assertFalse(answerList.addPosted(answer(1L)));
+        assertEquals(List.of(1L), ids(answerList.getAnswers()));
+        assertEquals(0, answerList.getRemaining());
+    }
+
+    @Test
+    public void testPlaceholderCountsAnswersNotLoaded() {
+        answerList.showFirstPage(page(5, "c2", 1L, 2L));
+        assertEquals(3, answerList.getRemaining());
+
+        // The posted answer is counted and shown, so the remainder is unchanged
+        answerList.addPosted(answer(6L));
+        assertEquals(3, answerList.getRemaining());
+
+        answerList.appendPage(page(6, null, 3L, 4L, 5L));
+        assertEquals(0, answerList.getRemaining());
+        assertFalse(answerList.hasMore());
+    }
+
+    @Test
+    public void testFirstPageReplacesTheList() {
+        answerList.showFirstPage(page(3, "c2", 1L, 2L));
+        answerList.addPosted(answer(3L));
+
+        answerList.showFirstPage(page(3, null, 1L, 2L, 3L));
+
+        assertEquals(List.of(1L, 2L, 3L), ids(answerList.getAnswers()));
+        assertEquals(0, answerList.getRemaining());
+    }
+
+    @Test
+    public void testStopPagingEndsTheList() {
+        answerList.showFirstPage(page(5, "c2", 1L, 2L));
+
+        answerList.stopPaging();
+
+        assertFalse(answerList.hasMore());
+        assertEquals(3, answerList.getRemaining());
+    }
+
+    private static AnswerPage page(int totalCount, String nextCursor, Long... ids) {
+        List<Answer> answers = new ArrayList<>();
+        for (Long id : ids) {
+            answers.add(answer(id));
+        }
+        return new AnswerPage(answers, totalCount, nextCursor);
+    }
+
+    private static Answer answer(Long id) {
+        Answer answer = new Answer();
+        answer.setId(id);
+        answer.setContent("Answer " + id);
+        return answer;
+    }
+
+    private static List<Long> ids(List<Answer> answers) {
+        List<Long> ids = new ArrayList<>();
+        for (Answer answer : answers) {
+            ids.add(answer.getId());
+        }
+        return ids;
+    }
+}
@@ -121,7 +121,12 @@ class QuestionDetailScreenIntegrationTest {
         initialiseNavigator();
 
         AtomicBoolean loaded = new AtomicBoolean(false);
-        runOnEdt(() -> loaded.set(screen.loadQuestion(baselineQuestion.getId())));
+        CountDownLatch settled = new CountDownLatch(1);
+        runOnEdt(() -> screen.loadQuestion(baselineQuestion.getId(), loadedQuestion -> {
+            loaded.set(true);
+            settled.countDown();
+        }, settled::countDown));
+        assertTrue(settled.await(5, TimeUnit.SECONDS), "Question load should finish");
         assertTrue(loaded.get(), "Question should load successfully for integration tests");
     }
 
@@ -214,8 +219,9 @@ class QuestionDetailScreenIntegrationTest {
         assertTrue(latch.await(5, TimeUnit.SECONDS), "Answer submission callback should complete");
 
         assertTrue(runOnEdt(() -> answersHeader.getText().startsWith("2")), "Answer header should reflect new answer count");
-        assertTrue(runOnEdt(() -> containsAnswerText(answersPanel, "integration test answer authored")),
-            "Answers panel should display the newly submitted answer content");
+        // Answers reload in the background
+        waitUntil(() -> runOnEdt(() -> containsAnswerText(answersPanel, "integration test answer authored")),
+            Duration.ofSeconds(2));
     }
 
     @Test